@@ -0,0 +1,28 @@
+package sample.hhplus_w2.common;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 대량 조회용 커서 Statement
+ * MySQL Connector/J는 useCursorFetch 없이는 fetchSize를 무시하고 결과 전체를 메모리에 올린다.
+ * useCursorFetch는 연결 전체를 서버 측 PreparedStatement로 바꾸므로, 대신 해당 Statement만
+ * 행 단위 스트리밍(fetchSize = Integer.MIN_VALUE)으로 연다. 그 외 드라이버는 fetchSize를 그대로 쓴다.
+ *
+ * 스트리밍 중에는 같은 연결로 다른 쿼리를 실행할 수 없으므로 행 처리 콜백에서 DB를 조회하지 않아야 한다.
+ */
+public final class JdbcCursors {
+
+    private static final String MYSQL = "MySQL";
+
+    private JdbcCursors() {
+    }
+
+    public static PreparedStatement prepare(Connection connection, String sql, int fetchSize) throws SQLException {
+        PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        ps.setFetchSize(MYSQL.equals(connection.getMetaData().getDatabaseProductName()) ? Integer.MIN_VALUE : fetchSize);
+        return ps;
+    }
+}
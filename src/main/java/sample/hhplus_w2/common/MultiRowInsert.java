@@ -0,0 +1,98 @@
+package sample.hhplus_w2.common;
+
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 다중 행 INSERT
+ * IDENTITY 전략 엔티티는 Hibernate가 행마다 생성 키를 받아야 하므로 JPA 배치 INSERT가 불가하다.
+ * 대신 JDBC로 "INSERT ... VALUES (...), (...)" 한 문장에 chunkSize 행씩 담아 저장한다.
+ * 생성 키가 필요하면 드라이버가 입력 순서대로 돌려주는 id를 각 행에 할당한다. (MySQL, H2)
+ */
+public final class MultiRowInsert {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private MultiRowInsert() {
+    }
+
+    /**
+     * @param values 행별 컬럼 값 (columns 순서)
+     * @return 저장된 행 수
+     */
+    public static <T> int insert(JdbcTemplate jdbcTemplate, String table, List<String> columns,
+                                 List<T> rows, int chunkSize, Function<T, Object[]> values) {
+        return insert(jdbcTemplate, table, columns, rows, chunkSize, values, null);
+    }
+
+    /**
+     * 저장 후 생성된 id를 행마다 전달
+     * @param idAssigner (행, 생성된 id)
+     */
+    public static <T> int insertReturningIds(JdbcTemplate jdbcTemplate, String table, List<String> columns,
+                                             List<T> rows, int chunkSize, Function<T, Object[]> values,
+                                             BiConsumer<T, Long> idAssigner) {
+        return insert(jdbcTemplate, table, columns, rows, chunkSize, values, idAssigner);
+    }
+
+    private static <T> int insert(JdbcTemplate jdbcTemplate, String table, List<String> columns,
+                                  List<T> rows, int chunkSize, Function<T, Object[]> values,
+                                  BiConsumer<T, Long> idAssigner) {
+        int inserted = 0;
+        for (int from = 0; from < rows.size(); from += chunkSize) {
+            List<T> chunk = rows.subList(from, Math.min(from + chunkSize, rows.size()));
+            String sql = sql(table, columns, chunk.size());
+            Object[] args = args(chunk, columns.size(), values);
+            if (idAssigner == null) {
+                inserted += jdbcTemplate.update(sql, args);
+                continue;
+            }
+
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            inserted += jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql, new String[]{"id"});
+                new ArgumentPreparedStatementSetter(args).setValues(ps);
+                return ps;
+            }, keyHolder);
+
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            for (int i = 0; i < chunk.size() && i < keys.size(); i++) {
+                Number id = (Number) keys.get(i).values().iterator().next();
+                idAssigner.accept(chunk.get(i), id.longValue());
+            }
+        }
+        return inserted;
+    }
+
+    private static String sql(String table, List<String> columns, int rowCount) {
+        String row = "(" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(table)
+                .append(" (").append(String.join(", ", columns)).append(") VALUES ");
+        for (int i = 0; i < rowCount; i++) {
+            sql.append(i == 0 ? row : ", " + row);
+        }
+        return sql.toString();
+    }
+
+    private static <T> Object[] args(List<T> chunk, int columnCount, Function<T, Object[]> values) {
+        List<Object> args = new ArrayList<>(chunk.size() * columnCount);
+        for (T row : chunk) {
+            Object[] rowValues = values.apply(row);
+            if (rowValues.length != columnCount) {
+                throw new IllegalArgumentException("컬럼 수와 값의 수가 다릅니다: " + columnCount + " != " + rowValues.length);
+            }
+            Collections.addAll(args, rowValues);
+        }
+        return args.toArray();
+    }
+}
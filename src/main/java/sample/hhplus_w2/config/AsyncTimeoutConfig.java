@@ -0,0 +1,36 @@
+package sample.hhplus_w2.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 요청별 비동기 타임아웃 설정
+ * 핸들러가 TIMEOUT_ATTRIBUTE(밀리초)를 요청 속성에 지정하면 해당 요청만 그 타임아웃으로 비동기 처리한다.
+ * (StreamingResponseBody 등 Callable 기반 응답에 적용, 나머지 요청은 기본 타임아웃 유지)
+ */
+@Configuration
+public class AsyncTimeoutConfig implements WebMvcConfigurer {
+
+    public static final String TIMEOUT_ATTRIBUTE = AsyncTimeoutConfig.class.getName() + ".timeout";
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                // 비동기 처리 시작 직전이므로 아직 타임아웃을 바꿀 수 있다
+                Object timeout = request.getAttribute(TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+                if (timeout instanceof Long millis && request instanceof AsyncWebRequest asyncWebRequest) {
+                    asyncWebRequest.setTimeout(millis);
+                }
+            }
+        });
+    }
+}
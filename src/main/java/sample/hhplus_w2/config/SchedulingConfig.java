@@ -0,0 +1,15 @@
+package sample.hhplus_w2.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * 테스트 등에서 app.scheduling.enabled=false 로 비활성화할 수 있다.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "app.scheduling", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -4,6 +4,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import sample.hhplus_w2.domain.cart.Cart;
 import sample.hhplus_w2.domain.cart.CartItem;
+import sample.hhplus_w2.domain.cart.CartOperation;
+import sample.hhplus_w2.domain.cart.CartView;
+import sample.hhplus_w2.domain.cart.GuestCartItem;
 import sample.hhplus_w2.service.cart.CartService;
 
 import java.util.List;
@@ -24,6 +27,14 @@ public class CartController {
         return ResponseEntity.ok(cart);
     }
 
+    /**
+     * 장바구니 상세 (항목별 현재 가격/재고, 가격 변경 여부 포함)
+     */
+    @GetMapping("/view")
+    public ResponseEntity<CartView> getCartView(@RequestParam Long userId) {
+        return ResponseEntity.ok(cartService.getCartView(userId));
+    }
+
     @GetMapping("/items")
     public ResponseEntity<List<CartItem>> getCartItems(@RequestParam Long cartId) {
         List<CartItem> items = cartService.getCartItems(cartId);
@@ -39,6 +50,16 @@ public class CartController {
         return ResponseEntity.ok(item);
     }
 
+    /**
+     * 장바구니 일괄 변경 (ADD/UPDATE/REMOVE 목록을 한 트랜잭션으로 적용)
+     */
+    @PostMapping("/items/batch")
+    public ResponseEntity<CartView> applyOperations(
+            @RequestParam Long userId,
+            @RequestBody List<CartOperation> operations) {
+        return ResponseEntity.ok(cartService.applyOperations(userId, operations));
+    }
+
     @PutMapping("/items/{itemId}")
     public ResponseEntity<CartItem> updateItemQuantity(
             @PathVariable Long itemId,
@@ -58,4 +79,49 @@ public class CartController {
         cartService.clearCart(cartId);
         return ResponseEntity.ok().build();
     }
+
+    @GetMapping("/guest/{guestToken}/items")
+    public ResponseEntity<List<GuestCartItem>> getGuestCartItems(@PathVariable String guestToken) {
+        return ResponseEntity.ok(cartService.getGuestCartItems(guestToken));
+    }
+
+    @PostMapping("/guest/{guestToken}/items")
+    public ResponseEntity<Void> addGuestItem(
+            @PathVariable String guestToken,
+            @RequestParam Long productId,
+            @RequestParam Integer quantity) {
+        cartService.addGuestItem(guestToken, productId, quantity);
+        return ResponseEntity.ok().build();
+    }
+
+    @PutMapping("/guest/{guestToken}/items/{productId}")
+    public ResponseEntity<Void> updateGuestItemQuantity(
+            @PathVariable String guestToken,
+            @PathVariable Long productId,
+            @RequestParam Integer quantity) {
+        cartService.updateGuestItemQuantity(guestToken, productId, quantity);
+        return ResponseEntity.ok().build();
+    }
+
+    @DeleteMapping("/guest/{guestToken}/items/{productId}")
+    public ResponseEntity<Void> removeGuestItem(@PathVariable String guestToken, @PathVariable Long productId) {
+        cartService.removeGuestItem(guestToken, productId);
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 비회원 주문 준비 - 반환된 cartId로 주문 생성
+     */
+    @PostMapping("/guest/{guestToken}/checkout")
+    public ResponseEntity<Long> checkoutGuestCart(@PathVariable String guestToken) {
+        return ResponseEntity.ok(cartService.checkoutGuestCart(guestToken));
+    }
+
+    /**
+     * 로그인 시 비회원 장바구니 병합
+     */
+    @PostMapping("/guest/{guestToken}/merge")
+    public ResponseEntity<CartView> mergeGuestCart(@PathVariable String guestToken, @RequestParam Long userId) {
+        return ResponseEntity.ok(cartService.mergeGuestCart(guestToken, userId));
+    }
 }
@@ -1,21 +1,39 @@
 package sample.hhplus_w2.controller.coupon;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import sample.hhplus_w2.domain.coupon.Coupon;
+import sample.hhplus_w2.domain.coupon.CouponGrantJob;
+import sample.hhplus_w2.domain.coupon.CouponGrantScope;
+import sample.hhplus_w2.domain.coupon.CouponPolicy;
 import sample.hhplus_w2.domain.coupon.CouponUser;
+import sample.hhplus_w2.domain.coupon.CouponUserStatus;
+import sample.hhplus_w2.domain.coupon.HeldCoupon;
+import sample.hhplus_w2.service.coupon.CouponGrantService;
+import sample.hhplus_w2.service.coupon.CouponIssueQueue;
+import sample.hhplus_w2.service.coupon.CouponIssueTicket;
 import sample.hhplus_w2.service.coupon.CouponService;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/coupons")
 public class CouponController {
 
+    private static final long MAX_WAIT_MILLIS = 25_000;
+
     private final CouponService couponService;
+    private final CouponIssueQueue couponIssueQueue;
+    private final CouponGrantService couponGrantService;
 
-    public CouponController(CouponService couponService) {
+    public CouponController(CouponService couponService, CouponIssueQueue couponIssueQueue,
+                            CouponGrantService couponGrantService) {
         this.couponService = couponService;
+        this.couponIssueQueue = couponIssueQueue;
+        this.couponGrantService = couponGrantService;
     }
 
     @GetMapping
@@ -30,6 +48,34 @@ public class CouponController {
         return ResponseEntity.ok(coupon);
     }
 
+    @GetMapping("/code/{code}")
+    public ResponseEntity<Coupon> getCouponByCode(@PathVariable String code) {
+        Coupon coupon = couponService.getCouponByCode(code);
+        return ResponseEntity.ok(coupon);
+    }
+
+    /**
+     * 발행 중인 쿠폰 정책 (스냅샷 캐시, DB 조회 없음)
+     * 정책 필드만 포함하며 발급 수량(issued)은 응답하지 않는다.
+     */
+    @GetMapping("/policies")
+    public ResponseEntity<List<CouponPolicy>> getPublishedPolicies() {
+        List<CouponPolicy> policies = couponService.getPublishedPolicies();
+        return ResponseEntity.ok(policies);
+    }
+
+    @GetMapping("/policies/{id}")
+    public ResponseEntity<CouponPolicy> getCouponPolicy(@PathVariable Long id) {
+        CouponPolicy policy = couponService.getCouponPolicy(id);
+        return ResponseEntity.ok(policy);
+    }
+
+    @GetMapping("/policies/code/{code}")
+    public ResponseEntity<CouponPolicy> getCouponPolicyByCode(@PathVariable String code) {
+        CouponPolicy policy = couponService.getCouponPolicyByCode(code);
+        return ResponseEntity.ok(policy);
+    }
+
     @PostMapping("/{couponId}/issue")
     public ResponseEntity<CouponUser> issueCoupon(
             @PathVariable Long couponId,
@@ -38,15 +84,93 @@ public class CouponController {
         return ResponseEntity.ok(couponUser);
     }
 
+    /**
+     * 비동기 발급 요청 - 즉시 티켓 반환
+     */
+    @PostMapping("/{couponId}/issue/async")
+    public ResponseEntity<CouponIssueTicket> issueCouponAsync(
+            @PathVariable Long couponId,
+            @RequestParam Long userId) {
+        CouponIssueTicket ticket = couponIssueQueue.enqueue(couponId, userId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ticket);
+    }
+
+    /**
+     * 발급 티켓 조회
+     * waitMillis > 0 이면 처리 완료 또는 대기 시간 만료까지 응답을 보류한다. (long-poll)
+     */
+    @GetMapping("/tickets/{ticketId}")
+    public CompletableFuture<ResponseEntity<CouponIssueTicket>> getIssueTicket(
+            @PathVariable String ticketId,
+            @RequestParam(defaultValue = "0") long waitMillis) {
+        CouponIssueTicket ticket = couponIssueQueue.findTicket(ticketId)
+                .orElseThrow(() -> new IllegalArgumentException("발급 요청을 찾을 수 없습니다: " + ticketId));
+
+        if (waitMillis <= 0 || ticket.isCompleted()) {
+            return CompletableFuture.completedFuture(ResponseEntity.ok(ticket));
+        }
+        return ticket.whenCompleted()
+                .completeOnTimeout(ticket, Math.min(waitMillis, MAX_WAIT_MILLIS), TimeUnit.MILLISECONDS)
+                .thenApply(ResponseEntity::ok);
+    }
+
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<CouponUser>> getUserCoupons(@PathVariable Long userId) {
-        List<CouponUser> coupons = couponService.getUserCoupons(userId);
+    public ResponseEntity<List<HeldCoupon>> getUserCoupons(
+            @PathVariable Long userId,
+            @RequestParam(required = false) CouponUserStatus status) {
+        List<HeldCoupon> coupons = couponService.getHeldCoupons(userId, status);
         return ResponseEntity.ok(coupons);
     }
 
+    @GetMapping("/{couponId}/users/{userId}")
+    public ResponseEntity<Boolean> hasIssued(@PathVariable Long couponId, @PathVariable Long userId) {
+        return ResponseEntity.ok(couponService.hasIssued(couponId, userId));
+    }
+
     @PostMapping("/{couponId}/publish")
     public ResponseEntity<Void> publishCoupon(@PathVariable Long couponId) {
         couponService.publishCoupon(couponId);
         return ResponseEntity.ok().build();
     }
+
+    @PostMapping("/{couponId}/pause")
+    public ResponseEntity<Void> pauseCoupon(@PathVariable Long couponId) {
+        couponService.pauseCoupon(couponId);
+        return ResponseEntity.ok().build();
+    }
+
+    @PostMapping("/{couponId}/expire")
+    public ResponseEntity<Void> expireCoupon(@PathVariable Long couponId) {
+        couponService.expireCoupon(couponId);
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 일괄 지급 작업 등록 (스케줄러가 청크 단위로 실행)
+     * USER_LIST는 본문에 사용자 ID 목록, ALL_ACTIVE는 전체 활성 사용자 대상
+     */
+    @PostMapping("/{couponId}/grants")
+    public ResponseEntity<CouponGrantJob> createGrantJob(
+            @PathVariable Long couponId,
+            @RequestParam(defaultValue = "USER_LIST") CouponGrantScope scope,
+            @RequestBody(required = false) List<Long> userIds) {
+        CouponGrantJob job = couponGrantService.createJob(couponId, scope, userIds);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    /**
+     * 일괄 지급 진행 상황 조회
+     */
+    @GetMapping("/grants/{jobId}")
+    public ResponseEntity<CouponGrantJob> getGrantJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(couponGrantService.getJob(jobId));
+    }
+
+    /**
+     * 실패한 일괄 지급 재개 (체크포인트부터)
+     */
+    @PostMapping("/grants/{jobId}/resume")
+    public ResponseEntity<CouponGrantJob> resumeGrantJob(@PathVariable Long jobId) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(couponGrantService.resume(jobId));
+    }
 }
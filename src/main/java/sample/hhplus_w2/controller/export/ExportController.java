@@ -0,0 +1,65 @@
+package sample.hhplus_w2.controller.export;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import sample.hhplus_w2.config.AsyncTimeoutConfig;
+import sample.hhplus_w2.domain.order.OrderStatus;
+import sample.hhplus_w2.service.export.ExportFormat;
+import sample.hhplus_w2.service.export.ExportService;
+
+/**
+ * 관리자용 대량 내보내기 Controller
+ * 응답 본문을 한 번에 만들지 않고 조회하는 대로 스트리밍한다.
+ * 내보내기 요청에만 긴 비동기 타임아웃(app.export.timeout-millis)을 적용한다.
+ */
+@RestController
+@RequestMapping("/api/admin/export")
+public class ExportController {
+
+    private final ExportService exportService;
+    private final long timeoutMillis;
+
+    public ExportController(ExportService exportService,
+                            @Value("${app.export.timeout-millis:1800000}") long timeoutMillis) {
+        this.exportService = exportService;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 상품 전체 내보내기
+     */
+    @GetMapping("/products")
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            HttpServletRequest request) {
+        return stream(request, "products", format, out -> exportService.exportProducts(format, out));
+    }
+
+    /**
+     * 주문 내보내기
+     */
+    @GetMapping("/orders")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            HttpServletRequest request) {
+        return stream(request, "orders", format, out -> exportService.exportOrders(status, format, out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(HttpServletRequest request, String name, ExportFormat format,
+                                                         StreamingResponseBody body) {
+        request.setAttribute(AsyncTimeoutConfig.TIMEOUT_ATTRIBUTE, timeoutMillis);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + name + "." + format.getExtension() + "\"")
+                .body(body);
+    }
+}
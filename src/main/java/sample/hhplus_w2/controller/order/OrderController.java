@@ -5,6 +5,8 @@ import org.springframework.web.bind.annotation.*;
 import sample.hhplus_w2.domain.order.Order;
 import sample.hhplus_w2.domain.order.OrderHistory;
 import sample.hhplus_w2.domain.order.OrderItem;
+import sample.hhplus_w2.service.idempotency.IdempotencyService;
+import sample.hhplus_w2.service.order.OrderExpirySweeper;
 import sample.hhplus_w2.service.order.OrderService;
 
 import java.util.List;
@@ -14,23 +16,48 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderExpirySweeper orderExpirySweeper;
+    private final IdempotencyService idempotencyService;
 
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, OrderExpirySweeper orderExpirySweeper,
+                           IdempotencyService idempotencyService) {
         this.orderService = orderService;
+        this.orderExpirySweeper = orderExpirySweeper;
+        this.idempotencyService = idempotencyService;
     }
 
+    /**
+     * 주문 생성 (couponUserId로 발급 쿠폰 적용, Idempotency-Key가 있으면 재시도 시 최초 생성된 주문을 반환)
+     */
     @PostMapping
     public ResponseEntity<Order> createOrder(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestParam Long userId,
-            @RequestParam Long cartId) {
-        Order order = orderService.createOrder(userId, cartId);
-        return ResponseEntity.ok(order);
+            @RequestParam Long cartId,
+            @RequestParam(required = false) Long couponUserId) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(orderService.createOrder(userId, cartId, couponUserId));
+        }
+        Long orderId = idempotencyService.execute("order.create", idempotencyKey,
+                IdempotencyService.fingerprint(userId, cartId, couponUserId),
+                () -> orderService.createOrder(userId, cartId, couponUserId).getId());
+        return ResponseEntity.ok(orderService.getOrder(orderId));
     }
 
+    /**
+     * 결제 처리 (Idempotency-Key가 있으면 재시도 시 결제를 다시 실행하지 않음)
+     */
     @PostMapping("/{orderId}/pay")
-    public ResponseEntity<Order> processPayment(@PathVariable Long orderId) {
-        Order order = orderService.processPayment(orderId);
-        return ResponseEntity.ok(order);
+    public ResponseEntity<Order> processPayment(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @PathVariable Long orderId) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(orderService.processPayment(orderId));
+        }
+        Long paidOrderId = idempotencyService.execute("order.pay", idempotencyKey,
+                IdempotencyService.fingerprint(orderId),
+                () -> orderService.processPayment(orderId).getId());
+        return ResponseEntity.ok(orderService.getOrder(paidOrderId));
     }
 
     @GetMapping("/{orderId}")
@@ -56,4 +83,9 @@ public class OrderController {
         List<OrderItem> items = orderService.getOrderItems(orderId);
         return ResponseEntity.ok(items);
     }
+
+    @GetMapping("/expiry/metrics")
+    public ResponseEntity<OrderExpirySweeper.Metrics> getExpiryMetrics() {
+        return ResponseEntity.ok(orderExpirySweeper.getMetrics());
+    }
 }
@@ -3,10 +3,16 @@ package sample.hhplus_w2.controller.product;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import sample.hhplus_w2.domain.product.Product;
+import sample.hhplus_w2.domain.product.ProductPage;
+import sample.hhplus_w2.domain.product.ProductSearchCondition;
+import sample.hhplus_w2.domain.product.ProductSortType;
+import sample.hhplus_w2.domain.product.ProductSummary;
+import sample.hhplus_w2.service.product.ProductCatalogCache;
 import sample.hhplus_w2.service.product.ProductService;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Product Controller
@@ -23,6 +29,7 @@ public class ProductController {
 
     /**
      * 상품 목록 조회
+     * categoryId가 있으면 비활성 상품을 포함한 카테고리 전체, 없으면 활성 상품 전체
      */
     @GetMapping
     public ResponseEntity<List<Product>> getProducts(@RequestParam(required = false) Long categoryId) {
@@ -32,6 +39,36 @@ public class ProductController {
         return ResponseEntity.ok(productService.getActiveProducts());
     }
 
+    /**
+     * 상품 목록 페이지 조회 (keyset 페이지네이션)
+     * 응답의 nextCursor를 cursor로 넘겨 다음 페이지를 조회한다.
+     * GET /api/products와 달리 categoryId를 지정해도 활성 상품만 반환한다.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<ProductPage> getProductPage(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "NEWEST") ProductSortType sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "7") int days) {
+        return ResponseEntity.ok(productService.getProductPage(categoryId, sort, cursor, size, days));
+    }
+
+    /**
+     * 상품 검색 (이름/브랜드/설명, 마지막 단어는 접두어 일치)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<ProductSummary>> searchProducts(
+            @RequestParam String q,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "true") Boolean active,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "20") int size) {
+        ProductSearchCondition condition = new ProductSearchCondition(q, categoryId, active, minPrice, maxPrice);
+        return ResponseEntity.ok(productService.searchProducts(condition, size));
+    }
+
     /**
      * 상품 상세 조회
      */
@@ -79,4 +116,28 @@ public class ProductController {
         productService.increaseStock(id, quantity);
         return ResponseEntity.ok().build();
     }
+
+    /**
+     * 상품 비활성화
+     */
+    @PostMapping("/{id}/deactivate")
+    public ResponseEntity<Product> deactivateProduct(@PathVariable Long id) {
+        return ResponseEntity.ok(productService.deactivateProduct(id));
+    }
+
+    /**
+     * 상품 활성화
+     */
+    @PostMapping("/{id}/activate")
+    public ResponseEntity<Product> activateProduct(@PathVariable Long id) {
+        return ResponseEntity.ok(productService.activateProduct(id));
+    }
+
+    /**
+     * 카탈로그 캐시 지표 (적중률 등)
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, ProductCatalogCache.Metrics>> getCacheStats() {
+        return ResponseEntity.ok(productService.getCacheMetrics());
+    }
 }
@@ -2,8 +2,12 @@ package sample.hhplus_w2.controller.stats;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import sample.hhplus_w2.domain.stats.ProductSalesRank;
 import sample.hhplus_w2.domain.stats.ProductSalesStats;
+import sample.hhplus_w2.domain.stats.ProductWindowSales;
 import sample.hhplus_w2.service.stats.ProductStatsService;
+import sample.hhplus_w2.service.stats.SalesRankMetric;
+import sample.hhplus_w2.service.stats.SalesWindowUnit;
 
 import java.util.List;
 
@@ -20,16 +24,36 @@ public class ProductStatsController {
     @GetMapping("/popular")
     public ResponseEntity<List<ProductSalesStats>> getPopularProducts(
             @RequestParam(defaultValue = "3") Integer days,
+            @RequestParam(defaultValue = "0") Integer offset,
             @RequestParam(defaultValue = "5") Integer limit) {
-        List<ProductSalesStats> stats = productStatsService.getTopProductsByPeriod(days, limit);
+        List<ProductSalesStats> stats = productStatsService.getTopProductsByPeriod(days, offset, limit);
         return ResponseEntity.ok(stats);
     }
 
     @GetMapping("/revenue")
     public ResponseEntity<List<ProductSalesStats>> getTopRevenueProducts(
             @RequestParam(defaultValue = "3") Integer days,
+            @RequestParam(defaultValue = "0") Integer offset,
             @RequestParam(defaultValue = "5") Integer limit) {
-        List<ProductSalesStats> stats = productStatsService.getTopProductsByRevenue(days, limit);
+        List<ProductSalesStats> stats = productStatsService.getTopProductsByRevenue(days, offset, limit);
         return ResponseEntity.ok(stats);
     }
+
+    @GetMapping("/rank/{productId}")
+    public ResponseEntity<ProductSalesRank> getProductRank(
+            @PathVariable Long productId,
+            @RequestParam(defaultValue = "3") Integer days,
+            @RequestParam(defaultValue = "SALES_COUNT") SalesRankMetric metric) {
+        ProductSalesRank rank = productStatsService.getProductRank(productId, days, metric);
+        return ResponseEntity.ok(rank);
+    }
+
+    @GetMapping("/window")
+    public ResponseEntity<List<ProductWindowSales>> getTopProductsInWindow(
+            @RequestParam(defaultValue = "DAYS") SalesWindowUnit unit,
+            @RequestParam(defaultValue = "7") Integer n,
+            @RequestParam(defaultValue = "5") Integer limit) {
+        List<ProductWindowSales> sales = productStatsService.getTopProductsInWindow(unit, n, limit);
+        return ResponseEntity.ok(sales);
+    }
 }
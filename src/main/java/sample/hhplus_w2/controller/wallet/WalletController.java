@@ -0,0 +1,42 @@
+package sample.hhplus_w2.controller.wallet;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import sample.hhplus_w2.domain.wallet.Wallet;
+import sample.hhplus_w2.domain.wallet.WalletTransaction;
+import sample.hhplus_w2.service.wallet.WalletService;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/wallets")
+@ConditionalOnProperty(prefix = "app.wallet", name = "enabled", havingValue = "true")
+public class WalletController {
+
+    private final WalletService walletService;
+
+    public WalletController(WalletService walletService) {
+        this.walletService = walletService;
+    }
+
+    @GetMapping("/{userId}")
+    public ResponseEntity<Wallet> getWallet(@PathVariable Long userId) {
+        return ResponseEntity.ok(walletService.getWallet(userId));
+    }
+
+    @PostMapping("/{userId}/charge")
+    public ResponseEntity<Wallet> charge(
+            @PathVariable Long userId,
+            @RequestParam BigDecimal amount) {
+        return ResponseEntity.ok(walletService.charge(userId, amount));
+    }
+
+    @GetMapping("/{userId}/transactions")
+    public ResponseEntity<List<WalletTransaction>> getTransactions(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(walletService.getTransactions(userId, size));
+    }
+}
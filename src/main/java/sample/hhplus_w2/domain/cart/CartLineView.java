@@ -0,0 +1,31 @@
+package sample.hhplus_w2.domain.cart;
+
+import java.math.BigDecimal;
+
+/**
+ * 장바구니 항목 조회 모델 (항목 + 현재 상품 가격/재고/판매 여부)
+ * @param currentPrice 현재 상품 가격 (상품이 삭제되었으면 null)
+ * @param priceChanged 담을 당시 가격 스냅샷이 현재 가격과 다른지 여부
+ * @param available 판매 중이고 재고가 담은 수량 이상인지 여부
+ */
+public record CartLineView(Long itemId, Long productId, String productName, Integer qty,
+                           BigDecimal unitPriceSnapshot, BigDecimal currentPrice, Integer stockQty,
+                           Boolean active, boolean priceChanged, boolean available) {
+
+    /**
+     * 조회 쿼리용 생성자 (JPQL constructor expression)
+     */
+    public CartLineView(Long itemId, Long productId, String productName, Integer qty,
+                        BigDecimal unitPriceSnapshot, BigDecimal currentPrice, Integer stockQty, Boolean active) {
+        this(itemId, productId, productName, qty, unitPriceSnapshot, currentPrice, stockQty, active,
+                currentPrice != null && unitPriceSnapshot.compareTo(currentPrice) != 0,
+                Boolean.TRUE.equals(active) && stockQty != null && stockQty >= qty);
+    }
+
+    /**
+     * 결제 예상 금액 (현재 가격 기준, 구매 불가 항목은 0)
+     */
+    public BigDecimal currentSubtotal() {
+        return available ? currentPrice.multiply(BigDecimal.valueOf(qty)) : BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,8 @@
+package sample.hhplus_w2.domain.cart;
+
+/**
+ * 장바구니 일괄 변경 작업 (상품 단위)
+ * @param quantity ADD는 증가 수량, UPDATE는 변경할 수량 (REMOVE는 무시)
+ */
+public record CartOperation(CartOperationType type, Long productId, Integer quantity) {
+}
@@ -0,0 +1,10 @@
+package sample.hhplus_w2.domain.cart;
+
+/**
+ * 장바구니 일괄 변경 작업 유형
+ */
+public enum CartOperationType {
+    ADD,     // 담기 (이미 담긴 상품이면 수량 증가)
+    UPDATE,  // 수량 변경
+    REMOVE   // 빼기
+}
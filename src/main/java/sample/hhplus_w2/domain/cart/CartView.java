@@ -0,0 +1,21 @@
+package sample.hhplus_w2.domain.cart;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 장바구니 조회 모델
+ * @param totalAmount 현재 가격 기준 합계 (구매 불가 항목 제외)
+ * @param hasStalePrices 가격이 바뀐 항목이 있는지 여부
+ */
+public record CartView(Long cartId, Long userId, CartStatus status, List<CartLineView> items,
+                       BigDecimal totalAmount, boolean hasStalePrices) {
+
+    public static CartView of(Cart cart, List<CartLineView> items) {
+        BigDecimal total = items.stream()
+                .map(CartLineView::currentSubtotal)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        boolean stale = items.stream().anyMatch(CartLineView::priceChanged);
+        return new CartView(cart.getId(), cart.getUserId(), cart.getStatus(), items, total, stale);
+    }
+}
@@ -0,0 +1,9 @@
+package sample.hhplus_w2.domain.cart;
+
+import java.math.BigDecimal;
+
+/**
+ * 비회원 장바구니 항목 (저장 방식과 무관한 값 객체)
+ */
+public record GuestCartItem(Long productId, Integer qty, BigDecimal unitPriceSnapshot) {
+}
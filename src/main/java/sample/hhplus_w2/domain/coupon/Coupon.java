@@ -4,7 +4,6 @@ import jakarta.persistence.*;
 import lombok.Getter;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDateTime;
 
 /**
@@ -186,15 +185,6 @@ public class Coupon {
      * @return 할인 금액
      */
     public BigDecimal calculateDiscount(BigDecimal orderAmount) {
-        if (orderAmount.compareTo(this.minOrderAmount) < 0) {
-            throw new IllegalArgumentException("최소 주문 금액을 충족하지 않습니다.");
-        }
-
-        if (CouponType.FIXED.equals(this.type)) {
-            return this.amount; // 정액 할인
-        } else {
-            // 정률 할인 (amount는 퍼센트)
-            return orderAmount.multiply(this.amount).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-        }
+        return CouponPolicy.of(this).calculateDiscount(orderAmount);
     }
 }
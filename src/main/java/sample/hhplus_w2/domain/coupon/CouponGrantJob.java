@@ -0,0 +1,149 @@
+package sample.hhplus_w2.domain.coupon;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * CouponGrantJob 도메인 엔티티
+ * 쿠폰 일괄 지급 작업 (진행 상황과 재개용 체크포인트)
+ * 대상 사용자를 ID 오름차순으로 청크 단위 처리하고, 청크마다 마지막 사용자 ID를 같은 트랜잭션에 기록한다.
+ */
+@Entity
+@Table(name = "coupon_grant_job", indexes = {
+        @Index(name = "idx_coupon_grant_job_status", columnList = "status")
+})
+@Getter
+public class CouponGrantJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CouponGrantScope scope;         // USER_LIST, ALL_ACTIVE
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CouponGrantJobStatus status;    // PENDING, RUNNING, COMPLETED, FAILED
+
+    @Column(name = "total_targets", nullable = false)
+    private Integer totalTargets;           // 대상 사용자 수 (ALL_ACTIVE는 등록 시점 기준)
+
+    @Column(nullable = false)
+    private Integer processed;              // 처리한 사용자 수
+
+    @Column(nullable = false)
+    private Integer granted;                // 지급한 수
+
+    @Column(nullable = false)
+    private Integer skipped;                // 이미 보유해 건너뛴 수
+
+    @Column(name = "last_user_id", nullable = false)
+    private Long lastUserId;                // 체크포인트 (이 ID 다음부터 재개)
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    protected CouponGrantJob() {
+    }
+
+    /**
+     * 지급 작업 생성
+     */
+    public static CouponGrantJob create(Long couponId, CouponGrantScope scope, int totalTargets) {
+        CouponGrantJob job = new CouponGrantJob();
+        job.couponId = couponId;
+        job.scope = scope;
+        job.status = CouponGrantJobStatus.PENDING;
+        job.totalTargets = totalTargets;
+        job.processed = 0;
+        job.granted = 0;
+        job.skipped = 0;
+        job.lastUserId = 0L;
+        job.createdAt = LocalDateTime.now();
+        job.updatedAt = LocalDateTime.now();
+        return job;
+    }
+
+    /**
+     * 실행 시작 (중단된 RUNNING 작업은 체크포인트부터 이어서 실행)
+     */
+    public void start() {
+        if (isFinished()) {
+            throw new IllegalStateException("종료된 지급 작업입니다.");
+        }
+        this.status = CouponGrantJobStatus.RUNNING;
+        if (this.startedAt == null) {
+            this.startedAt = LocalDateTime.now();
+        }
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 청크 처리 결과 반영 (체크포인트 이동)
+     */
+    public void advance(Long lastUserId, int processed, int granted) {
+        this.lastUserId = lastUserId;
+        this.processed += processed;
+        this.granted += granted;
+        this.skipped += processed - granted;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.status = CouponGrantJobStatus.COMPLETED;
+        this.completedAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void fail(String errorMessage) {
+        this.status = CouponGrantJobStatus.FAILED;
+        this.errorMessage = errorMessage != null && errorMessage.length() > 500
+                ? errorMessage.substring(0, 500)
+                : errorMessage;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 실패한 작업 재개 요청 (체크포인트는 유지)
+     */
+    public void resume() {
+        if (!CouponGrantJobStatus.FAILED.equals(this.status)) {
+            throw new IllegalStateException("실패한 지급 작업만 재개할 수 있습니다.");
+        }
+        this.status = CouponGrantJobStatus.PENDING;
+        this.errorMessage = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return CouponGrantJobStatus.COMPLETED.equals(this.status) || CouponGrantJobStatus.FAILED.equals(this.status);
+    }
+
+    /**
+     * 진행률 (%)
+     */
+    public int getProgressPercent() {
+        if (CouponGrantJobStatus.COMPLETED.equals(this.status)) {
+            return 100;
+        }
+        return totalTargets == 0 ? 0 : (int) Math.min(99, (long) processed * 100 / totalTargets);
+    }
+}
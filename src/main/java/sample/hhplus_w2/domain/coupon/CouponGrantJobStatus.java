@@ -0,0 +1,11 @@
+package sample.hhplus_w2.domain.coupon;
+
+/**
+ * 쿠폰 일괄 지급 작업 상태
+ */
+public enum CouponGrantJobStatus {
+    PENDING,        // 실행 대기
+    RUNNING,        // 실행 중 (노드 장애 시 임대 만료 후 다른 노드가 이어서 실행)
+    COMPLETED,      // 완료
+    FAILED          // 실패 (체크포인트 이후부터 재개 가능)
+}
@@ -0,0 +1,9 @@
+package sample.hhplus_w2.domain.coupon;
+
+/**
+ * 쿠폰 일괄 지급 대상
+ */
+public enum CouponGrantScope {
+    USER_LIST,      // 지정한 사용자 목록
+    ALL_ACTIVE      // 전체 활성 사용자
+}
@@ -0,0 +1,28 @@
+package sample.hhplus_w2.domain.coupon;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+/**
+ * CouponGrantTarget 도메인 엔티티
+ * 사용자 목록 지급 작업의 대상 (재개 시 같은 순서로 다시 읽기 위해 저장, INSERT는 JDBC로만 수행)
+ */
+@Entity
+@Table(name = "coupon_grant_target", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_coupon_grant_target", columnNames = {"job_id", "user_id"})
+})
+@Getter
+public class CouponGrantTarget {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    protected CouponGrantTarget() {
+    }
+}
@@ -0,0 +1,77 @@
+package sample.hhplus_w2.domain.coupon;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 정책 스냅샷 (불변)
+ * 발급/사용 조건과 할인 금액 계산에 필요한 값만 담는다.
+ * 발급 수량(issued)처럼 자주 바뀌는 값은 제외해 정책 조회가 발급 처리와 경합하지 않도록 한다.
+ */
+public record CouponPolicy(
+        Long id,
+        String code,
+        CouponType type,
+        BigDecimal amount,
+        BigDecimal minOrderAmount,
+        Integer totalIssuable,
+        Integer perUserLimit,
+        LocalDateTime validFrom,
+        LocalDateTime validTo,
+        CouponStatus status
+) {
+
+    public static CouponPolicy of(Coupon coupon) {
+        return new CouponPolicy(coupon.getId(), coupon.getCode(), coupon.getType(), coupon.getAmount(),
+                coupon.getMinOrderAmount() != null ? coupon.getMinOrderAmount() : BigDecimal.ZERO,
+                coupon.getTotalIssuable(), coupon.getPerUserLimit(), coupon.getValidFrom(), coupon.getValidTo(), coupon.getStatus());
+    }
+
+    /**
+     * 유효 기간 확인
+     */
+    public boolean isValidPeriod(LocalDateTime now) {
+        return (validFrom == null || now.isAfter(validFrom))
+                && (validTo == null || now.isBefore(validTo));
+    }
+
+    /**
+     * 발급 가능 여부 (수량은 발급 시 조건부 UPDATE로 확인)
+     */
+    public boolean isIssuable(LocalDateTime now) {
+        return CouponStatus.PUBLISHED.equals(status) && isValidPeriod(now);
+    }
+
+    /**
+     * 1인당 발급 제한 (미설정이면 1장)
+     */
+    public int issueLimitPerUser() {
+        return perUserLimit != null && perUserLimit > 0 ? perUserLimit : 1;
+    }
+
+    /**
+     * 주문 적용 가능 여부 (발급된 쿠폰은 일시정지 중에도 사용 가능, 만료/초안은 불가)
+     */
+    public boolean isRedeemable(LocalDateTime now) {
+        return (CouponStatus.PUBLISHED.equals(status) || CouponStatus.PAUSED.equals(status))
+                && isValidPeriod(now);
+    }
+
+    /**
+     * 할인 금액 계산
+     * @param orderAmount 주문 금액
+     * @return 할인 금액
+     */
+    public BigDecimal calculateDiscount(BigDecimal orderAmount) {
+        if (orderAmount.compareTo(minOrderAmount) < 0) {
+            throw new IllegalArgumentException("최소 주문 금액을 충족하지 않습니다.");
+        }
+
+        if (CouponType.FIXED.equals(type)) {
+            return amount; // 정액 할인
+        }
+        // 정률 할인 (amount는 퍼센트)
+        return orderAmount.multiply(amount).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+    }
+}
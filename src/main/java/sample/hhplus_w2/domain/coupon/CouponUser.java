@@ -7,11 +7,11 @@ import java.time.LocalDateTime;
 
 /**
  * CouponUser 도메인 엔티티
- * 사용자별 쿠폰 발급/사용 내역
+ * 사용자별 쿠폰 발급/사용 내역 (1인당 발급 제한만큼 같은 쿠폰을 여러 장 보유할 수 있음)
  */
 @Entity
 @Table(name = "coupon_user", indexes = {
-        @Index(name = "uk_coupon_user", columnList = "coupon_id, user_id", unique = true),
+        @Index(name = "idx_coupon_user_coupon", columnList = "coupon_id, user_id"),
         @Index(name = "idx_coupon_user_status", columnList = "user_id, status")
 })
 @Getter
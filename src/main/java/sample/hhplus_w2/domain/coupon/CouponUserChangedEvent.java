@@ -0,0 +1,39 @@
+package sample.hhplus_w2.domain.coupon;
+
+import java.util.List;
+
+/**
+ * 발급 쿠폰 변경 이벤트 (쿠폰 보유 색인 갱신용)
+ * @param type 변경 종류
+ * @param coupons 변경된 발급 쿠폰 (CLEARED면 비어있음)
+ */
+public record CouponUserChangedEvent(Type type, List<HeldCoupon> coupons) {
+
+    public enum Type {
+        SAVED,      // 발급 또는 엔티티 저장 (전체 필드)
+        USED,       // 조건부 UPDATE로 사용 처리 (id, userId, orderId, usedAt만 유효)
+        RESTORED,   // 주문 만료로 사용 취소 (id, userId, 취소된 orderId만 유효)
+        REMOVED,
+        CLEARED
+    }
+
+    public static CouponUserChangedEvent saved(List<HeldCoupon> coupons) {
+        return new CouponUserChangedEvent(Type.SAVED, coupons);
+    }
+
+    public static CouponUserChangedEvent used(HeldCoupon coupon) {
+        return new CouponUserChangedEvent(Type.USED, List.of(coupon));
+    }
+
+    public static CouponUserChangedEvent restored(List<HeldCoupon> coupons) {
+        return new CouponUserChangedEvent(Type.RESTORED, coupons);
+    }
+
+    public static CouponUserChangedEvent removed(HeldCoupon coupon) {
+        return new CouponUserChangedEvent(Type.REMOVED, List.of(coupon));
+    }
+
+    public static CouponUserChangedEvent cleared() {
+        return new CouponUserChangedEvent(Type.CLEARED, List.of());
+    }
+}
@@ -0,0 +1,39 @@
+package sample.hhplus_w2.domain.coupon;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * CouponUserCount 도메인 엔티티
+ * 쿠폰/사용자별 발급 수량 (1인당 발급 제한 검증용, 증가는 조건부 UPDATE로만 수행)
+ */
+@Entity
+@Table(name = "coupon_user_count", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_coupon_user_count", columnNames = {"coupon_id", "user_id"})
+})
+@Getter
+public class CouponUserCount {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "issued_count", nullable = false)
+    private Integer issuedCount;            // 발급받은 수량
+
+    @Column(name = "grant_job_id")
+    private Long grantJobId;                // 일괄 지급으로 생성된 경우 지급 작업 ID
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected CouponUserCount() {
+    }
+}
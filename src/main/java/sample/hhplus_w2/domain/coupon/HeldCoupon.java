@@ -0,0 +1,55 @@
+package sample.hhplus_w2.domain.coupon;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 보유 쿠폰 (쿠폰 보유 색인 조회용 projection)
+ * @param id 발급 쿠폰 ID (coupon_user.id)
+ */
+public record HeldCoupon(
+        Long id,
+        Long couponId,
+        Long userId,
+        CouponUserStatus status,
+        Long orderId,
+        LocalDateTime issuedAt,
+        LocalDateTime usedAt
+) {
+
+    public static HeldCoupon of(CouponUser couponUser) {
+        return new HeldCoupon(couponUser.getId(), couponUser.getCouponId(), couponUser.getUserId(),
+                couponUser.getStatus(), couponUser.getOrderId(), couponUser.getIssuedAt(), couponUser.getUsedAt());
+    }
+
+    /**
+     * 사용 처리 내역 (조건부 UPDATE 결과 - 쿠폰 ID/발급 시각은 알 수 없음)
+     */
+    public static HeldCoupon used(Long id, Long userId, Long orderId, LocalDateTime usedAt) {
+        return new HeldCoupon(id, null, userId, CouponUserStatus.USED, orderId, null, usedAt);
+    }
+
+    /**
+     * 사용 취소 내역 (조건부 UPDATE 결과 - orderId는 취소된 주문)
+     */
+    public static HeldCoupon restored(Long id, Long userId, Long orderId) {
+        return new HeldCoupon(id, null, userId, CouponUserStatus.USED, orderId, null, null);
+    }
+
+    /**
+     * 사용 처리된 사본
+     */
+    public HeldCoupon withUsed(Long orderId, LocalDateTime usedAt) {
+        return new HeldCoupon(id, couponId, userId, CouponUserStatus.USED, orderId, issuedAt, usedAt);
+    }
+
+    /**
+     * 사용 취소된 사본 (발급 상태로 복구)
+     */
+    public HeldCoupon withRestored() {
+        return new HeldCoupon(id, couponId, userId, CouponUserStatus.ISSUED, null, issuedAt, null);
+    }
+
+    public boolean isUsable() {
+        return CouponUserStatus.ISSUED.equals(status);
+    }
+}
@@ -0,0 +1,13 @@
+package sample.hhplus_w2.domain.coupon;
+
+/**
+ * 1인당 발급 제한 초과
+ */
+public class PerUserLimitExceededException extends IllegalStateException {
+
+    public PerUserLimitExceededException(int perUserLimit) {
+        super(perUserLimit == 1
+                ? "이미 발급받은 쿠폰입니다."
+                : String.format("이미 발급받은 쿠폰입니다. (1인당 최대 %d장)", perUserLimit));
+    }
+}
@@ -0,0 +1,70 @@
+package sample.hhplus_w2.domain.idempotency;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * IdempotencyRecord 도메인 엔티티
+ * Idempotency-Key별 처리 상태와 결과 리소스 ID (응답 본문 대신 ID만 저장)
+ */
+@Entity
+@Table(name = "idempotency_key", indexes = {
+        @Index(name = "idx_idempotency_expires", columnList = "expires_at")
+})
+@Getter
+public class IdempotencyRecord {
+    @Id
+    @Column(name = "idem_key", length = 150)
+    private String key;                  // 범위 + ":" + 클라이언트 키
+
+    @Column(nullable = false, length = 64)
+    private String fingerprint;          // 요청 파라미터 SHA-256
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IdempotencyStatus status;
+
+    @Column(nullable = false, length = 36)
+    private String owner;                // 처리 중인 실행 ID
+
+    @Column(name = "resource_id")
+    private Long resourceId;             // 처리 결과 (주문 ID 등)
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;   // 처리 중 잠금 만료 시각 (지나면 다른 요청이 이어받음)
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;     // 보관 만료 시각
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    protected IdempotencyRecord() {
+    }
+
+    /**
+     * 처리 시작 기록 생성
+     */
+    public static IdempotencyRecord start(String key, String fingerprint, String owner,
+                                          LocalDateTime lockedUntil, LocalDateTime expiresAt) {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.key = key;
+        record.fingerprint = fingerprint;
+        record.status = IdempotencyStatus.IN_PROGRESS;
+        record.owner = owner;
+        record.lockedUntil = lockedUntil;
+        record.expiresAt = expiresAt;
+        record.createdAt = LocalDateTime.now();
+        return record;
+    }
+
+    public boolean isCompleted() {
+        return IdempotencyStatus.COMPLETED.equals(this.status);
+    }
+
+    public boolean isLockExpired(LocalDateTime now) {
+        return this.lockedUntil.isBefore(now);
+    }
+}
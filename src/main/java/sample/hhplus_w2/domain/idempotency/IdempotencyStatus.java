@@ -0,0 +1,6 @@
+package sample.hhplus_w2.domain.idempotency;
+
+public enum IdempotencyStatus {
+    IN_PROGRESS,  // 처리 중 (locked_until까지 다른 요청은 대기)
+    COMPLETED     // 처리 완료 (resource_id로 응답 재사용)
+}
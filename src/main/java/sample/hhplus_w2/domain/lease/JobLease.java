@@ -0,0 +1,39 @@
+package sample.hhplus_w2.domain.lease;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * JobLease 도메인 엔티티
+ * 여러 노드에서 동시에 실행되면 안 되는 백그라운드 작업의 실행권(임대)
+ */
+@Entity
+@Table(name = "job_lease")
+@Getter
+public class JobLease {
+    @Id
+    @Column(length = 100)
+    private String name;                // 작업 이름
+
+    @Column(nullable = false, length = 100)
+    private String owner;               // 임대 보유 노드
+
+    @Column(name = "leased_until", nullable = false)
+    private LocalDateTime leasedUntil;  // 임대 만료 시각
+
+    protected JobLease() {
+    }
+
+    /**
+     * 신규 임대 생성
+     */
+    public static JobLease create(String name, String owner, LocalDateTime leasedUntil) {
+        JobLease lease = new JobLease();
+        lease.name = name;
+        lease.owner = owner;
+        lease.leasedUntil = leasedUntil;
+        return lease;
+    }
+}
@@ -13,7 +13,7 @@ import java.time.LocalDateTime;
 @Table(name = "order_", indexes = {
         @Index(name = "idx_order_user_created", columnList = "user_id, created_at"),
         @Index(name = "idx_order_status", columnList = "status, created_at"),
-        @Index(name = "idx_order_expires", columnList = "expires_at")
+        @Index(name = "idx_order_expires", columnList = "status, expires_at")
 })
 @Getter
 public class Order {
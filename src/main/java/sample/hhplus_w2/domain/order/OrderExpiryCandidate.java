@@ -0,0 +1,9 @@
+package sample.hhplus_w2.domain.order;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 대상 주문 조회 결과 (keyset 페이지네이션 커서 겸용)
+ */
+public record OrderExpiryCandidate(Long id, LocalDateTime expiresAt) {
+}
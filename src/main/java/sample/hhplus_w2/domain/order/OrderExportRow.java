@@ -0,0 +1,12 @@
+package sample.hhplus_w2.domain.order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내보내기 행 (엔티티로 적재하지 않고 한 행씩 스트리밍)
+ */
+public record OrderExportRow(Long id, Long userId, OrderStatus status, BigDecimal total,
+                             BigDecimal discountTotal, BigDecimal shippingFee,
+                             LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
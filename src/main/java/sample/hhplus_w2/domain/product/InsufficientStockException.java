@@ -0,0 +1,23 @@
+package sample.hhplus_w2.domain.product;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 다중 상품 재고 차감 실패 (부족한 상품 목록 포함)
+ */
+public class InsufficientStockException extends IllegalStateException {
+
+    private final List<StockShortage> shortages;
+
+    public InsufficientStockException(List<StockShortage> shortages) {
+        super("재고가 부족합니다: " + shortages.stream()
+                .map(s -> String.format("상품 %d(요청 %d, 재고 %d)", s.productId(), s.requested(), s.available()))
+                .collect(Collectors.joining(", ")));
+        this.shortages = List.copyOf(shortages);
+    }
+
+    public List<StockShortage> getShortages() {
+        return shortages;
+    }
+}
@@ -13,7 +13,9 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "product", indexes = {
         @Index(name = "idx_product_category", columnList = "category_id, created_at"),
-        @Index(name = "idx_product_active", columnList = "is_active, created_at")
+        @Index(name = "idx_product_active", columnList = "is_active, created_at"),
+        @Index(name = "idx_product_category_price", columnList = "category_id, price"),
+        @Index(name = "idx_product_active_price", columnList = "is_active, price")
 })
 @Getter
 public class Product {
@@ -168,4 +170,23 @@ public class Product {
         this.isActive = true;
         this.updatedAt = LocalDateTime.now();
     }
+
+    /**
+     * 조회용 복사본 (재고만 지정한 값으로 교체, 캐시 공유 인스턴스 보호용)
+     */
+    public Product copyWithStock(Integer stockQty) {
+        Product copy = new Product();
+        copy.id = this.id;
+        copy.categoryId = this.categoryId;
+        copy.name = this.name;
+        copy.brand = this.brand;
+        copy.description = this.description;
+        copy.price = this.price;
+        copy.stockQty = stockQty;
+        copy.version = this.version;
+        copy.isActive = this.isActive;
+        copy.createdAt = this.createdAt;
+        copy.updatedAt = this.updatedAt;
+        return copy;
+    }
 }
@@ -0,0 +1,21 @@
+package sample.hhplus_w2.domain.product;
+
+/**
+ * 상품 변경 이벤트 (캐시 무효화용)
+ * @param productId 변경된 상품 ID (null이면 전체)
+ * @param stockOnly 재고만 변경되었는지 여부
+ */
+public record ProductChangedEvent(Long productId, boolean stockOnly) {
+
+    public static ProductChangedEvent stock(Long productId) {
+        return new ProductChangedEvent(productId, true);
+    }
+
+    public static ProductChangedEvent product(Long productId) {
+        return new ProductChangedEvent(productId, false);
+    }
+
+    public static ProductChangedEvent all() {
+        return new ProductChangedEvent(null, false);
+    }
+}
@@ -0,0 +1,34 @@
+package sample.hhplus_w2.domain.product;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 상품 목록 keyset 커서 (마지막 행의 정렬 키 + ID)
+ * 클라이언트에는 정렬 기준을 포함한 불투명 문자열로 전달한다.
+ */
+public record ProductCursor(ProductSortType sort, String key, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = sort.name() + DELIMITER + key + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 복원 (정렬 기준이 다르거나 형식이 잘못되면 예외)
+     */
+    public static ProductCursor decode(String encoded, ProductSortType sort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3 || !sort.name().equals(parts[0])) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new ProductCursor(sort, parts[1], Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package sample.hhplus_w2.domain.product;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 내보내기 행 (엔티티로 적재하지 않고 한 행씩 스트리밍)
+ */
+public record ProductExportRow(Long id, Long categoryId, String name, String brand, BigDecimal price,
+                               Integer stockQty, Boolean isActive, LocalDateTime createdAt,
+                               LocalDateTime updatedAt) {
+}
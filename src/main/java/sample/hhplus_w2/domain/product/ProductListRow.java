@@ -0,0 +1,7 @@
+package sample.hhplus_w2.domain.product;
+
+/**
+ * 상품 목록 조회 결과 (요약 + 다음 페이지 커서)
+ */
+public record ProductListRow(ProductSummary summary, ProductCursor cursor) {
+}
@@ -0,0 +1,10 @@
+package sample.hhplus_w2.domain.product;
+
+import java.util.List;
+
+/**
+ * 상품 목록 페이지
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ */
+public record ProductPage(List<ProductSummary> items, String nextCursor) {
+}
@@ -0,0 +1,15 @@
+package sample.hhplus_w2.domain.product;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품 검색 조건
+ * @param keyword 검색어 (이름/브랜드/설명, 마지막 단어는 접두어 일치)
+ * @param categoryId 카테고리 필터 (null이면 전체)
+ * @param active 활성 여부 필터 (null이면 전체)
+ * @param minPrice 최소 가격 (포함, null이면 제한 없음)
+ * @param maxPrice 최대 가격 (포함, null이면 제한 없음)
+ */
+public record ProductSearchCondition(String keyword, Long categoryId, Boolean active,
+                                     BigDecimal minPrice, BigDecimal maxPrice) {
+}
@@ -0,0 +1,16 @@
+package sample.hhplus_w2.domain.product;
+
+import java.math.BigDecimal;
+
+/**
+ * 검색 색인 대상 (검색/필터에 필요한 컬럼만)
+ */
+public record ProductSearchDocument(Long id, Long categoryId, String name, String brand, String description,
+                                    BigDecimal price, boolean active) {
+
+    public static ProductSearchDocument of(Product product) {
+        return new ProductSearchDocument(product.getId(), product.getCategoryId(), product.getName(),
+                product.getBrand(), product.getDescription(), product.getPrice(),
+                Boolean.TRUE.equals(product.getIsActive()));
+    }
+}
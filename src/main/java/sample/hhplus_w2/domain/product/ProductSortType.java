@@ -0,0 +1,11 @@
+package sample.hhplus_w2.domain.product;
+
+/**
+ * 상품 목록 정렬 기준
+ */
+public enum ProductSortType {
+    NEWEST,      // 최신 등록순 (created_at DESC, id DESC)
+    PRICE_ASC,   // 낮은 가격순 (price ASC, id ASC)
+    PRICE_DESC,  // 높은 가격순 (price DESC, id DESC)
+    POPULAR      // 판매량순 (product_sales_stats.sales_count DESC, product_id DESC)
+}
@@ -0,0 +1,14 @@
+package sample.hhplus_w2.domain.product;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품 목록용 요약 (description 등 대용량 컬럼 제외)
+ */
+public record ProductSummary(Long id, String name, String brand, BigDecimal price, boolean inStock) {
+
+    public static ProductSummary of(Product product) {
+        return new ProductSummary(product.getId(), product.getName(), product.getBrand(), product.getPrice(),
+                product.getStockQty() > 0);
+    }
+}
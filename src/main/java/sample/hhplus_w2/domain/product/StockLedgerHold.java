@@ -0,0 +1,69 @@
+package sample.hhplus_w2.domain.product;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * StockLedgerHold 도메인 엔티티
+ * 재고 원장(StockLedger)이 product.stock_qty에서 가져가 메모리에서 관리 중인 수량
+ * 노드(원장 인스턴스)별로 기록하며, 보유 노드의 임대가 만료되면 이 값을 기준으로 재고를 복구한다.
+ */
+@Entity
+@Table(name = "stock_ledger_hold", indexes = {
+        @Index(name = "uk_stock_ledger_hold_product_owner", columnList = "product_id, owner", unique = true)
+})
+@Getter
+public class StockLedgerHold {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(nullable = false, length = 100)
+    private String owner;               // 보유 노드 (JobLeaseService 노드 ID)
+
+    @Column(name = "held_qty", nullable = false)
+    private Integer heldQty;            // 원장이 보유 중인 수량 (마지막 반영 기준)
+
+    @Column(name = "flushed_at", nullable = false)
+    private LocalDateTime flushedAt;    // 마지막 반영 시각 (이후 결제분은 복구 시 차감)
+
+    protected StockLedgerHold() {
+    }
+
+    /**
+     * 신규 보유 기록 생성
+     */
+    public static StockLedgerHold create(Long productId, String owner, LocalDateTime flushedAt) {
+        StockLedgerHold hold = new StockLedgerHold();
+        hold.productId = productId;
+        hold.owner = owner;
+        hold.heldQty = 0;
+        hold.flushedAt = flushedAt;
+        return hold;
+    }
+
+    /**
+     * 보유 수량 증가 (DB 재고를 원장으로 가져온 경우)
+     * 반영 시각은 유지한다.
+     */
+    public void addHeld(int quantity) {
+        this.heldQty += quantity;
+    }
+
+    /**
+     * 보유 수량 갱신 (주기적 반영 시)
+     * @param flushedAt 메모리 수량을 읽기 직전 시각
+     */
+    public void updateHeld(int heldQty, LocalDateTime flushedAt) {
+        if (heldQty < 0) {
+            throw new IllegalArgumentException("보유 수량은 0 이상이어야 합니다.");
+        }
+        this.heldQty = heldQty;
+        this.flushedAt = flushedAt;
+    }
+}
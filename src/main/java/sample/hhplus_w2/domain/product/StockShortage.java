@@ -0,0 +1,7 @@
+package sample.hhplus_w2.domain.product;
+
+/**
+ * 재고 부족 항목 (요청 수량, 차감 시점 재고)
+ */
+public record StockShortage(Long productId, int requested, int available) {
+}
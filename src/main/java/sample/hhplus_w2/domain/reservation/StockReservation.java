@@ -0,0 +1,86 @@
+package sample.hhplus_w2.domain.reservation;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * StockReservation 도메인 엔티티
+ * 주문 항목별 재고 예약 (주문 생성 시 예약, 결제 시 확정, 만료 시 해제)
+ */
+@Entity
+@Table(name = "stock_reservation", indexes = {
+        @Index(name = "idx_reservation_order", columnList = "order_id"),
+        @Index(name = "idx_reservation_status_expires", columnList = "status, expires_at")
+})
+@Getter
+public class StockReservation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private Integer qty;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StockReservationStatus status;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;    // 주문 만료 시각과 동일
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected StockReservation() {
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 재고 예약 생성
+     */
+    public static StockReservation reserve(Long orderId, Long productId, Integer qty, LocalDateTime expiresAt) {
+        if (qty == null || qty <= 0) {
+            throw new IllegalArgumentException("예약 수량은 1 이상이어야 합니다.");
+        }
+        StockReservation reservation = new StockReservation();
+        reservation.orderId = orderId;
+        reservation.productId = productId;
+        reservation.qty = qty;
+        reservation.status = StockReservationStatus.RESERVED;
+        reservation.expiresAt = expiresAt;
+        reservation.createdAt = LocalDateTime.now();
+        reservation.updatedAt = LocalDateTime.now();
+        return reservation;
+    }
+
+    /**
+     * ID 설정 (Repository에서 사용)
+     */
+    public void assignId(Long id) {
+        if (this.id != null) {
+            throw new IllegalStateException("ID는 이미 할당되었습니다.");
+        }
+        this.id = id;
+    }
+}
@@ -0,0 +1,10 @@
+package sample.hhplus_w2.domain.reservation;
+
+/**
+ * 재고 예약 상태
+ */
+public enum StockReservationStatus {
+    RESERVED,   // 예약 (재고 차감됨, 결제 대기)
+    COMMITTED,  // 확정 (결제 완료)
+    RELEASED    // 해제 (만료/취소로 재고 복구됨)
+}
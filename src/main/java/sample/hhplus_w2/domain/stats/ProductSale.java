@@ -0,0 +1,20 @@
+package sample.hhplus_w2.domain.stats;
+
+import java.math.BigDecimal;
+
+/**
+ * 결제 완료된 상품 판매분 (통계 버킷 누적 단위)
+ */
+public record ProductSale(Long productId, String productName, int quantity, BigDecimal amount) {
+
+    public ProductSale merge(ProductSale other) {
+        return new ProductSale(productId, productName, quantity + other.quantity, amount.add(other.amount));
+    }
+
+    /**
+     * 취소분 (롤백 보정용)
+     */
+    public ProductSale negate() {
+        return new ProductSale(productId, productName, -quantity, amount.negate());
+    }
+}
@@ -0,0 +1,9 @@
+package sample.hhplus_w2.domain.stats;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 판매 발생 기록 (윈도우 카운터 재적재용, 일 버킷은 soldAt이 해당 일자 0시)
+ */
+public record ProductSaleEvent(Long productId, long quantity, LocalDateTime soldAt) {
+}
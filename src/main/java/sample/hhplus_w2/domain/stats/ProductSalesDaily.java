@@ -0,0 +1,42 @@
+package sample.hhplus_w2.domain.stats;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 상품별 일자 판매 버킷 (판매 통계 증분 집계용)
+ * 결제 완료 시 당일 버킷에 누적되며, 기간 통계에서 빠져나가는 일자의 값을 계산하는 데 사용한다.
+ */
+@Entity
+@Table(name = "product_sales_daily", indexes = {
+        @Index(name = "uk_sales_daily_product_date", columnList = "product_id, sales_date", unique = true),
+        @Index(name = "idx_sales_daily_date", columnList = "sales_date")
+})
+@Getter
+public class ProductSalesDaily {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;       // 판매 일자
+
+    @Column(name = "sales_count", nullable = false)
+    private Integer salesCount;        // 판매 수량
+
+    @Column(name = "sales_amount", nullable = false, precision = 12, scale = 2)
+    private BigDecimal salesAmount;    // 매출액
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected ProductSalesDaily() {
+    }
+}
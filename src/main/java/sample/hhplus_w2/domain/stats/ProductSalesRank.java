@@ -0,0 +1,11 @@
+package sample.hhplus_w2.domain.stats;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품 판매 순위 조회 결과
+ * @param rank 1부터 시작하는 순위
+ */
+public record ProductSalesRank(Long productId, String productName, Integer daysRange, String metric,
+                               int rank, int total, int salesCount, BigDecimal salesAmount) {
+}
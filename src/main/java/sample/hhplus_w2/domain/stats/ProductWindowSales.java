@@ -0,0 +1,7 @@
+package sample.hhplus_w2.domain.stats;
+
+/**
+ * 임의 기간 상품 판매량 조회 결과
+ */
+public record ProductWindowSales(Long productId, String productName, long salesCount) {
+}
@@ -0,0 +1,49 @@
+package sample.hhplus_w2.domain.wallet;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Wallet 도메인 엔티티
+ * 사용자별 포인트 잔액 (잔액 변경은 조건부 UPDATE로만 수행)
+ */
+@Entity
+@Table(name = "wallet", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_wallet_user", columnNames = "user_id")
+})
+@Getter
+public class Wallet {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal balance;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected Wallet() {
+    }
+
+    /**
+     * 잔액 0인 지갑 생성
+     */
+    public static Wallet create(Long userId) {
+        Wallet wallet = new Wallet();
+        wallet.userId = userId;
+        wallet.balance = BigDecimal.ZERO;
+        wallet.createdAt = LocalDateTime.now();
+        wallet.updatedAt = LocalDateTime.now();
+        return wallet;
+    }
+}
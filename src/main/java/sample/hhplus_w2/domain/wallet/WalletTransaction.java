@@ -0,0 +1,74 @@
+package sample.hhplus_w2.domain.wallet;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * WalletTransaction 도메인 엔티티
+ * 잔액 변경 이력 (추가만 하고 수정하지 않음)
+ */
+@Entity
+@Table(name = "wallet_transaction", indexes = {
+        @Index(name = "idx_wallet_tx_user", columnList = "user_id, id")
+})
+@Getter
+public class WalletTransaction {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WalletTransactionType type;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount;          // 변경 금액 (충전 +, 결제 -)
+
+    @Column(name = "balance_after", nullable = false, precision = 15, scale = 2)
+    private BigDecimal balanceAfter;    // 변경 후 잔액
+
+    @Column(name = "order_id")
+    private Long orderId;               // 결제 주문 ID (충전은 null)
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    protected WalletTransaction() {
+    }
+
+    public static WalletTransaction charge(Long userId, BigDecimal amount, BigDecimal balanceAfter) {
+        return create(userId, WalletTransactionType.CHARGE, amount, balanceAfter, null);
+    }
+
+    public static WalletTransaction payment(Long userId, BigDecimal amount, BigDecimal balanceAfter, Long orderId) {
+        return create(userId, WalletTransactionType.PAYMENT, amount.negate(), balanceAfter, orderId);
+    }
+
+    private static WalletTransaction create(Long userId, WalletTransactionType type, BigDecimal amount,
+                                            BigDecimal balanceAfter, Long orderId) {
+        WalletTransaction transaction = new WalletTransaction();
+        transaction.userId = userId;
+        transaction.type = type;
+        transaction.amount = amount;
+        transaction.balanceAfter = balanceAfter;
+        transaction.orderId = orderId;
+        transaction.createdAt = LocalDateTime.now();
+        return transaction;
+    }
+
+    /**
+     * ID 설정 (Repository에서 사용)
+     */
+    public void assignId(Long id) {
+        if (this.id != null) {
+            throw new IllegalStateException("ID는 이미 할당되었습니다.");
+        }
+        this.id = id;
+    }
+}
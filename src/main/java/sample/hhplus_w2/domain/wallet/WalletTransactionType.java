@@ -0,0 +1,6 @@
+package sample.hhplus_w2.domain.wallet;
+
+public enum WalletTransactionType {
+    CHARGE,   // 포인트 충전
+    PAYMENT   // 주문 결제
+}
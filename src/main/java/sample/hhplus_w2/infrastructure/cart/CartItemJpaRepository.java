@@ -1,12 +1,33 @@
 package sample.hhplus_w2.infrastructure.cart;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import sample.hhplus_w2.domain.cart.CartItem;
+import sample.hhplus_w2.domain.cart.CartLineView;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface CartItemJpaRepository extends JpaRepository<CartItem, Long> {
     List<CartItem> findByCartId(Long cartId);
     Optional<CartItem> findByCartIdAndProductId(Long cartId, Long productId);
+    List<CartItem> findByCartIdAndProductIdIn(Long cartId, Collection<Long> productIds);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM CartItem ci WHERE ci.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 장바구니 항목 + 현재 상품 정보 (상품별 개별 조회 없이 한 번에)
+     */
+    @Query("SELECT new sample.hhplus_w2.domain.cart.CartLineView(" +
+            "ci.id, ci.productId, p.name, ci.qty, ci.unitPriceSnapshot, p.price, p.stockQty, p.isActive) " +
+            "FROM CartItem ci LEFT JOIN Product p ON p.id = ci.productId " +
+            "WHERE ci.cartId = :cartId ORDER BY ci.id")
+    List<CartLineView> findLineViewsByCartId(@Param("cartId") Long cartId);
 }
@@ -10,4 +10,5 @@ public interface CartJpaRepository extends JpaRepository<Cart, Long> {
     Optional<Cart> findByUserId(Long userId);
     Optional<Cart> findByGuestToken(String guestToken);
     Optional<Cart> findByUserIdAndStatus(Long userId, CartStatus status);
+    Optional<Cart> findByGuestTokenAndStatus(String guestToken, CartStatus status);
 }
@@ -0,0 +1,24 @@
+package sample.hhplus_w2.infrastructure.coupon;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import sample.hhplus_w2.domain.coupon.CouponGrantJob;
+import sample.hhplus_w2.domain.coupon.CouponGrantJobStatus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface CouponGrantJobJpaRepository extends JpaRepository<CouponGrantJob, Long> {
+    List<CouponGrantJob> findByStatusInOrderByIdAsc(Collection<CouponGrantJobStatus> statuses);
+
+    /**
+     * 작업 잠금 조회 (여러 실행자가 같은 체크포인트를 동시에 진행하지 않도록 직렬화)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM CouponGrantJob j WHERE j.id = :id")
+    Optional<CouponGrantJob> findByIdForUpdate(@Param("id") Long id);
+}
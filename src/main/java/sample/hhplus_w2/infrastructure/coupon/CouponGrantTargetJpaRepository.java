@@ -0,0 +1,18 @@
+package sample.hhplus_w2.infrastructure.coupon;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import sample.hhplus_w2.domain.coupon.CouponGrantTarget;
+
+import java.util.List;
+
+public interface CouponGrantTargetJpaRepository extends JpaRepository<CouponGrantTarget, Long> {
+
+    /**
+     * 체크포인트 다음 대상 사용자 (uk_coupon_grant_target 인덱스 범위 조회)
+     */
+    @Query("SELECT t.userId FROM CouponGrantTarget t WHERE t.jobId = :jobId AND t.userId > :afterUserId ORDER BY t.userId")
+    List<Long> findUserIdsAfter(@Param("jobId") Long jobId, @Param("afterUserId") Long afterUserId, Pageable pageable);
+}
@@ -1,13 +1,29 @@
 package sample.hhplus_w2.infrastructure.coupon;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import sample.hhplus_w2.domain.coupon.Coupon;
 import sample.hhplus_w2.domain.coupon.CouponStatus;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface CouponJpaRepository extends JpaRepository<Coupon, Long> {
     Optional<Coupon> findByCode(String code);
     List<Coupon> findByStatus(CouponStatus status);
+
+    /**
+     * 조건부 발급 수량 증가 (잔여 수량이 충분하고 지정 상태일 때만 반영)
+     * @return 반영된 행 수 (0이면 소진 또는 상태 불일치)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Coupon c SET c.issued = c.issued + :count, c.version = c.version + 1, c.updatedAt = :now " +
+            "WHERE c.id = :id AND c.status = :status AND c.issued + :count <= c.totalIssuable")
+    int increaseIssued(@Param("id") Long id, @Param("count") int count,
+                       @Param("status") CouponStatus status, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,27 @@
+package sample.hhplus_w2.infrastructure.coupon;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import sample.hhplus_w2.domain.coupon.CouponUserCount;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CouponUserCountJpaRepository extends JpaRepository<CouponUserCount, Long> {
+    List<CouponUserCount> findByCouponId(Long couponId);
+
+    /**
+     * 발급 수량 증가 (제한 이내일 때만 단일 UPDATE)
+     * 해당 쿠폰/사용자 행에만 잠금이 걸리므로 같은 사용자의 발급만 직렬화된다.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CouponUserCount c SET c.issuedCount = c.issuedCount + :quantity, c.updatedAt = :now " +
+            "WHERE c.couponId = :couponId AND c.userId = :userId AND c.issuedCount + :quantity <= :limit")
+    int increaseIfWithinLimit(@Param("couponId") Long couponId, @Param("userId") Long userId,
+                              @Param("quantity") int quantity, @Param("limit") int limit,
+                              @Param("now") LocalDateTime now);
+}
@@ -1,16 +1,46 @@
 package sample.hhplus_w2.infrastructure.coupon;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import sample.hhplus_w2.domain.coupon.CouponUser;
 import sample.hhplus_w2.domain.coupon.CouponUserStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface CouponUserJpaRepository extends JpaRepository<CouponUser, Long> {
-    Optional<CouponUser> findByCouponIdAndUserId(Long couponId, Long userId);
+    List<CouponUser> findByCouponIdAndUserId(Long couponId, Long userId);
     List<CouponUser> findByUserId(Long userId);
     List<CouponUser> findByCouponId(Long couponId);
     List<CouponUser> findByUserIdAndStatus(Long userId, CouponUserStatus status);
     Optional<CouponUser> findByOrderId(Long orderId);
+    List<CouponUser> findByOrderIdInAndStatus(Collection<Long> orderIds, CouponUserStatus status);
+
+    /**
+     * 조건부 사용 처리 (본인 소유이고 발급 상태일 때만 반영)
+     * @return 반영된 행 수 (0이면 이미 사용/만료되었거나 동시 사용에서 밀림)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CouponUser cu SET cu.status = :used, cu.orderId = :orderId, cu.usedAt = :now " +
+            "WHERE cu.id = :id AND cu.userId = :userId AND cu.status = :issued")
+    int markUsed(@Param("id") Long id, @Param("userId") Long userId, @Param("orderId") Long orderId,
+                 @Param("issued") CouponUserStatus issued, @Param("used") CouponUserStatus used,
+                 @Param("now") LocalDateTime now);
+
+    /**
+     * 조건부 사용 취소 (주문이 만료된 경우, 사용 상태일 때만 반영)
+     * @return 반영된 행 수
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CouponUser cu SET cu.status = :issued, cu.orderId = NULL, cu.usedAt = NULL " +
+            "WHERE cu.orderId IN :orderIds AND cu.status = :used")
+    int restoreByOrderIdIn(@Param("orderIds") Collection<Long> orderIds,
+                           @Param("used") CouponUserStatus used, @Param("issued") CouponUserStatus issued);
 }
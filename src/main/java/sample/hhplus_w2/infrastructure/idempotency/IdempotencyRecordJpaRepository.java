@@ -0,0 +1,48 @@
+package sample.hhplus_w2.infrastructure.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import sample.hhplus_w2.domain.idempotency.IdempotencyRecord;
+import sample.hhplus_w2.domain.idempotency.IdempotencyStatus;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyRecordJpaRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * 처리 완료 기록 (본인이 처리 중인 경우에만)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE IdempotencyRecord r SET r.status = :completed, r.resourceId = :resourceId, r.expiresAt = :expiresAt " +
+            "WHERE r.key = :key AND r.owner = :owner AND r.status = :inProgress")
+    int complete(@Param("key") String key, @Param("owner") String owner, @Param("resourceId") Long resourceId,
+                 @Param("expiresAt") LocalDateTime expiresAt,
+                 @Param("inProgress") IdempotencyStatus inProgress, @Param("completed") IdempotencyStatus completed);
+
+    /**
+     * 잠금이 만료된 처리 중 기록 이어받기 (처리하던 노드가 중단된 경우)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE IdempotencyRecord r SET r.owner = :owner, r.lockedUntil = :lockedUntil " +
+            "WHERE r.key = :key AND r.status = :inProgress AND r.lockedUntil < :now")
+    int takeOver(@Param("key") String key, @Param("owner") String owner, @Param("lockedUntil") LocalDateTime lockedUntil,
+                 @Param("now") LocalDateTime now, @Param("inProgress") IdempotencyStatus inProgress);
+
+    /**
+     * 처리 실패 시 기록 삭제 (재시도 허용)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.key = :key AND r.owner = :owner AND r.status = :inProgress")
+    int release(@Param("key") String key, @Param("owner") String owner, @Param("inProgress") IdempotencyStatus inProgress);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
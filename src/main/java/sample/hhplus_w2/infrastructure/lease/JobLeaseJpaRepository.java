@@ -0,0 +1,49 @@
+package sample.hhplus_w2.infrastructure.lease;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import sample.hhplus_w2.domain.lease.JobLease;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface JobLeaseJpaRepository extends JpaRepository<JobLease, String> {
+
+    /**
+     * 임대 획득/연장 (만료되었거나 본인이 보유한 경우에만)
+     * @return 반영된 행 수 (0이면 다른 노드가 보유 중이거나 행 없음)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE JobLease l SET l.owner = :owner, l.leasedUntil = :until " +
+            "WHERE l.name = :name AND (l.leasedUntil < :now OR l.owner = :owner)")
+    int acquire(@Param("name") String name, @Param("owner") String owner,
+                @Param("until") LocalDateTime until, @Param("now") LocalDateTime now);
+
+    /**
+     * 임대 반납 (본인이 보유한 경우에만)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE JobLease l SET l.leasedUntil = :now WHERE l.name = :name AND l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    /**
+     * 임대 공유 잠금 조회 (보유 확인 후 작업하는 동안 만료 처리와 직렬화)
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT l FROM JobLease l WHERE l.name = :name")
+    Optional<JobLease> findByNameForShare(@Param("name") String name);
+
+    /**
+     * 임대 잠금 조회 (만료 확인 후 보유 노드의 자원을 회수하는 동안 갱신 차단)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM JobLease l WHERE l.name = :name")
+    Optional<JobLease> findByNameForUpdate(@Param("name") String name);
+}
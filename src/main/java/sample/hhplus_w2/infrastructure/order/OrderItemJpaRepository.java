@@ -1,11 +1,24 @@
 package sample.hhplus_w2.infrastructure.order;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import sample.hhplus_w2.domain.order.OrderItem;
+import sample.hhplus_w2.domain.order.OrderStatus;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface OrderItemJpaRepository extends JpaRepository<OrderItem, Long> {
     List<OrderItem> findByOrderId(Long orderId);
     List<OrderItem> findByProductId(Long productId);
+
+    /**
+     * 지정 시각 이후 결제 완료된 주문의 상품 판매 수량 합계
+     */
+    @Query("SELECT COALESCE(SUM(oi.qty), 0) FROM OrderItem oi, Order o " +
+            "WHERE o.id = oi.orderId AND oi.productId = :productId AND o.status = :status AND o.updatedAt >= :since")
+    long sumQuantityByProductIdAndOrderStatusSince(@Param("productId") Long productId,
+                                                  @Param("status") OrderStatus status,
+                                                  @Param("since") LocalDateTime since);
 }
@@ -1,13 +1,67 @@
 package sample.hhplus_w2.infrastructure.order;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import sample.hhplus_w2.domain.order.Order;
+import sample.hhplus_w2.domain.order.OrderExpiryCandidate;
 import sample.hhplus_w2.domain.order.OrderStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface OrderJpaRepository extends JpaRepository<Order, Long> {
     List<Order> findByUserId(Long userId);
     List<Order> findByStatus(OrderStatus status);
     List<Order> findByUserIdAndStatus(Long userId, OrderStatus status);
+
+    /**
+     * 만료 대상 주문 조회 (idx_order_expires 기반 keyset 페이지네이션)
+     * (expires_at, id) 가 커서보다 큰 행만 조회한다.
+     */
+    @Query("SELECT new sample.hhplus_w2.domain.order.OrderExpiryCandidate(o.id, o.expiresAt) FROM Order o " +
+            "WHERE o.expiresAt <= :now AND o.status = :status " +
+            "AND (o.expiresAt > :lastExpiresAt OR (o.expiresAt = :lastExpiresAt AND o.id > :lastId)) " +
+            "ORDER BY o.expiresAt, o.id")
+    List<OrderExpiryCandidate> findExpiryCandidates(@Param("status") OrderStatus status,
+                                                    @Param("now") LocalDateTime now,
+                                                    @Param("lastExpiresAt") LocalDateTime lastExpiresAt,
+                                                    @Param("lastId") Long lastId,
+                                                    Pageable pageable);
+
+    /**
+     * 주문 잠금 조회 (결제 - 만료 스위퍼와 직렬화)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.id = :id")
+    Optional<Order> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 상태 조건으로 주문 잠금 조회 (다른 트랜잭션의 결제와 직렬화)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.id IN :ids AND o.status = :status")
+    List<Order> findByIdInAndStatusForUpdate(@Param("ids") Collection<Long> ids, @Param("status") OrderStatus status);
+
+    /**
+     * 주문 상태 일괄 변경
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :to, o.updatedAt = :now WHERE o.id IN :ids AND o.status = :from")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("from") OrderStatus from,
+                           @Param("to") OrderStatus to, @Param("now") LocalDateTime now);
+
+    /**
+     * 만료 시각이 지난 주문 중 가장 오래된 만료 시각 (스위퍼 지연 측정용)
+     */
+    @Query("SELECT MIN(o.expiresAt) FROM Order o WHERE o.expiresAt <= :now AND o.status = :status")
+    LocalDateTime findOldestExpiresAt(@Param("status") OrderStatus status, @Param("now") LocalDateTime now);
 }
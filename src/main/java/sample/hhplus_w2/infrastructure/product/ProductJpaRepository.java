@@ -1,11 +1,51 @@
 package sample.hhplus_w2.infrastructure.product;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import sample.hhplus_w2.domain.product.Product;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ProductJpaRepository extends JpaRepository<Product, Long> {
     List<Product> findByCategoryId(Long categoryId);
     List<Product> findByIsActive(Boolean isActive);
+
+    @Query("SELECT p.id FROM Product p ORDER BY p.id")
+    List<Long> findAllIds();
+
+    @Query("SELECT p.id FROM Product p WHERE p.categoryId = :categoryId ORDER BY p.id")
+    List<Long> findIdsByCategoryId(@Param("categoryId") Long categoryId);
+
+    @Query("SELECT p.id FROM Product p WHERE p.isActive = :isActive ORDER BY p.id")
+    List<Long> findIdsByIsActive(@Param("isActive") Boolean isActive);
+
+    /**
+     * 재고 수량만 조회 (id, stockQty)
+     */
+    @Query("SELECT p.id, p.stockQty FROM Product p WHERE p.id IN :ids")
+    List<Object[]> findStockQtyByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 조건부 재고 차감 (재고가 충분할 때만 반영)
+     * @return 반영된 행 수 (0이면 재고 부족 또는 상품 없음)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQty = p.stockQty - :quantity, p.version = p.version + 1, p.updatedAt = :now " +
+            "WHERE p.id = :id AND p.stockQty >= :quantity")
+    int decreaseStockIfAvailable(@Param("id") Long id, @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+
+    /**
+     * 재고 증가 (조회 없이 단일 UPDATE)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQty = p.stockQty + :quantity, p.version = p.version + 1, p.updatedAt = :now " +
+            "WHERE p.id = :id")
+    int increaseStockBy(@Param("id") Long id, @Param("quantity") int quantity, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,22 @@
+package sample.hhplus_w2.infrastructure.product;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import sample.hhplus_w2.domain.product.StockLedgerHold;
+
+import java.util.Optional;
+
+public interface StockLedgerHoldJpaRepository extends JpaRepository<StockLedgerHold, Long> {
+    Optional<StockLedgerHold> findByProductIdAndOwner(Long productId, String owner);
+
+    /**
+     * 보유 기록 삭제 (여러 노드가 동시에 복구해도 한 노드만 1을 받는다)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM StockLedgerHold h WHERE h.id = :id")
+    int deleteByIdIfExists(@Param("id") Long id);
+}
@@ -0,0 +1,31 @@
+package sample.hhplus_w2.infrastructure.reservation;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import sample.hhplus_w2.domain.reservation.StockReservation;
+import sample.hhplus_w2.domain.reservation.StockReservationStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface StockReservationJpaRepository extends JpaRepository<StockReservation, Long> {
+    List<StockReservation> findByOrderId(Long orderId);
+    List<StockReservation> findByStatus(StockReservationStatus status);
+    boolean existsByOrderId(Long orderId);
+
+    /**
+     * 주문의 예약 상태 조건부 변경
+     * @return 변경된 행 수 (0이면 이미 다른 상태로 전이됨)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE StockReservation r SET r.status = :to, r.updatedAt = :now " +
+            "WHERE r.orderId = :orderId AND r.status = :from")
+    int updateStatusByOrderId(@Param("orderId") Long orderId,
+                              @Param("from") StockReservationStatus from,
+                              @Param("to") StockReservationStatus to,
+                              @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,23 @@
+package sample.hhplus_w2.infrastructure.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import sample.hhplus_w2.domain.stats.ProductSalesDaily;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface ProductSalesDailyJpaRepository extends JpaRepository<ProductSalesDaily, Long> {
+    Optional<ProductSalesDaily> findByProductIdAndSalesDate(Long productId, LocalDate salesDate);
+
+    /**
+     * 보관 기간이 지난 버킷 삭제
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ProductSalesDaily d WHERE d.salesDate < :before")
+    int deleteBySalesDateBefore(@Param("before") LocalDate before);
+}
@@ -9,6 +9,7 @@ import java.util.Optional;
 
 public interface ProductSalesStatsJpaRepository extends JpaRepository<ProductSalesStats, Long> {
     Optional<ProductSalesStats> findByProductIdAndDaysRange(Long productId, Integer daysRange);
+    List<ProductSalesStats> findByDaysRange(Integer daysRange);
     List<ProductSalesStats> findByDaysRangeOrderBySalesCountDesc(Integer daysRange, Pageable pageable);
     List<ProductSalesStats> findByDaysRangeOrderBySalesAmountDesc(Integer daysRange, Pageable pageable);
 }
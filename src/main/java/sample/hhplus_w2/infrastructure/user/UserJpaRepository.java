@@ -1,6 +1,9 @@
 package sample.hhplus_w2.infrastructure.user;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import sample.hhplus_w2.domain.user.User;
 
 import java.util.List;
@@ -9,4 +12,11 @@ import java.util.Optional;
 public interface UserJpaRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     List<User> findByIsActive(Boolean isActive);
+    long countByIsActive(Boolean isActive);
+
+    /**
+     * 활성 사용자 ID keyset 조회 (PK 범위 스캔, 엔티티 로딩 없음)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.isActive = true AND u.id > :afterId ORDER BY u.id")
+    List<Long> findActiveIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,37 @@
+package sample.hhplus_w2.infrastructure.wallet;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import sample.hhplus_w2.domain.wallet.Wallet;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface WalletJpaRepository extends JpaRepository<Wallet, Long> {
+    Optional<Wallet> findByUserId(Long userId);
+
+    @Query("SELECT w.balance FROM Wallet w WHERE w.userId = :userId")
+    Optional<BigDecimal> findBalanceByUserId(@Param("userId") Long userId);
+
+    /**
+     * 잔액 차감 (잔액이 충분할 때만 단일 UPDATE)
+     * 해당 사용자 행에만 잠금이 걸리므로 같은 사용자의 결제만 직렬화된다.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Wallet w SET w.balance = w.balance - :amount, w.updatedAt = :now " +
+            "WHERE w.userId = :userId AND w.balance >= :amount")
+    int debitIfSufficient(@Param("userId") Long userId, @Param("amount") BigDecimal amount, @Param("now") LocalDateTime now);
+
+    /**
+     * 잔액 증가 (조회 없이 단일 UPDATE)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Wallet w SET w.balance = w.balance + :amount, w.updatedAt = :now WHERE w.userId = :userId")
+    int credit(@Param("userId") Long userId, @Param("amount") BigDecimal amount, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,11 @@
+package sample.hhplus_w2.infrastructure.wallet;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import sample.hhplus_w2.domain.wallet.WalletTransaction;
+
+import java.util.List;
+
+public interface WalletTransactionJpaRepository extends JpaRepository<WalletTransaction, Long> {
+    List<WalletTransaction> findByUserIdOrderByIdDesc(Long userId, Pageable pageable);
+}
@@ -1,7 +1,9 @@
 package sample.hhplus_w2.repository.cart;
 
 import sample.hhplus_w2.domain.cart.CartItem;
+import sample.hhplus_w2.domain.cart.CartLineView;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,6 +12,10 @@ public interface CartItemRepository {
     Optional<CartItem> findById(Long id);
     List<CartItem> findByCartId(Long cartId);
     Optional<CartItem> findByCartIdAndProductId(Long cartId, Long productId);
+    List<CartItem> findByCartIdAndProductIds(Long cartId, Collection<Long> productIds);
+    List<CartLineView> findLineViewsByCartId(Long cartId);
+    List<CartItem> insertAll(List<CartItem> cartItems);
+    int deleteAllById(Collection<Long> ids);
     List<CartItem> findAll();
     void delete(Long id);
     void deleteByCartId(Long cartId);
@@ -12,6 +12,7 @@ public interface CartRepository {
     Optional<Cart> findByUserId(Long userId);
     Optional<Cart> findByGuestToken(String guestToken);
     Optional<Cart> findByUserIdAndStatus(Long userId, CartStatus status);
+    Optional<Cart> findByGuestTokenAndStatus(String guestToken, CartStatus status);
     List<Cart> findAll();
     void delete(Long id);
     void deleteAll();
@@ -1,18 +1,26 @@
 package sample.hhplus_w2.repository.cart.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import sample.hhplus_w2.common.MultiRowInsert;
 import sample.hhplus_w2.domain.cart.CartItem;
+import sample.hhplus_w2.domain.cart.CartLineView;
 import sample.hhplus_w2.infrastructure.cart.CartItemJpaRepository;
 import sample.hhplus_w2.repository.cart.CartItemRepository;
 
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
 public class CartItemRepositoryImpl implements CartItemRepository {
+    private static final int INSERT_CHUNK_SIZE = 500;
+
     private final CartItemJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public CartItem save(CartItem cartItem) {
@@ -34,6 +42,45 @@ public class CartItemRepositoryImpl implements CartItemRepository {
         return jpaRepository.findByCartIdAndProductId(cartId, productId);
     }
 
+    @Override
+    public List<CartItem> findByCartIdAndProductIds(Long cartId, Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByCartIdAndProductIdIn(cartId, productIds);
+    }
+
+    @Override
+    public List<CartLineView> findLineViewsByCartId(Long cartId) {
+        return jpaRepository.findLineViewsByCartId(cartId);
+    }
+
+    /**
+     * 다중 행 INSERT ({@link MultiRowInsert}, 생성된 키를 각 항목에 할당)
+     */
+    @Override
+    public List<CartItem> insertAll(List<CartItem> cartItems) {
+        MultiRowInsert.insertReturningIds(jdbcTemplate, "cart_item",
+                List.of("cart_id", "product_id", "qty", "unit_price_snapshot", "created_at", "updated_at"),
+                cartItems, INSERT_CHUNK_SIZE, item -> new Object[]{
+                        item.getCartId(),
+                        item.getProductId(),
+                        item.getQty(),
+                        item.getUnitPriceSnapshot(),
+                        Timestamp.valueOf(item.getCreatedAt()),
+                        Timestamp.valueOf(item.getUpdatedAt())},
+                CartItem::assignId);
+        return cartItems;
+    }
+
+    @Override
+    public int deleteAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.deleteByIdIn(ids);
+    }
+
     @Override
     public List<CartItem> findAll() {
         return jpaRepository.findAll();
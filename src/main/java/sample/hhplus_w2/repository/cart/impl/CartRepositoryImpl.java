@@ -40,6 +40,11 @@ public class CartRepositoryImpl implements CartRepository {
         return jpaRepository.findByUserIdAndStatus(userId, status);
     }
 
+    @Override
+    public Optional<Cart> findByGuestTokenAndStatus(String guestToken, CartStatus status) {
+        return jpaRepository.findByGuestTokenAndStatus(guestToken, status);
+    }
+
     @Override
     public List<Cart> findAll() {
         return jpaRepository.findAll();
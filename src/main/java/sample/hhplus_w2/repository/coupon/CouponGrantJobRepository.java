@@ -0,0 +1,16 @@
+package sample.hhplus_w2.repository.coupon;
+
+import sample.hhplus_w2.domain.coupon.CouponGrantJob;
+import sample.hhplus_w2.domain.coupon.CouponGrantJobStatus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface CouponGrantJobRepository {
+    CouponGrantJob save(CouponGrantJob job);
+    Optional<CouponGrantJob> findById(Long id);
+    Optional<CouponGrantJob> findByIdForUpdate(Long id);
+    List<CouponGrantJob> findByStatusIn(Collection<CouponGrantJobStatus> statuses);
+    void deleteAll();
+}
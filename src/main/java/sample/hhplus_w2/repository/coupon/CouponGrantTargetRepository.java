@@ -0,0 +1,17 @@
+package sample.hhplus_w2.repository.coupon;
+
+import java.util.List;
+
+public interface CouponGrantTargetRepository {
+
+    /**
+     * 대상 사용자 저장 (다중 행 INSERT, 중복 없는 목록이어야 함)
+     */
+    void insertAll(Long jobId, List<Long> userIds);
+
+    /**
+     * 체크포인트 다음 대상 사용자 (ID 오름차순)
+     */
+    List<Long> findUserIdsAfter(Long jobId, Long afterUserId, int limit);
+    void deleteAll();
+}
@@ -12,6 +12,7 @@ public interface CouponRepository {
     Optional<Coupon> findByCode(String code);
     List<Coupon> findByStatus(CouponStatus status);
     List<Coupon> findAll();
+    boolean increaseIssued(Long id, int count);
     void delete(Long id);
     void deleteAll();
 }
@@ -0,0 +1,32 @@
+package sample.hhplus_w2.repository.coupon;
+
+import java.util.List;
+import java.util.Map;
+
+public interface CouponUserCountRepository {
+
+    /**
+     * 발급 수량 증가 (첫 발급이면 행 생성, 이후에는 제한 이내일 때만 증가)
+     * @return 증가 여부 (false면 1인당 발급 제한 초과)
+     */
+    boolean increaseIfWithinLimit(Long couponId, Long userId, int quantity, int limit);
+
+    /**
+     * 일괄 지급 (다중 행 INSERT, 이미 발급받은 사용자는 건너뜀)
+     * @param userIds 오름차순 정렬된 중복 없는 사용자 ID
+     * @return 이번에 지급된 사용자 ID
+     */
+    List<Long> insertGranted(Long couponId, Long grantJobId, List<Long> userIds);
+
+    /**
+     * 쿠폰별 사용자 발급 수량 (발급 게이트 초기화용)
+     */
+    Map<Long, Integer> findIssuedCounts(Long couponId);
+
+    /**
+     * coupon_user 기준으로 카운터가 없는 (쿠폰, 사용자)의 발급 수량을 채운다 (카운터 도입 이전 발급분)
+     * @return 생성된 카운터 행 수
+     */
+    int backfillFromCouponUser();
+    void deleteAll();
+}
@@ -2,18 +2,39 @@ package sample.hhplus_w2.repository.coupon;
 
 import sample.hhplus_w2.domain.coupon.CouponUser;
 import sample.hhplus_w2.domain.coupon.CouponUserStatus;
+import sample.hhplus_w2.domain.coupon.HeldCoupon;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CouponUserRepository {
     CouponUser save(CouponUser couponUser);
+    int insertAll(List<CouponUser> couponUsers);
     Optional<CouponUser> findById(Long id);
-    Optional<CouponUser> findByCouponIdAndUserId(Long couponId, Long userId);
+    List<CouponUser> findByCouponIdAndUserId(Long couponId, Long userId);
     List<CouponUser> findByUserId(Long userId);
     List<CouponUser> findByCouponId(Long couponId);
     List<CouponUser> findByUserIdAndStatus(Long userId, CouponUserStatus status);
     Optional<CouponUser> findByOrderId(Long orderId);
+
+    /**
+     * 쿠폰 사용 처리 (ISSUED 상태일 때만)
+     * @return 사용 처리 여부
+     */
+    boolean markUsed(Long id, Long userId, Long orderId);
+
+    /**
+     * 만료된 주문에 사용된 쿠폰을 발급 상태로 복구 (USED 상태일 때만, 주문 만료 트랜잭션 내에서 호출)
+     * @return 복구된 쿠폰 수
+     */
+    int restoreByOrderIds(Collection<Long> orderIds);
+
+    /**
+     * 전체 발급 내역 스트리밍 조회 (쿠폰 보유 색인 적재용)
+     */
+    void scanHeldCoupons(int fetchSize, Consumer<HeldCoupon> consumer);
     List<CouponUser> findAll();
     void delete(Long id);
     void deleteAll();
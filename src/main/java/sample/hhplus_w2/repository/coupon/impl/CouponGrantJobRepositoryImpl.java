@@ -0,0 +1,43 @@
+package sample.hhplus_w2.repository.coupon.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import sample.hhplus_w2.domain.coupon.CouponGrantJob;
+import sample.hhplus_w2.domain.coupon.CouponGrantJobStatus;
+import sample.hhplus_w2.infrastructure.coupon.CouponGrantJobJpaRepository;
+import sample.hhplus_w2.repository.coupon.CouponGrantJobRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class CouponGrantJobRepositoryImpl implements CouponGrantJobRepository {
+    private final CouponGrantJobJpaRepository jpaRepository;
+
+    @Override
+    public CouponGrantJob save(CouponGrantJob job) {
+        return jpaRepository.save(job);
+    }
+
+    @Override
+    public Optional<CouponGrantJob> findById(Long id) {
+        return jpaRepository.findById(id);
+    }
+
+    @Override
+    public Optional<CouponGrantJob> findByIdForUpdate(Long id) {
+        return jpaRepository.findByIdForUpdate(id);
+    }
+
+    @Override
+    public List<CouponGrantJob> findByStatusIn(Collection<CouponGrantJobStatus> statuses) {
+        return jpaRepository.findByStatusInOrderByIdAsc(statuses);
+    }
+
+    @Override
+    public void deleteAll() {
+        jpaRepository.deleteAll();
+    }
+}
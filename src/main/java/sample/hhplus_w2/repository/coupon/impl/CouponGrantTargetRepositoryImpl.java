@@ -0,0 +1,39 @@
+package sample.hhplus_w2.repository.coupon.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import sample.hhplus_w2.common.MultiRowInsert;
+import sample.hhplus_w2.infrastructure.coupon.CouponGrantTargetJpaRepository;
+import sample.hhplus_w2.repository.coupon.CouponGrantTargetRepository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class CouponGrantTargetRepositoryImpl implements CouponGrantTargetRepository {
+    private static final int INSERT_CHUNK_SIZE = 1000;
+
+    private final CouponGrantTargetJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 다중 행 INSERT ({@link MultiRowInsert})
+     */
+    @Override
+    public void insertAll(Long jobId, List<Long> userIds) {
+        MultiRowInsert.insert(jdbcTemplate, "coupon_grant_target", List.of("job_id", "user_id"),
+                userIds, INSERT_CHUNK_SIZE, userId -> new Object[]{jobId, userId});
+    }
+
+    @Override
+    public List<Long> findUserIdsAfter(Long jobId, Long afterUserId, int limit) {
+        return jpaRepository.findUserIdsAfter(jobId, afterUserId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public void deleteAll() {
+        jpaRepository.deleteAll();
+    }
+}
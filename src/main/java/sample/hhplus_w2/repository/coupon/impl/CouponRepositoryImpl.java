@@ -7,6 +7,7 @@ import sample.hhplus_w2.domain.coupon.CouponStatus;
 import sample.hhplus_w2.infrastructure.coupon.CouponJpaRepository;
 import sample.hhplus_w2.repository.coupon.CouponRepository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,6 +41,11 @@ public class CouponRepositoryImpl implements CouponRepository {
         return jpaRepository.findAll();
     }
 
+    @Override
+    public boolean increaseIssued(Long id, int count) {
+        return jpaRepository.increaseIssued(id, count, CouponStatus.PUBLISHED, LocalDateTime.now()) > 0;
+    }
+
     @Override
     public void delete(Long id) {
         jpaRepository.deleteById(id);
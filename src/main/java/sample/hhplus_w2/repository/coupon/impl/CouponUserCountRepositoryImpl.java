@@ -0,0 +1,95 @@
+package sample.hhplus_w2.repository.coupon.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import sample.hhplus_w2.domain.coupon.CouponUserCount;
+import sample.hhplus_w2.infrastructure.coupon.CouponUserCountJpaRepository;
+import sample.hhplus_w2.repository.coupon.CouponUserCountRepository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class CouponUserCountRepositoryImpl implements CouponUserCountRepository {
+    private final CouponUserCountJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 첫 발급은 INSERT 1회로 처리하고, uk_coupon_user_count 위반(이미 행이 있음)이면 조건부 UPDATE로 증가한다.
+     */
+    @Override
+    public boolean increaseIfWithinLimit(Long couponId, Long userId, int quantity, int limit) {
+        if (quantity > limit) {
+            return false;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            jdbcTemplate.update("INSERT INTO coupon_user_count (coupon_id, user_id, issued_count, updated_at) VALUES (?, ?, ?, ?)",
+                    couponId, userId, quantity, Timestamp.valueOf(now));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return jpaRepository.increaseIfWithinLimit(couponId, userId, quantity, limit, now) > 0;
+        }
+    }
+
+    /**
+     * INSERT IGNORE로 이미 행이 있는 사용자(기발급)를 건너뛰고,
+     * 이번 작업 ID로 생성된 행만 다시 읽어 실제 지급 대상을 확정한다. (같은 트랜잭션에서 조회하므로 정확)
+     */
+    @Override
+    public List<Long> insertGranted(Long couponId, Long grantJobId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        StringBuilder sql = new StringBuilder(
+                "INSERT IGNORE INTO coupon_user_count (coupon_id, user_id, issued_count, grant_job_id, updated_at) VALUES ");
+        List<Object> params = new ArrayList<>(userIds.size() * 4);
+        for (int i = 0; i < userIds.size(); i++) {
+            sql.append(i == 0 ? "(?, ?, 1, ?, ?)" : ", (?, ?, 1, ?, ?)");
+            params.add(couponId);
+            params.add(userIds.get(i));
+            params.add(grantJobId);
+            params.add(now);
+        }
+        if (jdbcTemplate.update(sql.toString(), params.toArray()) == 0) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList(
+                "SELECT user_id FROM coupon_user_count WHERE coupon_id = ? AND user_id BETWEEN ? AND ? " +
+                        "AND grant_job_id = ? ORDER BY user_id",
+                Long.class, couponId, userIds.get(0), userIds.get(userIds.size() - 1), grantJobId);
+    }
+
+    @Override
+    public Map<Long, Integer> findIssuedCounts(Long couponId) {
+        return jpaRepository.findByCouponId(couponId).stream()
+                .collect(Collectors.toMap(CouponUserCount::getUserId, CouponUserCount::getIssuedCount));
+    }
+
+    /**
+     * 이미 카운터가 있는 조합은 건너뛰므로 여러 번(여러 노드에서) 실행해도 안전하다.
+     */
+    @Override
+    public int backfillFromCouponUser() {
+        return jdbcTemplate.update(
+                "INSERT IGNORE INTO coupon_user_count (coupon_id, user_id, issued_count, updated_at) " +
+                        "SELECT cu.coupon_id, cu.user_id, COUNT(*), ? FROM coupon_user cu " +
+                        "WHERE NOT EXISTS (SELECT 1 FROM coupon_user_count c " +
+                        "WHERE c.coupon_id = cu.coupon_id AND c.user_id = cu.user_id) " +
+                        "GROUP BY cu.coupon_id, cu.user_id",
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    @Override
+    public void deleteAll() {
+        jpaRepository.deleteAll();
+    }
+}
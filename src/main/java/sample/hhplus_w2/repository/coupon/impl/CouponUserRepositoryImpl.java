@@ -1,23 +1,61 @@
 package sample.hhplus_w2.repository.coupon.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
+import sample.hhplus_w2.common.JdbcCursors;
+import sample.hhplus_w2.common.MultiRowInsert;
 import sample.hhplus_w2.domain.coupon.CouponUser;
+import sample.hhplus_w2.domain.coupon.CouponUserChangedEvent;
 import sample.hhplus_w2.domain.coupon.CouponUserStatus;
+import sample.hhplus_w2.domain.coupon.HeldCoupon;
 import sample.hhplus_w2.infrastructure.coupon.CouponUserJpaRepository;
 import sample.hhplus_w2.repository.coupon.CouponUserRepository;
 
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Repository
 @RequiredArgsConstructor
 public class CouponUserRepositoryImpl implements CouponUserRepository {
     private final CouponUserJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public CouponUser save(CouponUser couponUser) {
-        return jpaRepository.save(couponUser);
+        CouponUser saved = jpaRepository.save(couponUser);
+        eventPublisher.publishEvent(CouponUserChangedEvent.saved(List.of(HeldCoupon.of(saved))));
+        return saved;
+    }
+
+    /**
+     * 다중 행 INSERT ({@link MultiRowInsert}, 생성된 키를 각 항목에 할당)
+     */
+    @Override
+    public int insertAll(List<CouponUser> couponUsers) {
+        if (couponUsers.isEmpty()) {
+            return 0;
+        }
+        int inserted = MultiRowInsert.insertReturningIds(jdbcTemplate, "coupon_user",
+                List.of("coupon_id", "user_id", "status", "issued_at"),
+                couponUsers, MultiRowInsert.DEFAULT_CHUNK_SIZE, couponUser -> new Object[]{
+                        couponUser.getCouponId(),
+                        couponUser.getUserId(),
+                        couponUser.getStatus().name(),
+                        Timestamp.valueOf(couponUser.getIssuedAt())},
+                CouponUser::assignId);
+        eventPublisher.publishEvent(CouponUserChangedEvent.saved(couponUsers.stream()
+                .map(HeldCoupon::of)
+                .toList()));
+        return inserted;
     }
 
     @Override
@@ -26,7 +64,7 @@ public class CouponUserRepositoryImpl implements CouponUserRepository {
     }
 
     @Override
-    public Optional<CouponUser> findByCouponIdAndUserId(Long couponId, Long userId) {
+    public List<CouponUser> findByCouponIdAndUserId(Long couponId, Long userId) {
         return jpaRepository.findByCouponIdAndUserId(couponId, userId);
     }
 
@@ -50,6 +88,49 @@ public class CouponUserRepositoryImpl implements CouponUserRepository {
         return jpaRepository.findByOrderId(orderId);
     }
 
+    @Override
+    public boolean markUsed(Long id, Long userId, Long orderId) {
+        LocalDateTime usedAt = LocalDateTime.now();
+        boolean used = jpaRepository.markUsed(id, userId, orderId,
+                CouponUserStatus.ISSUED, CouponUserStatus.USED, usedAt) > 0;
+        if (used) {
+            eventPublisher.publishEvent(CouponUserChangedEvent.used(HeldCoupon.used(id, userId, orderId, usedAt)));
+        }
+        return used;
+    }
+
+    @Override
+    public int restoreByOrderIds(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        List<CouponUser> used = jpaRepository.findByOrderIdInAndStatus(orderIds, CouponUserStatus.USED);
+        if (used.isEmpty()) {
+            return 0;
+        }
+        int restored = jpaRepository.restoreByOrderIdIn(orderIds, CouponUserStatus.USED, CouponUserStatus.ISSUED);
+        eventPublisher.publishEvent(CouponUserChangedEvent.restored(used.stream()
+                .map(couponUser -> HeldCoupon.restored(couponUser.getId(), couponUser.getUserId(), couponUser.getOrderId()))
+                .toList()));
+        return restored;
+    }
+
+    @Override
+    public void scanHeldCoupons(int fetchSize, Consumer<HeldCoupon> consumer) {
+        String sql = "SELECT id, coupon_id, user_id, status, order_id, issued_at, used_at FROM coupon_user ORDER BY id";
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = JdbcCursors.prepare(connection, sql, fetchSize);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new HeldCoupon(
+                rs.getLong("id"),
+                rs.getLong("coupon_id"),
+                rs.getLong("user_id"),
+                CouponUserStatus.valueOf(rs.getString("status")),
+                rs.getObject("order_id", Long.class),
+                rs.getTimestamp("issued_at").toLocalDateTime(),
+                rs.getObject("used_at", LocalDateTime.class))));
+    }
+
     @Override
     public List<CouponUser> findAll() {
         return jpaRepository.findAll();
@@ -57,11 +138,15 @@ public class CouponUserRepositoryImpl implements CouponUserRepository {
 
     @Override
     public void delete(Long id) {
-        jpaRepository.deleteById(id);
+        jpaRepository.findById(id).ifPresent(couponUser -> {
+            jpaRepository.delete(couponUser);
+            eventPublisher.publishEvent(CouponUserChangedEvent.removed(HeldCoupon.of(couponUser)));
+        });
     }
 
     @Override
     public void deleteAll() {
         jpaRepository.deleteAll();
+        eventPublisher.publishEvent(CouponUserChangedEvent.cleared());
     }
 }
@@ -0,0 +1,20 @@
+package sample.hhplus_w2.repository.idempotency;
+
+import sample.hhplus_w2.domain.idempotency.IdempotencyRecord;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotencyRecordRepository {
+
+    /**
+     * 처리 시작 기록 (이미 같은 키가 있으면 false)
+     */
+    boolean insertIfAbsent(IdempotencyRecord record);
+    Optional<IdempotencyRecord> findByKey(String key);
+    boolean complete(String key, String owner, Long resourceId, LocalDateTime expiresAt);
+    boolean takeOver(String key, String owner, LocalDateTime lockedUntil);
+    boolean release(String key, String owner);
+    int deleteExpired();
+    void deleteAll();
+}
@@ -0,0 +1,70 @@
+package sample.hhplus_w2.repository.idempotency.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import sample.hhplus_w2.domain.idempotency.IdempotencyRecord;
+import sample.hhplus_w2.domain.idempotency.IdempotencyStatus;
+import sample.hhplus_w2.infrastructure.idempotency.IdempotencyRecordJpaRepository;
+import sample.hhplus_w2.repository.idempotency.IdempotencyRecordRepository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyRecordRepositoryImpl implements IdempotencyRecordRepository {
+    private final IdempotencyRecordJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 키가 지정된 엔티티는 JPA save 시 merge(UPDATE)가 되므로 JDBC INSERT로 중복을 판별한다.
+     */
+    @Override
+    public boolean insertIfAbsent(IdempotencyRecord record) {
+        try {
+            jdbcTemplate.update("INSERT INTO idempotency_key " +
+                            "(idem_key, fingerprint, status, owner, locked_until, expires_at, created_at) " +
+                            "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    record.getKey(), record.getFingerprint(), record.getStatus().name(), record.getOwner(),
+                    Timestamp.valueOf(record.getLockedUntil()), Timestamp.valueOf(record.getExpiresAt()),
+                    Timestamp.valueOf(record.getCreatedAt()));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> findByKey(String key) {
+        return jpaRepository.findById(key);
+    }
+
+    @Override
+    public boolean complete(String key, String owner, Long resourceId, LocalDateTime expiresAt) {
+        return jpaRepository.complete(key, owner, resourceId, expiresAt,
+                IdempotencyStatus.IN_PROGRESS, IdempotencyStatus.COMPLETED) > 0;
+    }
+
+    @Override
+    public boolean takeOver(String key, String owner, LocalDateTime lockedUntil) {
+        return jpaRepository.takeOver(key, owner, lockedUntil, LocalDateTime.now(), IdempotencyStatus.IN_PROGRESS) > 0;
+    }
+
+    @Override
+    public boolean release(String key, String owner) {
+        return jpaRepository.release(key, owner, IdempotencyStatus.IN_PROGRESS) > 0;
+    }
+
+    @Override
+    public int deleteExpired() {
+        return jpaRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    @Override
+    public void deleteAll() {
+        jpaRepository.deleteAll();
+    }
+}
@@ -0,0 +1,16 @@
+package sample.hhplus_w2.repository.lease;
+
+import sample.hhplus_w2.domain.lease.JobLease;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface JobLeaseRepository {
+    JobLease save(JobLease lease);
+    Optional<JobLease> findByName(String name);
+    Optional<JobLease> findByNameForShare(String name);
+    Optional<JobLease> findByNameForUpdate(String name);
+    boolean acquire(String name, String owner, LocalDateTime until);
+    void release(String name, String owner);
+    void deleteAll();
+}
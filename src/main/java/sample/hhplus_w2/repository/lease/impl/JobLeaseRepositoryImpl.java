@@ -0,0 +1,51 @@
+package sample.hhplus_w2.repository.lease.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import sample.hhplus_w2.domain.lease.JobLease;
+import sample.hhplus_w2.infrastructure.lease.JobLeaseJpaRepository;
+import sample.hhplus_w2.repository.lease.JobLeaseRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class JobLeaseRepositoryImpl implements JobLeaseRepository {
+    private final JobLeaseJpaRepository jpaRepository;
+
+    @Override
+    public JobLease save(JobLease lease) {
+        return jpaRepository.saveAndFlush(lease);
+    }
+
+    @Override
+    public Optional<JobLease> findByName(String name) {
+        return jpaRepository.findById(name);
+    }
+
+    @Override
+    public Optional<JobLease> findByNameForShare(String name) {
+        return jpaRepository.findByNameForShare(name);
+    }
+
+    @Override
+    public Optional<JobLease> findByNameForUpdate(String name) {
+        return jpaRepository.findByNameForUpdate(name);
+    }
+
+    @Override
+    public boolean acquire(String name, String owner, LocalDateTime until) {
+        return jpaRepository.acquire(name, owner, until, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    public void release(String name, String owner) {
+        jpaRepository.release(name, owner, LocalDateTime.now());
+    }
+
+    @Override
+    public void deleteAll() {
+        jpaRepository.deleteAll();
+    }
+}
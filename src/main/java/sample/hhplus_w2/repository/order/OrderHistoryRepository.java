@@ -7,6 +7,7 @@ import java.util.Optional;
 
 public interface OrderHistoryRepository {
     OrderHistory save(OrderHistory orderHistory);
+    int insertAll(List<OrderHistory> histories);
     Optional<OrderHistory> findById(Long id);
     List<OrderHistory> findByOrderId(Long orderId);
     List<OrderHistory> findAll();
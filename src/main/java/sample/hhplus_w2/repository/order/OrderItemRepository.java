@@ -1,15 +1,25 @@
 package sample.hhplus_w2.repository.order;
 
 import sample.hhplus_w2.domain.order.OrderItem;
+import sample.hhplus_w2.domain.stats.ProductSaleEvent;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface OrderItemRepository {
     OrderItem save(OrderItem orderItem);
+    List<OrderItem> insertAll(List<OrderItem> orderItems);
     Optional<OrderItem> findById(Long id);
     List<OrderItem> findByOrderId(Long orderId);
     List<OrderItem> findByProductId(Long productId);
+    long sumPaidQuantitySince(Long productId, LocalDateTime since);
+
+    /**
+     * 지정 시각 이후 결제 완료된 주문 항목을 한 행씩 전달 (결제 시각 기준, fetchSize 단위로 커서 조회)
+     */
+    void scanPaidSaleEventsSince(LocalDateTime since, int fetchSize, Consumer<ProductSaleEvent> consumer);
     List<OrderItem> findAll();
     void delete(Long id);
     void deleteByOrderId(Long orderId);
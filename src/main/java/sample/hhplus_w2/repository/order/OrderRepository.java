@@ -1,17 +1,33 @@
 package sample.hhplus_w2.repository.order;
 
 import sample.hhplus_w2.domain.order.Order;
+import sample.hhplus_w2.domain.order.OrderExpiryCandidate;
+import sample.hhplus_w2.domain.order.OrderExportRow;
 import sample.hhplus_w2.domain.order.OrderStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface OrderRepository {
     Order save(Order order);
     Optional<Order> findById(Long id);
+    Optional<Order> findByIdForUpdate(Long id);
     List<Order> findByUserId(Long userId);
     List<Order> findByStatus(OrderStatus status);
     List<Order> findByUserIdAndStatus(Long userId, OrderStatus status);
+    List<OrderExpiryCandidate> findExpiredPending(LocalDateTime now, LocalDateTime lastExpiresAt, Long lastId, int limit);
+    List<Long> lockPendingIds(Collection<Long> ids);
+    int updateStatus(Collection<Long> ids, OrderStatus from, OrderStatus to);
+    Optional<LocalDateTime> findOldestExpiredPendingAt(LocalDateTime now);
+
+    /**
+     * 주문을 한 행씩 전달 (fetchSize 단위로 커서 조회, 메모리에 누적하지 않음)
+     * @param status 상태 필터 (null이면 전체)
+     */
+    void exportAll(OrderStatus status, int fetchSize, Consumer<OrderExportRow> consumer);
     List<Order> findAll();
     void delete(Long id);
     void deleteAll();
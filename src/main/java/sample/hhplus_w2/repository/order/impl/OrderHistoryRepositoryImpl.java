@@ -1,11 +1,14 @@
 package sample.hhplus_w2.repository.order.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import sample.hhplus_w2.common.MultiRowInsert;
 import sample.hhplus_w2.domain.order.OrderHistory;
 import sample.hhplus_w2.infrastructure.order.OrderHistoryJpaRepository;
 import sample.hhplus_w2.repository.order.OrderHistoryRepository;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,12 +16,29 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class OrderHistoryRepositoryImpl implements OrderHistoryRepository {
     private final OrderHistoryJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public OrderHistory save(OrderHistory orderHistory) {
         return jpaRepository.save(orderHistory);
     }
 
+    /**
+     * 다중 행 INSERT ({@link MultiRowInsert})
+     */
+    @Override
+    public int insertAll(List<OrderHistory> histories) {
+        return MultiRowInsert.insert(jdbcTemplate, "order_history",
+                List.of("order_id", "from_status", "to_status", "reason", "actor_type", "created_at"),
+                histories, MultiRowInsert.DEFAULT_CHUNK_SIZE, history -> new Object[]{
+                        history.getOrderId(),
+                        history.getFromStatus() != null ? history.getFromStatus().name() : null,
+                        history.getToStatus().name(),
+                        history.getReason(),
+                        history.getActorType().name(),
+                        Timestamp.valueOf(history.getCreatedAt())});
+    }
+
     @Override
     public Optional<OrderHistory> findById(Long id) {
         return jpaRepository.findById(id);
@@ -1,24 +1,56 @@
 package sample.hhplus_w2.repository.order.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
+import sample.hhplus_w2.common.JdbcCursors;
+import sample.hhplus_w2.common.MultiRowInsert;
 import sample.hhplus_w2.domain.order.OrderItem;
+import sample.hhplus_w2.domain.order.OrderStatus;
+import sample.hhplus_w2.domain.stats.ProductSaleEvent;
 import sample.hhplus_w2.infrastructure.order.OrderItemJpaRepository;
 import sample.hhplus_w2.repository.order.OrderItemRepository;
 
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Repository
 @RequiredArgsConstructor
 public class OrderItemRepositoryImpl implements OrderItemRepository {
+    private static final int INSERT_CHUNK_SIZE = 500;
+
     private final OrderItemJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public OrderItem save(OrderItem orderItem) {
         return jpaRepository.save(orderItem);
     }
 
+    /**
+     * 다중 행 INSERT ({@link MultiRowInsert}, 생성된 키를 각 항목에 할당)
+     */
+    @Override
+    public List<OrderItem> insertAll(List<OrderItem> orderItems) {
+        MultiRowInsert.insertReturningIds(jdbcTemplate, "order_item",
+                List.of("order_id", "product_id", "qty", "unit_price", "discount", "created_at", "updated_at"),
+                orderItems, INSERT_CHUNK_SIZE, item -> new Object[]{
+                        item.getOrderId(),
+                        item.getProductId(),
+                        item.getQty(),
+                        item.getUnitPrice(),
+                        item.getDiscount(),
+                        Timestamp.valueOf(item.getCreatedAt()),
+                        Timestamp.valueOf(item.getUpdatedAt())},
+                OrderItem::assignId);
+        return orderItems;
+    }
+
     @Override
     public Optional<OrderItem> findById(Long id) {
         return jpaRepository.findById(id);
@@ -34,6 +66,26 @@ public class OrderItemRepositoryImpl implements OrderItemRepository {
         return jpaRepository.findByProductId(productId);
     }
 
+    @Override
+    public long sumPaidQuantitySince(Long productId, LocalDateTime since) {
+        return jpaRepository.sumQuantityByProductIdAndOrderStatusSince(productId, OrderStatus.PAID, since);
+    }
+
+    @Override
+    public void scanPaidSaleEventsSince(LocalDateTime since, int fetchSize, Consumer<ProductSaleEvent> consumer) {
+        String sql = "SELECT oi.product_id, oi.qty, o.updated_at FROM order_item oi " +
+                "JOIN order_ o ON o.id = oi.order_id WHERE o.status = ? AND o.updated_at >= ?";
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = JdbcCursors.prepare(connection, sql, fetchSize);
+            ps.setString(1, OrderStatus.PAID.name());
+            ps.setTimestamp(2, Timestamp.valueOf(since));
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new ProductSaleEvent(
+                rs.getLong("product_id"),
+                rs.getLong("qty"),
+                rs.getTimestamp("updated_at").toLocalDateTime())));
+    }
+
     @Override
     public List<OrderItem> findAll() {
         return jpaRepository.findAll();
@@ -1,19 +1,31 @@
 package sample.hhplus_w2.repository.order.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
+import sample.hhplus_w2.common.JdbcCursors;
 import sample.hhplus_w2.domain.order.Order;
+import sample.hhplus_w2.domain.order.OrderExpiryCandidate;
+import sample.hhplus_w2.domain.order.OrderExportRow;
 import sample.hhplus_w2.domain.order.OrderStatus;
 import sample.hhplus_w2.infrastructure.order.OrderJpaRepository;
 import sample.hhplus_w2.repository.order.OrderRepository;
 
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class OrderRepositoryImpl implements OrderRepository {
     private final OrderJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Order save(Order order) {
@@ -25,6 +37,11 @@ public class OrderRepositoryImpl implements OrderRepository {
         return jpaRepository.findById(id);
     }
 
+    @Override
+    public Optional<Order> findByIdForUpdate(Long id) {
+        return jpaRepository.findByIdForUpdate(id);
+    }
+
     @Override
     public List<Order> findByUserId(Long userId) {
         return jpaRepository.findByUserId(userId);
@@ -40,6 +57,49 @@ public class OrderRepositoryImpl implements OrderRepository {
         return jpaRepository.findByUserIdAndStatus(userId, status);
     }
 
+    @Override
+    public List<OrderExpiryCandidate> findExpiredPending(LocalDateTime now, LocalDateTime lastExpiresAt, Long lastId, int limit) {
+        return jpaRepository.findExpiryCandidates(OrderStatus.PENDING, now, lastExpiresAt, lastId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<Long> lockPendingIds(Collection<Long> ids) {
+        return jpaRepository.findByIdInAndStatusForUpdate(ids, OrderStatus.PENDING).stream()
+                .map(Order::getId)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int updateStatus(Collection<Long> ids, OrderStatus from, OrderStatus to) {
+        return jpaRepository.updateStatusByIdIn(ids, from, to, LocalDateTime.now());
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestExpiredPendingAt(LocalDateTime now) {
+        return Optional.ofNullable(jpaRepository.findOldestExpiresAt(OrderStatus.PENDING, now));
+    }
+
+    @Override
+    public void exportAll(OrderStatus status, int fetchSize, Consumer<OrderExportRow> consumer) {
+        String sql = "SELECT id, user_id, status, total, discount_total, shipping_fee, created_at, updated_at " +
+                "FROM order_" + (status != null ? " WHERE status = ?" : "") + " ORDER BY id";
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = JdbcCursors.prepare(connection, sql, fetchSize);
+            if (status != null) {
+                ps.setString(1, status.name());
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new OrderExportRow(
+                rs.getLong("id"),
+                rs.getLong("user_id"),
+                OrderStatus.valueOf(rs.getString("status")),
+                rs.getBigDecimal("total"),
+                rs.getBigDecimal("discount_total"),
+                rs.getBigDecimal("shipping_fee"),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getTimestamp("updated_at").toLocalDateTime())));
+    }
+
     @Override
     public List<Order> findAll() {
         return jpaRepository.findAll();
@@ -1,16 +1,58 @@
 package sample.hhplus_w2.repository.product;
 
 import sample.hhplus_w2.domain.product.Product;
+import sample.hhplus_w2.domain.product.ProductCursor;
+import sample.hhplus_w2.domain.product.ProductExportRow;
+import sample.hhplus_w2.domain.product.ProductListRow;
+import sample.hhplus_w2.domain.product.ProductSearchDocument;
+import sample.hhplus_w2.domain.product.ProductSortType;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ProductRepository {
     Product save(Product product);
     Optional<Product> findById(Long id);
+    List<Product> findAllById(Collection<Long> ids);
     List<Product> findByCategoryId(Long categoryId);
     List<Product> findAll();
     List<Product> findByIsActive(Boolean isActive);
+    List<Long> findAllIds();
+    List<Long> findIdsByCategoryId(Long categoryId);
+    List<Long> findIdsByIsActive(Boolean isActive);
+    Map<Long, Integer> findStockQtyByIds(Collection<Long> ids);
+
+    /**
+     * 활성 상품 요약 목록 (keyset 페이지네이션)
+     * @param categoryId 카테고리 필터 (null이면 전체)
+     * @param daysRange POPULAR 정렬 시 판매 통계 기간
+     * @param after 이전 페이지 마지막 행 커서 (null이면 첫 페이지)
+     */
+    List<ProductListRow> findSummaries(ProductSortType sort, Long categoryId, Integer daysRange,
+                                       ProductCursor after, int limit);
+
+    /**
+     * 전체 상품을 한 행씩 전달 (fetchSize 단위로 커서 조회, 메모리에 누적하지 않음)
+     */
+    void exportAll(int fetchSize, Consumer<ProductExportRow> consumer);
+
+    /**
+     * 검색 색인용 전체 조회 (fetchSize 단위로 커서 조회)
+     */
+    void scanSearchDocuments(int fetchSize, Consumer<ProductSearchDocument> consumer);
+    boolean decreaseStockIfAvailable(Long id, int quantity);
+
+    /**
+     * 다중 상품 재고 차감 (상품 ID 순으로 조건부 UPDATE를 일괄 실행)
+     * 호출 트랜잭션 안에서 실행되며, 실패한 상품이 있어도 나머지는 차감되므로 호출자가 롤백해야 한다.
+     * @param quantities 상품 ID별 차감 수량
+     * @return 재고가 부족하거나 없는 상품 ID 목록 (상품 ID 순)
+     */
+    List<Long> decreaseStocksIfAvailable(Map<Long, Integer> quantities);
+    void increaseStockBy(Long id, int quantity);
     void delete(Long id);
     void deleteAll();
 }
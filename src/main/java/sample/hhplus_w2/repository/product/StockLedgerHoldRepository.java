@@ -0,0 +1,15 @@
+package sample.hhplus_w2.repository.product;
+
+import sample.hhplus_w2.domain.product.StockLedgerHold;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface StockLedgerHoldRepository {
+    StockLedgerHold save(StockLedgerHold hold);
+    Optional<StockLedgerHold> findByProductIdAndOwner(Long productId, String owner);
+    List<StockLedgerHold> findAll();
+    void delete(Long id);
+    boolean deleteIfExists(Long id);
+    void deleteAll();
+}
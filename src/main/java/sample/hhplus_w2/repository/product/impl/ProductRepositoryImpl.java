@@ -1,22 +1,56 @@
 package sample.hhplus_w2.repository.product.impl;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import sample.hhplus_w2.common.JdbcCursors;
 import sample.hhplus_w2.domain.product.Product;
+import sample.hhplus_w2.domain.product.ProductChangedEvent;
+import sample.hhplus_w2.domain.product.ProductCursor;
+import sample.hhplus_w2.domain.product.ProductExportRow;
+import sample.hhplus_w2.domain.product.ProductListRow;
+import sample.hhplus_w2.domain.product.ProductSearchDocument;
+import sample.hhplus_w2.domain.product.ProductSortType;
+import sample.hhplus_w2.domain.product.ProductSummary;
 import sample.hhplus_w2.infrastructure.product.ProductJpaRepository;
 import sample.hhplus_w2.repository.product.ProductRepository;
 
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 
 @Repository
 @RequiredArgsConstructor
 public class ProductRepositoryImpl implements ProductRepository {
     private final ProductJpaRepository jpaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
 
+    /**
+     * 상품 저장 (변경 이벤트 발행 - 재고 차감 등 모든 쓰기 경로가 이 Repository를 거친다)
+     */
     @Override
     public Product save(Product product) {
-        return jpaRepository.save(product);
+        Product saved = jpaRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.product(saved.getId()));
+        return saved;
     }
 
     @Override
@@ -24,6 +58,11 @@ public class ProductRepositoryImpl implements ProductRepository {
         return jpaRepository.findById(id);
     }
 
+    @Override
+    public List<Product> findAllById(Collection<Long> ids) {
+        return jpaRepository.findAllById(ids);
+    }
+
     @Override
     public List<Product> findByCategoryId(Long categoryId) {
         return jpaRepository.findByCategoryId(categoryId);
@@ -39,13 +78,225 @@ public class ProductRepositoryImpl implements ProductRepository {
         return jpaRepository.findByIsActive(isActive);
     }
 
+    @Override
+    public List<Long> findAllIds() {
+        return jpaRepository.findAllIds();
+    }
+
+    @Override
+    public List<Long> findIdsByCategoryId(Long categoryId) {
+        return jpaRepository.findIdsByCategoryId(categoryId);
+    }
+
+    @Override
+    public List<Long> findIdsByIsActive(Boolean isActive) {
+        return jpaRepository.findIdsByIsActive(isActive);
+    }
+
+    @Override
+    public Map<Long, Integer> findStockQtyByIds(Collection<Long> ids) {
+        Map<Long, Integer> stocks = new HashMap<>();
+        for (Object[] row : jpaRepository.findStockQtyByIdIn(ids)) {
+            stocks.put((Long) row[0], (Integer) row[1]);
+        }
+        return stocks;
+    }
+
+    /**
+     * 목록 조회는 description을 읽지 않도록 필요한 컬럼만 조회한다.
+     * 정렬 키 + id 조건(keyset)으로 이어서 읽으므로 페이지 위치와 관계없이 인덱스 범위 스캔 한 번으로 끝난다.
+     * (NEWEST: idx_product_active / idx_product_category, PRICE: idx_product_*_price, POPULAR: idx_stats_days_sales)
+     */
+    @Override
+    public List<ProductListRow> findSummaries(ProductSortType sort, Long categoryId, Integer daysRange,
+                                              ProductCursor after, int limit) {
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT p.id, p.name, p.brand, p.price, p.stock_qty, ");
+        String sortColumn;
+        String direction;
+        String comparator;
+        switch (sort) {
+            case NEWEST -> {
+                sortColumn = "p.created_at";
+                direction = "DESC";
+                comparator = "<";
+            }
+            case PRICE_ASC -> {
+                sortColumn = "p.price";
+                direction = "ASC";
+                comparator = ">";
+            }
+            case PRICE_DESC -> {
+                sortColumn = "p.price";
+                direction = "DESC";
+                comparator = "<";
+            }
+            default -> {
+                sortColumn = "s.sales_count";
+                direction = "DESC";
+                comparator = "<";
+            }
+        }
+        String idColumn = ProductSortType.POPULAR.equals(sort) ? "s.product_id" : "p.id";
+
+        sql.append(sortColumn).append(" AS sort_key ");
+        if (ProductSortType.POPULAR.equals(sort)) {
+            sql.append("FROM product_sales_stats s JOIN product p ON p.id = s.product_id WHERE s.days_range = ? AND ");
+            params.add(daysRange);
+        } else {
+            sql.append("FROM product p WHERE ");
+        }
+        sql.append("p.is_active = ?");
+        params.add(true);
+        if (categoryId != null) {
+            sql.append(" AND p.category_id = ?");
+            params.add(categoryId);
+        }
+        if (after != null) {
+            Object key = parseSortKey(sort, after.key());
+            sql.append(" AND (").append(sortColumn).append(' ').append(comparator).append(" ? OR (")
+                    .append(sortColumn).append(" = ? AND ").append(idColumn).append(' ').append(comparator).append(" ?))");
+            params.add(key);
+            params.add(key);
+            params.add(after.id());
+        }
+        sql.append(" ORDER BY ").append(sortColumn).append(' ').append(direction)
+                .append(", ").append(idColumn).append(' ').append(direction)
+                .append(" LIMIT ?");
+        params.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new ProductListRow(
+                new ProductSummary(rs.getLong("id"), rs.getString("name"), rs.getString("brand"),
+                        rs.getBigDecimal("price"), rs.getInt("stock_qty") > 0),
+                new ProductCursor(sort, sortKey(sort, rs), rs.getLong("id"))), params.toArray());
+    }
+
+    private Object parseSortKey(ProductSortType sort, String key) {
+        try {
+            return switch (sort) {
+                case NEWEST -> Timestamp.valueOf(LocalDateTime.parse(key));
+                case PRICE_ASC, PRICE_DESC -> new BigDecimal(key);
+                case POPULAR -> Integer.parseInt(key);
+            };
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    private String sortKey(ProductSortType sort, ResultSet rs) throws SQLException {
+        return switch (sort) {
+            case NEWEST -> rs.getTimestamp("sort_key").toLocalDateTime().toString();
+            case PRICE_ASC, PRICE_DESC -> rs.getBigDecimal("sort_key").toPlainString();
+            case POPULAR -> String.valueOf(rs.getInt("sort_key"));
+        };
+    }
+
+    @Override
+    public void exportAll(int fetchSize, Consumer<ProductExportRow> consumer) {
+        String sql = "SELECT id, category_id, name, brand, price, stock_qty, is_active, created_at, updated_at " +
+                "FROM product ORDER BY id";
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = JdbcCursors.prepare(connection, sql, fetchSize);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new ProductExportRow(
+                rs.getLong("id"),
+                rs.getObject("category_id", Long.class),
+                rs.getString("name"),
+                rs.getString("brand"),
+                rs.getBigDecimal("price"),
+                rs.getInt("stock_qty"),
+                rs.getBoolean("is_active"),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getTimestamp("updated_at").toLocalDateTime())));
+    }
+
+    @Override
+    public void scanSearchDocuments(int fetchSize, Consumer<ProductSearchDocument> consumer) {
+        String sql = "SELECT id, category_id, name, brand, description, price, is_active FROM product ORDER BY id";
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = JdbcCursors.prepare(connection, sql, fetchSize);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new ProductSearchDocument(
+                rs.getLong("id"),
+                rs.getObject("category_id", Long.class),
+                rs.getString("name"),
+                rs.getString("brand"),
+                rs.getString("description"),
+                rs.getBigDecimal("price"),
+                rs.getBoolean("is_active"))));
+    }
+
+    @Override
+    public boolean decreaseStockIfAvailable(Long id, int quantity) {
+        boolean decreased = jpaRepository.decreaseStockIfAvailable(id, quantity, LocalDateTime.now()) > 0;
+        if (decreased) {
+            eventPublisher.publishEvent(ProductChangedEvent.stock(id));
+        }
+        return decreased;
+    }
+
+    /**
+     * 모든 트랜잭션이 같은 순서(상품 ID 오름차순)로 행 잠금을 잡으므로 상품이 겹치는 주문끼리 교착되지 않는다.
+     * JDBC 배치 1회로 실행하고 (rewriteBatchedStatements), 행별 갱신 건수로 부족한 상품을 판별한다.
+     */
+    @Override
+    @Transactional
+    public List<Long> decreaseStocksIfAvailable(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return List.of();
+        }
+        List<Map.Entry<Long, Integer>> sorted = new ArrayList<>(new TreeMap<>(quantities).entrySet());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        entityManager.flush();
+        int[] counts = jdbcTemplate.batchUpdate(
+                "UPDATE product SET stock_qty = stock_qty - ?, version = version + 1, updated_at = ? " +
+                        "WHERE id = ? AND stock_qty >= ?",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Map.Entry<Long, Integer> entry = sorted.get(i);
+                        ps.setInt(1, entry.getValue());
+                        ps.setTimestamp(2, now);
+                        ps.setLong(3, entry.getKey());
+                        ps.setInt(4, entry.getValue());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return sorted.size();
+                    }
+                });
+        // 영속성 컨텍스트의 상품 엔티티는 이전 재고를 들고 있으므로 비운다 (@Modifying clearAutomatically와 동일)
+        entityManager.clear();
+
+        List<Long> insufficient = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            Long productId = sorted.get(i).getKey();
+            if (counts[i] == 0) {
+                insufficient.add(productId);
+            } else {
+                eventPublisher.publishEvent(ProductChangedEvent.stock(productId));
+            }
+        }
+        return insufficient;
+    }
+
+    @Override
+    public void increaseStockBy(Long id, int quantity) {
+        jpaRepository.increaseStockBy(id, quantity, LocalDateTime.now());
+        eventPublisher.publishEvent(ProductChangedEvent.stock(id));
+    }
+
     @Override
     public void delete(Long id) {
         jpaRepository.deleteById(id);
+        eventPublisher.publishEvent(ProductChangedEvent.product(id));
     }
 
     @Override
     public void deleteAll() {
         jpaRepository.deleteAll();
+        eventPublisher.publishEvent(ProductChangedEvent.all());
     }
 }
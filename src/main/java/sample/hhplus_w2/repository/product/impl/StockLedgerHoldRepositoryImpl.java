@@ -0,0 +1,46 @@
+package sample.hhplus_w2.repository.product.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import sample.hhplus_w2.domain.product.StockLedgerHold;
+import sample.hhplus_w2.infrastructure.product.StockLedgerHoldJpaRepository;
+import sample.hhplus_w2.repository.product.StockLedgerHoldRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class StockLedgerHoldRepositoryImpl implements StockLedgerHoldRepository {
+    private final StockLedgerHoldJpaRepository jpaRepository;
+
+    @Override
+    public StockLedgerHold save(StockLedgerHold hold) {
+        return jpaRepository.save(hold);
+    }
+
+    @Override
+    public Optional<StockLedgerHold> findByProductIdAndOwner(Long productId, String owner) {
+        return jpaRepository.findByProductIdAndOwner(productId, owner);
+    }
+
+    @Override
+    public List<StockLedgerHold> findAll() {
+        return jpaRepository.findAll();
+    }
+
+    @Override
+    public void delete(Long id) {
+        jpaRepository.deleteById(id);
+    }
+
+    @Override
+    public boolean deleteIfExists(Long id) {
+        return jpaRepository.deleteByIdIfExists(id) > 0;
+    }
+
+    @Override
+    public void deleteAll() {
+        jpaRepository.deleteAll();
+    }
+}
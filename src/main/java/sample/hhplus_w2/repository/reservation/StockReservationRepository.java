@@ -0,0 +1,16 @@
+package sample.hhplus_w2.repository.reservation;
+
+import sample.hhplus_w2.domain.reservation.StockReservation;
+import sample.hhplus_w2.domain.reservation.StockReservationStatus;
+
+import java.util.List;
+
+public interface StockReservationRepository {
+    StockReservation save(StockReservation reservation);
+    List<StockReservation> findByOrderId(Long orderId);
+    List<StockReservation> findByStatus(StockReservationStatus status);
+    boolean existsByOrderId(Long orderId);
+    int updateStatusByOrderId(Long orderId, StockReservationStatus from, StockReservationStatus to);
+    List<StockReservation> findAll();
+    void deleteAll();
+}
@@ -0,0 +1,52 @@
+package sample.hhplus_w2.repository.reservation.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import sample.hhplus_w2.domain.reservation.StockReservation;
+import sample.hhplus_w2.domain.reservation.StockReservationStatus;
+import sample.hhplus_w2.infrastructure.reservation.StockReservationJpaRepository;
+import sample.hhplus_w2.repository.reservation.StockReservationRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class StockReservationRepositoryImpl implements StockReservationRepository {
+    private final StockReservationJpaRepository jpaRepository;
+
+    @Override
+    public StockReservation save(StockReservation reservation) {
+        return jpaRepository.save(reservation);
+    }
+
+    @Override
+    public List<StockReservation> findByOrderId(Long orderId) {
+        return jpaRepository.findByOrderId(orderId);
+    }
+
+    @Override
+    public List<StockReservation> findByStatus(StockReservationStatus status) {
+        return jpaRepository.findByStatus(status);
+    }
+
+    @Override
+    public boolean existsByOrderId(Long orderId) {
+        return jpaRepository.existsByOrderId(orderId);
+    }
+
+    @Override
+    public int updateStatusByOrderId(Long orderId, StockReservationStatus from, StockReservationStatus to) {
+        return jpaRepository.updateStatusByOrderId(orderId, from, to, LocalDateTime.now());
+    }
+
+    @Override
+    public List<StockReservation> findAll() {
+        return jpaRepository.findAll();
+    }
+
+    @Override
+    public void deleteAll() {
+        jpaRepository.deleteAll();
+    }
+}
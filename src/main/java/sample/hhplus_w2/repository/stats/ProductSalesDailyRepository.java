@@ -0,0 +1,25 @@
+package sample.hhplus_w2.repository.stats;
+
+import sample.hhplus_w2.domain.stats.ProductSale;
+import sample.hhplus_w2.domain.stats.ProductSaleEvent;
+import sample.hhplus_w2.domain.stats.ProductSalesDaily;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 상품 일자 판매 버킷 Repository
+ */
+public interface ProductSalesDailyRepository {
+    void addSales(LocalDate salesDate, List<ProductSale> sales);
+    Optional<ProductSalesDaily> findByProductIdAndSalesDate(Long productId, LocalDate salesDate);
+
+    /**
+     * 지정 일자 이후 버킷을 한 행씩 전달 (fetchSize 단위로 커서 조회, soldAt은 해당 일자 0시)
+     */
+    void scanSince(LocalDate from, int fetchSize, Consumer<ProductSaleEvent> consumer);
+    int deleteBefore(LocalDate before);
+    void deleteAll();
+}
@@ -1,7 +1,10 @@
 package sample.hhplus_w2.repository.stats;
 
+import sample.hhplus_w2.domain.stats.ProductSale;
 import sample.hhplus_w2.domain.stats.ProductSalesStats;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,7 +14,10 @@ import java.util.Optional;
 public interface ProductSalesStatsRepository {
     ProductSalesStats save(ProductSalesStats stats);
     Optional<ProductSalesStats> findByProductIdAndDaysRange(Long productId, Integer daysRange);
-    List<ProductSalesStats> findByDaysRangeOrderBySalesCountDesc(Integer daysRange, int limit);
-    List<ProductSalesStats> findByDaysRangeOrderBySalesAmountDesc(Integer daysRange, int limit);
+    List<ProductSalesStats> findByDaysRange(Integer daysRange);
+    void addSales(Collection<Integer> daysRanges, List<ProductSale> sales);
+    int recomputeFromDaily(Integer daysRange, LocalDate agedOutFrom, LocalDate agedOutTo);
+    List<ProductSalesStats> findByDaysRangeOrderBySalesCountDesc(Integer daysRange, int offset, int limit);
+    List<ProductSalesStats> findByDaysRangeOrderBySalesAmountDesc(Integer daysRange, int offset, int limit);
     void deleteAll();
 }
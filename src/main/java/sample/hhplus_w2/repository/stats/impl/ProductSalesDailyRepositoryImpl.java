@@ -0,0 +1,78 @@
+package sample.hhplus_w2.repository.stats.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import sample.hhplus_w2.common.JdbcCursors;
+import sample.hhplus_w2.domain.stats.ProductSale;
+import sample.hhplus_w2.domain.stats.ProductSaleEvent;
+import sample.hhplus_w2.domain.stats.ProductSalesDaily;
+import sample.hhplus_w2.infrastructure.stats.ProductSalesDailyJpaRepository;
+import sample.hhplus_w2.repository.stats.ProductSalesDailyRepository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductSalesDailyRepositoryImpl implements ProductSalesDailyRepository {
+    private final ProductSalesDailyJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 일자 버킷 누적 (없으면 생성, 있으면 더함 - JDBC 배치 UPSERT)
+     */
+    @Override
+    public void addSales(LocalDate salesDate, List<ProductSale> sales) {
+        if (sales.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> params = sales.stream()
+                .map(sale -> new Object[]{sale.productId(), Date.valueOf(salesDate), sale.quantity(), sale.amount(), now})
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product_sales_daily (product_id, sales_date, sales_count, sales_amount, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE " +
+                        "sales_count = sales_count + VALUES(sales_count), " +
+                        "sales_amount = sales_amount + VALUES(sales_amount), " +
+                        "updated_at = VALUES(updated_at)",
+                params);
+    }
+
+    @Override
+    public Optional<ProductSalesDaily> findByProductIdAndSalesDate(Long productId, LocalDate salesDate) {
+        return jpaRepository.findByProductIdAndSalesDate(productId, salesDate);
+    }
+
+    @Override
+    public void scanSince(LocalDate from, int fetchSize, Consumer<ProductSaleEvent> consumer) {
+        String sql = "SELECT product_id, sales_date, sales_count FROM product_sales_daily WHERE sales_date >= ?";
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = JdbcCursors.prepare(connection, sql, fetchSize);
+            ps.setDate(1, Date.valueOf(from));
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new ProductSaleEvent(
+                rs.getLong("product_id"),
+                rs.getLong("sales_count"),
+                rs.getDate("sales_date").toLocalDate().atStartOfDay())));
+    }
+
+    @Override
+    public int deleteBefore(LocalDate before) {
+        return jpaRepository.deleteBySalesDateBefore(before);
+    }
+
+    @Override
+    public void deleteAll() {
+        jpaRepository.deleteAll();
+    }
+}
@@ -2,11 +2,19 @@ package sample.hhplus_w2.repository.stats.impl;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import sample.hhplus_w2.domain.stats.ProductSale;
 import sample.hhplus_w2.domain.stats.ProductSalesStats;
 import sample.hhplus_w2.infrastructure.stats.ProductSalesStatsJpaRepository;
 import sample.hhplus_w2.repository.stats.ProductSalesStatsRepository;
 
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +22,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ProductSalesStatsRepositoryImpl implements ProductSalesStatsRepository {
     private final ProductSalesStatsJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public ProductSalesStats save(ProductSalesStats stats) {
@@ -25,14 +34,65 @@ public class ProductSalesStatsRepositoryImpl implements ProductSalesStatsReposit
         return jpaRepository.findByProductIdAndDaysRange(productId, daysRange);
     }
 
+    /**
+     * 기간별 통계에 판매분 누적 (없으면 생성, 있으면 더함 - JDBC 배치 UPSERT)
+     */
     @Override
-    public List<ProductSalesStats> findByDaysRangeOrderBySalesCountDesc(Integer daysRange, int limit) {
-        return jpaRepository.findByDaysRangeOrderBySalesCountDesc(daysRange, PageRequest.of(0, limit));
+    public void addSales(Collection<Integer> daysRanges, List<ProductSale> sales) {
+        if (sales.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> params = new ArrayList<>(daysRanges.size() * sales.size());
+        for (ProductSale sale : sales) {
+            for (Integer daysRange : daysRanges) {
+                params.add(new Object[]{sale.productId(), sale.productName(), sale.quantity(), sale.amount(), now, daysRange});
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product_sales_stats (product_id, product_name, sales_count, sales_amount, aggregated_at, days_range) " +
+                        "VALUES (?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE " +
+                        "sales_count = sales_count + VALUES(sales_count), " +
+                        "sales_amount = sales_amount + VALUES(sales_amount), " +
+                        "aggregated_at = VALUES(aggregated_at)",
+                params);
     }
 
+    /**
+     * 기간에서 빠져나간 일자 버킷이 있는 상품만 남은 버킷 합계로 다시 계산
+     * 단일 UPDATE로 처리해 동시에 누적되는 판매분을 잃지 않는다.
+     */
     @Override
-    public List<ProductSalesStats> findByDaysRangeOrderBySalesAmountDesc(Integer daysRange, int limit) {
-        return jpaRepository.findByDaysRangeOrderBySalesAmountDesc(daysRange, PageRequest.of(0, limit));
+    public int recomputeFromDaily(Integer daysRange, LocalDate agedOutFrom, LocalDate agedOutTo) {
+        Date windowAfter = Date.valueOf(agedOutTo);
+        return jdbcTemplate.update(
+                "UPDATE product_sales_stats s SET " +
+                        "sales_count = (SELECT COALESCE(SUM(d.sales_count), 0) FROM product_sales_daily d " +
+                        "WHERE d.product_id = s.product_id AND d.sales_date > ?), " +
+                        "sales_amount = (SELECT COALESCE(SUM(d.sales_amount), 0) FROM product_sales_daily d " +
+                        "WHERE d.product_id = s.product_id AND d.sales_date > ?), " +
+                        "aggregated_at = ? " +
+                        "WHERE s.days_range = ? AND s.product_id IN (SELECT a.product_id FROM product_sales_daily a " +
+                        "WHERE a.sales_date BETWEEN ? AND ?)",
+                windowAfter, windowAfter, Timestamp.valueOf(LocalDateTime.now()), daysRange,
+                Date.valueOf(agedOutFrom), windowAfter);
+    }
+
+    @Override
+    public List<ProductSalesStats> findByDaysRange(Integer daysRange) {
+        return jpaRepository.findByDaysRange(daysRange);
+    }
+
+    @Override
+    public List<ProductSalesStats> findByDaysRangeOrderBySalesCountDesc(Integer daysRange, int offset, int limit) {
+        List<ProductSalesStats> rows = jpaRepository.findByDaysRangeOrderBySalesCountDesc(daysRange, PageRequest.of(0, offset + limit));
+        return rows.subList(Math.min(offset, rows.size()), rows.size());
+    }
+
+    @Override
+    public List<ProductSalesStats> findByDaysRangeOrderBySalesAmountDesc(Integer daysRange, int offset, int limit) {
+        List<ProductSalesStats> rows = jpaRepository.findByDaysRangeOrderBySalesAmountDesc(daysRange, PageRequest.of(0, offset + limit));
+        return rows.subList(Math.min(offset, rows.size()), rows.size());
     }
 
     @Override
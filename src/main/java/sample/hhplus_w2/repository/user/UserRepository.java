@@ -35,6 +35,16 @@ public interface UserRepository {
      */
     List<User> findByIsActive(Boolean isActive);
 
+    /**
+     * 활성 사용자 수
+     */
+    long countActive();
+
+    /**
+     * 활성 사용자 ID 청크 조회 (afterId 다음부터 ID 오름차순)
+     */
+    List<Long> findActiveIdsAfter(Long afterId, int limit);
+
     /**
      * 사용자 삭제
      */
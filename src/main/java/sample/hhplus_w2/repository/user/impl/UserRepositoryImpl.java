@@ -1,6 +1,7 @@
 package sample.hhplus_w2.repository.user.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import sample.hhplus_w2.domain.user.User;
 import sample.hhplus_w2.infrastructure.user.UserJpaRepository;
@@ -42,6 +43,16 @@ public class UserRepositoryImpl implements UserRepository {
         return jpaRepository.findByIsActive(isActive);
     }
 
+    @Override
+    public long countActive() {
+        return jpaRepository.countByIsActive(true);
+    }
+
+    @Override
+    public List<Long> findActiveIdsAfter(Long afterId, int limit) {
+        return jpaRepository.findActiveIdsAfter(afterId, PageRequest.of(0, limit));
+    }
+
     @Override
     public void delete(Long id) {
         jpaRepository.deleteById(id);
@@ -0,0 +1,19 @@
+package sample.hhplus_w2.repository.wallet;
+
+import sample.hhplus_w2.domain.wallet.Wallet;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+public interface WalletRepository {
+    Optional<Wallet> findByUserId(Long userId);
+    Optional<BigDecimal> findBalanceByUserId(Long userId);
+
+    /**
+     * 지갑이 없으면 생성 (동시 생성 시 하나만 성공)
+     */
+    void createIfAbsent(Long userId);
+    boolean debitIfSufficient(Long userId, BigDecimal amount);
+    boolean credit(Long userId, BigDecimal amount);
+    void deleteAll();
+}
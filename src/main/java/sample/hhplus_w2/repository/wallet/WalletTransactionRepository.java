@@ -0,0 +1,11 @@
+package sample.hhplus_w2.repository.wallet;
+
+import sample.hhplus_w2.domain.wallet.WalletTransaction;
+
+import java.util.List;
+
+public interface WalletTransactionRepository {
+    WalletTransaction save(WalletTransaction transaction);
+    List<WalletTransaction> findRecentByUserId(Long userId, int limit);
+    void deleteAll();
+}
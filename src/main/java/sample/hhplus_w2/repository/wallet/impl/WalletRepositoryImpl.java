@@ -0,0 +1,63 @@
+package sample.hhplus_w2.repository.wallet.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import sample.hhplus_w2.domain.wallet.Wallet;
+import sample.hhplus_w2.infrastructure.wallet.WalletJpaRepository;
+import sample.hhplus_w2.repository.wallet.WalletRepository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class WalletRepositoryImpl implements WalletRepository {
+    private final WalletJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<Wallet> findByUserId(Long userId) {
+        return jpaRepository.findByUserId(userId);
+    }
+
+    @Override
+    public Optional<BigDecimal> findBalanceByUserId(Long userId) {
+        return jpaRepository.findBalanceByUserId(userId);
+    }
+
+    /**
+     * uk_wallet_user 위반은 다른 요청이 먼저 생성한 것이므로 무시한다.
+     */
+    @Override
+    public void createIfAbsent(Long userId) {
+        if (jpaRepository.findBalanceByUserId(userId).isPresent()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            jdbcTemplate.update("INSERT INTO wallet (user_id, balance, created_at, updated_at) VALUES (?, 0, ?, ?)",
+                    userId, now, now);
+        } catch (DuplicateKeyException e) {
+            // 이미 생성됨
+        }
+    }
+
+    @Override
+    public boolean debitIfSufficient(Long userId, BigDecimal amount) {
+        return jpaRepository.debitIfSufficient(userId, amount, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    public boolean credit(Long userId, BigDecimal amount) {
+        return jpaRepository.credit(userId, amount, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    public void deleteAll() {
+        jpaRepository.deleteAll();
+    }
+}
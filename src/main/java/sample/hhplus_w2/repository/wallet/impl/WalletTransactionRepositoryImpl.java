@@ -0,0 +1,31 @@
+package sample.hhplus_w2.repository.wallet.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import sample.hhplus_w2.domain.wallet.WalletTransaction;
+import sample.hhplus_w2.infrastructure.wallet.WalletTransactionJpaRepository;
+import sample.hhplus_w2.repository.wallet.WalletTransactionRepository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class WalletTransactionRepositoryImpl implements WalletTransactionRepository {
+    private final WalletTransactionJpaRepository jpaRepository;
+
+    @Override
+    public WalletTransaction save(WalletTransaction transaction) {
+        return jpaRepository.save(transaction);
+    }
+
+    @Override
+    public List<WalletTransaction> findRecentByUserId(Long userId, int limit) {
+        return jpaRepository.findByUserIdOrderByIdDesc(userId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public void deleteAll() {
+        jpaRepository.deleteAll();
+    }
+}
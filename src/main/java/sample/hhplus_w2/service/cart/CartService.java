@@ -4,25 +4,41 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sample.hhplus_w2.domain.cart.Cart;
 import sample.hhplus_w2.domain.cart.CartItem;
+import sample.hhplus_w2.domain.cart.CartOperation;
+import sample.hhplus_w2.domain.cart.CartOperationType;
 import sample.hhplus_w2.domain.cart.CartStatus;
+import sample.hhplus_w2.domain.cart.CartView;
+import sample.hhplus_w2.domain.cart.GuestCartItem;
 import sample.hhplus_w2.domain.product.Product;
 import sample.hhplus_w2.repository.cart.CartItemRepository;
 import sample.hhplus_w2.repository.cart.CartRepository;
 import sample.hhplus_w2.repository.product.ProductRepository;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class CartService {
 
+    private static final int MAX_OPERATIONS = 100;
+
     private final CartRepository cartRepository;
     private final CartItemRepository cartItemRepository;
     private final ProductRepository productRepository;
+    private final GuestCartStore guestCartStore;
 
-    public CartService(CartRepository cartRepository, CartItemRepository cartItemRepository, ProductRepository productRepository) {
+    public CartService(CartRepository cartRepository, CartItemRepository cartItemRepository, ProductRepository productRepository,
+                       GuestCartStore guestCartStore) {
         this.cartRepository = cartRepository;
         this.cartItemRepository = cartItemRepository;
         this.productRepository = productRepository;
+        this.guestCartStore = guestCartStore;
     }
 
     @Transactional
@@ -34,6 +50,15 @@ public class CartService {
                 });
     }
 
+    /**
+     * 장바구니 조회 (항목과 현재 상품 가격/재고를 조인 한 번으로 조회, 가격 변경 항목 표시)
+     */
+    @Transactional
+    public CartView getCartView(Long userId) {
+        Cart cart = getOrCreateCart(userId);
+        return CartView.of(cart, cartItemRepository.findLineViewsByCartId(cart.getId()));
+    }
+
     @Transactional(readOnly = true)
     public List<CartItem> getCartItems(Long cartId) {
         return cartItemRepository.findByCartId(cartId);
@@ -62,6 +87,151 @@ public class CartService {
         }
     }
 
+    /**
+     * 장바구니 일괄 변경 (묶음 담기, 재주문 등)
+     * 상품과 기존 항목을 IN 조회 한 번씩으로 읽고, 작업을 순서대로 메모리에 반영한 뒤 한 번에 기록한다.
+     * 수정은 JDBC 배치 UPDATE(hibernate.jdbc.batch_size), 추가는 다중 행 INSERT, 삭제는 IN 조건 DELETE 한 번으로 처리한다.
+     * 하나라도 실패하면 전체가 반영되지 않는다.
+     */
+    @Transactional
+    public CartView applyOperations(Long userId, List<CartOperation> operations) {
+        if (operations == null || operations.isEmpty()) {
+            throw new IllegalArgumentException("변경할 항목이 없습니다.");
+        }
+        if (operations.size() > MAX_OPERATIONS) {
+            throw new IllegalArgumentException("한 번에 변경할 수 있는 항목은 최대 " + MAX_OPERATIONS + "개입니다.");
+        }
+        Cart cart = getOrCreateCart(userId);
+        Set<Long> productIds = operations.stream().map(CartOperation::productId).collect(Collectors.toSet());
+        Map<Long, Product> products = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        Map<Long, CartLine> lines = new LinkedHashMap<>();
+        cartItemRepository.findByCartIdAndProductIds(cart.getId(), productIds)
+                .forEach(item -> lines.put(item.getProductId(), new CartLine(item)));
+
+        for (CartOperation operation : operations) {
+            CartLine line = lines.computeIfAbsent(operation.productId(), id -> new CartLine(null));
+            switch (operation.type()) {
+                case ADD -> {
+                    validateQuantity(operation.quantity());
+                    Product product = products.get(operation.productId());
+                    if (product == null) {
+                        throw new IllegalArgumentException("상품을 찾을 수 없습니다: " + operation.productId());
+                    }
+                    if (!product.hasStock(operation.quantity())) {
+                        throw new IllegalStateException("재고가 부족합니다.");
+                    }
+                    line.qty = (line.qty != null ? line.qty : 0) + operation.quantity();
+                    line.price = product.getPrice();
+                }
+                case UPDATE -> {
+                    validateQuantity(operation.quantity());
+                    if (line.qty == null) {
+                        throw new IllegalArgumentException("장바구니 항목을 찾을 수 없습니다: " + operation.productId());
+                    }
+                    line.qty = operation.quantity();
+                }
+                case REMOVE -> line.qty = null;
+            }
+        }
+
+        List<CartItem> inserts = new ArrayList<>();
+        List<Long> deletes = new ArrayList<>();
+        lines.forEach((productId, line) -> {
+            if (line.item == null) {
+                if (line.qty != null) {
+                    inserts.add(CartItem.create(cart.getId(), productId, line.qty, line.price));
+                }
+            } else if (line.qty == null) {
+                deletes.add(line.item.getId());
+            } else {
+                // 영속 엔티티 변경 → flush 시 배치 UPDATE
+                if (!line.qty.equals(line.item.getQty())) {
+                    line.item.changeQuantity(line.qty);
+                }
+                if (line.price.compareTo(line.item.getUnitPriceSnapshot()) != 0) {
+                    line.item.updatePriceSnapshot(line.price);
+                }
+            }
+        });
+        cartItemRepository.insertAll(inserts);
+        cartItemRepository.deleteAllById(deletes); // 변경분 flush 후 삭제
+
+        return CartView.of(cart, cartItemRepository.findLineViewsByCartId(cart.getId()));
+    }
+
+    public List<GuestCartItem> getGuestCartItems(String guestToken) {
+        return guestCartStore.getItems(guestToken);
+    }
+
+    /**
+     * 비회원 장바구니 담기 (저장 방식은 GuestCartStore 설정에 따름)
+     */
+    public void addGuestItem(String guestToken, Long productId, Integer quantity) {
+        validateQuantity(quantity);
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
+        if (!product.hasStock(quantity)) {
+            throw new IllegalStateException("재고가 부족합니다.");
+        }
+        guestCartStore.addItem(guestToken, productId, quantity, product.getPrice());
+    }
+
+    public void updateGuestItemQuantity(String guestToken, Long productId, Integer quantity) {
+        validateQuantity(quantity);
+        guestCartStore.changeQuantity(guestToken, productId, quantity);
+    }
+
+    public void removeGuestItem(String guestToken, Long productId) {
+        guestCartStore.removeItem(guestToken, productId);
+    }
+
+    /**
+     * 비회원 주문 준비 (메모리 장바구니는 이 시점에 DB에 기록)
+     * @return 주문 생성에 사용할 cart ID
+     */
+    @Transactional
+    public Long checkoutGuestCart(String guestToken) {
+        return guestCartStore.persist(guestToken);
+    }
+
+    /**
+     * 로그인 시 비회원 장바구니를 회원 장바구니로 병합 (같은 상품은 수량 합산)
+     */
+    @Transactional
+    public CartView mergeGuestCart(String guestToken, Long userId) {
+        List<GuestCartItem> items = guestCartStore.getItems(guestToken);
+        if (items.isEmpty()) {
+            return getCartView(userId);
+        }
+        CartView merged = applyOperations(userId, items.stream()
+                .map(item -> new CartOperation(CartOperationType.ADD, item.productId(), item.qty()))
+                .collect(Collectors.toList()));
+        guestCartStore.discard(guestToken);
+        return merged;
+    }
+
+    private void validateQuantity(Integer quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new IllegalArgumentException("수량은 1 이상이어야 합니다.");
+        }
+    }
+
+    /**
+     * 일괄 변경 중인 상품별 상태 (qty가 null이면 장바구니에 없음)
+     */
+    private static class CartLine {
+        private final CartItem item;
+        private Integer qty;
+        private BigDecimal price;
+
+        private CartLine(CartItem item) {
+            this.item = item;
+            this.qty = item != null ? item.getQty() : null;
+            this.price = item != null ? item.getUnitPriceSnapshot() : null;
+        }
+    }
+
     @Transactional
     public CartItem updateItemQuantity(Long itemId, Integer quantity) {
         CartItem item = cartItemRepository.findById(itemId)
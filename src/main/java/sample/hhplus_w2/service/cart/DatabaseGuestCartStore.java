@@ -0,0 +1,98 @@
+package sample.hhplus_w2.service.cart;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import sample.hhplus_w2.domain.cart.Cart;
+import sample.hhplus_w2.domain.cart.CartItem;
+import sample.hhplus_w2.domain.cart.CartStatus;
+import sample.hhplus_w2.domain.cart.GuestCartItem;
+import sample.hhplus_w2.repository.cart.CartItemRepository;
+import sample.hhplus_w2.repository.cart.CartRepository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 비회원 장바구니 DB 저장소 (변경마다 cart/cart_item에 즉시 기록)
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.cart", name = "guest-store", havingValue = "DATABASE", matchIfMissing = true)
+public class DatabaseGuestCartStore implements GuestCartStore {
+
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+
+    public DatabaseGuestCartStore(CartRepository cartRepository, CartItemRepository cartItemRepository) {
+        this.cartRepository = cartRepository;
+        this.cartItemRepository = cartItemRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<GuestCartItem> getItems(String guestToken) {
+        return findCart(guestToken)
+                .map(cart -> cartItemRepository.findByCartId(cart.getId()).stream()
+                        .map(item -> new GuestCartItem(item.getProductId(), item.getQty(), item.getUnitPriceSnapshot()))
+                        .collect(Collectors.toList()))
+                .orElseGet(List::of);
+    }
+
+    @Override
+    @Transactional
+    public void addItem(String guestToken, Long productId, int quantity, BigDecimal unitPrice) {
+        Cart cart = findCart(guestToken).orElseGet(() -> cartRepository.save(Cart.createForGuest(guestToken)));
+        Optional<CartItem> existing = cartItemRepository.findByCartIdAndProductId(cart.getId(), productId);
+        if (existing.isPresent()) {
+            existing.get().increaseQuantity(quantity);
+            existing.get().updatePriceSnapshot(unitPrice);
+            cartItemRepository.save(existing.get());
+        } else {
+            cartItemRepository.save(CartItem.create(cart.getId(), productId, quantity, unitPrice));
+        }
+    }
+
+    @Override
+    @Transactional
+    public void changeQuantity(String guestToken, Long productId, int quantity) {
+        CartItem item = findItem(guestToken, productId);
+        item.changeQuantity(quantity);
+        cartItemRepository.save(item);
+    }
+
+    @Override
+    @Transactional
+    public void removeItem(String guestToken, Long productId) {
+        cartItemRepository.delete(findItem(guestToken, productId).getId());
+    }
+
+    @Override
+    @Transactional
+    public Long persist(String guestToken) {
+        return findCart(guestToken)
+                .orElseThrow(() -> new IllegalArgumentException("장바구니를 찾을 수 없습니다: " + guestToken))
+                .getId();
+    }
+
+    @Override
+    @Transactional
+    public void discard(String guestToken) {
+        findCart(guestToken).ifPresent(cart -> {
+            cartItemRepository.deleteByCartId(cart.getId());
+            cart.markAsAbandoned();
+            cartRepository.save(cart);
+        });
+    }
+
+    private Optional<Cart> findCart(String guestToken) {
+        return cartRepository.findByGuestTokenAndStatus(guestToken, CartStatus.ACTIVE);
+    }
+
+    private CartItem findItem(String guestToken, Long productId) {
+        return findCart(guestToken)
+                .flatMap(cart -> cartItemRepository.findByCartIdAndProductId(cart.getId(), productId))
+                .orElseThrow(() -> new IllegalArgumentException("장바구니 항목을 찾을 수 없습니다: " + productId));
+    }
+}
@@ -0,0 +1,35 @@
+package sample.hhplus_w2.service.cart;
+
+import sample.hhplus_w2.domain.cart.GuestCartItem;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 비회원 장바구니 저장소
+ * app.cart.guest-store 설정으로 DB(DATABASE, 기본값) 또는 메모리(MEMORY) 저장 방식을 선택한다.
+ */
+public interface GuestCartStore {
+
+    List<GuestCartItem> getItems(String guestToken);
+
+    /**
+     * 항목 담기 (이미 담긴 상품이면 수량 증가 + 가격 스냅샷 갱신)
+     */
+    void addItem(String guestToken, Long productId, int quantity, BigDecimal unitPrice);
+
+    void changeQuantity(String guestToken, Long productId, int quantity);
+
+    void removeItem(String guestToken, Long productId);
+
+    /**
+     * 주문용 DB 장바구니 확보 (주문 생성은 cart_item 기준)
+     * @return cart ID
+     */
+    Long persist(String guestToken);
+
+    /**
+     * 장바구니 폐기 (회원 장바구니로 병합한 뒤 호출)
+     */
+    void discard(String guestToken);
+}
@@ -0,0 +1,141 @@
+package sample.hhplus_w2.service.cart;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import sample.hhplus_w2.common.TransactionHooks;
+import sample.hhplus_w2.domain.cart.Cart;
+import sample.hhplus_w2.domain.cart.CartItem;
+import sample.hhplus_w2.domain.cart.GuestCartItem;
+import sample.hhplus_w2.repository.cart.CartItemRepository;
+import sample.hhplus_w2.repository.cart.CartRepository;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 비회원 장바구니 메모리 저장소 (write-behind)
+ * 담기/수정/삭제는 메모리에만 반영하고, 주문(persist) 시점에만 cart/cart_item에 기록한다.
+ * 최대 장바구니 수와 마지막 접근 기준 TTL을 넘으면 DB를 거치지 않고 제거된다. (대부분의 방치 장바구니)
+ * 재기동 시 메모리 장바구니는 유실된다. (단일 인스턴스 기준)
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.cart", name = "guest-store", havingValue = "MEMORY")
+public class InMemoryGuestCartStore implements GuestCartStore {
+
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final Cache<String, GuestCart> carts;
+    private final int maxItemsPerCart;
+
+    public InMemoryGuestCartStore(CartRepository cartRepository,
+                                  CartItemRepository cartItemRepository,
+                                  @Value("${app.cart.memory.maximum-size:100000}") long maximumSize,
+                                  @Value("${app.cart.memory.ttl-minutes:120}") long ttlMinutes,
+                                  @Value("${app.cart.memory.max-items-per-cart:100}") int maxItemsPerCart) {
+        this.cartRepository = cartRepository;
+        this.cartItemRepository = cartItemRepository;
+        this.carts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(Duration.ofMinutes(ttlMinutes))
+                .build();
+        this.maxItemsPerCart = maxItemsPerCart;
+    }
+
+    @Override
+    public List<GuestCartItem> getItems(String guestToken) {
+        GuestCart cart = carts.getIfPresent(guestToken);
+        return cart != null ? cart.items() : List.of();
+    }
+
+    @Override
+    public void addItem(String guestToken, Long productId, int quantity, BigDecimal unitPrice) {
+        GuestCart cart = carts.get(guestToken, token -> new GuestCart());
+        synchronized (cart) {
+            GuestCartItem existing = cart.items.get(productId);
+            if (existing == null && cart.items.size() >= maxItemsPerCart) {
+                throw new IllegalStateException("장바구니에 담을 수 있는 상품은 최대 " + maxItemsPerCart + "개입니다.");
+            }
+            int qty = existing != null ? existing.qty() + quantity : quantity;
+            cart.items.put(productId, new GuestCartItem(productId, qty, unitPrice));
+        }
+    }
+
+    @Override
+    public void changeQuantity(String guestToken, Long productId, int quantity) {
+        GuestCart cart = carts.getIfPresent(guestToken);
+        if (cart == null) {
+            throw new IllegalArgumentException("장바구니 항목을 찾을 수 없습니다: " + productId);
+        }
+        synchronized (cart) {
+            GuestCartItem existing = cart.items.get(productId);
+            if (existing == null) {
+                throw new IllegalArgumentException("장바구니 항목을 찾을 수 없습니다: " + productId);
+            }
+            cart.items.put(productId, new GuestCartItem(productId, quantity, existing.unitPriceSnapshot()));
+        }
+    }
+
+    @Override
+    public void removeItem(String guestToken, Long productId) {
+        GuestCart cart = carts.getIfPresent(guestToken);
+        if (cart == null) {
+            throw new IllegalArgumentException("장바구니 항목을 찾을 수 없습니다: " + productId);
+        }
+        synchronized (cart) {
+            if (cart.items.remove(productId) == null) {
+                throw new IllegalArgumentException("장바구니 항목을 찾을 수 없습니다: " + productId);
+            }
+        }
+    }
+
+    /**
+     * 메모리 장바구니를 DB에 기록 (cart 1건 + cart_item 다중 행 INSERT)
+     * 커밋 후 메모리에서 제거하므로 롤백되면 메모리 장바구니가 그대로 남는다.
+     */
+    @Override
+    @Transactional
+    public Long persist(String guestToken) {
+        List<GuestCartItem> items = getItems(guestToken);
+        if (items.isEmpty()) {
+            throw new IllegalArgumentException("장바구니가 비어있습니다.");
+        }
+        Cart cart = cartRepository.save(Cart.createForGuest(guestToken));
+        cartItemRepository.insertAll(items.stream()
+                .map(item -> CartItem.create(cart.getId(), item.productId(), item.qty(), item.unitPriceSnapshot()))
+                .collect(Collectors.toList()));
+        TransactionHooks.afterCommit(() -> carts.invalidate(guestToken));
+        return cart.getId();
+    }
+
+    /**
+     * 커밋 후 제거 (병합 트랜잭션이 롤백되면 유지)
+     */
+    @Override
+    public void discard(String guestToken) {
+        TransactionHooks.afterCommit(() -> carts.invalidate(guestToken));
+    }
+
+    /**
+     * 메모리에 보관 중인 장바구니 수 (추정치)
+     */
+    public long size() {
+        return carts.estimatedSize();
+    }
+
+    private static class GuestCart {
+        private final Map<Long, GuestCartItem> items = new LinkedHashMap<>();
+
+        private synchronized List<GuestCartItem> items() {
+            return new ArrayList<>(items.values());
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package sample.hhplus_w2.service.coupon;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.hhplus_w2.common.TransactionHooks;
+import sample.hhplus_w2.domain.coupon.CouponGrantJob;
+import sample.hhplus_w2.domain.coupon.CouponGrantJobStatus;
+import sample.hhplus_w2.domain.coupon.CouponGrantScope;
+import sample.hhplus_w2.domain.coupon.CouponUser;
+import sample.hhplus_w2.repository.coupon.CouponGrantJobRepository;
+import sample.hhplus_w2.repository.coupon.CouponGrantTargetRepository;
+import sample.hhplus_w2.repository.coupon.CouponRepository;
+import sample.hhplus_w2.repository.coupon.CouponUserCountRepository;
+import sample.hhplus_w2.repository.coupon.CouponUserRepository;
+import sample.hhplus_w2.repository.user.UserRepository;
+import sample.hhplus_w2.service.lease.JobLeaseService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 쿠폰 일괄 지급 서비스 (캠페인 대상 지급)
+ * 대상 사용자를 ID 오름차순 청크로 읽어, 청크마다 하나의 트랜잭션에서
+ * 기발급자를 건너뛰는 다중 행 INSERT + issued 1회 증가 + 체크포인트 기록을 처리한다.
+ *
+ * 작업은 스케줄러가 실행하며 작업별 임대(job_lease)를 가진 노드만 진행한다.
+ * 청크 트랜잭션은 작업 행을 잠그고 체크포인트가 직전에 읽은 값과 같을 때만 진행하므로,
+ * 임대가 만료된 뒤에도 청크를 처리 중인 노드가 있어도 같은 청크가 두 번 지급되지 않는다.
+ * 노드가 중단되면 임대 만료 후 다른 노드가 체크포인트부터 이어서 실행하고,
+ * 수량 소진 등으로 실패한 작업은 재개 요청 시 체크포인트부터 다시 실행한다.
+ */
+@Slf4j
+@Service
+public class CouponGrantService {
+
+    private static final String LEASE_PREFIX = "coupon-grant-";
+
+    private final CouponGrantJobRepository jobRepository;
+    private final CouponGrantTargetRepository targetRepository;
+    private final CouponRepository couponRepository;
+    private final CouponUserRepository couponUserRepository;
+    private final CouponUserCountRepository couponUserCountRepository;
+    private final UserRepository userRepository;
+    private final CouponPolicyCache couponPolicyCache;
+    private final CouponIssueGate couponIssueGate;
+    private final JobLeaseService jobLeaseService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration leaseDuration;
+
+    public CouponGrantService(CouponGrantJobRepository jobRepository,
+                              CouponGrantTargetRepository targetRepository,
+                              CouponRepository couponRepository,
+                              CouponUserRepository couponUserRepository,
+                              CouponUserCountRepository couponUserCountRepository,
+                              UserRepository userRepository,
+                              CouponPolicyCache couponPolicyCache,
+                              CouponIssueGate couponIssueGate,
+                              JobLeaseService jobLeaseService,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.coupon.grant.chunk-size:1000}") int chunkSize,
+                              @Value("${app.coupon.grant.lease-seconds:60}") long leaseSeconds) {
+        this.jobRepository = jobRepository;
+        this.targetRepository = targetRepository;
+        this.couponRepository = couponRepository;
+        this.couponUserRepository = couponUserRepository;
+        this.couponUserCountRepository = couponUserCountRepository;
+        this.userRepository = userRepository;
+        this.couponPolicyCache = couponPolicyCache;
+        this.couponIssueGate = couponIssueGate;
+        this.jobLeaseService = jobLeaseService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+    }
+
+    /**
+     * 지급 작업 등록 (실행은 스케줄러가 진행)
+     * 사용자 목록은 중복 제거 후 정렬해 저장하므로 재개 시에도 같은 순서로 처리된다.
+     * @param userIds USER_LIST일 때만 사용
+     */
+    @Transactional
+    public CouponGrantJob createJob(Long couponId, CouponGrantScope scope, List<Long> userIds) {
+        couponRepository.findById(couponId)
+                .orElseThrow(() -> new IllegalArgumentException("쿠폰을 찾을 수 없습니다: " + couponId));
+
+        if (CouponGrantScope.ALL_ACTIVE.equals(scope)) {
+            return jobRepository.save(CouponGrantJob.create(couponId, scope, (int) userRepository.countActive()));
+        }
+
+        List<Long> targets = userIds == null ? List.of() : userIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+        if (targets.isEmpty()) {
+            throw new IllegalArgumentException("지급 대상 사용자를 입력해주세요.");
+        }
+        CouponGrantJob job = jobRepository.save(CouponGrantJob.create(couponId, scope, targets.size()));
+        targetRepository.insertAll(job.getId(), targets);
+        return job;
+    }
+
+    @Transactional(readOnly = true)
+    public CouponGrantJob getJob(Long jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("지급 작업을 찾을 수 없습니다: " + jobId));
+    }
+
+    /**
+     * 실패한 작업 재개 (체크포인트 다음 사용자부터 다시 실행)
+     */
+    @Transactional
+    public CouponGrantJob resume(Long jobId) {
+        CouponGrantJob job = getJob(jobId);
+        job.resume();
+        return jobRepository.save(job);
+    }
+
+    /**
+     * 대기/중단된 작업 실행
+     */
+    @Scheduled(fixedDelayString = "${app.coupon.grant.interval-millis:1000}")
+    public void runPending() {
+        List<CouponGrantJob> jobs = jobRepository.findByStatusIn(
+                List.of(CouponGrantJobStatus.PENDING, CouponGrantJobStatus.RUNNING));
+        for (CouponGrantJob job : jobs) {
+            try {
+                run(job.getId());
+            } catch (RuntimeException e) {
+                log.warn("쿠폰 지급 작업 실행 실패 - jobId={}", job.getId(), e);
+            }
+        }
+    }
+
+    /**
+     * 작업 실행 (임대를 획득한 경우에만, 마지막 체크포인트부터)
+     * 청크마다 임대를 연장하며, 임대를 잃거나 다른 실행자가 체크포인트를 옮겼으면 중단한다.
+     * @return 이번 실행에서 처리한 청크 수
+     */
+    public int run(Long jobId) {
+        String leaseName = LEASE_PREFIX + jobId;
+        if (!jobLeaseService.tryAcquire(leaseName, leaseDuration)) {
+            return 0;
+        }
+        try {
+            Long started = transactionTemplate.execute(status -> {
+                CouponGrantJob job = lockJob(jobId);
+                if (job.isFinished()) {
+                    return null;
+                }
+                job.start();
+                jobRepository.save(job);
+                return job.getLastUserId();
+            });
+            if (started == null) {
+                return 0;
+            }
+
+            int chunks = 0;
+            Long checkpoint = started;
+            try {
+                while (true) {
+                    Long expected = checkpoint;
+                    checkpoint = transactionTemplate.execute(status -> grantNextChunk(jobId, expected));
+                    if (checkpoint == null) {
+                        break;
+                    }
+                    chunks++;
+                    if (!jobLeaseService.tryAcquire(leaseName, leaseDuration)) {
+                        log.info("쿠폰 지급 작업 임대 상실 - jobId={}, chunks={}", jobId, chunks);
+                        return chunks;
+                    }
+                }
+            } catch (RuntimeException e) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    CouponGrantJob job = getJob(jobId);
+                    job.fail(e.getMessage());
+                    jobRepository.save(job);
+                });
+                log.warn("쿠폰 지급 작업 실패 - jobId={}, 체크포인트 userId={}", jobId, getJob(jobId).getLastUserId(), e);
+                return chunks;
+            }
+
+            CouponGrantJob job = getJob(jobId);
+            if (!job.isFinished()) {
+                return chunks;
+            }
+            log.info("쿠폰 지급 작업 완료 - jobId={}, couponId={}, processed={}, granted={}, skipped={}",
+                    jobId, job.getCouponId(), job.getProcessed(), job.getGranted(), job.getSkipped());
+            return chunks;
+        } finally {
+            jobLeaseService.release(leaseName);
+        }
+    }
+
+    /**
+     * 청크 1개 지급 (호출 측 트랜잭션 안에서 실행)
+     * 작업 행을 잠근 뒤 체크포인트가 expectedLastUserId와 다르면 다른 실행자가 진행한 것이므로 중단한다.
+     * @return 이동한 체크포인트 (처리할 대상이 없어 작업을 완료 처리했거나 중단하면 null)
+     */
+    private Long grantNextChunk(Long jobId, Long expectedLastUserId) {
+        CouponGrantJob job = lockJob(jobId);
+        if (!CouponGrantJobStatus.RUNNING.equals(job.getStatus())
+                || !Objects.equals(job.getLastUserId(), expectedLastUserId)) {
+            log.info("쿠폰 지급 작업 중단 - 다른 실행자가 진행 (jobId={}, expected={}, checkpoint={})",
+                    jobId, expectedLastUserId, job.getLastUserId());
+            return null;
+        }
+        List<Long> userIds = CouponGrantScope.ALL_ACTIVE.equals(job.getScope())
+                ? userRepository.findActiveIdsAfter(job.getLastUserId(), chunkSize)
+                : targetRepository.findUserIdsAfter(jobId, job.getLastUserId(), chunkSize);
+        if (userIds.isEmpty()) {
+            job.complete();
+            jobRepository.save(job);
+            return null;
+        }
+
+        Long couponId = job.getCouponId();
+        if (!couponPolicyCache.get(couponId).isIssuable(LocalDateTime.now())) {
+            throw new IllegalStateException("지급 불가능한 쿠폰입니다.");
+        }
+
+        List<Long> granted = couponUserCountRepository.insertGranted(couponId, jobId, userIds);
+        if (!granted.isEmpty()) {
+            if (!couponRepository.increaseIssued(couponId, granted.size())) {
+                throw new IllegalStateException("쿠폰 발급 가능 수량이 부족합니다.");
+            }
+            couponUserRepository.insertAll(granted.stream()
+                    .map(userId -> CouponUser.issue(couponId, userId))
+                    .collect(Collectors.toList()));
+            // 게이트의 잔여 수량/사용자 수량이 달라졌으므로 다음 발급 요청 시 DB 기준으로 다시 초기화
+            TransactionHooks.afterCommit(() -> couponIssueGate.close(couponId));
+        }
+
+        job.advance(userIds.get(userIds.size() - 1), userIds.size(), granted.size());
+        jobRepository.save(job);
+        return job.getLastUserId();
+    }
+
+    private CouponGrantJob lockJob(Long jobId) {
+        return jobRepository.findByIdForUpdate(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("지급 작업을 찾을 수 없습니다: " + jobId));
+    }
+}
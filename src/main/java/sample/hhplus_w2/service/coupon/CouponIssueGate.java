@@ -0,0 +1,162 @@
+package sample.hhplus_w2.service.coupon;
+
+import org.springframework.stereotype.Component;
+import sample.hhplus_w2.domain.coupon.PerUserLimitExceededException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 선착순 쿠폰 발급 입장 게이트
+ * 쿠폰별 잔여 수량 카운터와 사용자별 발급 수량 카운터를 메모리에 유지하고,
+ * 수량 소진/1인당 제한 초과 요청은 DB 접근 없이 즉시 거절한다.
+ * 사용자 카운터는 CAS로만 증감하므로 같은 사용자의 동시 요청끼리도 잠금 없이 처리된다.
+ * (단일 인스턴스 기준 - 다중 인스턴스 환경에서는 공유 저장소 필요)
+ */
+@Component
+public class CouponIssueGate {
+
+    private final Map<Long, Gate> gates = new ConcurrentHashMap<>();
+
+    /**
+     * 게이트 초기화 (쿠폰 공개 시점)
+     * @param remaining 잔여 발급 수량 (totalIssuable - issued)
+     * @param perUserLimit 1인당 발급 제한
+     * @param issuedCounts 사용자별 기발급 수량
+     */
+    public void open(Long couponId, int remaining, int perUserLimit, Map<Long, Integer> issuedCounts) {
+        gates.put(couponId, new Gate(remaining, perUserLimit, issuedCounts));
+    }
+
+    /**
+     * 게이트가 없으면 seed 함수로 초기화 (재기동 등으로 게이트가 비어있는 경우)
+     * 동일 쿠폰에 대해 seed는 한 번만 실행된다.
+     */
+    public void openIfAbsent(Long couponId, Function<Long, GateSeed> seed) {
+        gates.computeIfAbsent(couponId, id -> {
+            GateSeed s = seed.apply(id);
+            return new Gate(s.remaining(), s.perUserLimit(), s.issuedCounts());
+        });
+    }
+
+    /**
+     * 게이트 제거 (쿠폰 일시정지/만료 시)
+     */
+    public void close(Long couponId) {
+        gates.remove(couponId);
+    }
+
+    public boolean isOpen(Long couponId) {
+        return gates.containsKey(couponId);
+    }
+
+    /**
+     * 입장 시도
+     * 1인당 제한 → 잔여 수량 순으로 검사하며, 실패 시 상태를 되돌린다.
+     */
+    public void admit(Long couponId, Long userId) {
+        Gate gate = gates.get(couponId);
+        if (gate == null) {
+            throw new IllegalStateException("발급 불가능한 쿠폰입니다.");
+        }
+        AtomicInteger issued = gate.counter(userId);
+        if (!incrementIfBelow(issued, gate.perUserLimit)) {
+            throw new PerUserLimitExceededException(gate.perUserLimit);
+        }
+        if (!gate.tryAcquire()) {
+            issued.decrementAndGet();
+            throw new IllegalStateException("발급 불가능한 쿠폰입니다. (수량 소진)");
+        }
+    }
+
+    /**
+     * 입장 취소 (DB 반영 실패 시 수량과 사용자 발급 수량을 반환)
+     */
+    public void cancel(Long couponId, Long userId) {
+        Gate gate = gates.get(couponId);
+        if (gate == null) {
+            return;
+        }
+        gate.remaining.incrementAndGet();
+        AtomicInteger issued = gate.issuedByUser.get(userId);
+        if (issued != null) {
+            issued.decrementAndGet();
+        }
+    }
+
+    /**
+     * 수량만 반환 (DB상 이미 제한만큼 발급된 사용자인 경우 사용자 발급 수량은 유지)
+     */
+    public void releaseQuantity(Long couponId) {
+        Gate gate = gates.get(couponId);
+        if (gate != null) {
+            gate.remaining.incrementAndGet();
+        }
+    }
+
+    /**
+     * 잔여 수량 조회 (게이트가 없으면 -1)
+     */
+    public int getRemaining(Long couponId) {
+        Gate gate = gates.get(couponId);
+        return gate != null ? gate.remaining.get() : -1;
+    }
+
+    /**
+     * 게이트 초기값
+     */
+    public record GateSeed(int remaining, int perUserLimit, Map<Long, Integer> issuedCounts) {
+    }
+
+    /**
+     * 제한 미만일 때만 1 증가 (CAS)
+     */
+    private static boolean incrementIfBelow(AtomicInteger counter, int limit) {
+        while (true) {
+            int current = counter.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (counter.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private static class Gate {
+        private final AtomicInteger remaining;
+        private final int perUserLimit;
+        private final Map<Long, AtomicInteger> issuedByUser = new ConcurrentHashMap<>();
+
+        private Gate(int remaining, int perUserLimit, Map<Long, Integer> issuedCounts) {
+            this.remaining = new AtomicInteger(Math.max(remaining, 0));
+            this.perUserLimit = Math.max(perUserLimit, 1);
+            issuedCounts.forEach((userId, count) -> issuedByUser.put(userId, new AtomicInteger(count)));
+        }
+
+        /**
+         * 사용자 카운터 (이미 있으면 잠금 없는 get으로 반환)
+         */
+        private AtomicInteger counter(Long userId) {
+            AtomicInteger counter = issuedByUser.get(userId);
+            return counter != null ? counter : issuedByUser.computeIfAbsent(userId, id -> new AtomicInteger());
+        }
+
+        /**
+         * 잔여 수량 1 차감 (0 미만으로 내려가지 않도록 CAS)
+         */
+        private boolean tryAcquire() {
+            while (true) {
+                int current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+                if (remaining.compareAndSet(current, current - 1)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package sample.hhplus_w2.service.coupon;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 비동기 쿠폰 발급 큐
+ * 게이트를 통과한 요청에 즉시 티켓을 발급하고,
+ * 쿠폰별 단일 컨슈머가 큐를 배치 단위로 비우며 일괄 발급한다.
+ */
+@Component
+public class CouponIssueQueue {
+
+    private final CouponService couponService;
+    private final int batchSize;
+    private final long ticketRetentionMillis;
+
+    private final Map<Long, CouponQueue> queues = new ConcurrentHashMap<>();
+    private final Map<String, CouponIssueTicket> tickets = new ConcurrentHashMap<>();
+    private final ExecutorService consumers = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "coupon-issue-consumer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CouponIssueQueue(CouponService couponService,
+                            @Value("${app.coupon.issue-queue.batch-size:500}") int batchSize,
+                            @Value("${app.coupon.issue-queue.ticket-retention-millis:600000}") long ticketRetentionMillis) {
+        this.couponService = couponService;
+        this.batchSize = batchSize;
+        this.ticketRetentionMillis = ticketRetentionMillis;
+    }
+
+    /**
+     * 발급 요청 등록
+     * 수량 소진/중복 요청은 티켓 없이 즉시 거절된다.
+     */
+    public CouponIssueTicket enqueue(Long couponId, Long userId) {
+        couponService.admitIssue(couponId, userId);
+
+        CouponIssueTicket ticket = new CouponIssueTicket(couponId, userId);
+        tickets.put(ticket.getId(), ticket);
+
+        CouponQueue queue = queues.computeIfAbsent(couponId, id -> new CouponQueue());
+        queue.pending.offer(ticket);
+        scheduleDrain(couponId, queue);
+        return ticket;
+    }
+
+    public Optional<CouponIssueTicket> findTicket(String ticketId) {
+        return Optional.ofNullable(tickets.get(ticketId));
+    }
+
+    /**
+     * 대기 중인 요청 수
+     */
+    public int getPendingCount(Long couponId) {
+        CouponQueue queue = queues.get(couponId);
+        return queue != null ? queue.pending.size() : 0;
+    }
+
+    private void scheduleDrain(Long couponId, CouponQueue queue) {
+        if (queue.draining.compareAndSet(false, true)) {
+            consumers.execute(() -> drain(couponId, queue));
+        }
+    }
+
+    /**
+     * 큐를 배치 단위로 비운다. 쿠폰당 하나의 컨슈머만 실행된다.
+     */
+    private void drain(Long couponId, CouponQueue queue) {
+        while (true) {
+            List<CouponIssueTicket> batch = new ArrayList<>(batchSize);
+            queue.pending.drainTo(batch, batchSize);
+
+            if (batch.isEmpty()) {
+                queue.draining.set(false);
+                // 플래그 해제 직전에 들어온 요청이 있으면 다시 점유
+                if (queue.pending.isEmpty() || !queue.draining.compareAndSet(false, true)) {
+                    purgeCompletedTickets();
+                    return;
+                }
+                continue;
+            }
+
+            process(couponId, batch);
+        }
+    }
+
+    private void process(Long couponId, List<CouponIssueTicket> batch) {
+        List<Long> userIds = batch.stream()
+                .map(CouponIssueTicket::getUserId)
+                .collect(Collectors.toList());
+        try {
+            Map<Long, String> failures = couponService.issueAdmittedBatch(couponId, userIds);
+            for (CouponIssueTicket ticket : batch) {
+                String failure = failures.get(ticket.getUserId());
+                if (failure == null) {
+                    ticket.complete();
+                } else {
+                    ticket.fail(failure);
+                }
+            }
+        } catch (RuntimeException e) {
+            batch.forEach(ticket -> ticket.fail(e.getMessage()));
+        }
+    }
+
+    private void purgeCompletedTickets() {
+        LocalDateTime threshold = LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(ticketRetentionMillis));
+        tickets.values().removeIf(ticket -> ticket.isCompleted() && ticket.getCompletedAt().isBefore(threshold));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        consumers.shutdown();
+        consumers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private static class CouponQueue {
+        private final LinkedBlockingQueue<CouponIssueTicket> pending = new LinkedBlockingQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+    }
+}
@@ -0,0 +1,90 @@
+package sample.hhplus_w2.service.coupon;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 쿠폰 발급 요청 티켓
+ * 큐 컨슈머가 처리 결과를 기록하고, 호출자는 티켓 ID로 상태를 조회한다.
+ */
+public class CouponIssueTicket {
+
+    public enum Status {
+        PENDING,    // 발급 대기
+        ISSUED,     // 발급 완료
+        FAILED      // 발급 실패
+    }
+
+    private final String id;
+    private final Long couponId;
+    private final Long userId;
+    private final LocalDateTime requestedAt;
+    private final CompletableFuture<CouponIssueTicket> completion = new CompletableFuture<>();
+
+    private volatile Status status;
+    private volatile String message;
+    private volatile LocalDateTime completedAt;
+
+    CouponIssueTicket(Long couponId, Long userId) {
+        this.id = UUID.randomUUID().toString();
+        this.couponId = couponId;
+        this.userId = userId;
+        this.requestedAt = LocalDateTime.now();
+        this.status = Status.PENDING;
+    }
+
+    void complete() {
+        finish(Status.ISSUED, null);
+    }
+
+    void fail(String message) {
+        finish(Status.FAILED, message);
+    }
+
+    private void finish(Status status, String message) {
+        this.message = message;
+        this.completedAt = LocalDateTime.now();
+        this.status = status;
+        completion.complete(this);
+    }
+
+    /**
+     * 처리 완료 시점에 완료되는 Future (완료 대기용 사본 반환)
+     */
+    public CompletableFuture<CouponIssueTicket> whenCompleted() {
+        return completion.copy();
+    }
+
+    public boolean isCompleted() {
+        return status != Status.PENDING;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Long getCouponId() {
+        return couponId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public LocalDateTime getRequestedAt() {
+        return requestedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+}
@@ -0,0 +1,325 @@
+package sample.hhplus_w2.service.coupon;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import sample.hhplus_w2.common.TransactionHooks;
+import sample.hhplus_w2.domain.coupon.CouponUserChangedEvent;
+import sample.hhplus_w2.domain.coupon.CouponUserStatus;
+import sample.hhplus_w2.domain.coupon.HeldCoupon;
+import sample.hhplus_w2.repository.coupon.CouponUserRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 쿠폰 보유 색인 (메모리 읽기 모델)
+ * 쿠폰별 발급 사용자 비트맵과 사용자별 보유 쿠폰 목록을 유지해
+ * "이 사용자가 쿠폰 X를 받았는가"와 "사용자의 보유 쿠폰 목록"을 SQL 없이 응답한다.
+ *
+ * 기동 시 coupon_user를 스트리밍으로 적재하고, CouponUserRepository의 쓰기가 발행하는
+ * CouponUserChangedEvent를 커밋 후 반영한다. 사용 상태는 ISSUED → USED/EXPIRED로만 진행하고,
+ * 주문 만료로 인한 사용 취소(USED → ISSUED)는 같은 주문에 사용된 항목에만 반영하므로
+ * 재적재 중 들어온 변경을 다시 반영해도 이전 상태로 되돌아가지 않는다.
+ * 적재가 끝나기 전(isReady=false)에는 호출 측이 DB 조회로 대체해야 한다. (단일 인스턴스 기준)
+ */
+@Slf4j
+@Component
+public class CouponMembershipIndex {
+
+    private final CouponUserRepository couponUserRepository;
+    private final int fetchSize;
+
+    private volatile Store store = new Store();
+    private volatile boolean ready;
+
+    // 재적재 중 들어온 변경 (교체 후 다시 반영)
+    private List<CouponUserChangedEvent> changedDuringRebuild;
+
+    public CouponMembershipIndex(CouponUserRepository couponUserRepository,
+                                 @Value("${app.coupon.membership.fetch-size:1000}") int fetchSize) {
+        this.couponUserRepository = couponUserRepository;
+        this.fetchSize = fetchSize;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 쿠폰 발급 여부 (상태 무관)
+     */
+    public boolean hasIssued(Long couponId, Long userId) {
+        return store.contains(couponId, userId);
+    }
+
+    /**
+     * 쿠폰을 발급받은 사용자 ID (오름차순, 발급 게이트 초기화용)
+     */
+    public List<Long> getIssuedUserIds(Long couponId) {
+        return store.userIds(couponId);
+    }
+
+    public long countIssued(Long couponId) {
+        return store.count(couponId);
+    }
+
+    /**
+     * 사용자별 발급 수량 (1인당 제한 게이트 초기화용)
+     */
+    public Map<Long, Integer> getIssuedCounts(Long couponId) {
+        Store current = store;
+        Map<Long, Integer> counts = new HashMap<>();
+        for (Long userId : current.userIds(couponId)) {
+            int count = (int) current.held(userId).stream()
+                    .filter(coupon -> couponId.equals(coupon.couponId()))
+                    .count();
+            counts.put(userId, Math.max(count, 1));
+        }
+        return counts;
+    }
+
+    /**
+     * 사용자 보유 쿠폰 (최근 발급순)
+     */
+    public List<HeldCoupon> getHeldCoupons(Long userId) {
+        return store.held(userId);
+    }
+
+    public List<HeldCoupon> getHeldCoupons(Long userId, CouponUserStatus status) {
+        return store.held(userId).stream()
+                .filter(coupon -> status.equals(coupon.status()))
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+    }
+
+    /**
+     * 발급 쿠폰 변경 반영 (커밋 후)
+     */
+    @EventListener
+    public void onCouponUserChanged(CouponUserChangedEvent event) {
+        TransactionHooks.afterCommit(() -> apply(event));
+    }
+
+    public synchronized void apply(CouponUserChangedEvent event) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.add(event);
+        }
+        store.apply(event);
+    }
+
+    /**
+     * 전체 재적재
+     * 새 색인을 만드는 동안에도 기존 색인으로 응답하고, 완료 후 교체한다.
+     */
+    public void rebuild() {
+        synchronized (this) {
+            if (changedDuringRebuild != null) {
+                return; // 이미 재적재 중
+            }
+            changedDuringRebuild = new ArrayList<>();
+        }
+        try {
+            Store rebuilt = new Store();
+            couponUserRepository.scanHeldCoupons(fetchSize, rebuilt::put);
+            synchronized (this) {
+                List<CouponUserChangedEvent> changed = changedDuringRebuild;
+                changedDuringRebuild = null;
+                changed.forEach(rebuilt::apply);
+                store = rebuilt;
+                ready = true;
+            }
+            log.info("쿠폰 보유 색인 적재 - 쿠폰 {}개, 사용자 {}명, 비트맵 {}KB",
+                    rebuilt.holders.size(), rebuilt.heldByUser.size(), rebuilt.estimatedBytes() / 1024);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changedDuringRebuild = null;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 색인 저장소
+     * 비트맵은 쿠폰별 읽기/쓰기 잠금으로 보호하고, 사용자별 목록은 불변 리스트를 통째로 교체한다.
+     */
+    static final class Store {
+        private final Map<Long, Holders> holders = new ConcurrentHashMap<>();
+        private final Map<Long, List<HeldCoupon>> heldByUser = new ConcurrentHashMap<>();
+
+        boolean contains(Long couponId, Long userId) {
+            Holders h = holders.get(couponId);
+            return h != null && h.contains(userId);
+        }
+
+        long count(Long couponId) {
+            Holders h = holders.get(couponId);
+            return h != null ? h.count() : 0;
+        }
+
+        List<Long> userIds(Long couponId) {
+            Holders h = holders.get(couponId);
+            return h != null ? h.userIds() : List.of();
+        }
+
+        List<HeldCoupon> held(Long userId) {
+            return heldByUser.getOrDefault(userId, List.of());
+        }
+
+        void apply(CouponUserChangedEvent event) {
+            switch (event.type()) {
+                case SAVED -> event.coupons().forEach(this::put);
+                case USED -> event.coupons().forEach(this::markUsed);
+                case RESTORED -> event.coupons().forEach(this::markRestored);
+                case REMOVED -> event.coupons().forEach(this::remove);
+                case CLEARED -> {
+                    holders.clear();
+                    heldByUser.clear();
+                }
+            }
+        }
+
+        void put(HeldCoupon coupon) {
+            holders.computeIfAbsent(coupon.couponId(), id -> new Holders()).add(coupon.userId());
+            heldByUser.compute(coupon.userId(), (userId, current) -> upsert(current, coupon));
+        }
+
+        private void markUsed(HeldCoupon used) {
+            heldByUser.computeIfPresent(used.userId(), (userId, current) -> current.stream()
+                    .map(coupon -> coupon.id().equals(used.id()) && coupon.isUsable()
+                            ? coupon.withUsed(used.orderId(), used.usedAt())
+                            : coupon)
+                    .toList());
+        }
+
+        /**
+         * 사용 취소 (취소된 주문에 사용된 상태일 때만 - 이후 다른 주문에 다시 사용된 항목은 유지)
+         */
+        private void markRestored(HeldCoupon restored) {
+            heldByUser.computeIfPresent(restored.userId(), (userId, current) -> current.stream()
+                    .map(coupon -> coupon.id().equals(restored.id()) && !coupon.isUsable()
+                            && restored.orderId().equals(coupon.orderId())
+                            ? coupon.withRestored()
+                            : coupon)
+                    .toList());
+        }
+
+        private void remove(HeldCoupon removed) {
+            heldByUser.computeIfPresent(removed.userId(), (userId, current) -> {
+                List<HeldCoupon> remaining = current.stream()
+                        .filter(coupon -> !coupon.id().equals(removed.id()))
+                        .toList();
+                // 같은 쿠폰을 더 보유하고 있지 않을 때만 비트맵에서 제거
+                if (remaining.stream().noneMatch(coupon -> coupon.couponId().equals(removed.couponId()))) {
+                    Holders h = holders.get(removed.couponId());
+                    if (h != null) {
+                        h.remove(userId);
+                    }
+                }
+                return remaining.isEmpty() ? null : remaining;
+            });
+        }
+
+        /**
+         * 같은 ID가 있으면 교체하되 사용/만료된 항목을 ISSUED로 되돌리지 않는다.
+         */
+        private static List<HeldCoupon> upsert(List<HeldCoupon> current, HeldCoupon coupon) {
+            List<HeldCoupon> next = new ArrayList<>(current != null ? current.size() + 1 : 1);
+            boolean replaced = false;
+            if (current != null) {
+                for (HeldCoupon existing : current) {
+                    if (existing.id().equals(coupon.id())) {
+                        next.add(coupon.isUsable() && !existing.isUsable() ? existing : coupon);
+                        replaced = true;
+                    } else {
+                        next.add(existing);
+                    }
+                }
+            }
+            if (!replaced) {
+                next.add(coupon);
+                next.sort(Comparator.comparing(HeldCoupon::id).reversed());
+            }
+            return List.copyOf(next);
+        }
+
+        long estimatedBytes() {
+            return holders.values().stream().mapToLong(Holders::estimatedBytes).sum();
+        }
+    }
+
+    /**
+     * 쿠폰별 발급 사용자 비트맵
+     */
+    private static final class Holders {
+        private final UserIdBitmap bitmap = new UserIdBitmap();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        void add(Long userId) {
+            lock.writeLock().lock();
+            try {
+                bitmap.add(userId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Long userId) {
+            lock.writeLock().lock();
+            try {
+                bitmap.remove(userId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        boolean contains(Long userId) {
+            lock.readLock().lock();
+            try {
+                return bitmap.contains(userId);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        long count() {
+            lock.readLock().lock();
+            try {
+                return bitmap.cardinality();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<Long> userIds() {
+            lock.readLock().lock();
+            try {
+                List<Long> userIds = new ArrayList<>((int) bitmap.cardinality());
+                bitmap.forEach(userIds::add);
+                return userIds;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        long estimatedBytes() {
+            lock.readLock().lock();
+            try {
+                return bitmap.estimatedBytes();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
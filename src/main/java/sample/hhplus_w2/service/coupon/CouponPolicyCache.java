@@ -0,0 +1,126 @@
+package sample.hhplus_w2.service.coupon;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import sample.hhplus_w2.common.TransactionHooks;
+import sample.hhplus_w2.domain.coupon.Coupon;
+import sample.hhplus_w2.domain.coupon.CouponPolicy;
+import sample.hhplus_w2.domain.coupon.CouponStatus;
+import sample.hhplus_w2.repository.coupon.CouponRepository;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 쿠폰 정책 스냅샷 캐시
+ * 전체 정책을 ID/코드별 불변 맵과 공개 목록으로 미리 계산해 두고, 변경 시 새 스냅샷으로 통째로 교체한다.
+ * 조회는 volatile 참조 하나만 읽으므로 잠금이 없고, 한 번 읽은 스냅샷 안에서는 항상 일관된 값을 본다.
+ *
+ * 발급 수량(issued)은 스냅샷에 넣지 않는다. (발급 게이트와 조건부 UPDATE가 관리)
+ * 공개/일시정지/만료 시 즉시 다시 읽고, 커밋/롤백 후 한 번 더 읽어 확정 상태를 반영한다.
+ * 다른 노드의 변경은 주기적 전체 재적재로 반영한다.
+ */
+@Slf4j
+@Component
+public class CouponPolicyCache {
+
+    private final CouponRepository couponRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public CouponPolicyCache(CouponRepository couponRepository) {
+        this.couponRepository = couponRepository;
+    }
+
+    public CouponPolicy get(Long couponId) {
+        CouponPolicy policy = snapshot.byId().get(couponId);
+        if (policy != null) {
+            return policy;
+        }
+        return reload(couponId)
+                .orElseThrow(() -> new IllegalArgumentException("쿠폰을 찾을 수 없습니다: " + couponId));
+    }
+
+    public CouponPolicy getByCode(String code) {
+        CouponPolicy policy = snapshot.byCode().get(code);
+        if (policy != null) {
+            return policy;
+        }
+        return couponRepository.findByCode(code)
+                .flatMap(coupon -> reload(coupon.getId()))
+                .orElseThrow(() -> new IllegalArgumentException("쿠폰 코드를 찾을 수 없습니다: " + code));
+    }
+
+    /**
+     * 공개(발급 가능) 쿠폰 목록 (스냅샷 생성 시 미리 계산)
+     */
+    public List<CouponPolicy> getPublished() {
+        return snapshot.published();
+    }
+
+    /**
+     * 현재 스냅샷 버전 (교체될 때마다 증가)
+     */
+    public long getVersion() {
+        return snapshot.version();
+    }
+
+    /**
+     * 정책 변경 반영 (즉시 + 커밋/롤백 후)
+     */
+    public void refresh(Long couponId) {
+        reload(couponId);
+        TransactionHooks.afterCommit(() -> reload(couponId));
+        TransactionHooks.afterRollback(() -> reload(couponId));
+    }
+
+    /**
+     * 전체 재적재 (기동 시, 주기적으로)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.coupon.policy-cache.refresh-interval-millis:60000}",
+            initialDelayString = "${app.coupon.policy-cache.refresh-interval-millis:60000}")
+    public synchronized void refreshAll() {
+        Map<Long, CouponPolicy> policies = couponRepository.findAll().stream()
+                .collect(Collectors.toMap(Coupon::getId, CouponPolicy::of));
+        this.snapshot = Snapshot.of(snapshot.version() + 1, policies);
+        log.debug("쿠폰 정책 스냅샷 재적재 - {}건, version={}", policies.size(), snapshot.version());
+    }
+
+    /**
+     * 쿠폰 1건을 DB에서 다시 읽어 새 스냅샷으로 교체 (삭제된 쿠폰은 제거)
+     */
+    private synchronized Optional<CouponPolicy> reload(Long couponId) {
+        Optional<CouponPolicy> policy = couponRepository.findById(couponId).map(CouponPolicy::of);
+        Map<Long, CouponPolicy> policies = new HashMap<>(snapshot.byId());
+        policy.ifPresentOrElse(p -> policies.put(couponId, p), () -> policies.remove(couponId));
+        this.snapshot = Snapshot.of(snapshot.version() + 1, policies);
+        return policy;
+    }
+
+    private record Snapshot(long version,
+                            Map<Long, CouponPolicy> byId,
+                            Map<String, CouponPolicy> byCode,
+                            List<CouponPolicy> published) {
+
+        private static final Snapshot EMPTY = new Snapshot(0, Map.of(), Map.of(), List.of());
+
+        private static Snapshot of(long version, Map<Long, CouponPolicy> policies) {
+            // 코드가 겹치면(삭제 후 재생성 등) 최근 ID 우선
+            Map<String, CouponPolicy> byCode = policies.values().stream()
+                    .collect(Collectors.toMap(CouponPolicy::code, p -> p, (a, b) -> a.id() > b.id() ? a : b));
+            List<CouponPolicy> published = policies.values().stream()
+                    .filter(p -> CouponStatus.PUBLISHED.equals(p.status()))
+                    .sorted(Comparator.comparing(CouponPolicy::id))
+                    .toList();
+            return new Snapshot(version, Map.copyOf(policies), Map.copyOf(byCode), published);
+        }
+    }
+}
@@ -1,33 +1,64 @@
 package sample.hhplus_w2.service.coupon;
 
-import jakarta.persistence.OptimisticLockException;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.hhplus_w2.common.TransactionHooks;
 import sample.hhplus_w2.domain.coupon.Coupon;
+import sample.hhplus_w2.domain.coupon.CouponPolicy;
 import sample.hhplus_w2.domain.coupon.CouponStatus;
 import sample.hhplus_w2.domain.coupon.CouponUser;
+import sample.hhplus_w2.domain.coupon.CouponUserStatus;
+import sample.hhplus_w2.domain.coupon.HeldCoupon;
+import sample.hhplus_w2.domain.coupon.PerUserLimitExceededException;
 import sample.hhplus_w2.repository.coupon.CouponRepository;
+import sample.hhplus_w2.repository.coupon.CouponUserCountRepository;
 import sample.hhplus_w2.repository.coupon.CouponUserRepository;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class CouponService {
 
     private final CouponRepository couponRepository;
     private final CouponUserRepository couponUserRepository;
+    private final CouponUserCountRepository couponUserCountRepository;
+    private final CouponIssueGate couponIssueGate;
+    private final CouponPolicyCache couponPolicyCache;
+    private final CouponMembershipIndex couponMembershipIndex;
+    private final TransactionTemplate transactionTemplate;
 
-    public CouponService(CouponRepository couponRepository, CouponUserRepository couponUserRepository) {
+    public CouponService(CouponRepository couponRepository, CouponUserRepository couponUserRepository,
+                         CouponUserCountRepository couponUserCountRepository, CouponIssueGate couponIssueGate, CouponPolicyCache couponPolicyCache,
+                         CouponMembershipIndex couponMembershipIndex,
+                         PlatformTransactionManager transactionManager) {
         this.couponRepository = couponRepository;
         this.couponUserRepository = couponUserRepository;
+        this.couponUserCountRepository = couponUserCountRepository;
+        this.couponIssueGate = couponIssueGate;
+        this.couponPolicyCache = couponPolicyCache;
+        this.couponMembershipIndex = couponMembershipIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Transactional
     public Coupon createCoupon(Coupon coupon) {
-        return couponRepository.save(coupon);
+        Coupon saved = couponRepository.save(coupon);
+        couponPolicyCache.refresh(saved.getId());
+        return saved;
     }
 
+    /**
+     * 쿠폰 조회 (DB, 발급 수량 포함 - 관리/검증용)
+     */
     @Transactional(readOnly = true)
     public Coupon getCoupon(Long id) {
         return couponRepository.findById(id)
@@ -46,34 +77,116 @@ public class CouponService {
     }
 
     /**
-     * 쿠폰 발급 (낙관적 락 사용)
-     * OptimisticLockException 발생 시 예외 전파하여 재시도 가능
+     * 쿠폰 정책 조회 (스냅샷 캐시, DB 조회 없음)
+     */
+    public CouponPolicy getCouponPolicy(Long id) {
+        return couponPolicyCache.get(id);
+    }
+
+    public CouponPolicy getCouponPolicyByCode(String code) {
+        return couponPolicyCache.getByCode(code);
+    }
+
+    public List<CouponPolicy> getPublishedPolicies() {
+        return couponPolicyCache.getPublished();
+    }
+
+    /**
+     * 쿠폰 발급 (입장 게이트 + 조건부 UPDATE)
+     * 수량 소진/중복 요청은 게이트에서 DB 접근 없이 거절하고,
+     * 입장한 요청만 트랜잭션을 열어 issued를 조건부로 증가시킨다.
      */
-    @Transactional
     public CouponUser issueCoupon(Long couponId, Long userId) {
+        admitIssue(couponId, userId);
+        return issueAdmitted(couponId, userId);
+    }
+
+    /**
+     * 발급 입장 처리 (게이트가 비어있으면 DB 기준으로 초기화)
+     * 수량 소진/중복이면 예외 발생
+     */
+    public void admitIssue(Long couponId, Long userId) {
+        couponIssueGate.openIfAbsent(couponId, this::seedGate);
+        couponIssueGate.admit(couponId, userId);
+    }
+
+    /**
+     * 게이트를 통과한 요청 일괄 발급 (발급 큐 컨슈머에서 사용)
+     * issued 증가 1회 + 사용자별 발급 수량 증가 + coupon_user 다중 행 INSERT 1회로 처리하고,
+     * 배치 트랜잭션이 실패하면 건별 발급으로 재시도한다.
+     * @return 사용자별 실패 메시지 (성공한 사용자는 포함되지 않음)
+     */
+    public Map<Long, String> issueAdmittedBatch(Long couponId, List<Long> userIds) {
         try {
-            Coupon coupon = getCoupon(couponId);
+            transactionTemplate.executeWithoutResult(status -> {
+                CouponPolicy policy = couponPolicyCache.get(couponId);
+                if (!policy.isIssuable(LocalDateTime.now())) {
+                    throw new IllegalStateException("발급 불가능한 쿠폰입니다.");
+                }
 
-            if (couponUserRepository.findByCouponIdAndUserId(couponId, userId).isPresent()) {
-                throw new IllegalStateException("이미 발급받은 쿠폰입니다.");
-            }
+                if (!couponRepository.increaseIssued(couponId, userIds.size())) {
+                    throw new IllegalStateException("쿠폰이 모두 소진되었습니다.");
+                }
 
-            if (!coupon.canIssue()) {
-                throw new IllegalStateException("발급 불가능한 쿠폰입니다.");
-            }
+                // 동시 배치 간 교착을 피하도록 사용자 ID 순으로 증가
+                Map<Long, Long> quantities = userIds.stream()
+                        .collect(Collectors.groupingBy(Function.identity(), TreeMap::new, Collectors.counting()));
+                quantities.forEach((userId, quantity) -> {
+                    if (!couponUserCountRepository.increaseIfWithinLimit(couponId, userId,
+                            quantity.intValue(), policy.issueLimitPerUser())) {
+                        throw new PerUserLimitExceededException(policy.issueLimitPerUser());
+                    }
+                });
 
-            boolean issued = coupon.issue();
-            if (!issued) {
-                throw new IllegalStateException("쿠폰이 모두 소진되었습니다.");
+                couponUserRepository.insertAll(userIds.stream()
+                        .map(userId -> CouponUser.issue(couponId, userId))
+                        .collect(Collectors.toList()));
+            });
+            return Map.of();
+        } catch (RuntimeException e) {
+            Map<Long, String> failures = new HashMap<>();
+            for (Long userId : userIds) {
+                try {
+                    issueAdmitted(couponId, userId);
+                } catch (RuntimeException ex) {
+                    failures.put(userId, ex.getMessage());
+                }
             }
+            return failures;
+        }
+    }
+
+    /**
+     * 게이트를 통과한 요청 1건 발급
+     * 상태/기간은 정책 스냅샷으로 확인하고, 전체/1인당 수량은 조건부 UPDATE로만 확인한다. (coupon 행을 읽지 않음)
+     * 실패 시 게이트 입장을 되돌린다.
+     */
+    private CouponUser issueAdmitted(Long couponId, Long userId) {
+        try {
+            return transactionTemplate.execute(status -> {
+                CouponPolicy policy = couponPolicyCache.get(couponId);
+                if (!policy.isIssuable(LocalDateTime.now())) {
+                    throw new IllegalStateException("발급 불가능한 쿠폰입니다.");
+                }
 
-            couponRepository.save(coupon);
+                if (!couponRepository.increaseIssued(couponId, 1)) {
+                    throw new IllegalStateException("쿠폰이 모두 소진되었습니다.");
+                }
 
-            CouponUser couponUser = CouponUser.issue(couponId, userId);
-            return couponUserRepository.save(couponUser);
-        } catch (OptimisticLockException | ObjectOptimisticLockingFailureException e) {
-            // 낙관적 락 충돌 - 다른 트랜잭션이 먼저 수정함
-            throw new IllegalStateException("쿠폰 발급 중 충돌이 발생했습니다. 다시 시도해주세요.");
+                if (!couponUserCountRepository.increaseIfWithinLimit(couponId, userId, 1, policy.issueLimitPerUser())) {
+                    throw new PerUserLimitExceededException(policy.issueLimitPerUser());
+                }
+
+                CouponUser couponUser = CouponUser.issue(couponId, userId);
+                return couponUserRepository.save(couponUser);
+            });
+        } catch (PerUserLimitExceededException e) {
+            // DB상 이미 제한만큼 발급됨 - 게이트의 사용자 발급 수량은 유지하고 수량만 반환
+            couponIssueGate.releaseQuantity(couponId);
+            throw e;
+        } catch (RuntimeException e) {
+            couponIssueGate.cancel(couponId, userId);
+            throw e;
         }
     }
 
@@ -82,10 +195,102 @@ public class CouponService {
         return couponUserRepository.findByUserId(userId);
     }
 
+    /**
+     * 사용자 보유 쿠폰 조회 (쿠폰 보유 색인, 적재 전에는 DB 조회)
+     * @param status null이면 전체
+     */
+    public List<HeldCoupon> getHeldCoupons(Long userId, CouponUserStatus status) {
+        if (couponMembershipIndex.isReady()) {
+            return status == null
+                    ? couponMembershipIndex.getHeldCoupons(userId)
+                    : couponMembershipIndex.getHeldCoupons(userId, status);
+        }
+        List<CouponUser> couponUsers = status == null
+                ? couponUserRepository.findByUserId(userId)
+                : couponUserRepository.findByUserIdAndStatus(userId, status);
+        return couponUsers.stream()
+                .map(HeldCoupon::of)
+                .sorted(Comparator.comparing(HeldCoupon::id).reversed())
+                .toList();
+    }
+
+    /**
+     * 쿠폰 발급 여부 (쿠폰 보유 색인, 적재 전에는 DB 조회)
+     */
+    public boolean hasIssued(Long couponId, Long userId) {
+        if (couponMembershipIndex.isReady()) {
+            return couponMembershipIndex.hasIssued(couponId, userId);
+        }
+        return !couponUserRepository.findByCouponIdAndUserId(couponId, userId).isEmpty();
+    }
+
+    /**
+     * 쿠폰 공개 (발급 게이트는 커밋 후 연다)
+     * 커밋 전에 열면 롤백되어도 게이트가 남아 공개되지 않은 쿠폰이 발급될 수 있다.
+     * 커밋 후 첫 발급 요청이 먼저 DB 기준으로 게이트를 열었다면 그대로 둔다.
+     */
     @Transactional
     public void publishCoupon(Long couponId) {
         Coupon coupon = getCoupon(couponId);
         coupon.publish();
         couponRepository.save(coupon);
+        couponPolicyCache.refresh(couponId);
+        CouponIssueGate.GateSeed seed = new CouponIssueGate.GateSeed(coupon.getTotalIssuable() - coupon.getIssued(),
+                CouponPolicy.of(coupon).issueLimitPerUser(), findIssuedCounts(couponId));
+        TransactionHooks.afterCommit(() -> couponIssueGate.openIfAbsent(couponId, id -> seed));
+    }
+
+    /**
+     * 쿠폰 일시정지 (발급 중단, 발급된 쿠폰은 계속 사용 가능)
+     */
+    @Transactional
+    public void pauseCoupon(Long couponId) {
+        Coupon coupon = getCoupon(couponId);
+        coupon.pause();
+        couponRepository.save(coupon);
+        closeIssue(couponId);
+    }
+
+    /**
+     * 쿠폰 만료 (발급/사용 모두 중단)
+     */
+    @Transactional
+    public void expireCoupon(Long couponId) {
+        Coupon coupon = getCoupon(couponId);
+        coupon.expire();
+        couponRepository.save(coupon);
+        closeIssue(couponId);
+    }
+
+    /**
+     * 정책 스냅샷 갱신 및 발급 게이트 제거
+     * 커밋 전 게이트가 DB 기준으로 다시 열릴 수 있으므로 커밋 후 한 번 더 닫는다.
+     */
+    private void closeIssue(Long couponId) {
+        couponPolicyCache.refresh(couponId);
+        couponIssueGate.close(couponId);
+        TransactionHooks.afterCommit(() -> couponIssueGate.close(couponId));
+    }
+
+    /**
+     * 게이트 초기값 조회 (재기동 후 첫 요청 시)
+     */
+    private CouponIssueGate.GateSeed seedGate(Long couponId) {
+        Coupon coupon = getCoupon(couponId);
+        if (!CouponStatus.PUBLISHED.equals(coupon.getStatus())) {
+            throw new IllegalStateException("발급 불가능한 쿠폰입니다.");
+        }
+        return new CouponIssueGate.GateSeed(coupon.getTotalIssuable() - coupon.getIssued(),
+                CouponPolicy.of(coupon).issueLimitPerUser(), findIssuedCounts(couponId));
+    }
+
+    /**
+     * 사용자별 발급 수량 조회 (쿠폰 보유 색인, 적재 전에는 coupon_user_count 조회)
+     */
+    private Map<Long, Integer> findIssuedCounts(Long couponId) {
+        if (couponMembershipIndex.isReady()) {
+            return couponMembershipIndex.getIssuedCounts(couponId);
+        }
+        return couponUserCountRepository.findIssuedCounts(couponId);
     }
 }
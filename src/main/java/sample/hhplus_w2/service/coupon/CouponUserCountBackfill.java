@@ -0,0 +1,39 @@
+package sample.hhplus_w2.service.coupon;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import sample.hhplus_w2.repository.coupon.CouponUserCountRepository;
+
+/**
+ * 사용자별 발급 수량 카운터 이관
+ * 카운터(coupon_user_count) 도입 이전에 발급된 coupon_user에는 카운터 행이 없어,
+ * 첫 INSERT가 성공해 1인당 제한을 넘겨 다시 발급될 수 있다.
+ * 웹 서버와 스케줄러가 시작되기 전(싱글톤 초기화 직후)에 없는 카운터를 채운다.
+ */
+@Slf4j
+@Component
+public class CouponUserCountBackfill implements SmartInitializingSingleton {
+
+    private final CouponUserCountRepository couponUserCountRepository;
+
+    public CouponUserCountBackfill(CouponUserCountRepository couponUserCountRepository) {
+        this.couponUserCountRepository = couponUserCountRepository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        backfill();
+    }
+
+    /**
+     * @return 생성된 카운터 행 수
+     */
+    public int backfill() {
+        int created = couponUserCountRepository.backfillFromCouponUser();
+        if (created > 0) {
+            log.info("사용자별 발급 수량 카운터 이관 - {}건", created);
+        }
+        return created;
+    }
+}
@@ -0,0 +1,260 @@
+package sample.hhplus_w2.service.coupon;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * 사용자 ID 집합 (Roaring 방식 압축 비트맵)
+ * ID의 상위 비트(id >>> 16)별로 컨테이너를 두고, 하위 16비트를
+ * 4096개 이하면 정렬된 char 배열, 초과하면 65536비트 비트맵(8KB)에 저장한다.
+ * 연속 구간으로 몰리는 사용자 ID는 항목당 2바이트 이하로 유지된다. (Set&lt;Long&gt; 대비 약 1/20)
+ *
+ * 동기화하지 않으므로 호출 측에서 잠금을 관리해야 한다.
+ */
+final class UserIdBitmap {
+
+    static final int ARRAY_MAX = 4096;
+
+    private long[] keys = new long[4];
+    private Container[] containers = new Container[4];
+    private int size;
+    private long cardinality;
+
+    /**
+     * @return 새로 추가되었으면 true
+     */
+    boolean add(long userId) {
+        long key = userId >>> 16;
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, key, new ArrayContainer());
+        }
+        Container container = containers[index];
+        int before = container.cardinality();
+        containers[index] = container.add((char) userId);
+        if (containers[index].cardinality() == before) {
+            return false;
+        }
+        cardinality++;
+        return true;
+    }
+
+    /**
+     * @return 제거되었으면 true
+     */
+    boolean remove(long userId) {
+        int index = Arrays.binarySearch(keys, 0, size, userId >>> 16);
+        if (index < 0) {
+            return false;
+        }
+        Container container = containers[index];
+        int before = container.cardinality();
+        Container next = container.remove((char) userId);
+        if (next.cardinality() == before) {
+            return false;
+        }
+        if (next.cardinality() == 0) {
+            removeContainer(index);
+        } else {
+            containers[index] = next;
+        }
+        cardinality--;
+        return true;
+    }
+
+    boolean contains(long userId) {
+        int index = Arrays.binarySearch(keys, 0, size, userId >>> 16);
+        return index >= 0 && containers[index].contains((char) userId);
+    }
+
+    long cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * 오름차순 순회
+     */
+    void forEach(LongConsumer consumer) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, consumer);
+        }
+    }
+
+    /**
+     * 대략적인 메모리 사용량 (bytes, 로그용)
+     */
+    long estimatedBytes() {
+        long bytes = keys.length * 8L + containers.length * 8L;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].estimatedBytes();
+        }
+        return bytes;
+    }
+
+    private void insertContainer(int index, long key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+    }
+
+    /**
+     * 하위 16비트 저장소 (add/remove는 형태가 바뀌면 새 컨테이너를 반환)
+     */
+    private abstract static class Container {
+        abstract Container add(char value);
+
+        abstract Container remove(char value);
+
+        abstract boolean contains(char value);
+
+        abstract int cardinality();
+
+        abstract void forEach(long high, LongConsumer consumer);
+
+        abstract long estimatedBytes();
+    }
+
+    /**
+     * 희소 구간 - 정렬된 char 배열
+     */
+    private static final class ArrayContainer extends Container {
+        private char[] values = new char[4];
+        private int cardinality;
+
+        @Override
+        Container add(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_MAX) {
+                return toBitmap().add(value);
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(cardinality * 2, ARRAY_MAX));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        void forEach(long high, LongConsumer consumer) {
+            for (int i = 0; i < cardinality; i++) {
+                consumer.accept(high | values[i]);
+            }
+        }
+
+        @Override
+        long estimatedBytes() {
+            return values.length * 2L + 16;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * 밀집 구간 - 65536비트 비트맵
+     */
+    private static final class BitmapContainer extends Container {
+        private final long[] words = new long[1024];
+        private int cardinality;
+
+        @Override
+        Container add(char value) {
+            long mask = 1L << value;
+            int index = value >>> 6;
+            if ((words[index] & mask) == 0) {
+                words[index] |= mask;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            long mask = 1L << value;
+            int index = value >>> 6;
+            if ((words[index] & mask) == 0) {
+                return this;
+            }
+            words[index] &= ~mask;
+            cardinality--;
+            return cardinality <= ARRAY_MAX ? toArray() : this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        void forEach(long high, LongConsumer consumer) {
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    consumer.accept(high | ((long) i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        long estimatedBytes() {
+            return words.length * 8L + 16;
+        }
+
+        private ArrayContainer toArray() {
+            ArrayContainer array = new ArrayContainer();
+            array.values = new char[cardinality];
+            forEach(0, value -> array.values[array.cardinality++] = (char) value);
+            return array;
+        }
+    }
+}
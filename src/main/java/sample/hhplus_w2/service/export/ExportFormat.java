@@ -0,0 +1,25 @@
+package sample.hhplus_w2.service.export;
+
+/**
+ * 내보내기 형식
+ */
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),  // 한 줄에 JSON 객체 하나
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
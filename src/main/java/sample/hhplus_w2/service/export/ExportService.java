@@ -0,0 +1,127 @@
+package sample.hhplus_w2.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import sample.hhplus_w2.domain.order.OrderExportRow;
+import sample.hhplus_w2.domain.order.OrderStatus;
+import sample.hhplus_w2.domain.product.ProductExportRow;
+import sample.hhplus_w2.repository.order.OrderRepository;
+import sample.hhplus_w2.repository.product.ProductRepository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 대량 내보내기 서비스
+ * JDBC 커서(fetchSize)로 읽은 행을 바로 출력 스트림에 쓰므로 행 수와 관계없이 메모리 사용량이 일정하다.
+ * (영속성 컨텍스트를 거치지 않으므로 엔티티가 누적되지 않음)
+ */
+@Service
+public class ExportService {
+
+    private static final List<String> PRODUCT_HEADER = List.of(
+            "id", "categoryId", "name", "brand", "price", "stockQty", "isActive", "createdAt", "updatedAt");
+    private static final List<String> ORDER_HEADER = List.of(
+            "id", "userId", "status", "total", "discountTotal", "shippingFee", "createdAt", "updatedAt");
+
+    private final ProductRepository productRepository;
+    private final OrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public ExportService(ProductRepository productRepository,
+                         OrderRepository orderRepository,
+                         ObjectMapper objectMapper,
+                         @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        this.productRepository = productRepository;
+        this.orderRepository = orderRepository;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    public void exportProducts(ExportFormat format, OutputStream out) throws IOException {
+        try (RowWriter<ProductExportRow> writer = new RowWriter<>(out, format, PRODUCT_HEADER, row -> List.of(
+                row.id(), nullable(row.categoryId()), row.name(), nullable(row.brand()), row.price(),
+                row.stockQty(), row.isActive(), row.createdAt(), row.updatedAt()))) {
+            productRepository.exportAll(fetchSize, writer::write);
+        }
+    }
+
+    /**
+     * @param status 상태 필터 (null이면 전체)
+     */
+    public void exportOrders(OrderStatus status, ExportFormat format, OutputStream out) throws IOException {
+        try (RowWriter<OrderExportRow> writer = new RowWriter<>(out, format, ORDER_HEADER, row -> List.of(
+                row.id(), row.userId(), row.status(), row.total(), nullable(row.discountTotal()),
+                nullable(row.shippingFee()), row.createdAt(), row.updatedAt()))) {
+            orderRepository.exportAll(status, fetchSize, writer::write);
+        }
+    }
+
+    private static Object nullable(Object value) {
+        return value != null ? value : "";
+    }
+
+    /**
+     * 행 단위 출력 (버퍼가 찰 때마다 응답으로 내보냄)
+     */
+    private class RowWriter<T> implements AutoCloseable {
+        private final Writer writer;
+        private final ExportFormat format;
+        private final Function<T, List<Object>> csvColumns;
+
+        private RowWriter(OutputStream out, ExportFormat format, List<String> header,
+                          Function<T, List<Object>> csvColumns) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            this.format = format;
+            this.csvColumns = csvColumns;
+            if (ExportFormat.CSV.equals(format)) {
+                writeCsvLine(header);
+            }
+        }
+
+        private void write(T row) {
+            try {
+                if (ExportFormat.CSV.equals(format)) {
+                    writeCsvLine(csvColumns.apply(row));
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+            } catch (IOException e) {
+                // 클라이언트 연결 종료 등 - 예외로 커서 조회를 중단한다
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void writeCsvLine(List<?> values) throws IOException {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escapeCsv(String.valueOf(values.get(i))));
+            }
+            writer.write('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
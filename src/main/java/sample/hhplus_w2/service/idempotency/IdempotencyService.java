@@ -0,0 +1,227 @@
+package sample.hhplus_w2.service.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.hhplus_w2.domain.idempotency.IdempotencyRecord;
+import sample.hhplus_w2.repository.idempotency.IdempotencyRecordRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 멱등 키 처리 서비스
+ * 같은 Idempotency-Key로 들어온 요청은 최초 실행 결과(리소스 ID)를 재사용한다.
+ *
+ * 1. 완료 캐시 (Caffeine) - 완료된 키는 DB 조회 없이 응답
+ * 2. 진행 중 요청 합류 - 같은 노드의 동시 중복 요청은 최초 실행의 결과를 기다린다
+ * 3. idempotency_key 테이블 - INSERT 성공한 요청만 실행 (노드 간 중복 방지)
+ *    처리 노드가 중단되면 locked_until 이후 다른 요청이 이어받는다.
+ *    작업과 완료 기록은 한 트랜잭션으로 커밋하므로, 완료 기록 전에 중단되거나 잠금을 빼앗기면 작업도 롤백된다.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRecordRepository recordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final Duration lockDuration;
+    private final long waitMillis;
+    private final long pollMillis;
+
+    private final Cache<String, Completed> completed;
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotencyRecordRepository recordRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.idempotency.ttl-hours:24}") long ttlHours,
+                              @Value("${app.idempotency.lock-seconds:30}") long lockSeconds,
+                              @Value("${app.idempotency.wait-millis:10000}") long waitMillis,
+                              @Value("${app.idempotency.poll-millis:50}") long pollMillis,
+                              @Value("${app.idempotency.cache-size:100000}") long cacheSize) {
+        this.recordRepository = recordRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = Duration.ofHours(ttlHours);
+        this.lockDuration = Duration.ofSeconds(lockSeconds);
+        this.waitMillis = waitMillis;
+        this.pollMillis = pollMillis;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(this.ttl)
+                .build();
+    }
+
+    /**
+     * 멱등 실행
+     * @param scope 키 범위 (API별로 구분)
+     * @param fingerprint 요청 파라미터 지문 (같은 키로 다른 요청이 오면 거부)
+     * @param action 최초 1회만 실행할 작업 (생성/처리된 리소스 ID 반환)
+     * @return 최초 실행의 리소스 ID
+     */
+    public Long execute(String scope, String idempotencyKey, String fingerprint, Supplier<Long> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+        String key = scope + ":" + idempotencyKey;
+
+        Completed cached = completed.getIfPresent(key);
+        if (cached != null) {
+            verifyFingerprint(cached.fingerprint(), fingerprint);
+            return cached.resourceId();
+        }
+
+        InFlight mine = new InFlight(fingerprint, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            verifyFingerprint(running.fingerprint(), fingerprint);
+            return await(running.result());
+        }
+
+        try {
+            Long resourceId = claimAndRun(key, fingerprint, action);
+            mine.result().complete(resourceId);
+            return resourceId;
+        } catch (RuntimeException e) {
+            mine.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 요청 지문 (SHA-256 hex)
+     */
+    public static String fingerprint(Object... parts) {
+        String joined = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(joined.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 키 정리
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-millis:600000}")
+    public void purgeExpired() {
+        int deleted = recordRepository.deleteExpired();
+        if (deleted > 0) {
+            log.info("만료된 멱등 키 정리 - {}건", deleted);
+        }
+    }
+
+    private Long claimAndRun(String key, String fingerprint, Supplier<Long> action) {
+        String owner = UUID.randomUUID().toString();
+        long deadline = System.currentTimeMillis() + waitMillis;
+
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            if (recordRepository.insertIfAbsent(IdempotencyRecord.start(key, fingerprint, owner,
+                    now.plus(lockDuration), now.plus(ttl)))) {
+                break;
+            }
+
+            Optional<IdempotencyRecord> existing = recordRepository.findByKey(key);
+            if (existing.isEmpty()) {
+                continue; // 이전 실행이 실패해 삭제됨 - 다시 시도
+            }
+            IdempotencyRecord record = existing.get();
+            verifyFingerprint(record.getFingerprint(), fingerprint);
+            if (record.isCompleted()) {
+                completed.put(key, new Completed(fingerprint, record.getResourceId()));
+                return record.getResourceId();
+            }
+            if (record.isLockExpired(now) && recordRepository.takeOver(key, owner, now.plus(lockDuration))) {
+                log.warn("멱등 키 처리 이어받기 - key={}", key);
+                break;
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                throw new IllegalStateException("같은 요청이 처리 중입니다.");
+            }
+            sleep(pollMillis);
+        }
+
+        Long resourceId;
+        try {
+            // 작업이 같은 트랜잭션에 참여하므로 완료 기록에 실패하면 작업 결과도 커밋되지 않는다
+            resourceId = transactionTemplate.execute(status -> {
+                Long id = action.get();
+                if (!recordRepository.complete(key, owner, id, LocalDateTime.now().plus(ttl))) {
+                    log.warn("멱등 키 완료 기록 실패 (잠금 만료 후 이어받음) - key={}", key);
+                    throw new IllegalStateException("같은 요청이 처리 중입니다.");
+                }
+                return id;
+            });
+        } catch (RuntimeException e) {
+            recordRepository.release(key, owner);
+            throw e;
+        }
+        completed.put(key, new Completed(fingerprint, resourceId));
+        return resourceId;
+    }
+
+    private Long await(CompletableFuture<Long> result) {
+        try {
+            return result.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("같은 요청이 처리 중입니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("같은 요청이 처리 중입니다.");
+        }
+    }
+
+    private void verifyFingerprint(String expected, String actual) {
+        if (!expected.equals(actual)) {
+            throw new IllegalArgumentException("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("같은 요청이 처리 중입니다.");
+        }
+    }
+
+    private record Completed(String fingerprint, Long resourceId) {
+    }
+
+    private record InFlight(String fingerprint, CompletableFuture<Long> result) {
+    }
+}
@@ -0,0 +1,86 @@
+package sample.hhplus_w2.service.lease;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.hhplus_w2.domain.lease.JobLease;
+import sample.hhplus_w2.repository.lease.JobLeaseRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 백그라운드 작업 임대 서비스
+ * 여러 노드 중 임대를 획득한 하나만 작업을 실행하도록 한다.
+ */
+@Service
+public class JobLeaseService {
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final TransactionTemplate requiresNewTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public JobLeaseService(JobLeaseRepository jobLeaseRepository, PlatformTransactionManager transactionManager) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 임대 획득 (이미 보유 중이면 연장)
+     * @return 획득 여부
+     */
+    public boolean tryAcquire(String name, Duration duration) {
+        LocalDateTime until = LocalDateTime.now().plus(duration);
+        if (jobLeaseRepository.acquire(name, nodeId, until)) {
+            return true;
+        }
+        if (jobLeaseRepository.findByName(name).isPresent()) {
+            return false;
+        }
+        try {
+            requiresNewTemplate.executeWithoutResult(status ->
+                    jobLeaseRepository.save(JobLease.create(name, nodeId, until)));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 먼저 생성
+            return false;
+        }
+    }
+
+    /**
+     * 임대 반납
+     */
+    public void release(String name) {
+        jobLeaseRepository.release(name, nodeId);
+    }
+
+    /**
+     * 본인 임대 유효 여부 (호출한 트랜잭션이 끝날 때까지 임대 행을 공유 잠금)
+     * 이 트랜잭션이 끝나기 전에는 다른 노드가 만료로 판단해 자원을 회수할 수 없다.
+     */
+    public boolean isHeldLocked(String name) {
+        LocalDateTime now = LocalDateTime.now();
+        return jobLeaseRepository.findByNameForShare(name)
+                .filter(lease -> nodeId.equals(lease.getOwner()) && lease.getLeasedUntil().isAfter(now))
+                .isPresent();
+    }
+
+    /**
+     * 임대 만료 여부 (호출한 트랜잭션이 끝날 때까지 임대 행을 잠가 보유 노드의 연장을 막음)
+     * 임대 행이 없으면 만료로 본다.
+     */
+    public boolean isExpiredLocked(String name) {
+        LocalDateTime now = LocalDateTime.now();
+        return jobLeaseRepository.findByNameForUpdate(name)
+                .map(lease -> !lease.getLeasedUntil().isAfter(now))
+                .orElse(true);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,185 @@
+package sample.hhplus_w2.service.order;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.hhplus_w2.domain.order.ActorType;
+import sample.hhplus_w2.domain.order.OrderExpiryCandidate;
+import sample.hhplus_w2.domain.order.OrderHistory;
+import sample.hhplus_w2.domain.order.OrderStatus;
+import sample.hhplus_w2.repository.coupon.CouponUserRepository;
+import sample.hhplus_w2.repository.order.OrderHistoryRepository;
+import sample.hhplus_w2.repository.order.OrderRepository;
+import sample.hhplus_w2.service.lease.JobLeaseService;
+import sample.hhplus_w2.service.reservation.StockReservationService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 결제 대기 주문 만료 스위퍼
+ * idx_order_expires (status, expires_at) 를 keyset 페이지네이션으로 훑어 배치 단위로 EXPIRED 처리한다.
+ * 배치마다 하나의 트랜잭션에서 상태를 일괄 변경하고 이력을 다중 행 INSERT로 기록하며, 사용된 쿠폰을 발급 상태로 복구한다.
+ * 여러 노드에서 실행되어도 임대(job_lease)를 가진 노드만 실행한다.
+ */
+@Slf4j
+@Component
+public class OrderExpirySweeper {
+
+    private static final String LEASE_NAME = "order-expiry-sweeper";
+    private static final LocalDateTime CURSOR_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final String EXPIRE_REASON = "결제 시간 초과";
+
+    private final OrderRepository orderRepository;
+    private final OrderHistoryRepository orderHistoryRepository;
+    private final CouponUserRepository couponUserRepository;
+    private final ObjectProvider<StockReservationService> stockReservationService;
+    private final JobLeaseService jobLeaseService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration leaseDuration;
+
+    private final AtomicLong totalExpired = new AtomicLong();
+    private final AtomicLong totalBatches = new AtomicLong();
+    private volatile LocalDateTime lastRunAt;
+    private volatile int lastRunExpired;
+    private volatile long lastBatchDurationMillis;
+    private volatile long maxBatchDurationMillis;
+    private volatile long lagSeconds;
+
+    public OrderExpirySweeper(OrderRepository orderRepository,
+                              OrderHistoryRepository orderHistoryRepository,
+                              CouponUserRepository couponUserRepository,
+                              ObjectProvider<StockReservationService> stockReservationService,
+                              JobLeaseService jobLeaseService,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.order.expiry.batch-size:500}") int batchSize,
+                              @Value("${app.order.expiry.max-batches-per-run:20}") int maxBatchesPerRun,
+                              @Value("${app.order.expiry.lease-seconds:30}") long leaseSeconds) {
+        this.orderRepository = orderRepository;
+        this.orderHistoryRepository = orderHistoryRepository;
+        this.couponUserRepository = couponUserRepository;
+        this.stockReservationService = stockReservationService;
+        this.jobLeaseService = jobLeaseService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxBatchesPerRun = Math.max(maxBatchesPerRun, 1);
+        this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${app.order.expiry.interval-millis:1000}")
+    public void sweep() {
+        try {
+            run();
+        } catch (RuntimeException e) {
+            log.warn("주문 만료 스위퍼 실행 실패", e);
+        }
+    }
+
+    /**
+     * 1회 실행 (최대 maxBatchesPerRun 배치)
+     * @return 만료 처리된 주문 수 (임대를 얻지 못하면 0)
+     */
+    public int run() {
+        if (!jobLeaseService.tryAcquire(LEASE_NAME, leaseDuration)) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lastExpiresAt = CURSOR_START;
+        long lastId = 0L;
+        int expired = 0;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<OrderExpiryCandidate> candidates = orderRepository.findExpiredPending(now, lastExpiresAt, lastId, batchSize);
+            if (candidates.isEmpty()) {
+                break;
+            }
+
+            long startedAt = System.nanoTime();
+            expired += expireBatch(candidates.stream().map(OrderExpiryCandidate::id).collect(Collectors.toList()));
+            recordBatch((System.nanoTime() - startedAt) / 1_000_000);
+
+            OrderExpiryCandidate last = candidates.get(candidates.size() - 1);
+            lastExpiresAt = last.expiresAt();
+            lastId = last.id();
+            if (candidates.size() < batchSize) {
+                break;
+            }
+        }
+
+        totalExpired.addAndGet(expired);
+        lastRunExpired = expired;
+        lastRunAt = now;
+        lagSeconds = orderRepository.findOldestExpiredPendingAt(LocalDateTime.now())
+                .map(oldest -> Math.max(0, Duration.between(oldest, LocalDateTime.now()).getSeconds()))
+                .orElse(0L);
+        return expired;
+    }
+
+    /**
+     * 만료 지표 스냅샷
+     */
+    public Metrics getMetrics() {
+        return new Metrics(lastRunAt, lastRunExpired, totalExpired.get(), totalBatches.get(),
+                lastBatchDurationMillis, maxBatchDurationMillis, lagSeconds, batchSize, maxBatchesPerRun);
+    }
+
+    @PreDestroy
+    public void stop() {
+        jobLeaseService.release(LEASE_NAME);
+    }
+
+    /**
+     * 배치 만료 처리 (단일 트랜잭션)
+     * 결제와 동시에 실행될 수 있으므로 PENDING 주문을 잠근 뒤 조건부로 변경한다.
+     * 결제(OrderService.pay)도 같은 주문 행을 잠그고 상태를 확인하므로 둘 중 먼저 잠근 쪽만 반영된다.
+     */
+    private int expireBatch(List<Long> candidateIds) {
+        Integer expired = transactionTemplate.execute(status -> {
+            List<Long> ids = orderRepository.lockPendingIds(candidateIds);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            int updated = orderRepository.updateStatus(ids, OrderStatus.PENDING, OrderStatus.EXPIRED);
+            orderHistoryRepository.insertAll(ids.stream()
+                    .map(id -> OrderHistory.create(id, OrderStatus.PENDING, OrderStatus.EXPIRED,
+                            EXPIRE_REASON, ActorType.SYSTEM))
+                    .collect(Collectors.toList()));
+            couponUserRepository.restoreByOrderIds(ids);
+
+            StockReservationService reservationService = stockReservationService.getIfAvailable();
+            if (reservationService != null) {
+                ids.forEach(reservationService::release);
+            }
+            return updated;
+        });
+        return expired != null ? expired : 0;
+    }
+
+    private void recordBatch(long durationMillis) {
+        totalBatches.incrementAndGet();
+        lastBatchDurationMillis = durationMillis;
+        if (durationMillis > maxBatchDurationMillis) {
+            maxBatchDurationMillis = durationMillis;
+        }
+    }
+
+    /**
+     * 만료 스위퍼 지표
+     * @param lagSeconds 만료 시각이 지났지만 아직 PENDING인 가장 오래된 주문의 지연 시간
+     */
+    public record Metrics(LocalDateTime lastRunAt, int lastRunExpired, long totalExpired, long totalBatches,
+                          long lastBatchDurationMillis, long maxBatchDurationMillis, long lagSeconds,
+                          int batchSize, int maxBatchesPerRun) {
+    }
+}
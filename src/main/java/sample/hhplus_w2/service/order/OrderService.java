@@ -1,18 +1,38 @@
 package sample.hhplus_w2.service.order;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.hhplus_w2.common.TransactionHooks;
 import sample.hhplus_w2.domain.cart.CartItem;
+import sample.hhplus_w2.domain.coupon.CouponPolicy;
+import sample.hhplus_w2.domain.coupon.CouponUser;
 import sample.hhplus_w2.domain.order.*;
-import sample.hhplus_w2.domain.product.Product;
+import sample.hhplus_w2.domain.product.InsufficientStockException;
+import sample.hhplus_w2.domain.product.StockShortage;
 import sample.hhplus_w2.repository.cart.CartItemRepository;
+import sample.hhplus_w2.repository.coupon.CouponUserRepository;
 import sample.hhplus_w2.repository.order.OrderHistoryRepository;
 import sample.hhplus_w2.repository.order.OrderItemRepository;
 import sample.hhplus_w2.repository.order.OrderRepository;
 import sample.hhplus_w2.repository.product.ProductRepository;
+import sample.hhplus_w2.service.coupon.CouponPolicyCache;
+import sample.hhplus_w2.service.product.StockDecreaseMode;
+import sample.hhplus_w2.service.product.StockLedger;
+import sample.hhplus_w2.service.reservation.StockReservationService;
+import sample.hhplus_w2.service.stats.ProductSalesRollupService;
+import sample.hhplus_w2.service.wallet.WalletService;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 @Service
 public class OrderService {
@@ -22,19 +42,52 @@ public class OrderService {
     private final OrderHistoryRepository orderHistoryRepository;
     private final CartItemRepository cartItemRepository;
     private final ProductRepository productRepository;
+    private final CouponUserRepository couponUserRepository;
+    private final CouponPolicyCache couponPolicyCache;
+    private final ObjectProvider<StockLedger> stockLedgerProvider;
+    private final ObjectProvider<StockReservationService> stockReservationProvider;
+    private final ProductSalesRollupService productSalesRollupService;
+    private final ObjectProvider<WalletService> walletServiceProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final StockDecreaseMode stockDecreaseMode;
 
     public OrderService(OrderRepository orderRepository, OrderItemRepository orderItemRepository,
                            OrderHistoryRepository orderHistoryRepository, CartItemRepository cartItemRepository,
-                           ProductRepository productRepository) {
+                           ProductRepository productRepository, CouponUserRepository couponUserRepository,
+                           CouponPolicyCache couponPolicyCache, ObjectProvider<StockLedger> stockLedgerProvider,
+                           ObjectProvider<StockReservationService> stockReservationProvider,
+                           ProductSalesRollupService productSalesRollupService,
+                           ObjectProvider<WalletService> walletServiceProvider,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.stock.decrease-mode:OPTIMISTIC}") StockDecreaseMode stockDecreaseMode) {
         this.orderRepository = orderRepository;
         this.orderItemRepository = orderItemRepository;
         this.orderHistoryRepository = orderHistoryRepository;
         this.cartItemRepository = cartItemRepository;
         this.productRepository = productRepository;
+        this.couponUserRepository = couponUserRepository;
+        this.couponPolicyCache = couponPolicyCache;
+        this.stockLedgerProvider = stockLedgerProvider;
+        this.stockReservationProvider = stockReservationProvider;
+        this.productSalesRollupService = productSalesRollupService;
+        this.walletServiceProvider = walletServiceProvider;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.stockDecreaseMode = stockDecreaseMode;
     }
 
     @Transactional
     public Order createOrder(Long userId, Long cartId) {
+        return createOrder(userId, cartId, null);
+    }
+
+    /**
+     * 주문 생성
+     * 주문 항목은 한 번에 저장하며, 재고 예약이 활성화된 경우 주문 항목별 재고를 함께 예약한다.
+     * 쿠폰은 재고 예약보다 먼저 사용 처리해 중복 사용 요청이 무거운 작업 전에 실패하도록 한다.
+     * @param couponUserId 사용할 발급 쿠폰 ID (null이면 할인 없음)
+     */
+    @Transactional
+    public Order createOrder(Long userId, Long cartId, Long couponUserId) {
         List<CartItem> cartItems = cartItemRepository.findByCartId(cartId);
         if (cartItems.isEmpty()) {
             throw new IllegalStateException("장바구니가 비어있습니다.");
@@ -48,6 +101,12 @@ public class OrderService {
         Order order = Order.create(userId, totalAmount, BigDecimal.ZERO, 30);
         order = orderRepository.save(order);
 
+        if (couponUserId != null) {
+            order.applyDiscount(redeemCoupon(userId, couponUserId, order));
+            order = orderRepository.save(order);
+        }
+
+        List<OrderItem> orderItems = new ArrayList<>();
         for (CartItem cartItem : cartItems) {
             OrderItem orderItem = OrderItem.create(
                     order.getId(),
@@ -55,7 +114,14 @@ public class OrderService {
                     cartItem.getQty(),
                     cartItem.getUnitPriceSnapshot()
             );
-            orderItemRepository.save(orderItem);
+            orderItems.add(orderItem);
+        }
+        // 항목 수와 무관하게 다중 행 INSERT 1회로 저장
+        orderItemRepository.insertAll(orderItems);
+
+        StockReservationService reservationService = stockReservationProvider.getIfAvailable();
+        if (reservationService != null) {
+            reservationService.reserve(order, orderItems);
         }
 
         OrderHistory history = OrderHistory.createForNew(order.getId(), OrderStatus.PENDING);
@@ -64,9 +130,85 @@ public class OrderService {
         return order;
     }
 
-    @Transactional
+    /**
+     * 쿠폰 사용 처리
+     * 적용 조건은 정책 스냅샷 캐시로 확인하고, 사용 처리는 ISSUED 상태 조건부 UPDATE로 한 번만 성공시킨다.
+     * @return 할인 금액 (주문 금액 초과분은 제외)
+     */
+    private BigDecimal redeemCoupon(Long userId, Long couponUserId, Order order) {
+        CouponUser couponUser = couponUserRepository.findById(couponUserId)
+                .filter(cu -> cu.getUserId().equals(userId))
+                .orElseThrow(() -> new IllegalArgumentException("발급받은 쿠폰을 찾을 수 없습니다: " + couponUserId));
+        if (!couponUser.isUsable()) {
+            throw new IllegalStateException("사용할 수 없는 쿠폰입니다.");
+        }
+
+        CouponPolicy policy = couponPolicyCache.get(couponUser.getCouponId());
+        if (!policy.isRedeemable(LocalDateTime.now())) {
+            throw new IllegalStateException("사용 기간이 아니거나 만료된 쿠폰입니다.");
+        }
+        BigDecimal discount = policy.calculateDiscount(order.getTotal()).min(order.getTotal());
+
+        if (!couponUserRepository.markUsed(couponUserId, userId, order.getId())) {
+            throw new IllegalStateException("사용할 수 없는 쿠폰입니다.");
+        }
+        return discount;
+    }
+
+    /**
+     * 결제 처리
+     * 지갑이 활성화된 경우 잔액 차감과 재고 차감을 같은 트랜잭션에서 처리한다.
+     * 주문 생성 시 재고를 예약한 주문은 예약 확정만 수행한다.
+     * LEDGER 모드는 트랜잭션을 열기 전에 재고 원장에서 예약하고, 결제 실패 시 예약을 해제한다.
+     */
     public Order processPayment(Long orderId) {
-        Order order = orderRepository.findById(orderId)
+        StockReservationService reservationService = stockReservationProvider.getIfAvailable();
+        if (reservationService != null && reservationService.hasReservation(orderId)) {
+            Order order = transactionTemplate.execute(status -> {
+                Order paid = pay(orderId, false);
+                if (OrderStatus.PAID.equals(paid.getStatus()) && !reservationService.commit(orderId)) {
+                    throw new IllegalStateException("주문이 만료되었습니다.");
+                }
+                return paid;
+            });
+            return requirePaid(order);
+        }
+        if (StockDecreaseMode.LEDGER.equals(stockDecreaseMode)) {
+            return processPaymentWithLedger(orderId);
+        }
+        return requirePaid(transactionTemplate.execute(status -> pay(orderId, true)));
+    }
+
+    private Order processPaymentWithLedger(Long orderId) {
+        StockLedger stockLedger = stockLedgerProvider.getIfAvailable();
+        if (stockLedger == null) {
+            throw new IllegalStateException("재고 원장이 활성화되지 않았습니다. (app.stock.ledger.enabled)");
+        }
+
+        List<OrderItem> reserved = new ArrayList<>();
+        try {
+            for (OrderItem item : orderItemRepository.findByOrderId(orderId)) {
+                stockLedger.reserve(item.getProductId(), item.getQty());
+                reserved.add(item);
+            }
+            Order order = requirePaid(transactionTemplate.execute(status -> pay(orderId, false)));
+            // 호출 측 트랜잭션(멱등 처리 등)에 참여한 경우 그 트랜잭션이 롤백되면 예약을 되돌린다
+            TransactionHooks.afterRollback(() ->
+                    reserved.forEach(item -> stockLedger.release(item.getProductId(), item.getQty())));
+            return order;
+        } catch (RuntimeException e) {
+            reserved.forEach(item -> stockLedger.release(item.getProductId(), item.getQty()));
+            throw e;
+        }
+    }
+
+    /**
+     * 결제 확정 (호출 측 트랜잭션 안에서 실행)
+     * 주문 행을 잠근 뒤 상태를 확인하므로 만료 스위퍼가 먼저 만료시킨 주문은 결제되지 않는다.
+     * 만료 시각이 지난 주문은 만료 처리(쿠폰 복구, 예약 해제 포함)한 뒤 EXPIRED 상태로 반환한다. (커밋 후 requirePaid에서 예외)
+     */
+    private Order pay(Long orderId, boolean decreaseStock) {
+        Order order = orderRepository.findByIdForUpdate(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다: " + orderId));
 
         if (!OrderStatus.PENDING.equals(order.getStatus())) {
@@ -78,21 +220,29 @@ public class OrderService {
             orderRepository.save(order);
             OrderHistory history = OrderHistory.create(order.getId(), OrderStatus.PENDING, OrderStatus.EXPIRED, "결제 시간 초과", ActorType.SYSTEM);
             orderHistoryRepository.save(history);
-            throw new IllegalStateException("주문이 만료되었습니다.");
+            couponUserRepository.restoreByOrderIds(List.of(order.getId()));
+            // 주문 행을 잠근 상태에서 예약도 해제 (재고 예약 스위퍼는 PENDING 주문만 처리)
+            StockReservationService reservationService = stockReservationProvider.getIfAvailable();
+            if (reservationService != null) {
+                reservationService.release(order.getId());
+            }
+            return order;
         }
 
-        List<OrderItem> orderItems = orderItemRepository.findByOrderId(orderId);
-
-        for (OrderItem item : orderItems) {
-            Product product = productRepository.findById(item.getProductId())
-                    .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + item.getProductId()));
+        // 사용자 지갑 행 잠금을 먼저 잡고, 경합이 큰 상품 행 잠금은 마지막에 잡아 보유 시간을 줄인다
+        WalletService walletService = walletServiceProvider.getIfAvailable();
+        if (walletService != null) {
+            walletService.debit(order.getUserId(), order.getFinalAmount(), order.getId());
+        }
 
-            product.decreaseStock(item.getQty());
-            productRepository.save(product);
+        List<OrderItem> orderItems = orderItemRepository.findByOrderId(orderId);
+        if (decreaseStock) {
+            decreaseStocks(orderItems);
         }
 
         order.markAsPaid();
         orderRepository.save(order);
+        productSalesRollupService.recordSale(orderItems);
 
         OrderHistory history = OrderHistory.create(order.getId(), OrderStatus.PENDING, OrderStatus.PAID, "결제 완료", ActorType.USER);
         orderHistoryRepository.save(history);
@@ -100,6 +250,43 @@ public class OrderService {
         return order;
     }
 
+    /**
+     * 결제 중 만료 처리된 주문이면 예외 (만료 처리는 커밋된 뒤)
+     */
+    private static Order requirePaid(Order order) {
+        if (OrderStatus.EXPIRED.equals(order.getStatus())) {
+            throw new IllegalStateException("주문이 만료되었습니다.");
+        }
+        return order;
+    }
+
+    /**
+     * 주문 항목 재고 일괄 차감
+     * 상품 ID 순으로 정렬한 조건부 UPDATE를 한 번에 실행하고, 부족한 상품이 있으면
+     * 해당 항목을 모두 담은 예외로 결제 트랜잭션 전체를 롤백한다.
+     */
+    private void decreaseStocks(List<OrderItem> orderItems) {
+        Map<Long, Integer> quantities = orderItems.stream()
+                .collect(Collectors.groupingBy(OrderItem::getProductId, TreeMap::new,
+                        Collectors.summingInt(OrderItem::getQty)));
+
+        List<Long> insufficient = productRepository.decreaseStocksIfAvailable(quantities);
+        if (insufficient.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Integer> stockQty = productRepository.findStockQtyByIds(insufficient);
+        List<StockShortage> shortages = new ArrayList<>();
+        for (Long productId : insufficient) {
+            Integer available = stockQty.get(productId);
+            if (available == null) {
+                throw new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId);
+            }
+            shortages.add(new StockShortage(productId, quantities.get(productId), available));
+        }
+        throw new InsufficientStockException(shortages);
+    }
+
     @Transactional(readOnly = true)
     public Order getOrder(Long id) {
         return orderRepository.findById(id)
@@ -0,0 +1,178 @@
+package sample.hhplus_w2.service.product;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import sample.hhplus_w2.common.TransactionHooks;
+import sample.hhplus_w2.domain.product.Product;
+import sample.hhplus_w2.domain.product.ProductChangedEvent;
+import sample.hhplus_w2.repository.product.ProductRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 상품 카탈로그 읽기 캐시 (Caffeine, W-TinyLFU)
+ * 상품 정보(가격, 설명 등)는 오래, 재고는 별도 엔트리에 짧게 캐시하고, 목록은 상품 ID 목록만 캐시한다.
+ * 조회 결과는 캐시 인스턴스의 복사본에 최신 재고를 채워 반환한다.
+ *
+ * 무효화: ProductRepository의 모든 쓰기가 ProductChangedEvent를 발행하므로
+ * 주문/예약/재고 원장 등 ProductService를 거치지 않는 재고 변경도 반영된다.
+ * 커밋 전 값이 다시 적재되지 않도록 커밋 후(롤백 시에도) 한 번 더 무효화한다.
+ */
+@Component
+public class ProductCatalogCache {
+
+    private static final String ALL = "all";
+    private static final String ACTIVE = "active";
+    private static final String CATEGORY = "category:";
+
+    private final ProductRepository productRepository;
+    private final LoadingCache<Long, Optional<Product>> products;
+    private final LoadingCache<Long, Integer> stocks;
+    private final Cache<String, List<Long>> lists;
+
+    public ProductCatalogCache(ProductRepository productRepository,
+                               @Value("${app.product.cache.maximum-size:10000}") long maximumSize,
+                               @Value("${app.product.cache.ttl-seconds:600}") long ttlSeconds,
+                               @Value("${app.product.cache.stock-ttl-millis:1000}") long stockTtlMillis,
+                               @Value("${app.product.cache.list-ttl-seconds:60}") long listTtlSeconds) {
+        this.productRepository = productRepository;
+        this.products = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build(productRepository::findById);
+        this.stocks = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(stockTtlMillis))
+                .recordStats()
+                .build(new StockLoader());
+        this.lists = Caffeine.newBuilder()
+                .maximumSize(1_000)
+                .expireAfterWrite(Duration.ofSeconds(listTtlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 상품 단건 조회 (재고는 짧은 TTL 엔트리에서 채움)
+     */
+    public Optional<Product> get(Long id) {
+        return products.get(id).map(product -> {
+            Integer stock = stocks.get(id);
+            return product.copyWithStock(stock != null ? stock : product.getStockQty());
+        });
+    }
+
+    public List<Product> getAll() {
+        return getList(ALL, productRepository::findAllIds);
+    }
+
+    public List<Product> getByCategory(Long categoryId) {
+        return getList(CATEGORY + categoryId, () -> productRepository.findIdsByCategoryId(categoryId));
+    }
+
+    public List<Product> getActive() {
+        return getList(ACTIVE, () -> productRepository.findIdsByIsActive(true));
+    }
+
+    /**
+     * ID 목록 순서대로 조회 (없는 상품은 제외)
+     */
+    public List<Product> getAll(List<Long> ids) {
+        Map<Long, Optional<Product>> found = products.getAll(ids, this::loadProducts);
+        Map<Long, Integer> stockQty = stocks.getAll(ids);
+
+        List<Product> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Optional<Product> product = found.getOrDefault(id, Optional.empty());
+            product.ifPresent(p -> result.add(p.copyWithStock(stockQty.getOrDefault(id, p.getStockQty()))));
+        }
+        return result;
+    }
+
+    /**
+     * 상품 변경 시 무효화
+     * 재고만 바뀐 경우 재고 엔트리만, 그 외에는 상품 정보와 목록(활성/카테고리 구성 변경 가능)도 비운다.
+     */
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        invalidate(event);
+        TransactionHooks.afterCommit(() -> invalidate(event));
+        TransactionHooks.afterRollback(() -> invalidate(event));
+    }
+
+    /**
+     * 캐시 지표 (적중/미스/제거)
+     */
+    public Map<String, Metrics> getMetrics() {
+        Map<String, Metrics> metrics = new LinkedHashMap<>();
+        metrics.put("products", Metrics.of(products.stats(), products.estimatedSize()));
+        metrics.put("stocks", Metrics.of(stocks.stats(), stocks.estimatedSize()));
+        metrics.put("lists", Metrics.of(lists.stats(), lists.estimatedSize()));
+        return metrics;
+    }
+
+    private void invalidate(ProductChangedEvent event) {
+        if (event.productId() == null) {
+            products.invalidateAll();
+            stocks.invalidateAll();
+            lists.invalidateAll();
+            return;
+        }
+        stocks.invalidate(event.productId());
+        if (!event.stockOnly()) {
+            products.invalidate(event.productId());
+            lists.invalidateAll();
+        }
+    }
+
+    private List<Product> getList(String key, Supplier<List<Long>> idLoader) {
+        return getAll(lists.get(key, k -> idLoader.get()));
+    }
+
+    private Map<Long, Optional<Product>> loadProducts(Set<? extends Long> ids) {
+        Map<Long, Optional<Product>> loaded = new LinkedHashMap<>();
+        ids.forEach(id -> loaded.put(id, Optional.empty()));
+        productRepository.findAllById(List.copyOf(ids)).forEach(product -> loaded.put(product.getId(), Optional.of(product)));
+        return loaded;
+    }
+
+    /**
+     * 재고 로더 (목록 조회 시 한 번의 쿼리로 일괄 적재)
+     */
+    private class StockLoader implements CacheLoader<Long, Integer> {
+
+        @Override
+        public Integer load(Long id) {
+            return productRepository.findStockQtyByIds(List.of(id)).get(id);
+        }
+
+        @Override
+        public Map<Long, Integer> loadAll(Set<? extends Long> ids) {
+            return productRepository.findStockQtyByIds(List.copyOf(ids));
+        }
+    }
+
+    /**
+     * 캐시 지표
+     */
+    public record Metrics(long hitCount, long missCount, long evictionCount, double hitRate, long size) {
+
+        private static Metrics of(CacheStats stats, long size) {
+            return new Metrics(stats.hitCount(), stats.missCount(), stats.evictionCount(), stats.hitRate(), size);
+        }
+    }
+}
@@ -0,0 +1,405 @@
+package sample.hhplus_w2.service.product;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import sample.hhplus_w2.common.TransactionHooks;
+import sample.hhplus_w2.domain.product.ProductChangedEvent;
+import sample.hhplus_w2.domain.product.ProductSearchCondition;
+import sample.hhplus_w2.domain.product.ProductSearchDocument;
+import sample.hhplus_w2.repository.product.ProductRepository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 검색 색인 (메모리 역색인)
+ * 상품명/브랜드/설명의 단어별로 문서 번호(int) 배열을 유지하고, 검색 시 가장 짧은 목록을 기준으로 교집합을 구한다.
+ * 카테고리/활성/가격은 문서 번호로 접근하는 기본형 배열로 필터링한다.
+ *
+ * 문서 번호는 색인 순서대로 증가하므로 목록은 항상 정렬 상태이며, 수정된 상품은 기존 번호를 삭제 표시하고 새 번호로 다시 색인한다.
+ * 결과는 최근 색인(등록/수정)순이며 limit만큼 찾으면 중단한다.
+ * 삭제 표시가 살아있는 문서보다 많아지면 DB에서 다시 적재해 압축한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.product.search", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductSearchIndex {
+
+    private final ProductRepository productRepository;
+    private final int fetchSize;
+    private final int maxPrefixTerms;
+
+    private volatile Segment segment = new Segment();
+    private volatile boolean ready;
+
+    // 재적재 중 변경된 상품 (교체 후 다시 반영)
+    private Set<Long> changedDuringRebuild;
+
+    public ProductSearchIndex(ProductRepository productRepository,
+                              @Value("${app.product.search.fetch-size:1000}") int fetchSize,
+                              @Value("${app.product.search.max-prefix-terms:256}") int maxPrefixTerms) {
+        this.productRepository = productRepository;
+        this.fetchSize = fetchSize;
+        this.maxPrefixTerms = maxPrefixTerms;
+    }
+
+    /**
+     * 상품 검색
+     * @return 상품 ID (최근 색인순)
+     */
+    public List<Long> search(ProductSearchCondition condition, int limit) {
+        List<SearchTokenizer.QueryTerm> terms = SearchTokenizer.queryTerms(condition.keyword());
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        return segment.search(terms, condition, limit, maxPrefixTerms);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 색인된 상품 수
+     */
+    public int size() {
+        return segment.liveCount();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+    }
+
+    /**
+     * 상품 변경 반영 (커밋 후, 재고 변경은 검색 조건과 무관하므로 무시)
+     */
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.stockOnly()) {
+            return;
+        }
+        if (event.productId() == null) {
+            TransactionHooks.afterCommit(this::rebuild);
+            return;
+        }
+        Long productId = event.productId();
+        TransactionHooks.afterCommit(() -> refresh(productId));
+    }
+
+    /**
+     * 단일 상품 재색인 (삭제된 상품은 색인에서 제거)
+     */
+    public synchronized void refresh(Long productId) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.add(productId);
+        }
+        productRepository.findById(productId)
+                .map(ProductSearchDocument::of)
+                .ifPresentOrElse(segment::index, () -> segment.remove(productId));
+    }
+
+    /**
+     * 전체 재적재
+     * 새 색인을 만드는 동안에도 기존 색인으로 검색하고, 완료 후 교체한다.
+     */
+    public void rebuild() {
+        synchronized (this) {
+            if (changedDuringRebuild != null) {
+                return; // 이미 재적재 중
+            }
+            changedDuringRebuild = new LinkedHashSet<>();
+        }
+        try {
+            Segment rebuilt = new Segment();
+            productRepository.scanSearchDocuments(fetchSize, rebuilt::index);
+            synchronized (this) {
+                Set<Long> changed = changedDuringRebuild;
+                changedDuringRebuild = null;
+                segment = rebuilt;
+                changed.forEach(this::refresh);
+                ready = true;
+            }
+            log.info("상품 검색 색인 적재 - {}건, 단어 {}개", rebuilt.liveCount(), rebuilt.termCount());
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changedDuringRebuild = null;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 삭제 표시가 많아지면 재적재로 압축
+     */
+    @Scheduled(fixedDelayString = "${app.product.search.compact-interval-millis:60000}")
+    public void compact() {
+        Segment current = segment;
+        if (current.deletedCount() > Math.max(10_000, current.liveCount())) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 단어별 문서 번호 목록 (오름차순, 색인 시 뒤에만 추가)
+     */
+    static final class PostingList {
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+
+        boolean contains(int doc) {
+            return Arrays.binarySearch(docs, 0, size, doc) >= 0;
+        }
+    }
+
+    /**
+     * 검색 조건 하나 (접두어 일치면 여러 목록의 합집합을 비트셋으로)
+     */
+    private static final class Clause {
+        private final PostingList postings;
+        private final long[] bits;
+        private final int cardinality;
+
+        private Clause(PostingList postings) {
+            this.postings = postings;
+            this.bits = null;
+            this.cardinality = postings.size;
+        }
+
+        private Clause(long[] bits, int cardinality) {
+            this.postings = null;
+            this.bits = bits;
+            this.cardinality = cardinality;
+        }
+
+        boolean contains(int doc) {
+            return postings != null ? postings.contains(doc) : (bits[doc >>> 6] & (1L << doc)) != 0;
+        }
+
+        /**
+         * 문서 번호 오름차순 배열
+         */
+        int[] docs() {
+            if (postings != null) {
+                return postings.docs;
+            }
+            int[] docs = new int[cardinality];
+            int n = 0;
+            for (int word = 0; word < bits.length; word++) {
+                long w = bits[word];
+                while (w != 0) {
+                    docs[n++] = (word << 6) + Long.numberOfTrailingZeros(w);
+                    w &= w - 1;
+                }
+            }
+            return Arrays.copyOf(docs, n);
+        }
+    }
+
+    /**
+     * 색인 본체 (쓰기는 ProductSearchIndex의 락으로 직렬화, 읽기/쓰기는 RW 락으로 분리)
+     */
+    private static final class Segment {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final NavigableMap<String, PostingList> terms = new TreeMap<>();
+        private final Map<Long, Integer> docByProduct = new HashMap<>();
+
+        private long[] productIds = new long[1024];
+        private long[] categoryIds = new long[1024];
+        private long[] prices = new long[1024];
+        private long[] activeBits = new long[16];
+        private long[] deletedBits = new long[16];
+        private int maxDoc;
+        private int deletedCount;
+
+        void index(ProductSearchDocument document) {
+            Set<String> docTerms = SearchTokenizer.indexTerms(document.name(), document.brand(), document.description());
+            lock.writeLock().lock();
+            try {
+                removeInternal(document.id());
+                int doc = maxDoc++;
+                ensureCapacity(maxDoc);
+                productIds[doc] = document.id();
+                categoryIds[doc] = document.categoryId() != null ? document.categoryId() : Long.MIN_VALUE;
+                prices[doc] = toCents(document.price());
+                if (document.active()) {
+                    activeBits[doc >>> 6] |= 1L << doc;
+                }
+                for (String term : docTerms) {
+                    terms.computeIfAbsent(term, t -> new PostingList()).add(doc);
+                }
+                docByProduct.put(document.id(), doc);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Long productId) {
+            lock.writeLock().lock();
+            try {
+                removeInternal(productId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<Long> search(List<SearchTokenizer.QueryTerm> queryTerms, ProductSearchCondition condition,
+                          int limit, int maxPrefixTerms) {
+            lock.readLock().lock();
+            try {
+                List<Clause> clauses = new ArrayList<>(queryTerms.size());
+                for (SearchTokenizer.QueryTerm queryTerm : queryTerms) {
+                    Clause clause = queryTerm.prefix() ? prefixClause(queryTerm.term(), maxPrefixTerms)
+                            : exactClause(queryTerm.term());
+                    if (clause == null) {
+                        return List.of();
+                    }
+                    clauses.add(clause);
+                }
+                clauses.sort(Comparator.comparingInt(clause -> clause.cardinality));
+
+                long minPrice = condition.minPrice() != null ? toCents(condition.minPrice()) : Long.MIN_VALUE;
+                long maxPrice = condition.maxPrice() != null ? toCents(condition.maxPrice()) : Long.MAX_VALUE;
+                Clause driver = clauses.get(0);
+                int[] candidates = driver.docs();
+                int size = driver.postings != null ? driver.postings.size : candidates.length;
+
+                List<Long> result = new ArrayList<>(Math.min(limit, size));
+                for (int i = size - 1; i >= 0 && result.size() < limit; i--) {
+                    int doc = candidates[i];
+                    if (isSet(deletedBits, doc)
+                            || (condition.categoryId() != null && categoryIds[doc] != condition.categoryId())
+                            || (condition.active() != null && isSet(activeBits, doc) != condition.active())
+                            || prices[doc] < minPrice || prices[doc] > maxPrice
+                            || !matchesAll(clauses, doc)) {
+                        continue;
+                    }
+                    result.add(productIds[doc]);
+                }
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        int liveCount() {
+            lock.readLock().lock();
+            try {
+                return docByProduct.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        int deletedCount() {
+            lock.readLock().lock();
+            try {
+                return deletedCount;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        int termCount() {
+            return terms.size();
+        }
+
+        private Clause exactClause(String term) {
+            PostingList postings = terms.get(term);
+            return postings != null ? new Clause(postings) : null;
+        }
+
+        /**
+         * 접두어 일치 (확장 단어가 maxPrefixTerms를 넘으면 일부만 검색하지 않고 예외)
+         */
+        private Clause prefixClause(String prefix, int maxPrefixTerms) {
+            NavigableMap<String, PostingList> matched = terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+            if (matched.isEmpty()) {
+                return null;
+            }
+            if (matched.size() == 1) {
+                return new Clause(matched.firstEntry().getValue());
+            }
+            long[] bits = new long[(maxDoc >>> 6) + 1];
+            int cardinality = 0;
+            int expanded = 0;
+            for (PostingList postings : matched.values()) {
+                if (expanded++ >= maxPrefixTerms) {
+                    throw new IllegalArgumentException("검색어 '" + prefix + "'에 해당하는 단어가 너무 많습니다. 검색어를 더 입력해주세요.");
+                }
+                for (int i = 0; i < postings.size; i++) {
+                    int doc = postings.docs[i];
+                    long mask = 1L << doc;
+                    if ((bits[doc >>> 6] & mask) == 0) {
+                        bits[doc >>> 6] |= mask;
+                        cardinality++;
+                    }
+                }
+            }
+            return new Clause(bits, cardinality);
+        }
+
+        private static boolean matchesAll(List<Clause> clauses, int doc) {
+            for (int c = 1; c < clauses.size(); c++) {
+                if (!clauses.get(c).contains(doc)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void removeInternal(Long productId) {
+            Integer doc = docByProduct.remove(productId);
+            if (doc != null) {
+                deletedBits[doc >>> 6] |= 1L << doc;
+                deletedCount++;
+            }
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > productIds.length) {
+                int newLength = Math.max(capacity, productIds.length * 2);
+                productIds = Arrays.copyOf(productIds, newLength);
+                categoryIds = Arrays.copyOf(categoryIds, newLength);
+                prices = Arrays.copyOf(prices, newLength);
+            }
+            int words = (capacity >>> 6) + 1;
+            if (words > activeBits.length) {
+                int newWords = Math.max(words, activeBits.length * 2);
+                activeBits = Arrays.copyOf(activeBits, newWords);
+                deletedBits = Arrays.copyOf(deletedBits, newWords);
+            }
+        }
+
+        private static boolean isSet(long[] bits, int doc) {
+            return (bits[doc >>> 6] & (1L << doc)) != 0;
+        }
+
+        private static long toCents(BigDecimal price) {
+            return price.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue();
+        }
+    }
+}
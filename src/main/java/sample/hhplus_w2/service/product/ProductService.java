@@ -1,14 +1,27 @@
 package sample.hhplus_w2.service.product;
 
 import jakarta.persistence.OptimisticLockException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import sample.hhplus_w2.domain.product.Product;
+import sample.hhplus_w2.domain.product.ProductCursor;
+import sample.hhplus_w2.domain.product.ProductListRow;
+import sample.hhplus_w2.domain.product.ProductPage;
+import sample.hhplus_w2.domain.product.ProductSearchCondition;
+import sample.hhplus_w2.domain.product.ProductSortType;
+import sample.hhplus_w2.domain.product.ProductSummary;
 import sample.hhplus_w2.repository.product.ProductRepository;
+import sample.hhplus_w2.service.stats.ProductSalesRollupService;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Product Service
@@ -16,10 +29,27 @@ import java.util.List;
 @Service
 public class ProductService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ProductRepository productRepository;
+    private final ProductCatalogCache catalogCache;
+    private final ObjectProvider<ProductSearchIndex> searchIndexProvider;
+    private final ObjectProvider<StockLedger> stockLedgerProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final StockDecreaseMode stockDecreaseMode;
 
-    public ProductService(ProductRepository productRepository) {
+    public ProductService(ProductRepository productRepository,
+                          ProductCatalogCache catalogCache,
+                          ObjectProvider<ProductSearchIndex> searchIndexProvider,
+                          ObjectProvider<StockLedger> stockLedgerProvider,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${app.stock.decrease-mode:OPTIMISTIC}") StockDecreaseMode stockDecreaseMode) {
         this.productRepository = productRepository;
+        this.catalogCache = catalogCache;
+        this.searchIndexProvider = searchIndexProvider;
+        this.stockLedgerProvider = stockLedgerProvider;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.stockDecreaseMode = stockDecreaseMode;
     }
 
     @Transactional
@@ -29,58 +59,164 @@ public class ProductService {
         return productRepository.save(product);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 상품 조회 (카탈로그 캐시, 반환값은 조회용 복사본)
+     */
     public Product getProduct(Long id) {
-        return productRepository.findById(id)
+        return catalogCache.get(id)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + id));
     }
 
-    @Transactional(readOnly = true)
     public List<Product> getAllProducts() {
-        return productRepository.findAll();
+        return catalogCache.getAll();
     }
 
-    @Transactional(readOnly = true)
     public List<Product> getProductsByCategory(Long categoryId) {
-        return productRepository.findByCategoryId(categoryId);
+        return catalogCache.getByCategory(categoryId);
     }
 
-    @Transactional(readOnly = true)
     public List<Product> getActiveProducts() {
-        return productRepository.findByIsActive(true);
+        return catalogCache.getActive();
+    }
+
+    /**
+     * 상품 목록 페이지 조회 (keyset 커서, 요약 컬럼만 조회)
+     * @param cursor 이전 페이지의 nextCursor (null이면 첫 페이지)
+     * @param days POPULAR 정렬 시 판매 통계 기간
+     */
+    public ProductPage getProductPage(Long categoryId, ProductSortType sort, String cursor, int size, int days) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        if (ProductSortType.POPULAR.equals(sort) && !ProductSalesRollupService.WINDOWS.contains(days)) {
+            throw new IllegalArgumentException("지원하지 않는 집계 기간입니다: " + days);
+        }
+        ProductCursor after = cursor != null && !cursor.isBlank() ? ProductCursor.decode(cursor, sort) : null;
+
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        List<ProductListRow> rows = productRepository.findSummaries(sort, categoryId, days, after, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<ProductListRow> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? page.get(page.size() - 1).cursor().encode() : null;
+        return new ProductPage(page.stream().map(ProductListRow::summary).collect(Collectors.toList()), nextCursor);
+    }
+
+    /**
+     * 상품 검색 (메모리 역색인으로 ID를 찾고 상세는 카탈로그 캐시에서 조회)
+     */
+    public List<ProductSummary> searchProducts(ProductSearchCondition condition, int size) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        ProductSearchIndex searchIndex = searchIndexProvider.getIfAvailable();
+        if (searchIndex == null || !searchIndex.isReady()) {
+            throw new IllegalStateException("상품 검색 색인이 준비되지 않았습니다.");
+        }
+        return catalogCache.getAll(searchIndex.search(condition, size)).stream()
+                .map(ProductSummary::of)
+                .collect(Collectors.toList());
+    }
+
+    public Map<String, ProductCatalogCache.Metrics> getCacheMetrics() {
+        return catalogCache.getMetrics();
     }
 
     @Transactional
     public Product updateProduct(Long id, String name, String brand, String description, BigDecimal price) {
-        Product product = getProduct(id);
+        Product product = findProduct(id);
         product.updateInfo(name, brand, description, price);
         return productRepository.save(product);
     }
 
+    @Transactional
+    public Product deactivateProduct(Long id) {
+        Product product = findProduct(id);
+        product.deactivate();
+        return productRepository.save(product);
+    }
+
+    @Transactional
+    public Product activateProduct(Long id) {
+        Product product = findProduct(id);
+        product.activate();
+        return productRepository.save(product);
+    }
+
+    /**
+     * 재고 증가
+     * LEDGER 모드에서 원장이 관리 중인 상품은 원장 hold와 메모리에 반영한다.
+     */
     @Transactional
     public void increaseStock(Long productId, Integer quantity) {
-        Product product = getProduct(productId);
+        if (StockDecreaseMode.LEDGER.equals(stockDecreaseMode) && stockLedger().isTracked(productId)) {
+            stockLedger().restock(productId, quantity);
+            return;
+        }
+        Product product = findProduct(productId);
         product.increaseStock(quantity);
         productRepository.save(product);
     }
 
     /**
-     * 재고 차감 (낙관적 락 사용)
-     * OptimisticLockException 발생 시 false 반환
+     * 재고 차감 (설정된 차감 방식 사용)
      */
-    @Transactional
     public boolean decreaseStock(Long productId, Integer quantity) {
-        try {
-            Product product = getProduct(productId);
-            product.decreaseStock(quantity);
-            productRepository.save(product);
+        return decreaseStock(productId, quantity, stockDecreaseMode);
+    }
+
+    /**
+     * 재고 차감
+     * OPTIMISTIC: OptimisticLockException 발생 시 false 반환
+     * ATOMIC: 조건부 UPDATE로 차감하며 충돌 없이 true 반환
+     * LEDGER: 재고 원장 메모리에서 차감 (커넥션을 점유한 채 대기하지 않도록 트랜잭션 밖에서 처리)
+     */
+    public boolean decreaseStock(Long productId, Integer quantity, StockDecreaseMode mode) {
+        if (StockDecreaseMode.ATOMIC.equals(mode)) {
+            return decreaseStockAtomically(productId, quantity);
+        }
+        if (StockDecreaseMode.LEDGER.equals(mode)) {
+            // 주문 외 차감은 결제 이력으로 복구할 수 없으므로 즉시 반영
+            stockLedger().reserve(productId, quantity);
+            stockLedger().flush(productId);
             return true;
+        }
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                Product product = findProduct(productId);
+                product.decreaseStock(quantity);
+                productRepository.save(product);
+                return true;
+            }));
         } catch (OptimisticLockException | ObjectOptimisticLockingFailureException e) {
             // 낙관적 락 충돌 - 다른 트랜잭션이 먼저 수정함
             return false;
-        } catch (IllegalStateException e) {
-            // 재고 부족
-            throw e;
         }
     }
+
+    private boolean decreaseStockAtomically(Long productId, Integer quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("차감 수량은 1 이상이어야 합니다.");
+        }
+        if (productRepository.decreaseStockIfAvailable(productId, quantity)) {
+            return true;
+        }
+        findProduct(productId); // 상품이 없으면 IllegalArgumentException
+        throw new IllegalStateException("재고가 부족합니다.");
+    }
+
+    /**
+     * 쓰기 경로용 조회 (캐시를 거치지 않고 영속 엔티티를 사용)
+     */
+    private Product findProduct(Long id) {
+        return productRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + id));
+    }
+
+    private StockLedger stockLedger() {
+        StockLedger ledger = stockLedgerProvider.getIfAvailable();
+        if (ledger == null) {
+            throw new IllegalStateException("재고 원장이 활성화되지 않았습니다. (app.stock.ledger.enabled)");
+        }
+        return ledger;
+    }
 }
@@ -0,0 +1,96 @@
+package sample.hhplus_w2.service.product;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색어 분석기
+ * 문자/숫자 연속 구간을 단어로 나누고, 한글과 그 외 문자가 바뀌는 지점에서도 나눈다. ("갤럭시s24" → "갤럭시", "s24")
+ * 한글은 형태소 분석 없이 2-gram으로 색인하고 마지막 글자는 1-gram으로도 색인해 어느 위치의 글자로도 부분 일치가 가능하다.
+ */
+final class SearchTokenizer {
+
+    static final int MAX_TOKEN_LENGTH = 32;
+
+    private SearchTokenizer() {
+    }
+
+    /**
+     * 색인 단어 추출 (중복 제거)
+     */
+    static Set<String> indexTerms(String... texts) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String text : texts) {
+            for (String token : tokenize(text)) {
+                if (isHangul(token.charAt(0))) {
+                    for (int i = 0; i + 1 < token.length(); i++) {
+                        terms.add(token.substring(i, i + 2));
+                    }
+                    terms.add(token.substring(token.length() - 1));
+                } else {
+                    terms.add(token);
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 검색어 분석
+     * 한글 두 글자 이상은 2-gram 모두 일치, 한글 한 글자와 마지막 영문/숫자 단어는 접두어 일치, 나머지는 정확히 일치
+     */
+    static List<QueryTerm> queryTerms(String query) {
+        List<String> tokens = tokenize(query);
+        List<QueryTerm> terms = new ArrayList<>();
+        for (int t = 0; t < tokens.size(); t++) {
+            String token = tokens.get(t);
+            boolean last = t == tokens.size() - 1;
+            if (isHangul(token.charAt(0))) {
+                if (token.length() == 1) {
+                    terms.add(new QueryTerm(token, true));
+                }
+                for (int i = 0; i + 1 < token.length(); i++) {
+                    terms.add(new QueryTerm(token.substring(i, i + 2), false));
+                }
+            } else {
+                terms.add(new QueryTerm(token, last));
+            }
+        }
+        return terms;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            char c = i < lower.length() ? lower.charAt(i) : ' ';
+            boolean wordChar = Character.isLetterOrDigit(c);
+            if (start >= 0 && (!wordChar || isHangul(c) != isHangul(lower.charAt(start)))) {
+                tokens.add(lower.substring(start, Math.min(i, start + MAX_TOKEN_LENGTH)));
+                start = -1;
+            }
+            if (wordChar && start < 0) {
+                start = i;
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+
+    /**
+     * 검색 단어
+     * @param prefix true면 접두어 일치
+     */
+    record QueryTerm(String term, boolean prefix) {
+    }
+}
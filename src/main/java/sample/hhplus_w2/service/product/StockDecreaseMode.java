@@ -0,0 +1,10 @@
+package sample.hhplus_w2.service.product;
+
+/**
+ * 재고 차감 방식
+ */
+public enum StockDecreaseMode {
+    OPTIMISTIC,  // 엔티티 조회 후 차감 (@Version 낙관적 락, 충돌 시 재시도 필요)
+    ATOMIC,      // 조건부 UPDATE 1회 (stock_qty >= 수량일 때만 반영)
+    LEDGER       // 재고 원장 메모리 차감 후 주기적으로 DB 반영 (app.stock.ledger.enabled 필요)
+}
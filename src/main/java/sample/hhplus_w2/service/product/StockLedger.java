@@ -0,0 +1,402 @@
+package sample.hhplus_w2.service.product;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.hhplus_w2.domain.product.Product;
+import sample.hhplus_w2.domain.product.StockLedgerHold;
+import sample.hhplus_w2.repository.order.OrderItemRepository;
+import sample.hhplus_w2.repository.product.ProductRepository;
+import sample.hhplus_w2.repository.product.StockLedgerHoldRepository;
+import sample.hhplus_w2.service.lease.JobLeaseService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 재고 원장 (인기 상품용 메모리 재고)
+ * product.stock_qty에서 일정 수량을 미리 가져와(hold) 샤딩된 원자 카운터로 예약/해제하고,
+ * 주기적으로 보유 수량을 DB에 반영한다.
+ *
+ * 메모리 수량은 항상 DB에서 차감된 뒤에만 늘어나므로 비정상 종료 시 초과 판매가 발생하지 않는다.
+ *
+ * hold는 노드별로 기록하고, 노드마다 자기 임대(job_lease)를 주기적으로 연장한다.
+ * 복구는 임대가 만료된 노드의 hold만 대상으로 하며, 남은 보유 수량에서 마지막 반영 이후 결제분을 제외한 만큼만 재고로 되돌린다.
+ * 임대가 만료된 노드는 예약/반영을 멈추고, 다시 연장되면 메모리 수량을 버리고 hold 기준으로 복구한다.
+ * 기동 시 복구는 웹 서버와 스케줄러가 시작되기 전(싱글톤 초기화 직후)에 실행하며,
+ * 복구가 끝나기 전에는 예약/반영을 하지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.stock.ledger", name = "enabled", havingValue = "true")
+public class StockLedger implements SmartInitializingSingleton {
+
+    private static final String LEASE_PREFIX = "stock-ledger:";
+
+    private final ProductRepository productRepository;
+    private final StockLedgerHoldRepository holdRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final JobLeaseService jobLeaseService;
+    private final TransactionTemplate requiresNewTemplate;
+    private final int stripes;
+    private final int refillSize;
+    private final String nodeId;
+    private final Duration leaseDuration;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private volatile boolean reconciled;
+    private volatile LocalDateTime leasedUntil;     // 본인 임대 만료 시각 (DB 기록 이하)
+
+    public StockLedger(ProductRepository productRepository,
+                       StockLedgerHoldRepository holdRepository,
+                       OrderItemRepository orderItemRepository,
+                       JobLeaseService jobLeaseService,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${app.stock.ledger.stripes:16}") int stripes,
+                       @Value("${app.stock.ledger.refill-size:100}") int refillSize,
+                       @Value("${app.stock.ledger.lease-seconds:30}") long leaseSeconds) {
+        this.productRepository = productRepository;
+        this.holdRepository = holdRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.jobLeaseService = jobLeaseService;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.stripes = Integer.highestOneBit(Math.max(stripes, 1));
+        this.refillSize = refillSize;
+        this.nodeId = jobLeaseService.getNodeId();
+        this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+    }
+
+    /**
+     * 재고 예약 (메모리 차감)
+     * 메모리 수량이 부족하면 DB에서 추가로 가져오고, 그래도 부족하면 예외 발생
+     */
+    public void reserve(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("차감 수량은 1 이상이어야 합니다.");
+        }
+        if (!reconciled) {
+            throw new IllegalStateException("재고 원장 복구가 완료되지 않았습니다.");
+        }
+        if (!isLeaseValid()) {
+            throw new IllegalStateException("재고 원장 임대가 만료되었습니다.");
+        }
+        Entry entry = entries.computeIfAbsent(productId, id -> new Entry(stripes));
+        if (entry.available.tryAcquire(quantity)) {
+            entry.dirty.set(true);
+            return;
+        }
+        synchronized (entry) {
+            while (!entry.available.tryAcquire(quantity)) {
+                int taken = refill(productId, Math.max(refillSize, quantity));
+                if (taken == 0) {
+                    throw new IllegalStateException("재고가 부족합니다.");
+                }
+                entry.available.add(taken);
+            }
+            entry.dirty.set(true);
+        }
+    }
+
+    /**
+     * 예약 해제 (메모리 증가, 다음 반영 시 DB에 기록)
+     * 예약분은 이미 hold에 포함되어 있으므로 메모리만 되돌린다.
+     */
+    public void release(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("증가 수량은 0보다 커야 합니다.");
+        }
+        Entry entry = entries.computeIfAbsent(productId, id -> new Entry(stripes));
+        entry.available.add(quantity);
+        entry.dirty.set(true);
+    }
+
+    /**
+     * 입고 (hold에 먼저 기록한 뒤 메모리 증가)
+     * 새로 들어온 수량은 hold에 없으므로 기록하지 않으면 비정상 종료 시 사라진다.
+     */
+    public void restock(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("증가 수량은 0보다 커야 합니다.");
+        }
+        Entry entry = entries.computeIfAbsent(productId, id -> new Entry(stripes));
+        synchronized (entry) {
+            requiresNewTemplate.executeWithoutResult(status -> {
+                checkLease();
+                addHeld(productId, quantity);
+            });
+            entry.available.add(quantity);
+            entry.dirty.set(true);
+        }
+    }
+
+    public boolean isTracked(Long productId) {
+        return entries.containsKey(productId);
+    }
+
+    /**
+     * 원장이 보유 중인 가용 수량 (DB stock_qty와 별도)
+     */
+    public long getAvailable(Long productId) {
+        Entry entry = entries.get(productId);
+        return entry != null ? entry.available.sum() : 0;
+    }
+
+    /**
+     * 주기적 반영
+     * 보유 수량 중 refillSize를 넘는 여유분은 product.stock_qty로 되돌리고, 나머지를 hold에 기록한다.
+     * 마지막 반영 이후 변경이 없는 상품은 건너뛴다.
+     */
+    @Scheduled(fixedDelayString = "${app.stock.ledger.flush-interval-millis:200}")
+    public void flush() {
+        entries.keySet().forEach(productId -> flush(productId, refillSize));
+    }
+
+    /**
+     * 단일 상품 즉시 반영 (주문 외 경로의 차감은 결제 이력으로 복구할 수 없으므로 즉시 기록)
+     */
+    public void flush(Long productId) {
+        flush(productId, refillSize);
+    }
+
+    /**
+     * 종료 시 보유 수량 전부 반환 후 임대 반납
+     */
+    @PreDestroy
+    public void shutdown() {
+        entries.keySet().forEach(productId -> flush(productId, 0));
+        jobLeaseService.release(LEASE_PREFIX + nodeId);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        renewLease();
+        if (leasedUntil == null) {
+            throw new IllegalStateException("재고 원장 임대를 획득하지 못했습니다.");
+        }
+        reconcile();
+    }
+
+    /**
+     * 본인 임대 연장
+     * 연장 전에 이미 만료되었다면 그 사이 다른 노드가 hold를 복구했을 수 있으므로,
+     * 메모리 수량을 버리고 남은 본인 hold를 복구한다.
+     */
+    @Scheduled(fixedDelayString = "${app.stock.ledger.lease-renew-millis:10000}")
+    public void renewLease() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime previous = leasedUntil;
+        if (!jobLeaseService.tryAcquire(LEASE_PREFIX + nodeId, leaseDuration)) {
+            log.warn("재고 원장 임대 연장 실패 - nodeId={}", nodeId);
+            return;
+        }
+        if (previous != null && !previous.isAfter(now)) {
+            log.warn("재고 원장 임대 만료 후 재획득 - 메모리 수량을 버리고 hold 기준으로 복구 (nodeId={})", nodeId);
+            reconciled = false;
+            entries.clear();
+            reconcile();
+        }
+        leasedUntil = now.plus(leaseDuration);
+    }
+
+    /**
+     * hold 복구 (기동 시 + 주기적)
+     * 임대가 만료된 노드의 보유 수량에서 마지막 반영 이후 결제 완료 수량을 제외하고 재고로 되돌린다.
+     * 살아 있는 노드의 hold와 이번 실행이 관리 중인 상품의 hold는 건드리지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${app.stock.ledger.reconcile-interval-millis:60000}",
+            initialDelayString = "${app.stock.ledger.reconcile-interval-millis:60000}")
+    public void reconcile() {
+        for (StockLedgerHold hold : holdRepository.findAll()) {
+            boolean own = nodeId.equals(hold.getOwner());
+            if (own && entries.containsKey(hold.getProductId())) {
+                continue;
+            }
+            requiresNewTemplate.executeWithoutResult(status -> {
+                // 보유 노드의 임대 행을 잠근 채 회수해 연장과 직렬화하고, 동시에 복구하는 노드 중 하나만 반환
+                if (!own && !jobLeaseService.isExpiredLocked(LEASE_PREFIX + hold.getOwner())) {
+                    return;
+                }
+                if (!holdRepository.deleteIfExists(hold.getId())) {
+                    return;
+                }
+                long paidSince = orderItemRepository.sumPaidQuantitySince(hold.getProductId(), hold.getFlushedAt());
+                int returnable = (int) Math.max(0, hold.getHeldQty() - paidSince);
+                if (returnable > 0) {
+                    productRepository.increaseStockBy(hold.getProductId(), returnable);
+                }
+                log.info("재고 원장 복구 - productId={}, owner={}, held={}, paidSince={}, returned={}",
+                        hold.getProductId(), hold.getOwner(), hold.getHeldQty(), paidSince, returnable);
+            });
+        }
+        reconciled = true;
+    }
+
+    /**
+     * DB 재고를 원장으로 가져온다 (stock_qty 차감 + hold 증가를 같은 트랜잭션에서 처리)
+     * @return 가져온 수량 (0이면 DB 재고 없음)
+     */
+    private int refill(Long productId, int wanted) {
+        Integer taken = requiresNewTemplate.execute(status -> {
+            checkLease();
+            int amount = wanted;
+            while (amount > 0 && !productRepository.decreaseStockIfAvailable(productId, amount)) {
+                Product product = productRepository.findById(productId)
+                        .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
+                amount = Math.min(wanted, product.getStockQty());
+            }
+            if (amount > 0) {
+                addHeld(productId, amount);
+            }
+            return amount;
+        });
+        return taken != null ? taken : 0;
+    }
+
+    private boolean isLeaseValid() {
+        LocalDateTime until = leasedUntil;
+        return until != null && until.isAfter(LocalDateTime.now());
+    }
+
+    /**
+     * 현재 트랜잭션 동안 본인 임대 유지 확인 (만료되었으면 롤백)
+     */
+    private void checkLease() {
+        if (!jobLeaseService.isHeldLocked(LEASE_PREFIX + nodeId)) {
+            throw new IllegalStateException("재고 원장 임대가 만료되었습니다.");
+        }
+    }
+
+    private void addHeld(Long productId, int quantity) {
+        StockLedgerHold hold = holdRepository.findByProductIdAndOwner(productId, nodeId)
+                .orElseGet(() -> StockLedgerHold.create(productId, nodeId, LocalDateTime.now()));
+        hold.addHeld(quantity);
+        holdRepository.save(hold);
+    }
+
+    private void flush(Long productId, int keep) {
+        Entry entry = entries.get(productId);
+        if (entry == null || !reconciled || !isLeaseValid()) {
+            return;
+        }
+        synchronized (entry) {
+            // 변경 표시를 먼저 지운 뒤 읽는다 (반영 중 들어온 변경은 다음 반영 대상)
+            if (!entry.dirty.getAndSet(false) && entry.available.sum() <= keep) {
+                return;
+            }
+            // 메모리를 먼저 줄인 뒤 DB에 되돌린다 (hold >= 메모리 수량 유지)
+            long excess = Math.max(0, entry.available.sum() - keep);
+            int returned = (int) entry.available.drainUpTo(excess);
+            LocalDateTime flushedAt = LocalDateTime.now();
+            int held = (int) Math.max(0, entry.available.sum());
+            try {
+                requiresNewTemplate.executeWithoutResult(status -> {
+                    checkLease();
+                    if (returned > 0) {
+                        productRepository.increaseStockBy(productId, returned);
+                    }
+                    holdRepository.findByProductIdAndOwner(productId, nodeId).ifPresent(hold -> {
+                        if (held == 0) {
+                            holdRepository.delete(hold.getId());
+                        } else {
+                            hold.updateHeld(held, flushedAt);
+                            holdRepository.save(hold);
+                        }
+                    });
+                });
+            } catch (RuntimeException e) {
+                entry.available.add(returned);
+                entry.dirty.set(true);
+                log.warn("재고 원장 반영 실패 - productId={}", productId, e);
+            }
+        }
+    }
+
+    private static class Entry {
+        private final StripedCounter available;
+        private final AtomicBoolean dirty = new AtomicBoolean();   // 마지막 반영 이후 변경 여부
+
+        private Entry(int stripes) {
+            this.available = new StripedCounter(stripes);
+        }
+    }
+
+    /**
+     * 샤딩된 원자 카운터
+     * 스레드별로 다른 셀에서 차감해 단일 카운터 CAS 경합을 줄이고,
+     * 한 셀이 부족하면 다른 셀을 순회한다.
+     */
+    static class StripedCounter {
+        private final AtomicLongArray cells;
+        private final int mask;
+
+        StripedCounter(int stripes) {
+            this.cells = new AtomicLongArray(stripes);
+            this.mask = stripes - 1;
+        }
+
+        void add(long delta) {
+            cells.getAndAdd(index(), delta);
+        }
+
+        long sum() {
+            long sum = 0;
+            for (int i = 0; i < cells.length(); i++) {
+                sum += cells.get(i);
+            }
+            return sum;
+        }
+
+        boolean tryAcquire(long quantity) {
+            int start = index();
+            for (int i = 0; i <= mask; i++) {
+                int idx = (start + i) & mask;
+                long current;
+                while ((current = cells.get(idx)) >= quantity) {
+                    if (cells.compareAndSet(idx, current, current - quantity)) {
+                        return true;
+                    }
+                }
+            }
+            // 여러 셀에 나뉘어 있는 경우 모아서 차감, 부족하면 되돌린다
+            long taken = drainUpTo(quantity);
+            if (taken < quantity) {
+                if (taken > 0) {
+                    add(taken);
+                }
+                return false;
+            }
+            return true;
+        }
+
+        long drainUpTo(long max) {
+            long taken = 0;
+            for (int i = 0; i <= mask && taken < max; i++) {
+                long current;
+                while (taken < max && (current = cells.get(i)) > 0) {
+                    long take = Math.min(current, max - taken);
+                    if (cells.compareAndSet(i, current, current - take)) {
+                        taken += take;
+                    }
+                }
+            }
+            return taken;
+        }
+
+        private int index() {
+            long id = Thread.currentThread().getId();
+            return (int) (id ^ (id >>> 16)) * 0x9E3779B9 >>> 16 & mask;
+        }
+    }
+}
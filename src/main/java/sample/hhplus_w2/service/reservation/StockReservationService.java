@@ -0,0 +1,252 @@
+package sample.hhplus_w2.service.reservation;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.hhplus_w2.common.TransactionHooks;
+import sample.hhplus_w2.domain.order.*;
+import sample.hhplus_w2.domain.reservation.StockReservation;
+import sample.hhplus_w2.domain.reservation.StockReservationStatus;
+import sample.hhplus_w2.repository.coupon.CouponUserRepository;
+import sample.hhplus_w2.repository.order.OrderHistoryRepository;
+import sample.hhplus_w2.repository.order.OrderRepository;
+import sample.hhplus_w2.repository.product.ProductRepository;
+import sample.hhplus_w2.repository.reservation.StockReservationRepository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 시점 재고 예약 서비스
+ * 주문 생성 시 재고를 조건부 UPDATE로 차감해 예약하고, 결제 시 확정한다.
+ * 결제되지 않은 예약은 DelayQueue 스위퍼가 Order.expiresAt 시점에 해제한다. (테이블 스캔 없음)
+ * 만료 처리가 실패하면 (데드락, 연결 끊김 등) 작업을 지수 백오프로 다시 큐에 넣는다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "app.stock.reservation", name = "enabled", havingValue = "true")
+public class StockReservationService {
+
+    private final StockReservationRepository reservationRepository;
+    private final ProductRepository productRepository;
+    private final OrderRepository orderRepository;
+    private final OrderHistoryRepository orderHistoryRepository;
+    private final CouponUserRepository couponUserRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long retryBackoffMillis;
+
+    private final DelayQueue<ExpiryTask> expiryQueue = new DelayQueue<>();
+    private volatile Thread sweeper;
+
+    public StockReservationService(StockReservationRepository reservationRepository,
+                                   ProductRepository productRepository,
+                                   OrderRepository orderRepository,
+                                   OrderHistoryRepository orderHistoryRepository,
+                                   CouponUserRepository couponUserRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.stock.reservation.retry-backoff-millis:1000}") long retryBackoffMillis) {
+        this.reservationRepository = reservationRepository;
+        this.productRepository = productRepository;
+        this.orderRepository = orderRepository;
+        this.orderHistoryRepository = orderHistoryRepository;
+        this.couponUserRepository = couponUserRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retryBackoffMillis = Math.max(retryBackoffMillis, 1);
+    }
+
+    /**
+     * 주문 항목 재고 예약 (주문 생성 트랜잭션 내에서 호출)
+     * 데드락 방지를 위해 상품 ID 순으로 차감하며, 하나라도 부족하면 예외로 주문 생성 전체를 롤백한다.
+     */
+    public void reserve(Order order, List<OrderItem> orderItems) {
+        List<OrderItem> sorted = orderItems.stream()
+                .sorted(Comparator.comparing(OrderItem::getProductId))
+                .collect(Collectors.toList());
+
+        for (OrderItem item : sorted) {
+            if (!productRepository.decreaseStockIfAvailable(item.getProductId(), item.getQty())) {
+                productRepository.findById(item.getProductId())
+                        .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + item.getProductId()));
+                throw new IllegalStateException("재고가 부족합니다.");
+            }
+            reservationRepository.save(StockReservation.reserve(
+                    order.getId(), item.getProductId(), item.getQty(), order.getExpiresAt()));
+        }
+
+        Long orderId = order.getId();
+        LocalDateTime expiresAt = order.getExpiresAt();
+        TransactionHooks.afterCommit(() -> expiryQueue.offer(ExpiryTask.at(orderId, expiresAt)));
+    }
+
+    public boolean hasReservation(Long orderId) {
+        return reservationRepository.existsByOrderId(orderId);
+    }
+
+    /**
+     * 예약 확정 (결제 트랜잭션 내에서 호출)
+     * @return false면 이미 해제된 예약 (만료)
+     */
+    public boolean commit(Long orderId) {
+        return reservationRepository.updateStatusByOrderId(orderId,
+                StockReservationStatus.RESERVED, StockReservationStatus.COMMITTED) > 0;
+    }
+
+    /**
+     * 예약 해제 및 재고 복구
+     * RESERVED 상태일 때만 해제되므로 결제 확정과 동시에 실행되어도 한쪽만 반영된다.
+     * @return 해제된 항목 수
+     */
+    public int release(Long orderId) {
+        Integer released = transactionTemplate.execute(status -> {
+            List<StockReservation> reservations = reservationRepository.findByOrderId(orderId);
+            int updated = reservationRepository.updateStatusByOrderId(orderId,
+                    StockReservationStatus.RESERVED, StockReservationStatus.RELEASED);
+            if (updated == 0) {
+                return 0;
+            }
+            reservations.stream()
+                    .filter(reservation -> StockReservationStatus.RESERVED.equals(reservation.getStatus()))
+                    .forEach(reservation -> productRepository.increaseStockBy(reservation.getProductId(), reservation.getQty()));
+            return updated;
+        });
+        return released != null ? released : 0;
+    }
+
+    /**
+     * 만료 처리 (스위퍼에서 호출)
+     * 결제/만료 스위퍼와 같은 순서로 주문 행을 먼저 잠근 뒤, 결제 대기 중이고 만료된 주문만
+     * 예약 해제 + EXPIRED 전이 + 쿠폰 복구를 한 트랜잭션으로 처리한다.
+     * @return 아직 만료 시각 전이라 처리하지 않았으면 false
+     */
+    public boolean expire(Long orderId) {
+        Boolean done = transactionTemplate.execute(status -> {
+            Optional<Order> locked = orderRepository.findByIdForUpdate(orderId);
+            if (locked.isEmpty()) {
+                release(orderId);
+                return true;
+            }
+            Order order = locked.get();
+            if (!OrderStatus.PENDING.equals(order.getStatus())) {
+                return true; // 결제됨(예약 확정) 또는 만료 시 이미 해제됨
+            }
+            if (!order.isExpired()) {
+                return false;
+            }
+            release(orderId);
+            order.expire();
+            orderRepository.save(order);
+            orderHistoryRepository.save(OrderHistory.create(orderId, OrderStatus.PENDING,
+                    OrderStatus.EXPIRED, "결제 시간 초과", ActorType.SYSTEM));
+            couponUserRepository.restoreByOrderIds(List.of(orderId));
+            return true;
+        });
+        return !Boolean.FALSE.equals(done);
+    }
+
+    /**
+     * 대기 중인 만료 작업 수
+     */
+    public int getPendingExpiryCount() {
+        return expiryQueue.size();
+    }
+
+    /**
+     * 기동 시 미확정 예약을 만료 큐에 등록하고 스위퍼를 시작한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Map<Long, LocalDateTime> pending = reservationRepository.findByStatus(StockReservationStatus.RESERVED).stream()
+                .collect(Collectors.toMap(StockReservation::getOrderId, StockReservation::getExpiresAt,
+                        (a, b) -> a.isBefore(b) ? a : b));
+        pending.forEach((orderId, expiresAt) -> expiryQueue.offer(ExpiryTask.at(orderId, expiresAt)));
+
+        Thread thread = new Thread(this::sweep, "stock-reservation-sweeper");
+        thread.setDaemon(true);
+        thread.start();
+        this.sweeper = thread;
+        log.info("재고 예약 스위퍼 시작 - 미확정 주문 {}건", pending.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread thread = this.sweeper;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void sweep() {
+        while (!Thread.currentThread().isInterrupted()) {
+            ExpiryTask task;
+            try {
+                task = expiryQueue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                if (!expire(task.orderId)) {
+                    expiryQueue.offer(task.retry(retryBackoffMillis));
+                }
+            } catch (RuntimeException e) {
+                ExpiryTask retry = task.retry(retryBackoffMillis);
+                log.warn("재고 예약 만료 처리 실패 - orderId={}, {}회째, {}ms 후 재시도",
+                        task.orderId, retry.attempts, retry.getDelay(TimeUnit.MILLISECONDS), e);
+                expiryQueue.offer(retry);
+            }
+        }
+    }
+
+    /**
+     * 만료 작업 (expiresAt 도달 시 DelayQueue에서 꺼내짐)
+     */
+    private static class ExpiryTask implements Delayed {
+        private static final long MAX_BACKOFF_MILLIS = 60_000;
+
+        private final Long orderId;
+        private final long expiresAtMillis;
+        private final int attempts;
+
+        private ExpiryTask(Long orderId, long expiresAtMillis, int attempts) {
+            this.orderId = orderId;
+            this.expiresAtMillis = expiresAtMillis;
+            this.attempts = attempts;
+        }
+
+        static ExpiryTask at(Long orderId, LocalDateTime expiresAt) {
+            return new ExpiryTask(orderId, expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), 0);
+        }
+
+        /**
+         * 재시도 작업 (backoff * 2^attempts, 최대 1분)
+         */
+        ExpiryTask retry(long backoffMillis) {
+            long delay = Math.min(backoffMillis << Math.min(attempts, 16), MAX_BACKOFF_MILLIS);
+            return new ExpiryTask(orderId, System.currentTimeMillis() + delay, attempts + 1);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(expiresAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(expiresAtMillis, ((ExpiryTask) other).expiresAtMillis);
+        }
+    }
+}
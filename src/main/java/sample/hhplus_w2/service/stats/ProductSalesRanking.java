@@ -0,0 +1,221 @@
+package sample.hhplus_w2.service.stats;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import sample.hhplus_w2.domain.stats.ProductSale;
+import sample.hhplus_w2.domain.stats.ProductSalesRank;
+import sample.hhplus_w2.domain.stats.ProductSalesStats;
+import sample.hhplus_w2.repository.stats.ProductSalesStatsRepository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 상품 메모리 순위
+ * 집계 기간별로 판매량/매출액 순위 트리를 유지해 TOP N, 페이지, 단일 상품 순위를 DB 정렬 없이 조회한다.
+ * 기동 시 product_sales_stats에서 적재하고, 이후 결제마다 판매분을 더한다. (롤백 시 차감)
+ * 판매 기록이 0이 된 상품은 순위에서 제외하며, 일자 전환과 주기적 재적재로 DB 통계와 맞춘다.
+ */
+@Slf4j
+@Component
+public class ProductSalesRanking {
+
+    private static final Comparator<Entry> BY_COUNT = Comparator
+            .comparingInt(Entry::salesCount).reversed()
+            .thenComparing(Entry::salesAmount, Comparator.reverseOrder())
+            .thenComparing(Entry::productId);
+    private static final Comparator<Entry> BY_AMOUNT = Comparator
+            .comparing(Entry::salesAmount, Comparator.reverseOrder())
+            .thenComparing(Comparator.comparingInt(Entry::salesCount).reversed())
+            .thenComparing(Entry::productId);
+
+    private final ProductSalesStatsRepository statsRepository;
+    private final Map<Integer, Board> boards = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public ProductSalesRanking(ProductSalesStatsRepository statsRepository) {
+        this.statsRepository = statsRepository;
+    }
+
+    /**
+     * 기동 시 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+    }
+
+    /**
+     * 주기적 재적재 (메모리 반영이 누락된 경우 보정)
+     */
+    @Scheduled(fixedDelayString = "${app.stats.ranking.rebuild-interval-millis:300000}",
+            initialDelayString = "${app.stats.ranking.rebuild-interval-millis:300000}")
+    public void rebuild() {
+        for (Integer days : ProductSalesRollupService.WINDOWS) {
+            Board board = new Board();
+            statsRepository.findByDaysRange(days).stream()
+                    .filter(stats -> stats.getSalesCount() > 0)
+                    .forEach(stats -> board.put(Entry.of(stats)));
+            boards.put(days, board);
+        }
+        ready = true;
+        log.info("인기 상품 순위 적재 완료 - {}", boards.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().size())));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 판매분 반영 (음수면 차감)
+     */
+    public void addSales(Collection<Integer> daysRanges, List<ProductSale> sales) {
+        if (!ready) {
+            return;
+        }
+        for (Integer days : daysRanges) {
+            Board board = boards.get(days);
+            if (board != null) {
+                sales.forEach(board::add);
+            }
+        }
+    }
+
+    /**
+     * 순위 구간 조회
+     */
+    public List<ProductSalesStats> page(Integer days, SalesRankMetric metric, int offset, int limit) {
+        Board board = board(days);
+        return board.range(metric, offset, limit).stream()
+                .map(entry -> entry.toStats(days))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 단일 상품 순위 조회
+     */
+    public Optional<ProductSalesRank> rankOf(Integer days, SalesRankMetric metric, Long productId) {
+        return board(days).rankOf(days, metric, productId);
+    }
+
+    private Board board(Integer days) {
+        Board board = boards.get(days);
+        if (board == null) {
+            throw new IllegalStateException("인기 상품 순위를 준비 중입니다.");
+        }
+        return board;
+    }
+
+    /**
+     * 집계 기간별 순위판 (판매량/매출액 트리를 같은 잠금으로 갱신)
+     */
+    private static final class Board {
+        private final Map<Long, Entry> entries = new HashMap<>();
+        private final RankTree<Entry> byCount = new RankTree<>(BY_COUNT);
+        private final RankTree<Entry> byAmount = new RankTree<>(BY_AMOUNT);
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private int size() {
+            lock.readLock().lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void put(Entry entry) {
+            lock.writeLock().lock();
+            try {
+                Entry old = entries.put(entry.productId(), entry);
+                if (old != null) {
+                    byCount.remove(old);
+                    byAmount.remove(old);
+                }
+                byCount.insert(entry);
+                byAmount.insert(entry);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void add(ProductSale sale) {
+            lock.writeLock().lock();
+            try {
+                Entry old = entries.get(sale.productId());
+                if (old == null && sale.quantity() <= 0) {
+                    return; // 재적재 이후의 차감은 이미 반영됨
+                }
+                Entry updated = old != null
+                        ? new Entry(old.productId(), old.productName(), old.salesCount() + sale.quantity(),
+                        old.salesAmount().add(sale.amount()))
+                        : new Entry(sale.productId(), sale.productName(), sale.quantity(), sale.amount());
+                if (old != null) {
+                    byCount.remove(old);
+                    byAmount.remove(old);
+                }
+                if (updated.salesCount() <= 0) {
+                    entries.remove(updated.productId());
+                    return;
+                }
+                entries.put(updated.productId(), updated);
+                byCount.insert(updated);
+                byAmount.insert(updated);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private List<Entry> range(SalesRankMetric metric, int offset, int limit) {
+            lock.readLock().lock();
+            try {
+                return tree(metric).range(Math.max(offset, 0), Math.max(limit, 0));
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private Optional<ProductSalesRank> rankOf(Integer days, SalesRankMetric metric, Long productId) {
+            lock.readLock().lock();
+            try {
+                Entry entry = entries.get(productId);
+                if (entry == null) {
+                    return Optional.empty();
+                }
+                int rank = tree(metric).rank(entry) + 1;
+                return Optional.of(new ProductSalesRank(productId, entry.productName(), days, metric.name(),
+                        rank, entries.size(), entry.salesCount(), entry.salesAmount()));
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private RankTree<Entry> tree(SalesRankMetric metric) {
+            return SalesRankMetric.SALES_AMOUNT.equals(metric) ? byAmount : byCount;
+        }
+    }
+
+    private record Entry(Long productId, String productName, int salesCount, BigDecimal salesAmount) {
+
+        private static Entry of(ProductSalesStats stats) {
+            return new Entry(stats.getProductId(), stats.getProductName(), stats.getSalesCount(), stats.getSalesAmount());
+        }
+
+        private ProductSalesStats toStats(Integer days) {
+            return ProductSalesStats.create(productId, productName, salesCount, salesAmount, days);
+        }
+    }
+}
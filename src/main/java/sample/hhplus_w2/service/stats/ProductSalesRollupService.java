@@ -0,0 +1,121 @@
+package sample.hhplus_w2.service.stats;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import sample.hhplus_w2.common.TransactionHooks;
+import sample.hhplus_w2.domain.order.OrderItem;
+import sample.hhplus_w2.domain.product.Product;
+import sample.hhplus_w2.domain.stats.ProductSale;
+import sample.hhplus_w2.repository.product.ProductRepository;
+import sample.hhplus_w2.repository.stats.ProductSalesDailyRepository;
+import sample.hhplus_w2.repository.stats.ProductSalesStatsRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 판매 통계 증분 집계 서비스
+ * 결제 완료 시 당일 상품별 버킷과 기간별(1/3/7/30일) 통계에 판매분을 더하고,
+ * 일자가 바뀌면 기간에서 빠져나간 버킷만큼을 통계에서 제외한다.
+ */
+@Slf4j
+@Service
+public class ProductSalesRollupService {
+
+    public static final List<Integer> WINDOWS = List.of(1, 3, 7, 30);
+
+    private final ProductSalesDailyRepository dailyRepository;
+    private final ProductSalesStatsRepository statsRepository;
+    private final ProductRepository productRepository;
+    private final ProductSalesRanking productSalesRanking;
+    private final SalesWindowCounter salesWindowCounter;
+    private final int catchUpDays;
+
+    public ProductSalesRollupService(ProductSalesDailyRepository dailyRepository,
+                                     ProductSalesStatsRepository statsRepository,
+                                     ProductRepository productRepository,
+                                     ProductSalesRanking productSalesRanking,
+                                     SalesWindowCounter salesWindowCounter,
+                                     @Value("${app.stats.rollover-catch-up-days:7}") int catchUpDays) {
+        this.dailyRepository = dailyRepository;
+        this.statsRepository = statsRepository;
+        this.productRepository = productRepository;
+        this.productSalesRanking = productSalesRanking;
+        this.salesWindowCounter = salesWindowCounter;
+        this.catchUpDays = Math.max(catchUpDays, 0);
+    }
+
+    /**
+     * 결제 완료 판매분 기록 (결제 트랜잭션 내에서 호출)
+     * 상품 ID 순으로 누적해 동시 결제 간 행 잠금 순서를 맞춘다.
+     */
+    public void recordSale(List<OrderItem> orderItems) {
+        if (orderItems.isEmpty()) {
+            return;
+        }
+        Map<Long, ProductSale> byProduct = new TreeMap<>();
+        for (OrderItem item : orderItems) {
+            byProduct.merge(item.getProductId(),
+                    new ProductSale(item.getProductId(), null, item.getQty(), item.getSubtotal()),
+                    ProductSale::merge);
+        }
+
+        Map<Long, String> names = productRepository.findAllById(byProduct.keySet()).stream()
+                .collect(Collectors.toMap(Product::getId, Product::getName));
+        List<ProductSale> sales = new ArrayList<>(byProduct.size());
+        byProduct.values().forEach(sale -> sales.add(new ProductSale(sale.productId(),
+                names.getOrDefault(sale.productId(), "Unknown"), sale.quantity(), sale.amount())));
+
+        dailyRepository.addSales(LocalDate.now(), sales);
+        statsRepository.addSales(WINDOWS, sales);
+        // 메모리 순위/카운터는 결제가 커밋된 뒤에만 반영한다 (커밋 전 판매분 노출 방지)
+        LocalDateTime soldAt = LocalDateTime.now();
+        TransactionHooks.afterCommit(() -> {
+            productSalesRanking.addSales(WINDOWS, sales);
+            sales.forEach(sale -> salesWindowCounter.record(sale.productId(), sale.quantity(), soldAt));
+        });
+    }
+
+    /**
+     * 자정 일자 전환
+     */
+    @Scheduled(cron = "${app.stats.rollover-cron:0 0 0 * * *}")
+    public void rollover() {
+        rollover(LocalDate.now());
+    }
+
+    /**
+     * 일자 전환 처리
+     * N일 통계는 오늘을 포함한 최근 N일 버킷의 합이므로, (today - N)일 버킷이 빠져나간다.
+     * 빠져나간 버킷이 있는 상품만 남은 버킷으로 다시 계산하므로 여러 번 실행되어도 결과가 같고,
+     * 실행이 누락된 날도 catch-up 기간 안에서는 함께 반영된다.
+     */
+    public void rollover(LocalDate today) {
+        for (Integer days : WINDOWS) {
+            LocalDate agedOut = today.minusDays(days);
+            int updated = statsRepository.recomputeFromDaily(days, agedOut.minusDays(catchUpDays), agedOut);
+            log.info("판매 통계 일자 전환 - days={}, agedOut={}, updated={}", days, agedOut, updated);
+        }
+        // 일 버킷은 윈도우 카운터 재적재에도 쓰이므로 최대 90일 + catch-up 기간 보관
+        dailyRepository.deleteBefore(today.minusDays(SalesWindowCounter.MAX_WINDOW + catchUpDays));
+        if (productSalesRanking.isReady()) {
+            productSalesRanking.rebuild();
+        }
+    }
+
+    /**
+     * 지원하는 집계 기간인지 검증
+     */
+    public static void validateWindow(Integer days) {
+        if (days == null || !WINDOWS.contains(days)) {
+            throw new IllegalArgumentException("지원하지 않는 집계 기간입니다. (1, 3, 7, 30일)");
+        }
+    }
+}
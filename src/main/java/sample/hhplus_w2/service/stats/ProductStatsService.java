@@ -1,125 +1,104 @@
 package sample.hhplus_w2.service.stats;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import sample.hhplus_w2.domain.order.Order;
-import sample.hhplus_w2.domain.order.OrderItem;
-import sample.hhplus_w2.domain.order.OrderStatus;
+import sample.hhplus_w2.domain.stats.ProductSalesRank;
 import sample.hhplus_w2.domain.product.Product;
 import sample.hhplus_w2.domain.stats.ProductSalesStats;
-import sample.hhplus_w2.repository.order.OrderItemRepository;
-import sample.hhplus_w2.repository.order.OrderRepository;
+import sample.hhplus_w2.domain.stats.ProductWindowSales;
 import sample.hhplus_w2.repository.product.ProductRepository;
 import sample.hhplus_w2.repository.stats.ProductSalesStatsRepository;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.*;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
  * 상품 판매 통계 서비스
+ * 통계는 결제 시점에 ProductSalesRollupService가 증분으로 갱신하므로 조회만 수행한다.
+ * 메모리 순위(ProductSalesRanking)가 적재된 뒤에는 DB 정렬 없이 메모리에서 조회한다.
  */
 @Service
 public class ProductStatsService {
 
     private final ProductSalesStatsRepository statsRepository;
-    private final OrderRepository orderRepository;
-    private final OrderItemRepository orderItemRepository;
+    private final ProductSalesRanking productSalesRanking;
+    private final SalesWindowCounter salesWindowCounter;
     private final ProductRepository productRepository;
 
     public ProductStatsService(ProductSalesStatsRepository statsRepository,
-                              OrderRepository orderRepository,
-                              OrderItemRepository orderItemRepository,
-                              ProductRepository productRepository) {
+                               ProductSalesRanking productSalesRanking,
+                               SalesWindowCounter salesWindowCounter,
+                               ProductRepository productRepository) {
         this.statsRepository = statsRepository;
-        this.orderRepository = orderRepository;
-        this.orderItemRepository = orderItemRepository;
+        this.productSalesRanking = productSalesRanking;
+        this.salesWindowCounter = salesWindowCounter;
         this.productRepository = productRepository;
     }
 
     /**
      * 최근 N일간 인기 상품 TOP 조회 (판매량 기준)
      */
-    @Transactional
     public List<ProductSalesStats> getTopProductsByPeriod(Integer days, int limit) {
-        // 통계 갱신
-        aggregateSalesStats(days);
+        return getTopProductsByPeriod(days, 0, limit);
+    }
 
-        // TOP N 조회
-        return statsRepository.findByDaysRangeOrderBySalesCountDesc(days, limit);
+    /**
+     * 최근 N일간 인기 상품 순위 페이지 조회 (판매량 기준)
+     */
+    public List<ProductSalesStats> getTopProductsByPeriod(Integer days, int offset, int limit) {
+        ProductSalesRollupService.validateWindow(days);
+        if (productSalesRanking.isReady()) {
+            return productSalesRanking.page(days, SalesRankMetric.SALES_COUNT, offset, limit);
+        }
+        return statsRepository.findByDaysRangeOrderBySalesCountDesc(days, offset, limit);
     }
 
     /**
      * 최근 N일간 인기 상품 TOP 조회 (매출액 기준)
      */
-    @Transactional
     public List<ProductSalesStats> getTopProductsByRevenue(Integer days, int limit) {
-        // 통계 갱신
-        aggregateSalesStats(days);
-
-        // TOP N 조회
-        return statsRepository.findByDaysRangeOrderBySalesAmountDesc(days, limit);
+        return getTopProductsByRevenue(days, 0, limit);
     }
 
     /**
-     * 판매 통계 집계
-     * 최근 N일간의 결제 완료된 주문을 기반으로 상품별 판매량/매출 집계
+     * 최근 N일간 인기 상품 순위 페이지 조회 (매출액 기준)
      */
-    @Transactional
-    public void aggregateSalesStats(Integer days) {
-        LocalDateTime fromDate = LocalDateTime.now().minusDays(days);
-
-        // 최근 N일간 결제 완료된 주문 조회
-        List<Order> paidOrders = orderRepository.findAll().stream()
-                .filter(order -> OrderStatus.PAID.equals(order.getStatus()))
-                .filter(order -> order.getCreatedAt().isAfter(fromDate))
-                .collect(Collectors.toList());
-
-        // 주문 아이템별로 집계
-        Map<Long, SalesData> salesMap = new HashMap<>();
-
-        for (Order order : paidOrders) {
-            List<OrderItem> orderItems = orderItemRepository.findByOrderId(order.getId());
-
-            for (OrderItem item : orderItems) {
-                Long productId = item.getProductId();
-                salesMap.putIfAbsent(productId, new SalesData());
-
-                SalesData data = salesMap.get(productId);
-                data.salesCount += item.getQty();
-                data.salesAmount = data.salesAmount.add(item.getSubtotal());
-            }
+    public List<ProductSalesStats> getTopProductsByRevenue(Integer days, int offset, int limit) {
+        ProductSalesRollupService.validateWindow(days);
+        if (productSalesRanking.isReady()) {
+            return productSalesRanking.page(days, SalesRankMetric.SALES_AMOUNT, offset, limit);
         }
+        return statsRepository.findByDaysRangeOrderBySalesAmountDesc(days, offset, limit);
+    }
 
-        // 통계 저장/업데이트
-        for (Map.Entry<Long, SalesData> entry : salesMap.entrySet()) {
-            Long productId = entry.getKey();
-            SalesData data = entry.getValue();
-
-            Optional<Product> productOpt = productRepository.findById(productId);
-            String productName = productOpt.map(Product::getName).orElse("Unknown");
-
-            Optional<ProductSalesStats> existingStats =
-                    statsRepository.findByProductIdAndDaysRange(productId, days);
-
-            if (existingStats.isPresent()) {
-                ProductSalesStats stats = existingStats.get();
-                stats.update(data.salesCount, data.salesAmount);
-                statsRepository.save(stats);
-            } else {
-                ProductSalesStats newStats = ProductSalesStats.create(
-                        productId, productName, data.salesCount, data.salesAmount, days);
-                statsRepository.save(newStats);
-            }
+    /**
+     * 단일 상품 순위 조회
+     */
+    public ProductSalesRank getProductRank(Long productId, Integer days, SalesRankMetric metric) {
+        ProductSalesRollupService.validateWindow(days);
+        if (!productSalesRanking.isReady()) {
+            throw new IllegalStateException("인기 상품 순위를 준비 중입니다.");
         }
+        return productSalesRanking.rankOf(days, metric, productId)
+                .orElseThrow(() -> new IllegalArgumentException("판매 기록이 없는 상품입니다: " + productId));
     }
 
     /**
-     * 집계 데이터 임시 저장용 내부 클래스
+     * 최근 N시간/일 인기 상품 조회 (N은 1~90, 시간 버킷 합산)
      */
-    private static class SalesData {
-        int salesCount = 0;
-        BigDecimal salesAmount = BigDecimal.ZERO;
+    public List<ProductWindowSales> getTopProductsInWindow(SalesWindowUnit unit, int n, int limit) {
+        SalesWindowCounter.validateWindow(n);
+        if (!salesWindowCounter.isReady()) {
+            throw new IllegalStateException("판매량 집계를 준비 중입니다.");
+        }
+        List<ProductWindowSales> top = salesWindowCounter.top(unit, n, limit, LocalDateTime.now());
+        Map<Long, String> names = productRepository.findAllById(
+                        top.stream().map(ProductWindowSales::productId).collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(Product::getId, Product::getName));
+        return top.stream()
+                .map(sales -> new ProductWindowSales(sales.productId(),
+                        names.getOrDefault(sales.productId(), "Unknown"), sales.salesCount()))
+                .collect(Collectors.toList());
     }
 }
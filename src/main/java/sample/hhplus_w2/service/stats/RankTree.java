@@ -0,0 +1,153 @@
+package sample.hhplus_w2.service.stats;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 순위 트리 (서브트리 크기를 가진 treap)
+ * 삽입/삭제/순위 조회/k번째 조회가 O(log n)이며, offset 페이지 조회는 O(log n + limit)이다.
+ * 동기화하지 않으므로 호출 측에서 잠금을 관리한다.
+ */
+final class RankTree<K> {
+
+    private final Comparator<K> comparator;
+    private Node<K> root;
+
+    RankTree(Comparator<K> comparator) {
+        this.comparator = comparator;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    void insert(K key) {
+        Node<K>[] parts = split(root, key);
+        root = merge(merge(parts[0], new Node<>(key)), parts[1]);
+    }
+
+    void remove(K key) {
+        root = remove(root, key);
+    }
+
+    /**
+     * 0부터 시작하는 순위 (없으면 -1)
+     */
+    int rank(K key) {
+        int rank = 0;
+        Node<K> node = root;
+        while (node != null) {
+            int cmp = comparator.compare(key, node.key);
+            if (cmp < 0) {
+                node = node.left;
+            } else if (cmp > 0) {
+                rank += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return rank + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 순위 구간 조회 [offset, offset + limit)
+     */
+    List<K> range(int offset, int limit) {
+        List<K> result = new ArrayList<>(Math.max(0, Math.min(limit, size() - offset)));
+        collect(root, offset, limit, result);
+        return result;
+    }
+
+    private void collect(Node<K> node, int offset, int limit, List<K> out) {
+        if (node == null || out.size() >= limit) {
+            return;
+        }
+        int leftSize = size(node.left);
+        if (offset < leftSize) {
+            collect(node.left, offset, limit, out);
+        }
+        if (out.size() < limit && offset <= leftSize) {
+            out.add(node.key);
+        }
+        if (out.size() < limit) {
+            collect(node.right, Math.max(0, offset - leftSize - 1), limit, out);
+        }
+    }
+
+    /**
+     * key 미만 / key 이상으로 분리
+     */
+    @SuppressWarnings("unchecked")
+    private Node<K>[] split(Node<K> node, K key) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (comparator.compare(node.key, key) < 0) {
+            Node<K>[] parts = split(node.right, key);
+            node.right = parts[0];
+            update(node);
+            return new Node[]{node, parts[1]};
+        }
+        Node<K>[] parts = split(node.left, key);
+        node.left = parts[1];
+        update(node);
+        return new Node[]{parts[0], node};
+    }
+
+    private Node<K> merge(Node<K> left, Node<K> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private Node<K> remove(Node<K> node, K key) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = comparator.compare(key, node.key);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = remove(node.left, key);
+        } else {
+            node.right = remove(node.right, key);
+        }
+        update(node);
+        return node;
+    }
+
+    private static int size(Node<?> node) {
+        return node != null ? node.size : 0;
+    }
+
+    private static void update(Node<?> node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    private static final class Node<K> {
+        private final K key;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private int size = 1;
+        private Node<K> left;
+        private Node<K> right;
+
+        private Node(K key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package sample.hhplus_w2.service.stats;
+
+/**
+ * 인기 상품 순위 기준
+ */
+public enum SalesRankMetric {
+    SALES_COUNT,   // 판매량
+    SALES_AMOUNT   // 매출액
+}
@@ -0,0 +1,207 @@
+package sample.hhplus_w2.service.stats;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import sample.hhplus_w2.domain.stats.ProductWindowSales;
+import sample.hhplus_w2.repository.order.OrderItemRepository;
+import sample.hhplus_w2.repository.stats.ProductSalesDailyRepository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 시간 버킷 기반 슬라이딩 윈도우 판매량 카운터
+ * 상품별로 최근 90시간/90일의 판매량을 long 배열 링 버퍼에 보관하고,
+ * 임의의 N(1~90)시간/일 판매량을 버킷 합산으로 계산한다.
+ *
+ * 메모리: 상품당 (90 + 90) * 8바이트 = 1,440바이트 + 객체 헤더/맵 엔트리 약 150바이트
+ * (상품 10만 개 기준 약 160MB). 링 버퍼는 시간이 지나도 늘어나지 않는다.
+ */
+@Slf4j
+@Component
+public class SalesWindowCounter {
+
+    public static final int MAX_WINDOW = 90;
+    private static final long MILLIS_PER_HOUR = 3_600_000L;
+
+    private final ProductSalesDailyRepository dailyRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final int fetchSize;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private volatile Map<Long, Counter> counters = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public SalesWindowCounter(ProductSalesDailyRepository dailyRepository,
+                              OrderItemRepository orderItemRepository,
+                              @Value("${app.stats.window.fetch-size:1000}") int fetchSize) {
+        this.dailyRepository = dailyRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 기동 시 적재
+     * 일 버킷은 product_sales_daily에서, 시간 버킷은 최근 90시간 결제 내역에서 커서로 한 행씩 읽어 채운다.
+     * (행을 엔티티 목록으로 모으지 않으므로 힙에는 카운터만 남는다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Counter> loaded = new ConcurrentHashMap<>();
+        dailyRepository.scanSince(now.toLocalDate().minusDays(MAX_WINDOW - 1), fetchSize, daily ->
+                loaded.computeIfAbsent(daily.productId(), id -> new Counter())
+                        .days.add(daily.soldAt().toLocalDate().toEpochDay(), daily.quantity()));
+        orderItemRepository.scanPaidSaleEventsSince(now.minusHours(MAX_WINDOW), fetchSize, event ->
+                loaded.computeIfAbsent(event.productId(), id -> new Counter())
+                        .hours.add(hourEpoch(event.soldAt()), event.quantity()));
+        this.counters = loaded;
+        this.ready = true;
+        log.info("판매량 윈도우 카운터 적재 완료 - 상품 {}개", loaded.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 판매량 기록 (음수면 차감)
+     */
+    public void record(Long productId, long quantity, LocalDateTime soldAt) {
+        if (!ready) {
+            return;
+        }
+        Counter counter = counters.computeIfAbsent(productId, id -> new Counter());
+        synchronized (counter) {
+            counter.days.add(soldAt.toLocalDate().toEpochDay(), quantity);
+            counter.hours.add(hourEpoch(soldAt), quantity);
+        }
+    }
+
+    /**
+     * 단일 상품의 최근 N시간/일 판매량
+     */
+    public long sum(Long productId, SalesWindowUnit unit, int n, LocalDateTime now) {
+        validateWindow(n);
+        Counter counter = counters.get(productId);
+        return counter != null ? counter.sum(unit, currentEpoch(unit, now), n) : 0;
+    }
+
+    /**
+     * 최근 N시간/일 판매량 상위 상품 (판매량 내림차순, 동률은 상품 ID 오름차순)
+     * 전체 상품을 한 번 훑으며 크기 limit의 최소 힙으로 선별한다.
+     */
+    public List<ProductWindowSales> top(SalesWindowUnit unit, int n, int limit, LocalDateTime now) {
+        validateWindow(n);
+        if (limit <= 0) {
+            return List.of();
+        }
+        long epoch = currentEpoch(unit, now);
+        Comparator<Map.Entry<Long, Long>> ascending = Map.Entry.<Long, Long>comparingByValue()
+                .thenComparing(Map.Entry.<Long, Long>comparingByKey().reversed());
+        PriorityQueue<Map.Entry<Long, Long>> heap = new PriorityQueue<>(limit + 1, ascending);
+
+        counters.forEach((productId, counter) -> {
+            long total = counter.sum(unit, epoch, n);
+            if (total <= 0) {
+                return;
+            }
+            if (heap.size() < limit) {
+                heap.add(Map.entry(productId, total));
+            } else if (ascending.compare(Map.entry(productId, total), heap.peek()) > 0) {
+                heap.poll();
+                heap.add(Map.entry(productId, total));
+            }
+        });
+
+        List<Map.Entry<Long, Long>> sorted = new ArrayList<>(heap);
+        sorted.sort(ascending.reversed());
+        List<ProductWindowSales> result = new ArrayList<>(sorted.size());
+        sorted.forEach(entry -> result.add(new ProductWindowSales(entry.getKey(), null, entry.getValue())));
+        return result;
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    /**
+     * 상품당 버킷 메모리 (바이트, 헤더 제외)
+     */
+    public static long bucketBytesPerProduct() {
+        return 2L * MAX_WINDOW * Long.BYTES;
+    }
+
+    public static void validateWindow(int n) {
+        if (n < 1 || n > MAX_WINDOW) {
+            throw new IllegalArgumentException("집계 기간은 1 이상 " + MAX_WINDOW + " 이하여야 합니다.");
+        }
+    }
+
+    private long currentEpoch(SalesWindowUnit unit, LocalDateTime now) {
+        return SalesWindowUnit.HOURS.equals(unit) ? hourEpoch(now) : now.toLocalDate().toEpochDay();
+    }
+
+    private long hourEpoch(LocalDateTime time) {
+        return time.atZone(zone).toInstant().toEpochMilli() / MILLIS_PER_HOUR;
+    }
+
+    /**
+     * 상품별 시간/일 링 버퍼
+     */
+    private static final class Counter {
+        private final Ring hours = new Ring();
+        private final Ring days = new Ring();
+
+        private synchronized long sum(SalesWindowUnit unit, long epoch, int n) {
+            return (SalesWindowUnit.HOURS.equals(unit) ? hours : days).sum(epoch - n + 1, epoch);
+        }
+    }
+
+    /**
+     * 고정 크기 링 버퍼
+     * slots[epoch % 90]에 해당 시간/일의 판매량을 누적하고, 최신 epoch보다 90 이상 오래된 슬롯은 무효로 본다.
+     * 시간이 앞으로 가면 건너뛴 슬롯만 0으로 비우므로 별도 정리 작업이 필요 없다.
+     */
+    static final class Ring {
+        private final long[] slots = new long[MAX_WINDOW];
+        private long latest = Long.MIN_VALUE;
+
+        void add(long epoch, long quantity) {
+            if (latest == Long.MIN_VALUE) {
+                latest = epoch;
+            } else if (epoch > latest) {
+                long gap = Math.min(epoch - latest, MAX_WINDOW);
+                for (long e = epoch - gap + 1; e <= epoch; e++) {
+                    slots[Math.floorMod(e, MAX_WINDOW)] = 0;
+                }
+                latest = epoch;
+            } else if (epoch <= latest - MAX_WINDOW) {
+                return; // 보관 범위를 벗어난 과거 기록
+            }
+            slots[Math.floorMod(epoch, MAX_WINDOW)] += quantity;
+        }
+
+        long sum(long fromEpoch, long toEpoch) {
+            if (latest == Long.MIN_VALUE) {
+                return 0;
+            }
+            long from = Math.max(fromEpoch, latest - MAX_WINDOW + 1);
+            long to = Math.min(toEpoch, latest);
+            long total = 0;
+            for (long e = from; e <= to; e++) {
+                total += slots[Math.floorMod(e, MAX_WINDOW)];
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package sample.hhplus_w2.service.stats;
+
+/**
+ * 판매 집계 시간 버킷 단위
+ */
+public enum SalesWindowUnit {
+    HOURS,
+    DAYS
+}
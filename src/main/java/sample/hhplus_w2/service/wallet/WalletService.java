@@ -0,0 +1,95 @@
+package sample.hhplus_w2.service.wallet;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sample.hhplus_w2.domain.wallet.Wallet;
+import sample.hhplus_w2.domain.wallet.WalletTransaction;
+import sample.hhplus_w2.repository.wallet.WalletRepository;
+import sample.hhplus_w2.repository.wallet.WalletTransactionRepository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 포인트 지갑 서비스
+ * 잔액은 조건부 UPDATE(balance >= amount)로만 차감하며, 모든 변경은 wallet_transaction에 기록한다.
+ * 차감은 해당 사용자의 wallet 행에만 잠금을 걸므로 다른 사용자의 결제와 경합하지 않는다.
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.wallet", name = "enabled", havingValue = "true")
+public class WalletService {
+
+    private static final int MAX_TRANSACTION_PAGE_SIZE = 100;
+
+    private final WalletRepository walletRepository;
+    private final WalletTransactionRepository transactionRepository;
+    private final BigDecimal maxChargeAmount;
+
+    public WalletService(WalletRepository walletRepository,
+                         WalletTransactionRepository transactionRepository,
+                         @Value("${app.wallet.max-charge-amount:1000000}") BigDecimal maxChargeAmount) {
+        this.walletRepository = walletRepository;
+        this.transactionRepository = transactionRepository;
+        this.maxChargeAmount = maxChargeAmount;
+    }
+
+    /**
+     * 포인트 충전 (지갑이 없으면 생성)
+     */
+    @Transactional
+    public Wallet charge(Long userId, BigDecimal amount) {
+        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("충전 금액은 0보다 커야 합니다.");
+        }
+        if (amount.compareTo(maxChargeAmount) > 0) {
+            throw new IllegalArgumentException("1회 충전 한도를 초과했습니다: " + maxChargeAmount);
+        }
+
+        walletRepository.createIfAbsent(userId);
+        walletRepository.credit(userId, amount);
+        BigDecimal balance = currentBalance(userId);
+        transactionRepository.save(WalletTransaction.charge(userId, amount, balance));
+
+        return getWallet(userId);
+    }
+
+    /**
+     * 결제 금액 차감 (결제 트랜잭션 내에서 호출)
+     * 잔액이 부족하면 예외로 결제 트랜잭션 전체를 롤백한다.
+     */
+    @Transactional
+    public void debit(Long userId, BigDecimal amount, Long orderId) {
+        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+            return;
+        }
+        if (!walletRepository.debitIfSufficient(userId, amount)) {
+            throw new IllegalStateException("잔액이 부족합니다.");
+        }
+        BigDecimal balance = currentBalance(userId);
+        transactionRepository.save(WalletTransaction.payment(userId, amount, balance, orderId));
+    }
+
+    @Transactional(readOnly = true)
+    public Wallet getWallet(Long userId) {
+        return walletRepository.findByUserId(userId)
+                .orElseThrow(() -> new IllegalArgumentException("지갑을 찾을 수 없습니다: " + userId));
+    }
+
+    /**
+     * 최근 거래 내역 (최신순)
+     */
+    @Transactional(readOnly = true)
+    public List<WalletTransaction> getTransactions(Long userId, int size) {
+        if (size <= 0 || size > MAX_TRANSACTION_PAGE_SIZE) {
+            throw new IllegalArgumentException("조회 크기는 1~" + MAX_TRANSACTION_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        return transactionRepository.findRecentByUserId(userId, size);
+    }
+
+    private BigDecimal currentBalance(Long userId) {
+        return walletRepository.findBalanceByUserId(userId)
+                .orElseThrow(() -> new IllegalArgumentException("지갑을 찾을 수 없습니다: " + userId));
+    }
+}
@@ -0,0 +1,196 @@
+package sample.hhplus_w2.benchmark;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.hhplus_w2.domain.cart.Cart;
+import sample.hhplus_w2.domain.cart.CartItem;
+import sample.hhplus_w2.domain.order.Order;
+import sample.hhplus_w2.domain.order.OrderItem;
+import sample.hhplus_w2.domain.product.Product;
+import sample.hhplus_w2.repository.cart.CartItemRepository;
+import sample.hhplus_w2.repository.cart.CartRepository;
+import sample.hhplus_w2.repository.order.OrderHistoryRepository;
+import sample.hhplus_w2.repository.order.OrderItemRepository;
+import sample.hhplus_w2.repository.order.OrderRepository;
+import sample.hhplus_w2.repository.product.ProductRepository;
+import sample.hhplus_w2.service.order.OrderService;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 주문 생성 저장 벤치마크 (주문 항목 건별 INSERT vs 다중 행 INSERT)
+ * 장바구니 항목 수별로 DB 왕복 횟수(PreparedStatement 실행 수)와 지연 시간을 비교한다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderCreateBenchmarkTest {
+
+    private static final int ROUNDS = 20;
+    private static final AtomicLong STATEMENTS = new AtomicLong();
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private OrderHistoryRepository orderHistoryRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        orderHistoryRepository.deleteAll();
+        orderItemRepository.deleteAll();
+        orderRepository.deleteAll();
+        cartItemRepository.deleteAll();
+        cartRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @ParameterizedTest(name = "장바구니 항목 {0}개")
+    @ValueSource(ints = {1, 10, 50, 200})
+    @DisplayName("주문 항목 저장 - 건별 INSERT vs 다중 행 INSERT")
+    void compareOrderItemInserts(int lines) {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < lines; i++) {
+            products.add(productRepository.save(Product.create(1L, "상품" + i, "브랜드", "설명",
+                    new BigDecimal("1000"), 1000)));
+        }
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Result perRow = measure("PER_ROW", lines, () -> transactionTemplate.executeWithoutResult(status -> {
+            Order order = orderRepository.save(Order.create(1L, new BigDecimal("1000"), BigDecimal.ZERO));
+            toOrderItems(order.getId(), products).forEach(orderItemRepository::save);
+        }));
+        Result multiRow = measure("MULTI_ROW", lines, () -> transactionTemplate.executeWithoutResult(status -> {
+            Order order = orderRepository.save(Order.create(1L, new BigDecimal("1000"), BigDecimal.ZERO));
+            orderItemRepository.insertAll(toOrderItems(order.getId(), products));
+        }));
+
+        Long cartId = createCart(products);
+        Result createOrder = measure("CREATE_ORDER", lines, () -> orderService.createOrder(1L, cartId));
+
+        System.out.printf("[lines=%d] %s%n", lines, perRow);
+        System.out.printf("[lines=%d] %s%n", lines, multiRow);
+        System.out.printf("[lines=%d] %s%n", lines, createOrder);
+
+        // 다중 행 INSERT는 항목 수와 무관하게 주문 1회 + 항목 1회
+        assertThat(multiRow.statementsPerRound()).isEqualTo(2);
+        assertThat(perRow.statementsPerRound()).isEqualTo(1 + lines);
+        assertThat(orderService.getOrderItems(orderRepository.findByUserId(1L).get(0).getId())).hasSize(lines);
+    }
+
+    private Result measure(String label, int lines, Runnable round) {
+        round.run(); // 워밍업
+        long statementsBefore = STATEMENTS.get();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            round.run();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        return new Result(label, lines, (STATEMENTS.get() - statementsBefore) / ROUNDS, elapsedNanos / ROUNDS);
+    }
+
+    private List<OrderItem> toOrderItems(Long orderId, List<Product> products) {
+        List<OrderItem> items = new ArrayList<>();
+        for (Product product : products) {
+            items.add(OrderItem.create(orderId, product.getId(), 1, product.getPrice()));
+        }
+        return items;
+    }
+
+    private Long createCart(List<Product> products) {
+        Cart cart = cartRepository.save(Cart.createForUser(1L));
+        for (Product product : products) {
+            cartItemRepository.save(CartItem.create(cart.getId(), product.getId(), 1, product.getPrice()));
+        }
+        return cart.getId();
+    }
+
+    private record Result(String label, int lines, long statementsPerRound, long nanosPerRound) {
+
+        @Override
+        public String toString() {
+            return String.format("%-12s statements/order=%d latency=%.3fms",
+                    label, statementsPerRound, nanosPerRound / 1_000_000.0);
+        }
+    }
+
+    /**
+     * PreparedStatement 생성 수를 세는 DataSource 래퍼 (DB 왕복 횟수 근사)
+     */
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof DelegatingDataSource)) {
+                        return new DelegatingDataSource(dataSource) {
+                            @Override
+                            public Connection getConnection() throws SQLException {
+                                return countingConnection(super.getConnection());
+                            }
+                        };
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        private static Connection countingConnection(Connection target) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        if (method.getName().startsWith("prepare")) {
+                            STATEMENTS.incrementAndGet();
+                        }
+                        try {
+                            return method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package sample.hhplus_w2.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import sample.hhplus_w2.domain.product.ProductSearchCondition;
+import sample.hhplus_w2.domain.product.ProductSearchDocument;
+import sample.hhplus_w2.repository.product.ProductRepository;
+import sample.hhplus_w2.service.product.ProductSearchIndex;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 메모리 검색 색인 벤치마크
+ * 100만 상품을 색인한 뒤 단일 스레드에서 검색 지연 시간(p50/p99)을 측정한다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class ProductSearchBenchmarkTest {
+
+    private static final int PRODUCTS = 1_000_000;
+    private static final int QUERIES = 2_000;
+    private static final String[] NOUNS = {"노트북", "키보드", "마우스", "모니터", "태블릿", "케이스", "충전기", "이어폰", "스피커", "카메라"};
+    private static final String[] ADJECTIVES = {"무선", "게이밍", "초경량", "휴대용", "고속", "프리미엄", "미니", "대형"};
+    private static final String[] BRANDS = {"samsung", "lg", "apple", "logitech", "sony", "anker", "asus", "dell"};
+
+    @Test
+    @DisplayName("100만 상품 검색 지연 시간")
+    @SuppressWarnings("unchecked")
+    void searchLatency() {
+        ProductRepository productRepository = mock(ProductRepository.class);
+        doAnswer(invocation -> {
+            Consumer<ProductSearchDocument> consumer = invocation.getArgument(1);
+            Random random = new Random(42);
+            for (long id = 1; id <= PRODUCTS; id++) {
+                String name = pick(random, ADJECTIVES) + " " + pick(random, NOUNS) + " " + random.nextInt(1000);
+                consumer.accept(new ProductSearchDocument(id, (long) random.nextInt(50), name, pick(random, BRANDS),
+                        pick(random, ADJECTIVES) + " " + pick(random, NOUNS) + " 상품", BigDecimal.valueOf(random.nextInt(1_000_000)),
+                        random.nextInt(10) != 0));
+            }
+            return null;
+        }).when(productRepository).scanSearchDocuments(anyInt(), any(Consumer.class));
+
+        ProductSearchIndex index = new ProductSearchIndex(productRepository, 1000, 256);
+        long buildStart = System.nanoTime();
+        index.rebuild();
+        System.out.printf("색인 적재: %d건, %dms%n", index.size(), (System.nanoTime() - buildStart) / 1_000_000);
+
+        List<ProductSearchCondition> conditions = List.of(
+                new ProductSearchCondition("무선 마우스", null, true, null, null),
+                new ProductSearchCondition("게이밍 키보드", 7L, true, null, null),
+                new ProductSearchCondition("sam", null, true, new BigDecimal("100000"), new BigDecimal("300000")),
+                new ProductSearchCondition("노트", null, null, null, null),
+                new ProductSearchCondition("프리미엄 카메라 lo", 3L, true, null, new BigDecimal("500000")));
+
+        long[] latencies = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            ProductSearchCondition condition = conditions.get(i % conditions.size());
+            long start = System.nanoTime();
+            List<Long> result = index.search(condition, 20);
+            latencies[i] = System.nanoTime() - start;
+            assertThat(result).hasSizeLessThanOrEqualTo(20);
+        }
+        Arrays.sort(latencies);
+        double p50 = latencies[QUERIES / 2] / 1_000_000.0;
+        double p99 = latencies[QUERIES * 99 / 100] / 1_000_000.0;
+        System.out.printf("검색 %d회: p50=%.3fms p99=%.3fms%n", QUERIES, p50, p99);
+
+        assertThat(p50).isLessThan(5.0);
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,76 @@
+package sample.hhplus_w2.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import sample.hhplus_w2.domain.stats.ProductWindowSales;
+import sample.hhplus_w2.repository.order.OrderItemRepository;
+import sample.hhplus_w2.repository.stats.ProductSalesDailyRepository;
+import sample.hhplus_w2.service.stats.SalesWindowCounter;
+import sample.hhplus_w2.service.stats.SalesWindowUnit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 슬라이딩 윈도우 판매량 카운터 벤치마크
+ * 상품 10만 개에 90일치 판매를 기록한 뒤 기록 처리량, 임의 기간 TOP N 조회 지연, 메모리 사용량을 측정한다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class SalesWindowBenchmarkTest {
+
+    private static final int PRODUCTS = 100_000;
+    private static final int SALES = 2_000_000;
+
+    @Test
+    @DisplayName("상품 10만 개 - 기록 처리량, TOP 10 조회 지연, 메모리")
+    void slidingWindow_100kProducts() {
+        ProductSalesDailyRepository dailyRepository = mock(ProductSalesDailyRepository.class);
+        OrderItemRepository orderItemRepository = mock(OrderItemRepository.class);
+        SalesWindowCounter counter = new SalesWindowCounter(dailyRepository, orderItemRepository, 1000);
+        counter.rebuild();
+
+        LocalDateTime now = LocalDateTime.now();
+        long heapBefore = usedHeap();
+
+        // 기록 - 시간 순으로 90일에 걸쳐 분산
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < SALES; i++) {
+            long minutesAgo = (long) (SALES - i) * (90L * 24 * 60) / SALES;
+            counter.record(random.nextLong(1, PRODUCTS + 1), random.nextInt(1, 4), now.minusMinutes(minutesAgo));
+        }
+        long recordNanos = System.nanoTime() - startedAt;
+        long heapAfter = usedHeap();
+
+        System.out.printf("[products=%d] record %d sales: %dms (%.0f ops/s)%n", counter.size(), SALES,
+                recordNanos / 1_000_000, SALES / (recordNanos / 1_000_000_000.0));
+        System.out.printf("[products=%d] bucket bytes/product=%d, measured heap delta=%dMB%n", counter.size(),
+                SalesWindowCounter.bucketBytesPerProduct(), (heapAfter - heapBefore) / (1024 * 1024));
+
+        for (int[] window : new int[][]{{1, 0}, {24, 0}, {90, 0}, {1, 1}, {7, 1}, {30, 1}, {90, 1}}) {
+            SalesWindowUnit unit = window[1] == 0 ? SalesWindowUnit.HOURS : SalesWindowUnit.DAYS;
+            counter.top(unit, window[0], 10, now); // 워밍업
+            long queryStartedAt = System.nanoTime();
+            List<ProductWindowSales> top = counter.top(unit, window[0], 10, now);
+            long queryNanos = System.nanoTime() - queryStartedAt;
+            System.out.printf("[products=%d] top10 last %d %s: %.2fms (1st=%s)%n", counter.size(), window[0], unit,
+                    queryNanos / 1_000_000.0, top.isEmpty() ? "-" : top.get(0).salesCount());
+
+            assertThat(top).isSortedAccordingTo((a, b) -> Long.compare(b.salesCount(), a.salesCount()));
+        }
+
+        assertThat(counter.size()).isEqualTo(PRODUCTS);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
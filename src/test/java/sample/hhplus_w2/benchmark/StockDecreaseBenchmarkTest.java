@@ -0,0 +1,130 @@
+package sample.hhplus_w2.benchmark;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import sample.hhplus_w2.domain.product.Product;
+import sample.hhplus_w2.repository.product.ProductRepository;
+import sample.hhplus_w2.service.product.ProductService;
+import sample.hhplus_w2.service.product.StockDecreaseMode;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 재고 차감 방식 벤치마크 (낙관적 락 vs 조건부 UPDATE)
+ * 단일 상품에 N명이 동시에 1개씩 구매할 때 충돌률과 처리량을 비교한다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class StockDecreaseBenchmarkTest {
+
+    private static final int MAX_RETRIES = 100;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @ParameterizedTest(name = "동시 구매자 {0}명")
+    @ValueSource(ints = {50, 200, 1000})
+    @DisplayName("단일 상품 동시 구매 - 낙관적 락 vs 조건부 UPDATE")
+    void compareDecreaseModes(int buyers) throws InterruptedException {
+        Result optimistic = run(buyers, StockDecreaseMode.OPTIMISTIC);
+        Result atomic = run(buyers, StockDecreaseMode.ATOMIC);
+
+        System.out.printf("[buyers=%d] %s%n", buyers, optimistic);
+        System.out.printf("[buyers=%d] %s%n", buyers, atomic);
+
+        // 조건부 UPDATE는 충돌 없이 재고만큼 모두 성공해야 함
+        assertThat(atomic.success()).isEqualTo(buyers);
+        assertThat(atomic.conflicts()).isZero();
+        assertThat(atomic.remainingStock()).isZero();
+        // 낙관적 락도 재고 정합성은 유지되어야 함
+        assertThat(optimistic.remainingStock()).isEqualTo(buyers - optimistic.success());
+    }
+
+    private Result run(int buyers, StockDecreaseMode mode) throws InterruptedException {
+        Product product = productService.createProduct(1L, "벤치마크 상품", "브랜드", "설명",
+                new BigDecimal("10000"), buyers);
+        Long productId = product.getId();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(buyers);
+        CountDownLatch ready = new CountDownLatch(buyers);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(buyers);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger conflictCount = new AtomicInteger(0);
+        AtomicInteger attemptCount = new AtomicInteger(0);
+
+        for (int i = 0; i < buyers; i++) {
+            executorService.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    for (int retry = 0; retry < MAX_RETRIES; retry++) {
+                        attemptCount.incrementAndGet();
+                        if (productService.decreaseStock(productId, 1, mode)) {
+                            successCount.incrementAndGet();
+                            break;
+                        }
+                        conflictCount.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    // 재고 부족 등은 실패로 집계
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await();
+        long startedAt = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executorService.shutdown();
+
+        int remainingStock = productService.getProduct(productId).getStockQty();
+        return new Result(mode, successCount.get(), conflictCount.get(), attemptCount.get(),
+                remainingStock, elapsedNanos);
+    }
+
+    private record Result(StockDecreaseMode mode, int success, int conflicts, int attempts,
+                          int remainingStock, long elapsedNanos) {
+
+        double conflictRate() {
+            return attempts == 0 ? 0 : (double) conflicts / attempts * 100;
+        }
+
+        double throughput() {
+            return success / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-10s success=%d attempts=%d conflicts=%d (%.1f%%) elapsed=%dms throughput=%.0f ops/s remaining=%d",
+                    mode, success, attempts, conflicts, conflictRate(), elapsedNanos / 1_000_000,
+                    throughput(), remainingStock);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package sample.hhplus_w2.benchmark;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import sample.hhplus_w2.domain.order.Order;
+import sample.hhplus_w2.domain.order.OrderItem;
+import sample.hhplus_w2.domain.product.Product;
+import sample.hhplus_w2.repository.order.OrderHistoryRepository;
+import sample.hhplus_w2.repository.order.OrderItemRepository;
+import sample.hhplus_w2.repository.order.OrderRepository;
+import sample.hhplus_w2.repository.product.ProductRepository;
+import sample.hhplus_w2.repository.wallet.WalletRepository;
+import sample.hhplus_w2.repository.wallet.WalletTransactionRepository;
+import sample.hhplus_w2.service.order.OrderService;
+import sample.hhplus_w2.service.product.ProductService;
+import sample.hhplus_w2.service.wallet.WalletService;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 지갑 결제 벤치마크
+ * 같은 사용자가 1,000건을 동시에 결제할 때 조건부 UPDATE로 잔액이 음수가 되지 않는지와 처리량을 확인한다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {"app.wallet.enabled=true", "app.stock.decrease-mode=ATOMIC"})
+@ActiveProfiles("test")
+class WalletPaymentBenchmarkTest {
+
+    private static final int PAYMENTS = 1000;
+    private static final Long USER_ID = 1L;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private WalletService walletService;
+
+    @Autowired
+    private WalletRepository walletRepository;
+
+    @Autowired
+    private WalletTransactionRepository walletTransactionRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private OrderHistoryRepository orderHistoryRepository;
+
+    @AfterEach
+    void tearDown() {
+        walletTransactionRepository.deleteAll();
+        walletRepository.deleteAll();
+        orderHistoryRepository.deleteAll();
+        orderItemRepository.deleteAll();
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 사용자 1,000건 동시 결제 - 잔액만큼만 성공하고 재고와 잔액이 일치")
+    void payConcurrently_SameUser() throws InterruptedException {
+        // given - 1,000원 상품 주문 1,000건, 잔액은 600건분
+        Product product = productService.createProduct(1L, "지갑 결제 상품", "브랜드", "설명",
+                new BigDecimal("1000"), PAYMENTS);
+        walletService.charge(USER_ID, new BigDecimal("600000"));
+        List<Long> orderIds = createOrders(product);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(PAYMENTS);
+        CountDownLatch ready = new CountDownLatch(PAYMENTS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(PAYMENTS);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger insufficientCount = new AtomicInteger(0);
+
+        for (Long orderId : orderIds) {
+            executorService.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    orderService.processPayment(orderId);
+                    successCount.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    insufficientCount.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // when
+        ready.await();
+        long startedAt = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executorService.shutdown();
+
+        System.out.printf("[payments=%d] success=%d insufficient=%d elapsed=%dms throughput=%.0f ops/s%n",
+                PAYMENTS, successCount.get(), insufficientCount.get(), elapsedNanos / 1_000_000,
+                successCount.get() / (elapsedNanos / 1_000_000_000.0));
+
+        // then - 잔액 차감과 재고 차감이 같은 트랜잭션에서 반영됨
+        assertThat(successCount.get()).isEqualTo(600);
+        assertThat(insufficientCount.get()).isEqualTo(400);
+        assertThat(walletService.getWallet(USER_ID).getBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(productService.getProduct(product.getId()).getStockQty()).isEqualTo(PAYMENTS - 600);
+        assertThat(walletService.getTransactions(USER_ID, 1).get(0).getBalanceAfter())
+                .isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    private List<Long> createOrders(Product product) {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < PAYMENTS; i++) {
+            orders.add(orderRepository.save(Order.create(USER_ID, product.getPrice(), BigDecimal.ZERO)));
+        }
+        List<OrderItem> items = orders.stream()
+                .map(order -> OrderItem.create(order.getId(), product.getId(), 1, product.getPrice()))
+                .toList();
+        orderItemRepository.insertAll(items);
+        return orders.stream().map(Order::getId).toList();
+    }
+}
@@ -9,13 +9,20 @@ import org.springframework.test.context.ActiveProfiles;
 import sample.hhplus_w2.domain.coupon.Coupon;
 import sample.hhplus_w2.domain.coupon.CouponType;
 import sample.hhplus_w2.repository.coupon.CouponRepository;
+import sample.hhplus_w2.repository.coupon.CouponUserCountRepository;
 import sample.hhplus_w2.repository.coupon.CouponUserRepository;
+import sample.hhplus_w2.service.coupon.CouponIssueGate;
+import sample.hhplus_w2.service.coupon.CouponIssueQueue;
+import sample.hhplus_w2.service.coupon.CouponIssueTicket;
 import sample.hhplus_w2.service.coupon.CouponService;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.*;
@@ -36,8 +43,18 @@ class CouponConcurrencyTest {
     @Autowired
     private CouponUserRepository couponUserRepository;
 
+    @Autowired
+    private CouponUserCountRepository couponUserCountRepository;
+
+    @Autowired
+    private CouponIssueGate couponIssueGate;
+
+    @Autowired
+    private CouponIssueQueue couponIssueQueue;
+
     @AfterEach
     void tearDown() {
+        couponUserCountRepository.deleteAll();
         couponUserRepository.deleteAll();
         couponRepository.deleteAll();
     }
@@ -169,8 +186,8 @@ class CouponConcurrencyTest {
     }
 
     @Test
-    @DisplayName("쿠폰 중복 발급 방지 - 동일 사용자가 여러 번 시도해도 1번만 성공")
-    void issueCoupon_Concurrency_PreventDuplicate() throws InterruptedException {
+    @DisplayName("1인당 발급 제한 - 동일 사용자가 10번 시도해도 perUserLimit(5)번만 성공")
+    void issueCoupon_Concurrency_PerUserLimit() throws InterruptedException {
         // given
         Coupon coupon = Coupon.create("DUPLICATE_TEST", CouponType.FIXED, new BigDecimal("5000"),
                 100, 5, null, null, null);
@@ -192,7 +209,7 @@ class CouponConcurrencyTest {
                     couponService.issueCoupon(couponId, sameUserId);
                     successCount.incrementAndGet();
                 } catch (Exception e) {
-                    // 중복 발급 예외는 정상
+                    // 제한 초과 예외는 정상
                 }
                 latch.countDown();
             });
@@ -201,7 +218,123 @@ class CouponConcurrencyTest {
         latch.await();
         executorService.shutdown();
 
-        // then - 정확히 1번만 성공해야 함
-        assertThat(successCount.get()).isEqualTo(1);
+        // then - 정확히 5번만 성공하고 DB 카운터와 발급 내역이 일치해야 함
+        assertThat(successCount.get()).isEqualTo(5);
+        assertThat(couponUserRepository.findByCouponIdAndUserId(couponId, sameUserId)).hasSize(5);
+        assertThat(couponUserCountRepository.findIssuedCounts(couponId)).containsEntry(sameUserId, 5);
+        assertThat(couponRepository.findById(couponId).orElseThrow().getIssued()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("1인당 발급 제한 - 게이트가 비어있어도(재기동) DB 카운터로 제한 유지")
+    void issueCoupon_PerUserLimit_EnforcedAfterGateReset() {
+        // given - 2장 제한 쿠폰을 2장 발급받은 뒤 게이트 초기화
+        Coupon coupon = couponService.createCoupon(Coupon.create("LIMIT_RESET_TEST", CouponType.FIXED,
+                new BigDecimal("1000"), 100, 2, null, null, null));
+        couponService.publishCoupon(coupon.getId());
+        Long couponId = coupon.getId();
+        couponService.issueCoupon(couponId, 777L);
+        couponService.issueCoupon(couponId, 777L);
+        couponIssueGate.close(couponId);
+
+        // when & then
+        assertThatThrownBy(() -> couponService.issueCoupon(couponId, 777L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("이미 발급받은 쿠폰입니다");
+        assertThat(couponService.issueCoupon(couponId, 778L)).isNotNull();
+        assertThat(couponRepository.findById(couponId).orElseThrow().getIssued()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("선착순 쿠폰 발급 - 스레드 500개로 10,000건 요청 시 게이트와 DB 발급 수량이 정확히 일치")
+    void issueCoupon_10kRequestsOn500Threads_GateMatchesDatabase() throws InterruptedException {
+        // given - 총 300개 발급 가능
+        Coupon coupon = Coupon.create("GATE_TEST", CouponType.FIXED, new BigDecimal("1000"),
+                300, 1, null, null, null);
+        coupon = couponService.createCoupon(coupon);
+        couponService.publishCoupon(coupon.getId());
+        Long couponId = coupon.getId();
+
+        int requestCount = 10_000;
+        int threadCount = 500;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        // when - 10,000명이 발급 시도 (동시 실행은 스레드 수인 최대 500건)
+        for (int i = 0; i < requestCount; i++) {
+            final long userId = i + 1;
+            executorService.submit(() -> {
+                try {
+                    couponService.issueCoupon(couponId, userId);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then - 게이트 잔여 수량, Coupon.issued, coupon_user 건수가 모두 일치해야 함
+        assertThat(successCount.get()).isEqualTo(300);
+        assertThat(failCount.get()).isEqualTo(9_700);
+
+        Coupon finalCoupon = couponService.getCoupon(couponId);
+        assertThat(finalCoupon.getIssued()).isEqualTo(300);
+        assertThat(couponUserRepository.findByCouponId(couponId)).hasSize(300);
+        assertThat(couponIssueGate.getRemaining(couponId)).isZero();
+    }
+
+    @Test
+    @DisplayName("비동기 발급 큐 - 1,000명이 동시에 100개 쿠폰 요청 시 티켓 100건만 발급 완료")
+    void issueCouponAsync_Concurrency_BatchedIssue() throws Exception {
+        // given
+        Coupon coupon = Coupon.create("QUEUE_TEST", CouponType.FIXED, new BigDecimal("1000"),
+                100, 1, null, null, null);
+        coupon = couponService.createCoupon(coupon);
+        couponService.publishCoupon(coupon.getId());
+        Long couponId = coupon.getId();
+
+        int requestCount = 1_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(100);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+
+        List<CouponIssueTicket> tickets = new CopyOnWriteArrayList<>();
+        AtomicInteger rejectCount = new AtomicInteger(0);
+
+        // when - 티켓 발급 후 완료까지 대기
+        for (int i = 0; i < requestCount; i++) {
+            final long userId = i + 1;
+            executorService.submit(() -> {
+                try {
+                    tickets.add(couponIssueQueue.enqueue(couponId, userId));
+                } catch (Exception e) {
+                    rejectCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+        for (CouponIssueTicket ticket : tickets) {
+            ticket.whenCompleted().get(10, TimeUnit.SECONDS);
+        }
+
+        // then - 티켓 100건 모두 발급 완료, 나머지는 즉시 거절
+        assertThat(tickets).hasSize(100);
+        assertThat(tickets).allMatch(ticket -> ticket.getStatus() == CouponIssueTicket.Status.ISSUED);
+        assertThat(rejectCount.get()).isEqualTo(900);
+
+        Coupon finalCoupon = couponService.getCoupon(couponId);
+        assertThat(finalCoupon.getIssued()).isEqualTo(100);
+        assertThat(couponUserRepository.findByCouponId(couponId)).hasSize(100);
     }
 }
@@ -0,0 +1,182 @@
+package sample.hhplus_w2.concurrency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import sample.hhplus_w2.domain.cart.Cart;
+import sample.hhplus_w2.domain.cart.CartItem;
+import sample.hhplus_w2.domain.idempotency.IdempotencyStatus;
+import sample.hhplus_w2.domain.product.Product;
+import sample.hhplus_w2.repository.cart.CartItemRepository;
+import sample.hhplus_w2.repository.cart.CartRepository;
+import sample.hhplus_w2.repository.idempotency.IdempotencyRecordRepository;
+import sample.hhplus_w2.repository.order.OrderHistoryRepository;
+import sample.hhplus_w2.repository.order.OrderItemRepository;
+import sample.hhplus_w2.repository.order.OrderRepository;
+import sample.hhplus_w2.repository.product.ProductRepository;
+import sample.hhplus_w2.service.idempotency.IdempotencyService;
+import sample.hhplus_w2.service.order.OrderService;
+import sample.hhplus_w2.service.product.ProductService;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 멱등 키 동시성 테스트
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class IdempotencyConcurrencyTest {
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private OrderHistoryRepository orderHistoryRepository;
+
+    @AfterEach
+    void tearDown() {
+        idempotencyRecordRepository.deleteAll();
+        orderHistoryRepository.deleteAll();
+        orderItemRepository.deleteAll();
+        orderRepository.deleteAll();
+        cartItemRepository.deleteAll();
+        cartRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 20번 주문 생성 - 주문은 1건만 생성되고 모두 같은 주문 ID를 받음")
+    void createOrder_SameKey_CoalescesToFirstExecution() throws InterruptedException {
+        // given
+        Product product = productService.createProduct(1L, "멱등 상품", "브랜드", "설명",
+                new BigDecimal("10000"), 100);
+        Long userId = 1L;
+        Long cartId = createCart(userId, product, 1);
+        String fingerprint = IdempotencyService.fingerprint(userId, cartId);
+
+        int threadCount = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        AtomicInteger executions = new AtomicInteger(0);
+        Set<Long> orderIds = ConcurrentHashMap.newKeySet();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    orderIds.add(idempotencyService.execute("order.create", "retry-key-1", fingerprint, () -> {
+                        executions.incrementAndGet();
+                        return orderService.createOrder(userId, cartId).getId();
+                    }));
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(orderIds).hasSize(1);
+        assertThat(orderService.getOrdersByUser(userId)).hasSize(1);
+        assertThat(idempotencyRecordRepository.findByKey("order.create:retry-key-1"))
+                .get()
+                .extracting("status")
+                .isEqualTo(IdempotencyStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청 - 거부")
+    void execute_FingerprintMismatch_Rejected() {
+        // given
+        idempotencyService.execute("order.pay", "pay-key-1", IdempotencyService.fingerprint(1L), () -> 1L);
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyService.execute("order.pay", "pay-key-1",
+                IdempotencyService.fingerprint(2L), () -> 2L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("실행 실패 - 키가 해제되어 재시도 가능")
+    void execute_Failure_ReleasesKey() {
+        // given
+        String fingerprint = IdempotencyService.fingerprint(3L);
+        assertThatThrownBy(() -> idempotencyService.execute("order.pay", "pay-key-2", fingerprint, () -> {
+            throw new IllegalStateException("결제 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // when
+        Long result = idempotencyService.execute("order.pay", "pay-key-2", fingerprint, () -> 3L);
+
+        // then
+        assertThat(result).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("완료 기록 실패 (잠금을 다른 요청이 가져감) - 작업 결과도 함께 롤백")
+    void execute_CompleteFails_RollsBackAction() {
+        // given
+        Product product = productService.createProduct(1L, "멱등 상품", "브랜드", "설명",
+                new BigDecimal("10000"), 100);
+        Long userId = 2L;
+        Long cartId = createCart(userId, product, 1);
+        String fingerprint = IdempotencyService.fingerprint(userId, cartId);
+
+        // when - 작업 도중 다른 트랜잭션이 처리 중 기록을 지움 (완료 기록 대상 없음)
+        assertThatThrownBy(() -> idempotencyService.execute("order.create", "lost-key-1", fingerprint, () -> {
+            Long orderId = orderService.createOrder(userId, cartId).getId();
+            CompletableFuture.runAsync(idempotencyRecordRepository::deleteAll).join();
+            return orderId;
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(orderService.getOrdersByUser(userId)).isEmpty();
+        assertThat(idempotencyRecordRepository.findByKey("order.create:lost-key-1")).isEmpty();
+    }
+
+    private Long createCart(Long userId, Product product, int qty) {
+        Cart cart = cartRepository.save(Cart.createForUser(userId));
+        cartItemRepository.save(CartItem.create(cart.getId(), product.getId(), qty, product.getPrice()));
+        return cart.getId();
+    }
+}
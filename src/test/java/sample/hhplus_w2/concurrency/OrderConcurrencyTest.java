@@ -8,10 +8,18 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import sample.hhplus_w2.domain.cart.Cart;
 import sample.hhplus_w2.domain.cart.CartItem;
+import sample.hhplus_w2.domain.coupon.Coupon;
+import sample.hhplus_w2.domain.coupon.CouponType;
+import sample.hhplus_w2.domain.coupon.CouponUser;
+import sample.hhplus_w2.domain.coupon.CouponUserStatus;
 import sample.hhplus_w2.domain.order.Order;
+import sample.hhplus_w2.domain.order.OrderStatus;
+import sample.hhplus_w2.domain.product.InsufficientStockException;
 import sample.hhplus_w2.domain.product.Product;
 import sample.hhplus_w2.repository.cart.CartItemRepository;
 import sample.hhplus_w2.repository.cart.CartRepository;
+import sample.hhplus_w2.repository.coupon.CouponRepository;
+import sample.hhplus_w2.repository.coupon.CouponUserRepository;
 import sample.hhplus_w2.repository.order.OrderHistoryRepository;
 import sample.hhplus_w2.repository.order.OrderItemRepository;
 import sample.hhplus_w2.repository.order.OrderRepository;
@@ -58,8 +66,16 @@ class OrderConcurrencyTest {
     @Autowired
     private OrderHistoryRepository orderHistoryRepository;
 
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private CouponUserRepository couponUserRepository;
+
     @AfterEach
     void tearDown() {
+        couponUserRepository.deleteAll();
+        couponRepository.deleteAll();
         orderItemRepository.deleteAll();
         orderRepository.deleteAll();
         cartItemRepository.deleteAll();
@@ -315,4 +331,120 @@ class OrderConcurrencyTest {
         // 초기 재고 100개 이하로 사용되어야 함
         assertThat(finalProduct.getStockQty()).isLessThanOrEqualTo(100);
     }
+
+    @Test
+    @DisplayName("다중 상품 동시 결제 - 상품 순서가 반대인 주문끼리 교착 없이 정확히 차감")
+    void processPayment_Concurrency_OppositeProductOrder() throws InterruptedException {
+        // given - 상품 A, B 각 재고 100, 절반은 A→B, 절반은 B→A 순서로 장바구니 구성
+        Product productA = productService.createProduct(1L, "다중 상품 A", "브랜드", "설명",
+                new BigDecimal("10000"), 100);
+        Product productB = productService.createProduct(1L, "다중 상품 B", "브랜드", "설명",
+                new BigDecimal("10000"), 100);
+
+        int threadCount = 40;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            final long userId = i + 4000;
+            final boolean reversed = i % 2 == 1;
+            executorService.submit(() -> {
+                try {
+                    Cart cart = cartRepository.save(Cart.createForUser(userId));
+                    Product first = reversed ? productB : productA;
+                    Product second = reversed ? productA : productB;
+                    cartItemRepository.save(CartItem.create(cart.getId(), first.getId(), 1, first.getPrice()));
+                    cartItemRepository.save(CartItem.create(cart.getId(), second.getId(), 1, second.getPrice()));
+
+                    Order order = orderService.createOrder(userId, cart.getId());
+                    orderService.processPayment(order.getId());
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    // 교착/충돌 시 실패로 집계
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then - 재시도 없이 모두 성공
+        assertThat(successCount.get()).isEqualTo(threadCount);
+        assertThat(productService.getProduct(productA.getId()).getStockQty()).isEqualTo(100 - threadCount);
+        assertThat(productService.getProduct(productB.getId()).getStockQty()).isEqualTo(100 - threadCount);
+    }
+
+    @Test
+    @DisplayName("다중 상품 결제 - 한 상품이라도 부족하면 모든 상품 재고가 롤백")
+    void processPayment_PartialShortage_RollsBackAll() {
+        // given
+        Product enough = productService.createProduct(1L, "충분 상품", "브랜드", "설명",
+                new BigDecimal("10000"), 10);
+        Product shortage = productService.createProduct(1L, "부족 상품", "브랜드", "설명",
+                new BigDecimal("10000"), 1);
+
+        Cart cart = cartRepository.save(Cart.createForUser(5000L));
+        cartItemRepository.save(CartItem.create(cart.getId(), enough.getId(), 3, enough.getPrice()));
+        cartItemRepository.save(CartItem.create(cart.getId(), shortage.getId(), 2, shortage.getPrice()));
+        Order order = orderService.createOrder(5000L, cart.getId());
+
+        // when & then
+        assertThatThrownBy(() -> orderService.processPayment(order.getId()))
+                .isInstanceOf(InsufficientStockException.class);
+        assertThat(productService.getProduct(enough.getId()).getStockQty()).isEqualTo(10);
+        assertThat(productService.getProduct(shortage.getId()).getStockQty()).isEqualTo(1);
+        assertThat(orderService.getOrder(order.getId()).getStatus()).isEqualTo(OrderStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("쿠폰 동시 사용 - 같은 쿠폰으로 10건 동시 주문 시 1건만 할인 적용")
+    void createOrder_Concurrency_CouponUsedOnce() throws InterruptedException {
+        // given
+        Long userId = 6000L;
+        Product product = productService.createProduct(1L, "쿠폰 주문 상품", "브랜드", "설명",
+                new BigDecimal("10000"), 100);
+        Coupon coupon = Coupon.create("ORDER_CONCURRENT", CouponType.FIXED, new BigDecimal("1000"),
+                10, 1, null, null, null);
+        coupon.publish();
+        coupon = couponRepository.save(coupon);
+        Long couponUserId = couponUserRepository.save(CouponUser.issue(coupon.getId(), userId)).getId();
+
+        int threadCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger rejectedCount = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    Cart cart = cartRepository.save(Cart.createForUser(userId));
+                    cartItemRepository.save(CartItem.create(cart.getId(), product.getId(), 1, product.getPrice()));
+                    orderService.createOrder(userId, cart.getId(), couponUserId);
+                    successCount.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    rejectedCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then - 낙관적 락 예외 없이 나머지는 즉시 거절
+        assertThat(successCount.get()).isEqualTo(1);
+        assertThat(rejectedCount.get()).isEqualTo(threadCount - 1);
+        assertThat(orderService.getOrdersByUser(userId)).hasSize(1);
+        CouponUser used = couponUserRepository.findById(couponUserId).orElseThrow();
+        assertThat(used.getStatus()).isEqualTo(CouponUserStatus.USED);
+    }
 }
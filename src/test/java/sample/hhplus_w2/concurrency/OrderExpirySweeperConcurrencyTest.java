@@ -0,0 +1,262 @@
+package sample.hhplus_w2.concurrency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import sample.hhplus_w2.domain.coupon.CouponUser;
+import sample.hhplus_w2.domain.coupon.CouponUserStatus;
+import sample.hhplus_w2.domain.lease.JobLease;
+import sample.hhplus_w2.domain.order.Order;
+import sample.hhplus_w2.domain.order.OrderHistory;
+import sample.hhplus_w2.domain.order.OrderStatus;
+import sample.hhplus_w2.repository.coupon.CouponUserRepository;
+import sample.hhplus_w2.repository.lease.JobLeaseRepository;
+import sample.hhplus_w2.repository.order.OrderHistoryRepository;
+import sample.hhplus_w2.repository.order.OrderRepository;
+import sample.hhplus_w2.service.order.OrderExpirySweeper;
+import sample.hhplus_w2.service.order.OrderService;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 결제 대기 주문 만료 스위퍼 테스트
+ */
+@SpringBootTest(properties = {
+        "app.order.expiry.batch-size=7",
+        "app.order.expiry.max-batches-per-run=100"
+})
+@ActiveProfiles("test")
+class OrderExpirySweeperConcurrencyTest {
+
+    @Autowired
+    private OrderExpirySweeper orderExpirySweeper;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderHistoryRepository orderHistoryRepository;
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    @Autowired
+    private CouponUserRepository couponUserRepository;
+
+    @AfterEach
+    void tearDown() {
+        jobLeaseRepository.deleteAll();
+        couponUserRepository.deleteAll();
+        orderHistoryRepository.deleteAll();
+        orderRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("만료 스위퍼 - 만료 시각이 지난 PENDING 주문만 배치 단위로 만료하고 이력 기록")
+    void run_ExpiresOnlyDuePendingOrders() {
+        // given - 만료 30건 (배치 크기 7), 미만료 5건, 이미 결제된 만료 주문 3건
+        List<Long> dueIds = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            dueIds.add(orderRepository.save(Order.create((long) i, new BigDecimal("10000"), BigDecimal.ZERO, -1)).getId());
+        }
+        for (int i = 0; i < 5; i++) {
+            orderRepository.save(Order.create((long) i, new BigDecimal("10000"), BigDecimal.ZERO, 30));
+        }
+        for (int i = 0; i < 3; i++) {
+            Order paid = Order.create((long) i, new BigDecimal("10000"), BigDecimal.ZERO, -1);
+            paid.markAsPaid();
+            orderRepository.save(paid);
+        }
+        long totalBefore = orderExpirySweeper.getMetrics().totalExpired();
+
+        // when
+        int expired = orderExpirySweeper.run();
+
+        // then
+        assertThat(expired).isEqualTo(30);
+        assertThat(orderRepository.findByStatus(OrderStatus.EXPIRED))
+                .extracting(Order::getId)
+                .containsExactlyInAnyOrderElementsOf(dueIds);
+        assertThat(orderRepository.findByStatus(OrderStatus.PENDING)).hasSize(5);
+        assertThat(orderRepository.findByStatus(OrderStatus.PAID)).hasSize(3);
+        assertThat(orderHistoryRepository.findAll())
+                .hasSize(30)
+                .extracting(OrderHistory::getToStatus)
+                .containsOnly(OrderStatus.EXPIRED);
+
+        OrderExpirySweeper.Metrics metrics = orderExpirySweeper.getMetrics();
+        assertThat(metrics.totalExpired()).isEqualTo(totalBefore + 30);
+        assertThat(metrics.lastRunExpired()).isEqualTo(30);
+        assertThat(metrics.lagSeconds()).isZero();
+
+        // 재실행 시 처리할 주문 없음
+        assertThat(orderExpirySweeper.run()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료 스위퍼 동시 실행 - 여러 스레드가 동시에 실행해도 주문마다 한 번만 만료")
+    void run_Concurrency_ExpiresEachOrderOnce() throws InterruptedException {
+        // given
+        for (int i = 0; i < 50; i++) {
+            orderRepository.save(Order.create((long) i, new BigDecimal("10000"), BigDecimal.ZERO, -1));
+        }
+
+        int threadCount = 5;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger expiredCount = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    expiredCount.addAndGet(orderExpirySweeper.run());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(expiredCount.get()).isEqualTo(50);
+        assertThat(orderRepository.findByStatus(OrderStatus.EXPIRED)).hasSize(50);
+        assertThat(orderHistoryRepository.findAll()).hasSize(50);
+    }
+
+    @Test
+    @DisplayName("결제와 동시 실행 - 같은 주문 행을 잠그므로 주문마다 상태 변경 이력이 한 번만 기록")
+    void run_ConcurrentWithPayment_TransitionsOnce() throws InterruptedException {
+        // given - 만료 시각이 지난 주문 (결제 요청도 만료 처리를 시도)
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            orderIds.add(orderRepository.save(Order.create((long) i, new BigDecimal("10000"), BigDecimal.ZERO, -1)).getId());
+        }
+
+        int threadCount = orderIds.size() + 1;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger paidCount = new AtomicInteger(0);
+
+        // when
+        executorService.submit(() -> {
+            try {
+                start.await();
+                orderExpirySweeper.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                latch.countDown();
+            }
+        });
+        for (Long orderId : orderIds) {
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    orderService.processPayment(orderId);
+                    paidCount.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    // 만료 또는 결제 대기 상태 아님
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        start.countDown();
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(paidCount.get()).isZero();
+        assertThat(orderRepository.findByStatus(OrderStatus.EXPIRED)).hasSize(orderIds.size());
+        for (Long orderId : orderIds) {
+            assertThat(orderHistoryRepository.findByOrderId(orderId))
+                    .singleElement()
+                    .extracting(OrderHistory::getToStatus)
+                    .isEqualTo(OrderStatus.EXPIRED);
+        }
+    }
+
+    @Test
+    @DisplayName("쿠폰 복구 - 만료된 주문에 사용된 쿠폰만 발급 상태로 복구")
+    void run_RestoresCouponsOfExpiredOrders() {
+        // given - 만료 대상 주문과 이미 결제된 주문에 각각 쿠폰 사용
+        Order due = orderRepository.save(Order.create(1L, new BigDecimal("10000"), BigDecimal.ZERO, -1));
+        Order paid = Order.create(1L, new BigDecimal("10000"), BigDecimal.ZERO, -1);
+        paid.markAsPaid();
+        paid = orderRepository.save(paid);
+        Long restoredId = useCoupon(1L, due.getId());
+        Long keptId = useCoupon(1L, paid.getId());
+
+        // when
+        orderExpirySweeper.run();
+
+        // then
+        CouponUser restored = couponUserRepository.findById(restoredId).orElseThrow();
+        assertThat(restored.getStatus()).isEqualTo(CouponUserStatus.ISSUED);
+        assertThat(restored.getOrderId()).isNull();
+        assertThat(restored.getUsedAt()).isNull();
+        CouponUser kept = couponUserRepository.findById(keptId).orElseThrow();
+        assertThat(kept.getStatus()).isEqualTo(CouponUserStatus.USED);
+        assertThat(kept.getOrderId()).isEqualTo(paid.getId());
+    }
+
+    @Test
+    @DisplayName("결제 시 만료 - 만료 처리와 쿠폰 복구가 커밋되고 결제는 실패")
+    void processPayment_ExpiredOrder_RestoresCoupon() {
+        // given
+        Order due = orderRepository.save(Order.create(1L, new BigDecimal("10000"), BigDecimal.ZERO, -1));
+        Long couponUserId = useCoupon(1L, due.getId());
+
+        // when & then
+        assertThatThrownBy(() -> orderService.processPayment(due.getId()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("주문이 만료되었습니다");
+        assertThat(orderRepository.findById(due.getId()).orElseThrow().getStatus()).isEqualTo(OrderStatus.EXPIRED);
+        assertThat(couponUserRepository.findById(couponUserId).orElseThrow().getStatus())
+                .isEqualTo(CouponUserStatus.ISSUED);
+        assertThat(orderExpirySweeper.run()).isZero();
+    }
+
+    @Test
+    @DisplayName("다중 노드 - 다른 노드가 임대를 보유 중이면 실행하지 않음")
+    void run_SkipsWhenLeaseHeldByOtherNode() {
+        // given
+        orderRepository.save(Order.create(1L, new BigDecimal("10000"), BigDecimal.ZERO, -1));
+        jobLeaseRepository.save(JobLease.create("order-expiry-sweeper", "other-node",
+                LocalDateTime.now().plusMinutes(1)));
+
+        // when
+        int expired = orderExpirySweeper.run();
+
+        // then
+        assertThat(expired).isZero();
+        assertThat(orderRepository.findByStatus(OrderStatus.PENDING)).hasSize(1);
+    }
+
+    private Long useCoupon(Long userId, Long orderId) {
+        CouponUser couponUser = couponUserRepository.save(CouponUser.issue(1L, userId));
+        couponUserRepository.markUsed(couponUser.getId(), userId, orderId);
+        return couponUser.getId();
+    }
+}
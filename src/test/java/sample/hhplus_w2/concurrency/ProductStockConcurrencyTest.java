@@ -9,6 +9,7 @@ import org.springframework.test.context.ActiveProfiles;
 import sample.hhplus_w2.domain.product.Product;
 import sample.hhplus_w2.repository.product.ProductRepository;
 import sample.hhplus_w2.service.product.ProductService;
+import sample.hhplus_w2.service.product.StockDecreaseMode;
 
 import java.math.BigDecimal;
 import java.util.concurrent.CountDownLatch;
@@ -256,4 +257,43 @@ class ProductStockConcurrencyTest {
         // 재고가 비정상적으로 많아지지 않았는지 검증 (증가분 고려)
         assertThat(finalProduct.getStockQty()).isLessThanOrEqualTo(initialStock + (25 * 10));
     }
+
+    @Test
+    @DisplayName("재고 동시 차감 (조건부 UPDATE) - 재고 50개, 100명 시도 시 재시도 없이 정확히 50명 성공")
+    void decreaseStock_Concurrency_AtomicUpdate() throws InterruptedException {
+        // given
+        Product product = productService.createProduct(1L, "조건부 차감 상품", "브랜드", "설명",
+                new BigDecimal("20000"), 50);
+        Long productId = product.getId();
+
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger insufficientCount = new AtomicInteger(0);
+
+        // when - 재시도 없이 1회씩만 시도
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    if (productService.decreaseStock(productId, 1, StockDecreaseMode.ATOMIC)) {
+                        successCount.incrementAndGet();
+                    }
+                } catch (IllegalStateException e) {
+                    insufficientCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then - 충돌로 인한 실패 없이 재고만큼 정확히 성공
+        assertThat(successCount.get()).isEqualTo(50);
+        assertThat(insufficientCount.get()).isEqualTo(50);
+        assertThat(productService.getProduct(productId).getStockQty()).isZero();
+    }
 }
@@ -0,0 +1,227 @@
+package sample.hhplus_w2.concurrency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import sample.hhplus_w2.domain.lease.JobLease;
+import sample.hhplus_w2.domain.order.Order;
+import sample.hhplus_w2.domain.order.OrderItem;
+import sample.hhplus_w2.domain.product.Product;
+import sample.hhplus_w2.domain.product.StockLedgerHold;
+import sample.hhplus_w2.repository.lease.JobLeaseRepository;
+import sample.hhplus_w2.repository.order.OrderItemRepository;
+import sample.hhplus_w2.repository.order.OrderRepository;
+import sample.hhplus_w2.repository.product.ProductRepository;
+import sample.hhplus_w2.repository.product.StockLedgerHoldRepository;
+import sample.hhplus_w2.service.lease.JobLeaseService;
+import sample.hhplus_w2.service.product.ProductService;
+import sample.hhplus_w2.service.product.StockLedger;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 재고 원장(StockLedger) 동시성 및 복구 테스트
+ */
+@SpringBootTest(properties = {
+        "app.stock.decrease-mode=LEDGER",
+        "app.stock.ledger.enabled=true",
+        "app.stock.ledger.refill-size=10"
+})
+@ActiveProfiles("test")
+class StockLedgerConcurrencyTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private StockLedger stockLedger;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockLedgerHoldRepository holdRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    @BeforeEach
+    void setUp() {
+        // 다른 테스트가 job_lease를 비울 수 있으므로 본인 임대를 다시 획득 (테스트는 스케줄링 비활성)
+        stockLedger.renewLease();
+    }
+
+    @AfterEach
+    void tearDown() {
+        holdRepository.deleteAll();
+        orderItemRepository.deleteAll();
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("재고 원장 동시 차감 - 재고 50개, 100명 시도 시 정확히 50명 성공하고 종료 시 잔여 재고 반환")
+    void reserve_Concurrency_NoOversell() throws InterruptedException {
+        // given
+        Product product = productService.createProduct(1L, "원장 상품", "브랜드", "설명",
+                new BigDecimal("10000"), 50);
+        Long productId = product.getId();
+
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger insufficientCount = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    stockLedger.reserve(productId, 1);
+                    successCount.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    insufficientCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then - 초과 판매 없음
+        assertThat(successCount.get()).isEqualTo(50);
+        assertThat(insufficientCount.get()).isEqualTo(50);
+
+        // 종료 시 반영 - 메모리 잔량이 DB로 돌아가고 hold는 정리됨
+        stockLedger.shutdown();
+        assertThat(productService.getProduct(productId).getStockQty()).isZero();
+        assertThat(stockLedger.getAvailable(productId)).isZero();
+        assertThat(holdRepository.findByProductIdAndOwner(productId, jobLeaseService.getNodeId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재고 원장 반영 - 여유분은 DB로 돌아가고 보유 수량은 hold에 기록")
+    void flush_ReturnsExcessAndRecordsHold() {
+        // given - refill-size 10 이므로 첫 차감 시 10개를 가져옴
+        Product product = productService.createProduct(1L, "반영 상품", "브랜드", "설명",
+                new BigDecimal("10000"), 100);
+        Long productId = product.getId();
+        productService.decreaseStock(productId, 3);
+
+        // when
+        productService.increaseStock(productId, 20);
+        stockLedger.flush(productId);
+
+        // then - 메모리 27개 중 10개만 보유, 17개는 DB로 반환 (90 + 17)
+        assertThat(stockLedger.getAvailable(productId)).isEqualTo(10);
+        assertThat(productService.getProduct(productId).getStockQty()).isEqualTo(107);
+        assertThat(holdRepository.findByProductIdAndOwner(productId, jobLeaseService.getNodeId()))
+                .get()
+                .extracting(StockLedgerHold::getHeldQty)
+                .isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("입고 - 원장 관리 중인 상품은 반영 전에도 hold에 기록되고, 복구 대상에서 제외")
+    void increaseStock_RecordsHoldImmediately() {
+        // given - 첫 차감으로 10개를 가져와 7개 보유
+        Product product = productService.createProduct(1L, "입고 상품", "브랜드", "설명",
+                new BigDecimal("10000"), 100);
+        Long productId = product.getId();
+        productService.decreaseStock(productId, 3);
+
+        // when
+        productService.increaseStock(productId, 20);
+
+        // then - 비정상 종료되어도 입고분이 hold로 복구 가능
+        assertThat(stockLedger.getAvailable(productId)).isEqualTo(27);
+        assertThat(holdRepository.findByProductIdAndOwner(productId, jobLeaseService.getNodeId()))
+                .get()
+                .extracting(StockLedgerHold::getHeldQty)
+                .isEqualTo(27);
+
+        // 실행 중 복구를 호출해도 메모리가 판매 중인 hold는 되돌리지 않음
+        stockLedger.reconcile();
+        assertThat(productService.getProduct(productId).getStockQty()).isEqualTo(90);
+        assertThat(holdRepository.findByProductIdAndOwner(productId, jobLeaseService.getNodeId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("복구 - 임대가 없는 노드의 hold에서 마지막 반영 이후 결제분을 제외하고 재고로 반환")
+    void reconcile_SubtractsPaidSinceLastFlush() {
+        // given - 비정상 종료된 노드의 hold 30개가 남고, 마지막 반영 이후 5개가 결제됨
+        Product product = productService.createProduct(1L, "복구 상품", "브랜드", "설명",
+                new BigDecimal("10000"), 0);
+        Long productId = product.getId();
+
+        StockLedgerHold hold = StockLedgerHold.create(productId, "crashed-node", LocalDateTime.now().minusMinutes(1));
+        hold.addHeld(30);
+        holdRepository.save(hold);
+
+        Order order = Order.create(1L, new BigDecimal("50000"), BigDecimal.ZERO);
+        order.markAsPaid();
+        order = orderRepository.save(order);
+        orderItemRepository.save(OrderItem.create(order.getId(), productId, 5, new BigDecimal("10000")));
+
+        // when
+        stockLedger.reconcile();
+
+        // then
+        assertThat(productService.getProduct(productId).getStockQty()).isEqualTo(25);
+        assertThat(holdRepository.findByProductIdAndOwner(productId, "crashed-node")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("복구 - 임대가 유효한 다른 노드의 hold는 판매 중이므로 되돌리지 않고, 임대가 만료되면 반환")
+    void reconcile_SkipsHoldOfLiveNode() {
+        // given - 다른 노드가 hold 30개로 판매 중
+        Product product = productService.createProduct(1L, "다중 노드 상품", "브랜드", "설명",
+                new BigDecimal("10000"), 0);
+        Long productId = product.getId();
+
+        StockLedgerHold hold = StockLedgerHold.create(productId, "live-node", LocalDateTime.now());
+        hold.addHeld(30);
+        holdRepository.save(hold);
+        jobLeaseRepository.save(JobLease.create("stock-ledger:live-node", "live-node",
+                LocalDateTime.now().plusMinutes(1)));
+
+        // when
+        stockLedger.reconcile();
+
+        // then - 재고 중복 반환 없음
+        assertThat(productService.getProduct(productId).getStockQty()).isZero();
+        assertThat(holdRepository.findByProductIdAndOwner(productId, "live-node")).isPresent();
+
+        // when - 해당 노드의 임대 만료
+        jobLeaseRepository.save(JobLease.create("stock-ledger:live-node", "live-node",
+                LocalDateTime.now().minusSeconds(1)));
+        stockLedger.reconcile();
+
+        // then
+        assertThat(productService.getProduct(productId).getStockQty()).isEqualTo(30);
+        assertThat(holdRepository.findByProductIdAndOwner(productId, "live-node")).isEmpty();
+    }
+}
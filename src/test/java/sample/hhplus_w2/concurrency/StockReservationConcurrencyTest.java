@@ -0,0 +1,170 @@
+package sample.hhplus_w2.concurrency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import sample.hhplus_w2.domain.cart.Cart;
+import sample.hhplus_w2.domain.cart.CartItem;
+import sample.hhplus_w2.domain.order.Order;
+import sample.hhplus_w2.domain.order.OrderStatus;
+import sample.hhplus_w2.domain.product.Product;
+import sample.hhplus_w2.domain.reservation.StockReservation;
+import sample.hhplus_w2.domain.reservation.StockReservationStatus;
+import sample.hhplus_w2.repository.cart.CartItemRepository;
+import sample.hhplus_w2.repository.cart.CartRepository;
+import sample.hhplus_w2.repository.order.OrderHistoryRepository;
+import sample.hhplus_w2.repository.order.OrderItemRepository;
+import sample.hhplus_w2.repository.order.OrderRepository;
+import sample.hhplus_w2.repository.product.ProductRepository;
+import sample.hhplus_w2.repository.reservation.StockReservationRepository;
+import sample.hhplus_w2.service.order.OrderService;
+import sample.hhplus_w2.service.product.ProductService;
+import sample.hhplus_w2.service.reservation.StockReservationService;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 주문 시점 재고 예약 동시성 테스트
+ */
+@SpringBootTest(properties = "app.stock.reservation.enabled=true")
+@ActiveProfiles("test")
+class StockReservationConcurrencyTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private OrderHistoryRepository orderHistoryRepository;
+
+    @AfterEach
+    void tearDown() {
+        stockReservationRepository.deleteAll();
+        orderHistoryRepository.deleteAll();
+        orderItemRepository.deleteAll();
+        orderRepository.deleteAll();
+        cartItemRepository.deleteAll();
+        cartRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("주문 시 재고 예약 - 재고 10개, 20명이 동시에 주문 시 정확히 10건만 생성")
+    void createOrder_Concurrency_ReservesStock() throws InterruptedException {
+        // given
+        Product product = productService.createProduct(1L, "예약 상품", "브랜드", "설명",
+                new BigDecimal("10000"), 10);
+        int pendingExpiryBefore = stockReservationService.getPendingExpiryCount();
+
+        int threadCount = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger insufficientCount = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            final long userId = i + 1;
+            executorService.submit(() -> {
+                try {
+                    Long cartId = createCart(userId, product, 1);
+                    orderService.createOrder(userId, cartId);
+                    successCount.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    insufficientCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then - 결제 전 단계에서 재고 부족이 드러나야 함
+        assertThat(successCount.get()).isEqualTo(10);
+        assertThat(insufficientCount.get()).isEqualTo(10);
+        assertThat(productService.getProduct(product.getId()).getStockQty()).isZero();
+        assertThat(stockReservationRepository.findByStatus(StockReservationStatus.RESERVED)).hasSize(10);
+        assertThat(stockReservationService.getPendingExpiryCount()).isEqualTo(pendingExpiryBefore + 10);
+    }
+
+    @Test
+    @DisplayName("결제 시 예약 확정 - 재고를 다시 차감하지 않음")
+    void processPayment_CommitsReservation() {
+        // given
+        Product product = productService.createProduct(1L, "확정 상품", "브랜드", "설명",
+                new BigDecimal("10000"), 10);
+        Order order = orderService.createOrder(1L, createCart(1L, product, 3));
+
+        // when
+        Order paid = orderService.processPayment(order.getId());
+
+        // then
+        assertThat(paid.getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(productService.getProduct(product.getId()).getStockQty()).isEqualTo(7);
+        assertThat(stockReservationRepository.findByOrderId(order.getId()))
+                .extracting(StockReservation::getStatus)
+                .containsOnly(StockReservationStatus.COMMITTED);
+    }
+
+    @Test
+    @DisplayName("예약 해제 - 재고가 복구되고 이후 결제는 실패")
+    void release_RestoresStockAndBlocksPayment() {
+        // given
+        Product product = productService.createProduct(1L, "해제 상품", "브랜드", "설명",
+                new BigDecimal("10000"), 10);
+        Order order = orderService.createOrder(1L, createCart(1L, product, 4));
+
+        // when - 만료 스위퍼가 먼저 해제
+        int released = stockReservationService.release(order.getId());
+
+        // then
+        assertThat(released).isEqualTo(1);
+        assertThat(productService.getProduct(product.getId()).getStockQty()).isEqualTo(10);
+        assertThat(stockReservationService.release(order.getId())).isZero(); // 중복 해제 없음
+        assertThatThrownBy(() -> orderService.processPayment(order.getId()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("주문이 만료되었습니다");
+        assertThat(productService.getProduct(product.getId()).getStockQty()).isEqualTo(10);
+    }
+
+    private Long createCart(Long userId, Product product, int qty) {
+        Cart cart = cartRepository.save(Cart.createForUser(userId));
+        cartItemRepository.save(CartItem.create(cart.getId(), product.getId(), qty, product.getPrice()));
+        return cart.getId();
+    }
+}
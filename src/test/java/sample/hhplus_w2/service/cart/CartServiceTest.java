@@ -8,6 +8,12 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import sample.hhplus_w2.domain.cart.Cart;
 import sample.hhplus_w2.domain.cart.CartItem;
+import sample.hhplus_w2.domain.cart.CartLineView;
+import sample.hhplus_w2.domain.cart.CartOperation;
+import sample.hhplus_w2.domain.cart.CartOperationType;
+import sample.hhplus_w2.domain.cart.CartStatus;
+import sample.hhplus_w2.domain.cart.CartView;
+import sample.hhplus_w2.domain.cart.GuestCartItem;
 import sample.hhplus_w2.domain.product.Product;
 import sample.hhplus_w2.repository.cart.CartItemRepository;
 import sample.hhplus_w2.repository.cart.CartRepository;
@@ -21,9 +27,10 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 
-@DataJpaTest
+@DataJpaTest(properties = "app.cart.guest-store=MEMORY")
 @ActiveProfiles("test")
-@Import({CartRepositoryImpl.class, CartItemRepositoryImpl.class, ProductRepositoryImpl.class, CartService.class})
+@Import({CartRepositoryImpl.class, CartItemRepositoryImpl.class, ProductRepositoryImpl.class, CartService.class,
+        DatabaseGuestCartStore.class, InMemoryGuestCartStore.class})
 class CartServiceTest {
 
     @Autowired
@@ -216,4 +223,132 @@ class CartServiceTest {
         List<CartItem> items = cartService.getCartItems(cart.getId());
         assertThat(items).isEmpty();
     }
+
+    @Test
+    @DisplayName("장바구니 상세 조회 - 현재 가격/재고 반영, 가격이 바뀐 항목 표시")
+    void getCartView_MarksStalePrices() {
+        // given
+        Long userId = 100L;
+        Product changed = productRepository.save(Product.create(1L, "가격 변경 상품", "브랜드", "설명",
+                new BigDecimal("10000"), 10));
+        Product soldOut = productRepository.save(Product.create(1L, "재고 부족 상품", "브랜드", "설명",
+                new BigDecimal("5000"), 1));
+        cartService.addItem(userId, changed.getId(), 2);
+        cartService.addItem(userId, soldOut.getId(), 1);
+
+        changed.updateInfo("가격 변경 상품", "브랜드", "설명", new BigDecimal("12000"));
+        productRepository.save(changed);
+        soldOut.decreaseStock(1);
+        productRepository.save(soldOut);
+
+        // when
+        CartView view = cartService.getCartView(userId);
+
+        // then
+        assertThat(view.items()).hasSize(2);
+        CartLineView first = view.items().get(0);
+        assertThat(first.unitPriceSnapshot()).isEqualByComparingTo("10000");
+        assertThat(first.currentPrice()).isEqualByComparingTo("12000");
+        assertThat(first.priceChanged()).isTrue();
+        assertThat(first.available()).isTrue();
+
+        CartLineView second = view.items().get(1);
+        assertThat(second.priceChanged()).isFalse();
+        assertThat(second.available()).isFalse();
+
+        assertThat(view.hasStalePrices()).isTrue();
+        assertThat(view.totalAmount()).isEqualByComparingTo("24000");
+    }
+
+    @Test
+    @DisplayName("장바구니 일괄 변경 - 추가/수량 증가/변경/삭제를 한 번에 반영")
+    void applyOperations() {
+        // given
+        Long userId = 200L;
+        Product kept = productRepository.save(Product.create(1L, "기존 상품", "브랜드", "설명", new BigDecimal("1000"), 100));
+        Product updated = productRepository.save(Product.create(1L, "수량 변경 상품", "브랜드", "설명", new BigDecimal("2000"), 100));
+        Product removed = productRepository.save(Product.create(1L, "삭제 상품", "브랜드", "설명", new BigDecimal("3000"), 100));
+        Product added = productRepository.save(Product.create(1L, "신규 상품", "브랜드", "설명", new BigDecimal("4000"), 100));
+        cartService.addItem(userId, kept.getId(), 1);
+        cartService.addItem(userId, updated.getId(), 1);
+        cartService.addItem(userId, removed.getId(), 1);
+
+        // when
+        CartView view = cartService.applyOperations(userId, List.of(
+                new CartOperation(CartOperationType.ADD, kept.getId(), 2),
+                new CartOperation(CartOperationType.UPDATE, updated.getId(), 5),
+                new CartOperation(CartOperationType.REMOVE, removed.getId(), null),
+                new CartOperation(CartOperationType.ADD, added.getId(), 1),
+                new CartOperation(CartOperationType.ADD, added.getId(), 2)));
+
+        // then
+        assertThat(view.items())
+                .extracting(CartLineView::productId, CartLineView::qty)
+                .containsExactly(
+                        tuple(kept.getId(), 3),
+                        tuple(updated.getId(), 5),
+                        tuple(added.getId(), 3));
+        assertThat(view.totalAmount()).isEqualByComparingTo("25000");
+    }
+
+    @Test
+    @DisplayName("장바구니 일괄 변경 - 하나라도 실패하면 예외 (재고 부족)")
+    void applyOperations_InsufficientStock() {
+        // given
+        Long userId = 201L;
+        Product product = productRepository.save(Product.create(1L, "상품", "브랜드", "설명", new BigDecimal("1000"), 1));
+
+        // when & then
+        assertThatThrownBy(() -> cartService.applyOperations(userId, List.of(
+                new CartOperation(CartOperationType.ADD, product.getId(), 1),
+                new CartOperation(CartOperationType.ADD, product.getId(), 5))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("재고가 부족합니다");
+    }
+
+    @Test
+    @DisplayName("비회원 장바구니 - 메모리에만 담기고 주문 준비 시 DB에 기록")
+    void guestCart_WriteBehindOnCheckout() {
+        // given
+        String guestToken = "guest-checkout";
+        Product product = productRepository.save(Product.create(1L, "상품", "브랜드", "설명", new BigDecimal("1000"), 10));
+
+        // when
+        cartService.addGuestItem(guestToken, product.getId(), 2);
+        cartService.addGuestItem(guestToken, product.getId(), 1);
+
+        // then - DB 기록 없음
+        assertThat(cartService.getGuestCartItems(guestToken))
+                .extracting(GuestCartItem::productId, GuestCartItem::qty)
+                .containsExactly(tuple(product.getId(), 3));
+        assertThat(cartRepository.findByGuestTokenAndStatus(guestToken, CartStatus.ACTIVE)).isEmpty();
+
+        // when - 주문 준비
+        Long cartId = cartService.checkoutGuestCart(guestToken);
+
+        // then
+        assertThat(cartItemRepository.findByCartId(cartId))
+                .extracting(CartItem::getProductId, CartItem::getQty)
+                .containsExactly(tuple(product.getId(), 3));
+    }
+
+    @Test
+    @DisplayName("비회원 장바구니 병합 - 로그인 시 회원 장바구니에 수량 합산")
+    void mergeGuestCart() {
+        // given
+        String guestToken = "guest-merge";
+        Long userId = 300L;
+        Product product = productRepository.save(Product.create(1L, "상품", "브랜드", "설명", new BigDecimal("1000"), 10));
+        cartService.addItem(userId, product.getId(), 1);
+        cartService.addGuestItem(guestToken, product.getId(), 2);
+
+        // when
+        CartView view = cartService.mergeGuestCart(guestToken, userId);
+
+        // then
+        assertThat(view.userId()).isEqualTo(userId);
+        assertThat(view.items())
+                .extracting(CartLineView::productId, CartLineView::qty)
+                .containsExactly(tuple(product.getId(), 3));
+    }
 }
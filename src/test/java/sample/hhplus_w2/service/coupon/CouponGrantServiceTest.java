@@ -0,0 +1,231 @@
+package sample.hhplus_w2.service.coupon;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import sample.hhplus_w2.domain.coupon.Coupon;
+import sample.hhplus_w2.domain.coupon.CouponGrantJob;
+import sample.hhplus_w2.domain.coupon.CouponGrantJobStatus;
+import sample.hhplus_w2.domain.coupon.CouponGrantScope;
+import sample.hhplus_w2.domain.coupon.CouponType;
+import sample.hhplus_w2.domain.coupon.CouponUser;
+import sample.hhplus_w2.domain.user.User;
+import sample.hhplus_w2.repository.coupon.CouponGrantJobRepository;
+import sample.hhplus_w2.repository.coupon.CouponGrantTargetRepository;
+import sample.hhplus_w2.repository.coupon.CouponRepository;
+import sample.hhplus_w2.repository.coupon.CouponUserCountRepository;
+import sample.hhplus_w2.repository.coupon.CouponUserRepository;
+import sample.hhplus_w2.repository.lease.JobLeaseRepository;
+import sample.hhplus_w2.repository.user.UserRepository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 쿠폰 일괄 지급 테스트 (청크마다 실제 커밋되어야 하므로 SpringBootTest)
+ */
+@SpringBootTest(properties = "app.coupon.grant.chunk-size=2")
+@ActiveProfiles("test")
+class CouponGrantServiceTest {
+
+    @Autowired
+    private CouponGrantService couponGrantService;
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private CouponUserRepository couponUserRepository;
+
+    @Autowired
+    private CouponUserCountRepository couponUserCountRepository;
+
+    @Autowired
+    private CouponGrantJobRepository couponGrantJobRepository;
+
+    @Autowired
+    private CouponGrantTargetRepository couponGrantTargetRepository;
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CouponUserCountBackfill couponUserCountBackfill;
+
+    @AfterEach
+    void tearDown() {
+        couponGrantTargetRepository.deleteAll();
+        couponGrantJobRepository.deleteAll();
+        jobLeaseRepository.deleteAll();
+        couponUserCountRepository.deleteAll();
+        couponUserRepository.deleteAll();
+        couponRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("사용자 목록 지급 - 청크 단위로 지급하고 중복/기발급 사용자는 건너뜀")
+    void grant_UserList_SkipsDuplicates() {
+        // given - 사용자 2는 이미 발급받음
+        Long couponId = publishCoupon("GRANT_LIST", 100);
+        couponService.issueCoupon(couponId, 2L);
+
+        // when
+        CouponGrantJob job = couponGrantService.createJob(couponId, CouponGrantScope.USER_LIST,
+                List.of(5L, 1L, 3L, 2L, 1L));
+        int chunks = couponGrantService.run(job.getId());
+
+        // then - 대상 [1, 2, 3, 5]를 2명씩 2청크로 처리
+        CouponGrantJob finished = couponGrantService.getJob(job.getId());
+        assertThat(chunks).isEqualTo(2);
+        assertThat(finished.getStatus()).isEqualTo(CouponGrantJobStatus.COMPLETED);
+        assertThat(finished.getTotalTargets()).isEqualTo(4);
+        assertThat(finished.getGranted()).isEqualTo(3);
+        assertThat(finished.getSkipped()).isEqualTo(1);
+        assertThat(finished.getProgressPercent()).isEqualTo(100);
+        assertThat(couponRepository.findById(couponId).orElseThrow().getIssued()).isEqualTo(4);
+        assertThat(couponUserRepository.findByCouponId(couponId))
+                .extracting(CouponUser::getUserId)
+                .containsExactlyInAnyOrder(1L, 2L, 3L, 5L);
+    }
+
+    @Test
+    @DisplayName("수량 부족 시 실패 - 체크포인트까지 지급은 유지되고 재개해도 중복 지급 없음")
+    void grant_FailsAndResumesFromCheckpoint() {
+        // given - 3개만 발급 가능한데 5명에게 지급
+        Long couponId = publishCoupon("GRANT_RESUME", 3);
+        CouponGrantJob job = couponGrantService.createJob(couponId, CouponGrantScope.USER_LIST,
+                List.of(1L, 2L, 3L, 4L, 5L));
+
+        // when - 두 번째 청크(3, 4)에서 수량 부족
+        couponGrantService.run(job.getId());
+
+        // then
+        CouponGrantJob failed = couponGrantService.getJob(job.getId());
+        assertThat(failed.getStatus()).isEqualTo(CouponGrantJobStatus.FAILED);
+        assertThat(failed.getErrorMessage()).contains("수량이 부족합니다");
+        assertThat(failed.getLastUserId()).isEqualTo(2L);
+        assertThat(failed.getGranted()).isEqualTo(2);
+
+        // 재개하면 체크포인트 다음 청크부터 다시 시도 (첫 청크는 다시 지급하지 않음)
+        couponGrantService.resume(job.getId());
+        couponGrantService.runPending();
+
+        assertThat(couponGrantService.getJob(job.getId()).getStatus()).isEqualTo(CouponGrantJobStatus.FAILED);
+        assertThat(couponRepository.findById(couponId).orElseThrow().getIssued()).isEqualTo(2);
+        assertThat(couponUserRepository.findByCouponId(couponId))
+                .extracting(CouponUser::getUserId)
+                .containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("전체 활성 사용자 지급 - 비활성 사용자 제외")
+    void grant_AllActive() {
+        // given
+        Long couponId = publishCoupon("GRANT_ALL", 100);
+        User active1 = userRepository.save(User.create("a1@test.com", null, "활성1", null, null, null, null));
+        User active2 = userRepository.save(User.create("a2@test.com", null, "활성2", null, null, null, null));
+        User inactive = User.create("i1@test.com", null, "비활성", null, null, null, null);
+        inactive.deactivate();
+        userRepository.save(inactive);
+
+        // when
+        CouponGrantJob job = couponGrantService.createJob(couponId, CouponGrantScope.ALL_ACTIVE, null);
+        couponGrantService.run(job.getId());
+
+        // then
+        CouponGrantJob finished = couponGrantService.getJob(job.getId());
+        assertThat(finished.getStatus()).isEqualTo(CouponGrantJobStatus.COMPLETED);
+        assertThat(finished.getTotalTargets()).isEqualTo(2);
+        assertThat(finished.getGranted()).isEqualTo(2);
+        assertThat(couponUserRepository.findByCouponId(couponId))
+                .extracting(CouponUser::getUserId)
+                .containsExactlyInAnyOrder(active1.getId(), active2.getId());
+    }
+
+    @Test
+    @DisplayName("동시 실행 - 같은 작업을 여러 실행자가 돌려도 체크포인트를 한 번씩만 진행해 중복 지급 없음")
+    void run_ConcurrentRunners_NoDoubleGrant() throws InterruptedException {
+        // given - 20명을 2명씩 10청크로 지급
+        Long couponId = publishCoupon("GRANT_CONCURRENT", 100);
+        List<Long> userIds = LongStream.rangeClosed(1, 20).boxed().collect(Collectors.toList());
+        CouponGrantJob job = couponGrantService.createJob(couponId, CouponGrantScope.USER_LIST, userIds);
+
+        int runnerCount = 4;
+        ExecutorService executorService = Executors.newFixedThreadPool(runnerCount);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when - 같은 노드의 실행자 4개가 동시에 시작 (임대 소유자가 같아 임대만으로는 배제되지 않음)
+        for (int i = 0; i < runnerCount; i++) {
+            executorService.submit(() -> {
+                start.await();
+                return couponGrantService.run(job.getId());
+            });
+        }
+        start.countDown();
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        CouponGrantJob finished = couponGrantService.getJob(job.getId());
+        assertThat(finished.getStatus()).isEqualTo(CouponGrantJobStatus.COMPLETED);
+        assertThat(finished.getProcessed()).isEqualTo(20);
+        assertThat(finished.getGranted()).isEqualTo(20);
+        assertThat(couponRepository.findById(couponId).orElseThrow().getIssued()).isEqualTo(20);
+        assertThat(couponUserRepository.findByCouponId(couponId))
+                .extracting(CouponUser::getUserId)
+                .containsExactlyInAnyOrderElementsOf(userIds);
+    }
+
+    @Test
+    @DisplayName("카운터 이관 - 카운터 없이 발급된 기존 보유자는 이관 후 추가 발급/일괄 지급 대상에서 제외")
+    void backfill_ExistingHoldersWithoutCounter() {
+        // given - 카운터 도입 이전에 사용자 2가 1인 1매 쿠폰을 발급받음 (coupon_user_count 행 없음)
+        Long couponId = publishCoupon("GRANT_BACKFILL", 100);
+        couponUserRepository.save(CouponUser.issue(couponId, 2L));
+
+        // when
+        int created = couponUserCountBackfill.backfill();
+
+        // then - 다시 실행해도 중복 생성 없음
+        assertThat(created).isEqualTo(1);
+        assertThat(couponUserCountBackfill.backfill()).isZero();
+        assertThat(couponUserCountRepository.findIssuedCounts(couponId)).containsExactly(entry(2L, 1));
+        assertThat(couponUserCountRepository.increaseIfWithinLimit(couponId, 2L, 1, 1)).isFalse();
+
+        // 일괄 지급은 기존 보유자를 건너뜀
+        CouponGrantJob job = couponGrantService.createJob(couponId, CouponGrantScope.USER_LIST, List.of(1L, 2L));
+        couponGrantService.run(job.getId());
+
+        CouponGrantJob finished = couponGrantService.getJob(job.getId());
+        assertThat(finished.getGranted()).isEqualTo(1);
+        assertThat(finished.getSkipped()).isEqualTo(1);
+        assertThat(couponUserRepository.findByCouponId(couponId))
+                .extracting(CouponUser::getUserId)
+                .containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    private Long publishCoupon(String code, int totalIssuable) {
+        Coupon coupon = couponService.createCoupon(Coupon.create(code, CouponType.FIXED, new BigDecimal("1000"),
+                totalIssuable, 1, null, null, null));
+        couponService.publishCoupon(coupon.getId());
+        return coupon.getId();
+    }
+}
@@ -0,0 +1,146 @@
+package sample.hhplus_w2.service.coupon;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sample.hhplus_w2.domain.coupon.CouponUserChangedEvent;
+import sample.hhplus_w2.domain.coupon.CouponUserStatus;
+import sample.hhplus_w2.domain.coupon.HeldCoupon;
+import sample.hhplus_w2.repository.coupon.CouponUserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CouponMembershipIndexTest {
+
+    private static final LocalDateTime ISSUED_AT = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private CouponUserRepository couponUserRepository;
+    private CouponMembershipIndex index;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        couponUserRepository = mock(CouponUserRepository.class);
+        doAnswer(invocation -> {
+            Consumer<HeldCoupon> consumer = invocation.getArgument(1);
+            consumer.accept(held(1L, 10L, 100L));
+            consumer.accept(held(2L, 10L, 200L));
+            consumer.accept(held(3L, 20L, 100L));
+            return null;
+        }).when(couponUserRepository).scanHeldCoupons(anyInt(), any(Consumer.class));
+        index = new CouponMembershipIndex(couponUserRepository, 1000);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("적재 - 쿠폰별 발급 사용자와 사용자별 보유 쿠폰(최근 발급순)")
+    void rebuild_LoadsMembership() {
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.hasIssued(10L, 100L)).isTrue();
+        assertThat(index.hasIssued(10L, 300L)).isFalse();
+        assertThat(index.hasIssued(30L, 100L)).isFalse();
+        assertThat(index.getIssuedUserIds(10L)).containsExactly(100L, 200L);
+        assertThat(index.getHeldCoupons(100L)).extracting(HeldCoupon::id).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("발급/사용 반영 - 트랜잭션 밖이므로 즉시 반영")
+    void onCouponUserChanged_AppliesIssueAndUse() {
+        // when
+        index.onCouponUserChanged(CouponUserChangedEvent.saved(List.of(held(4L, 20L, 200L))));
+        index.onCouponUserChanged(CouponUserChangedEvent.used(
+                HeldCoupon.used(1L, 100L, 500L, ISSUED_AT.plusDays(1))));
+
+        // then
+        assertThat(index.hasIssued(20L, 200L)).isTrue();
+        assertThat(index.getHeldCoupons(100L, CouponUserStatus.ISSUED)).extracting(HeldCoupon::id).containsExactly(3L);
+        assertThat(index.getHeldCoupons(100L, CouponUserStatus.USED))
+                .singleElement()
+                .satisfies(coupon -> {
+                    assertThat(coupon.couponId()).isEqualTo(10L);
+                    assertThat(coupon.orderId()).isEqualTo(500L);
+                });
+        // 사용 후 늦게 도착한 발급 이벤트가 상태를 되돌리지 않음
+        index.onCouponUserChanged(CouponUserChangedEvent.saved(List.of(held(1L, 10L, 100L))));
+        assertThat(index.getHeldCoupons(100L, CouponUserStatus.USED)).extracting(HeldCoupon::id).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("사용 취소 반영 - 만료된 주문에 사용된 경우에만 발급 상태로 복구")
+    void onCouponUserChanged_Restores() {
+        // given
+        index.onCouponUserChanged(CouponUserChangedEvent.used(
+                HeldCoupon.used(1L, 100L, 500L, ISSUED_AT.plusDays(1))));
+
+        // when - 다른 주문의 취소는 무시, 사용된 주문의 취소만 반영
+        index.onCouponUserChanged(CouponUserChangedEvent.restored(List.of(HeldCoupon.restored(1L, 100L, 400L))));
+        assertThat(index.getHeldCoupons(100L, CouponUserStatus.USED)).extracting(HeldCoupon::id).containsExactly(1L);
+        index.onCouponUserChanged(CouponUserChangedEvent.restored(List.of(HeldCoupon.restored(1L, 100L, 500L))));
+
+        // then
+        assertThat(index.getHeldCoupons(100L, CouponUserStatus.USED)).isEmpty();
+        assertThat(index.getHeldCoupons(100L, CouponUserStatus.ISSUED))
+                .extracting(HeldCoupon::id, HeldCoupon::orderId)
+                .containsExactly(tuple(3L, null), tuple(1L, null));
+    }
+
+    @Test
+    @DisplayName("삭제 반영 - 발급 내역 삭제 시 비트맵에서도 제거")
+    void onCouponUserChanged_Removes() {
+        // when
+        index.onCouponUserChanged(CouponUserChangedEvent.removed(held(2L, 10L, 200L)));
+
+        // then
+        assertThat(index.hasIssued(10L, 200L)).isFalse();
+        assertThat(index.getHeldCoupons(200L)).isEmpty();
+
+        // 전체 삭제
+        index.onCouponUserChanged(CouponUserChangedEvent.cleared());
+        assertThat(index.countIssued(10L)).isZero();
+        assertThat(index.getHeldCoupons(100L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비트맵 - 배열/비트맵 컨테이너 전환 후에도 멤버십과 순서 유지")
+    void bitmap_ConvertsContainers() {
+        UserIdBitmap bitmap = new UserIdBitmap();
+        List<Long> expected = new ArrayList<>();
+        // 상위 키 하나에 4096개 초과 (비트맵 컨테이너), 다른 상위 키에 희소하게 (배열 컨테이너)
+        for (long userId = 0; userId < UserIdBitmap.ARRAY_MAX + 100; userId++) {
+            assertThat(bitmap.add(userId)).isTrue();
+            expected.add(userId);
+        }
+        for (long userId = 1L << 20; userId < (1L << 20) + 1000; userId += 7) {
+            bitmap.add(userId);
+            expected.add(userId);
+        }
+        assertThat(bitmap.add(5L)).isFalse();
+        assertThat(bitmap.cardinality()).isEqualTo(expected.size());
+
+        List<Long> actual = new ArrayList<>();
+        bitmap.forEach(actual::add);
+        assertThat(actual).isEqualTo(expected);
+
+        // 비트맵 → 배열 컨테이너로 되돌아가도 값 유지
+        for (long userId = 0; userId < 200; userId++) {
+            assertThat(bitmap.remove(userId)).isTrue();
+        }
+        assertThat(bitmap.contains(199L)).isFalse();
+        assertThat(bitmap.contains(200L)).isTrue();
+        assertThat(bitmap.contains(UserIdBitmap.ARRAY_MAX + 99L)).isTrue();
+        assertThat(bitmap.contains((1L << 20) + 7)).isTrue();
+        assertThat(bitmap.remove(199L)).isFalse();
+        assertThat(bitmap.cardinality()).isEqualTo(expected.size() - 200);
+    }
+
+    private HeldCoupon held(Long id, Long couponId, Long userId) {
+        return new HeldCoupon(id, couponId, userId, CouponUserStatus.ISSUED, null, ISSUED_AT, null);
+    }
+}
@@ -7,12 +7,14 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import sample.hhplus_w2.domain.coupon.Coupon;
+import sample.hhplus_w2.domain.coupon.CouponPolicy;
 import sample.hhplus_w2.domain.coupon.CouponStatus;
 import sample.hhplus_w2.domain.coupon.CouponType;
 import sample.hhplus_w2.domain.coupon.CouponUser;
 import sample.hhplus_w2.repository.coupon.CouponRepository;
 import sample.hhplus_w2.repository.coupon.CouponUserRepository;
 import sample.hhplus_w2.repository.coupon.impl.CouponRepositoryImpl;
+import sample.hhplus_w2.repository.coupon.impl.CouponUserCountRepositoryImpl;
 import sample.hhplus_w2.repository.coupon.impl.CouponUserRepositoryImpl;
 
 import java.math.BigDecimal;
@@ -22,7 +24,8 @@ import static org.assertj.core.api.Assertions.*;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({CouponRepositoryImpl.class, CouponUserRepositoryImpl.class, CouponService.class})
+@Import({CouponRepositoryImpl.class, CouponUserRepositoryImpl.class, CouponUserCountRepositoryImpl.class,
+        CouponIssueGate.class, CouponPolicyCache.class, CouponMembershipIndex.class, CouponService.class})
 class CouponServiceTest {
 
     @Autowired
@@ -34,6 +37,12 @@ class CouponServiceTest {
     @Autowired
     private CouponUserRepository couponUserRepository;
 
+    @Autowired
+    private CouponPolicyCache couponPolicyCache;
+
+    @Autowired
+    private CouponIssueGate couponIssueGate;
+
     @Test
     @DisplayName("쿠폰 생성 - 정상")
     void createCoupon() {
@@ -222,4 +231,61 @@ class CouponServiceTest {
         Coupon published = couponService.getCoupon(coupon.getId());
         assertThat(published.getStatus()).isEqualTo(CouponStatus.PUBLISHED);
     }
+
+    @Test
+    @DisplayName("쿠폰 공개 - 커밋 전에는 발급 게이트를 열지 않음 (롤백 시 게이트가 남지 않음)")
+    void publishCoupon_OpensGateAfterCommit() {
+        // given
+        Coupon coupon = Coupon.create("GATE1000", CouponType.FIXED, new BigDecimal("1000"),
+                10, 1, null, null, null);
+        coupon = couponService.createCoupon(coupon);
+
+        // when - 테스트 트랜잭션 안에서 공개 (커밋되지 않음)
+        couponService.publishCoupon(coupon.getId());
+
+        // then
+        assertThat(couponIssueGate.isOpen(coupon.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("정책 스냅샷 - 공개/일시정지/만료 시 새 버전으로 교체")
+    void policySnapshot_ReloadedOnStatusChange() {
+        // given
+        Coupon coupon = couponService.createCoupon(Coupon.create("SNAPSHOT1", CouponType.PERCENTAGE,
+                new BigDecimal("10"), 10, 1, null, null, new BigDecimal("5000")));
+        long versionBefore = couponPolicyCache.getVersion();
+
+        // when
+        couponService.publishCoupon(coupon.getId());
+
+        // then
+        CouponPolicy published = couponService.getCouponPolicyByCode("SNAPSHOT1");
+        assertThat(published.status()).isEqualTo(CouponStatus.PUBLISHED);
+        assertThat(published.minOrderAmount()).isEqualByComparingTo("5000");
+        assertThat(couponService.getPublishedPolicies()).extracting(CouponPolicy::id).contains(coupon.getId());
+        assertThat(couponPolicyCache.getVersion()).isGreaterThan(versionBefore);
+
+        couponService.pauseCoupon(coupon.getId());
+        assertThat(couponService.getCouponPolicy(coupon.getId()).status()).isEqualTo(CouponStatus.PAUSED);
+        assertThat(couponService.getPublishedPolicies()).extracting(CouponPolicy::id).doesNotContain(coupon.getId());
+
+        couponService.expireCoupon(coupon.getId());
+        assertThat(couponService.getCouponPolicy(coupon.getId()).status()).isEqualTo(CouponStatus.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("쿠폰 발급 - 일시정지된 쿠폰은 발급 불가")
+    void issueCoupon_Paused() {
+        // given
+        Coupon coupon = couponService.createCoupon(Coupon.create("PAUSED1", CouponType.FIXED,
+                new BigDecimal("1000"), 10, 1, null, null, null));
+        couponService.publishCoupon(coupon.getId());
+        couponService.pauseCoupon(coupon.getId());
+        Long couponId = coupon.getId();
+
+        // when & then
+        assertThatThrownBy(() -> couponService.issueCoupon(couponId, 1L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("발급 불가능한 쿠폰입니다");
+    }
 }
@@ -0,0 +1,76 @@
+package sample.hhplus_w2.service.export;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import sample.hhplus_w2.domain.order.Order;
+import sample.hhplus_w2.domain.order.OrderStatus;
+import sample.hhplus_w2.domain.product.Product;
+import sample.hhplus_w2.repository.order.OrderRepository;
+import sample.hhplus_w2.repository.order.impl.OrderRepositoryImpl;
+import sample.hhplus_w2.repository.product.ProductRepository;
+import sample.hhplus_w2.repository.product.impl.ProductRepositoryImpl;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ProductRepositoryImpl.class, OrderRepositoryImpl.class, ExportService.class, JacksonAutoConfiguration.class})
+class ExportServiceTest {
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Test
+    @DisplayName("상품 CSV 내보내기 - 헤더 + 행, 쉼표/따옴표 이스케이프")
+    void exportProducts_Csv() throws Exception {
+        // given
+        Product product = productRepository.save(Product.create(1L, "상품, \"특가\"", "브랜드", "설명",
+                new BigDecimal("10000"), 5));
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportProducts(ExportFormat.CSV, out);
+
+        // then
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines.get(0)).isEqualTo("id,categoryId,name,brand,price,stockQty,isActive,createdAt,updatedAt");
+        assertThat(lines).anyMatch(line -> line.startsWith(product.getId() + ",1,\"상품, \"\"특가\"\"\",브랜드,10000.00,5,true,"));
+    }
+
+    @Test
+    @DisplayName("주문 NDJSON 내보내기 - 상태 필터, 한 줄에 주문 하나")
+    void exportOrders_NdjsonWithStatus() throws Exception {
+        // given
+        Order order = Order.create(1L, new BigDecimal("30000"), BigDecimal.ZERO);
+        order.markAsPaid();
+        Order paid = orderRepository.save(order);
+        Order pending = orderRepository.save(Order.create(2L, new BigDecimal("20000"), BigDecimal.ZERO));
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportOrders(OrderStatus.PAID, ExportFormat.NDJSON, out);
+
+        // then
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).allMatch(line -> line.startsWith("{") && line.contains("\"status\":\"PAID\""));
+        assertThat(lines).anyMatch(line -> line.contains("\"id\":" + paid.getId() + ","));
+        Long pendingId = pending.getId();
+        assertThat(lines).noneMatch(line -> line.contains("\"id\":" + pendingId + ","));
+    }
+}
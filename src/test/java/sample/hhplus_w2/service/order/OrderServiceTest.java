@@ -8,15 +8,25 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import sample.hhplus_w2.domain.cart.Cart;
 import sample.hhplus_w2.domain.cart.CartItem;
+import sample.hhplus_w2.domain.coupon.Coupon;
+import sample.hhplus_w2.domain.coupon.CouponType;
+import sample.hhplus_w2.domain.coupon.CouponUser;
+import sample.hhplus_w2.domain.coupon.CouponUserStatus;
 import sample.hhplus_w2.domain.order.Order;
 import sample.hhplus_w2.domain.order.OrderHistory;
 import sample.hhplus_w2.domain.order.OrderItem;
 import sample.hhplus_w2.domain.order.OrderStatus;
+import sample.hhplus_w2.domain.product.InsufficientStockException;
 import sample.hhplus_w2.domain.product.Product;
+import sample.hhplus_w2.domain.product.StockShortage;
 import sample.hhplus_w2.repository.cart.CartItemRepository;
 import sample.hhplus_w2.repository.cart.CartRepository;
 import sample.hhplus_w2.repository.cart.impl.CartItemRepositoryImpl;
 import sample.hhplus_w2.repository.cart.impl.CartRepositoryImpl;
+import sample.hhplus_w2.repository.coupon.CouponRepository;
+import sample.hhplus_w2.repository.coupon.CouponUserRepository;
+import sample.hhplus_w2.repository.coupon.impl.CouponRepositoryImpl;
+import sample.hhplus_w2.repository.coupon.impl.CouponUserRepositoryImpl;
 import sample.hhplus_w2.repository.order.OrderHistoryRepository;
 import sample.hhplus_w2.repository.order.OrderItemRepository;
 import sample.hhplus_w2.repository.order.OrderRepository;
@@ -25,6 +35,12 @@ import sample.hhplus_w2.repository.order.impl.OrderItemRepositoryImpl;
 import sample.hhplus_w2.repository.order.impl.OrderRepositoryImpl;
 import sample.hhplus_w2.repository.product.ProductRepository;
 import sample.hhplus_w2.repository.product.impl.ProductRepositoryImpl;
+import sample.hhplus_w2.repository.stats.impl.ProductSalesDailyRepositoryImpl;
+import sample.hhplus_w2.repository.stats.impl.ProductSalesStatsRepositoryImpl;
+import sample.hhplus_w2.service.coupon.CouponPolicyCache;
+import sample.hhplus_w2.service.stats.ProductSalesRanking;
+import sample.hhplus_w2.service.stats.ProductSalesRollupService;
+import sample.hhplus_w2.service.stats.SalesWindowCounter;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -34,7 +50,10 @@ import static org.assertj.core.api.Assertions.*;
 @DataJpaTest
 @ActiveProfiles("test")
 @Import({OrderRepositoryImpl.class, OrderItemRepositoryImpl.class, OrderHistoryRepositoryImpl.class,
-        CartRepositoryImpl.class, CartItemRepositoryImpl.class, ProductRepositoryImpl.class, OrderService.class})
+        CartRepositoryImpl.class, CartItemRepositoryImpl.class, ProductRepositoryImpl.class, OrderService.class,
+        ProductSalesStatsRepositoryImpl.class, ProductSalesDailyRepositoryImpl.class, ProductSalesRollupService.class,
+        ProductSalesRanking.class, CouponRepositoryImpl.class, CouponUserRepositoryImpl.class, CouponPolicyCache.class,
+        SalesWindowCounter.class})
 class OrderServiceTest {
 
     @Autowired
@@ -58,6 +77,12 @@ class OrderServiceTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private CouponUserRepository couponUserRepository;
+
     @Test
     @DisplayName("주문 생성 - 정상")
     void createOrder() {
@@ -103,6 +128,52 @@ class OrderServiceTest {
                 .hasMessageContaining("장바구니가 비어있습니다");
     }
 
+    @Test
+    @DisplayName("주문 생성 - 쿠폰 적용 시 할인 반영 및 사용 처리")
+    void createOrder_WithCoupon() {
+        // given
+        Long userId = 1L;
+        Long cartId = createCartWithProduct(userId, new BigDecimal("10000"), 3);
+        CouponUser couponUser = issueCoupon("ORDER10", CouponType.PERCENTAGE, new BigDecimal("10"), userId);
+
+        // when
+        Order order = orderService.createOrder(userId, cartId, couponUser.getId());
+
+        // then
+        assertThat(order.getDiscountTotal()).isEqualByComparingTo("3000");
+        assertThat(order.getFinalAmount()).isEqualByComparingTo("27000");
+        CouponUser used = couponUserRepository.findById(couponUser.getId()).orElseThrow();
+        assertThat(used.getStatus()).isEqualTo(CouponUserStatus.USED);
+        assertThat(used.getOrderId()).isEqualTo(order.getId());
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 이미 사용한 쿠폰은 실패")
+    void createOrder_CouponAlreadyUsed() {
+        // given
+        Long userId = 1L;
+        CouponUser couponUser = issueCoupon("ONCE1000", CouponType.FIXED, new BigDecimal("1000"), userId);
+        orderService.createOrder(userId, createCartWithProduct(userId, new BigDecimal("10000"), 1), couponUser.getId());
+        Long secondCartId = createCartWithProduct(userId, new BigDecimal("10000"), 1);
+
+        // when & then
+        assertThatThrownBy(() -> orderService.createOrder(userId, secondCartId, couponUser.getId()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("사용할 수 없는 쿠폰입니다");
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 다른 사용자의 쿠폰은 실패")
+    void createOrder_CouponOfOtherUser() {
+        // given
+        CouponUser couponUser = issueCoupon("OTHER1000", CouponType.FIXED, new BigDecimal("1000"), 2L);
+        Long cartId = createCartWithProduct(1L, new BigDecimal("10000"), 1);
+
+        // when & then
+        assertThatThrownBy(() -> orderService.createOrder(1L, cartId, couponUser.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     @DisplayName("결제 처리 - 정상")
     void processPayment() {
@@ -156,6 +227,35 @@ class OrderServiceTest {
                 .hasMessageContaining("재고가 부족합니다");
     }
 
+    @Test
+    @DisplayName("결제 처리 - 여러 상품 중 부족한 항목을 모두 보고")
+    void processPayment_MultipleProducts_ReportsAllShortages() {
+        // given - 상품 3개 중 2개가 부족
+        Long userId = 1L;
+        Cart cart = cartRepository.save(Cart.createForUser(userId));
+
+        Product enough = productRepository.save(Product.create(1L, "충분", "브랜드", "설명",
+                new BigDecimal("10000"), 100));
+        Product shortA = productRepository.save(Product.create(1L, "부족A", "브랜드", "설명",
+                new BigDecimal("10000"), 1));
+        Product shortB = productRepository.save(Product.create(1L, "부족B", "브랜드", "설명",
+                new BigDecimal("10000"), 0));
+
+        cartItemRepository.save(CartItem.create(cart.getId(), shortB.getId(), 1, shortB.getPrice()));
+        cartItemRepository.save(CartItem.create(cart.getId(), enough.getId(), 5, enough.getPrice()));
+        cartItemRepository.save(CartItem.create(cart.getId(), shortA.getId(), 2, shortA.getPrice()));
+
+        Order order = orderService.createOrder(userId, cart.getId());
+
+        // when & then
+        assertThatThrownBy(() -> orderService.processPayment(order.getId()))
+                .hasMessageContaining("재고가 부족합니다")
+                .isInstanceOfSatisfying(InsufficientStockException.class, e ->
+                        assertThat(e.getShortages()).containsExactly(
+                                new StockShortage(shortA.getId(), 2, 1),
+                                new StockShortage(shortB.getId(), 1, 0)));
+    }
+
     @Test
     @DisplayName("결제 처리 - PENDING 상태가 아니면 예외 발생")
     void processPayment_NotPending() {
@@ -263,4 +363,18 @@ class OrderServiceTest {
         // then
         assertThat(orderItems).hasSize(2);
     }
+
+    private Long createCartWithProduct(Long userId, BigDecimal price, int qty) {
+        Cart cart = cartRepository.save(Cart.createForUser(userId));
+        Product product = productRepository.save(Product.create(1L, "상품", "브랜드", "설명", price, 100));
+        cartItemRepository.save(CartItem.create(cart.getId(), product.getId(), qty, product.getPrice()));
+        return cart.getId();
+    }
+
+    private CouponUser issueCoupon(String code, CouponType type, BigDecimal amount, Long userId) {
+        Coupon coupon = Coupon.create(code, type, amount, 100, 1, null, null, null);
+        coupon.publish();
+        coupon = couponRepository.save(coupon);
+        return couponUserRepository.save(CouponUser.issue(coupon.getId(), userId));
+    }
 }
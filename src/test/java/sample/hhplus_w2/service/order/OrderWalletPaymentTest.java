@@ -0,0 +1,141 @@
+package sample.hhplus_w2.service.order;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import sample.hhplus_w2.domain.cart.Cart;
+import sample.hhplus_w2.domain.cart.CartItem;
+import sample.hhplus_w2.domain.order.Order;
+import sample.hhplus_w2.domain.order.OrderHistory;
+import sample.hhplus_w2.domain.order.OrderStatus;
+import sample.hhplus_w2.domain.product.Product;
+import sample.hhplus_w2.repository.cart.CartItemRepository;
+import sample.hhplus_w2.repository.cart.CartRepository;
+import sample.hhplus_w2.repository.order.OrderHistoryRepository;
+import sample.hhplus_w2.repository.order.OrderItemRepository;
+import sample.hhplus_w2.repository.order.OrderRepository;
+import sample.hhplus_w2.repository.product.ProductRepository;
+import sample.hhplus_w2.repository.wallet.WalletRepository;
+import sample.hhplus_w2.repository.wallet.WalletTransactionRepository;
+import sample.hhplus_w2.service.wallet.WalletService;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 지갑 활성화 시 결제 테스트 (잔액 부족 시 결제 트랜잭션 전체가 롤백되어야 하므로 SpringBootTest)
+ */
+@SpringBootTest(properties = "app.wallet.enabled=true")
+@ActiveProfiles("test")
+class OrderWalletPaymentTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private WalletService walletService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private OrderHistoryRepository orderHistoryRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private WalletRepository walletRepository;
+
+    @Autowired
+    private WalletTransactionRepository walletTransactionRepository;
+
+    @AfterEach
+    void tearDown() {
+        walletTransactionRepository.deleteAll();
+        walletRepository.deleteAll();
+        orderHistoryRepository.deleteAll();
+        orderItemRepository.deleteAll();
+        orderRepository.deleteAll();
+        cartItemRepository.deleteAll();
+        cartRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("결제 처리 - 잔액 차감 후 재고 차감")
+    void processPayment_DebitsWallet() {
+        // given
+        Long userId = 1L;
+        Product product = productRepository.save(Product.create(1L, "상품", "브랜드", "설명",
+                new BigDecimal("10000"), 100));
+        Order order = orderService.createOrder(userId, createCart(userId, product, 3));
+        walletService.charge(userId, new BigDecimal("50000"));
+
+        // when
+        Order paid = orderService.processPayment(order.getId());
+
+        // then
+        assertThat(paid.getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(walletService.getWallet(userId).getBalance()).isEqualByComparingTo("20000");
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQty()).isEqualTo(97);
+    }
+
+    @Test
+    @DisplayName("결제 처리 - 잔액 부족 시 재고와 주문 상태 유지")
+    void processPayment_InsufficientBalance_LeavesStockAndOrder() {
+        // given
+        Long userId = 2L;
+        Product product = productRepository.save(Product.create(1L, "상품", "브랜드", "설명",
+                new BigDecimal("10000"), 100));
+        Order order = orderService.createOrder(userId, createCart(userId, product, 3));
+        walletService.charge(userId, new BigDecimal("29999"));
+
+        // when & then
+        assertThatThrownBy(() -> orderService.processPayment(order.getId()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("잔액이 부족합니다");
+
+        assertThat(orderRepository.findById(order.getId()).orElseThrow().getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQty()).isEqualTo(100);
+        assertThat(walletService.getWallet(userId).getBalance()).isEqualByComparingTo("29999");
+        assertThat(orderHistoryRepository.findByOrderId(order.getId()))
+                .extracting(OrderHistory::getToStatus)
+                .doesNotContain(OrderStatus.PAID);
+    }
+
+    @Test
+    @DisplayName("결제 처리 - 지갑이 없는 사용자는 실패하고 재고 유지")
+    void processPayment_NoWallet_Fails() {
+        // given
+        Long userId = 3L;
+        Product product = productRepository.save(Product.create(1L, "상품", "브랜드", "설명",
+                new BigDecimal("10000"), 100));
+        Order order = orderService.createOrder(userId, createCart(userId, product, 1));
+
+        // when & then
+        assertThatThrownBy(() -> orderService.processPayment(order.getId()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(orderRepository.findById(order.getId()).orElseThrow().getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQty()).isEqualTo(100);
+    }
+
+    private Long createCart(Long userId, Product product, int qty) {
+        Cart cart = cartRepository.save(Cart.createForUser(userId));
+        cartItemRepository.save(CartItem.create(cart.getId(), product.getId(), qty, product.getPrice()));
+        return cart.getId();
+    }
+}
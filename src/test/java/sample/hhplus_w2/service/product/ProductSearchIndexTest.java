@@ -0,0 +1,123 @@
+package sample.hhplus_w2.service.product;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sample.hhplus_w2.domain.product.Product;
+import sample.hhplus_w2.domain.product.ProductChangedEvent;
+import sample.hhplus_w2.domain.product.ProductSearchCondition;
+import sample.hhplus_w2.domain.product.ProductSearchDocument;
+import sample.hhplus_w2.repository.product.ProductRepository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ProductSearchIndexTest {
+
+    private ProductRepository productRepository;
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        doAnswer(invocation -> {
+            Consumer<ProductSearchDocument> consumer = invocation.getArgument(1);
+            consumer.accept(doc(1L, 10L, "삼성 갤럭시 노트북", "Samsung", "가벼운 업무용 노트북", "1200000", true));
+            consumer.accept(doc(2L, 10L, "LG 그램 노트북", "LG", "초경량 노트북", "1500000", true));
+            consumer.accept(doc(3L, 20L, "갤럭시s24 케이스", "Spigen", "투명 케이스", "20000", true));
+            consumer.accept(doc(4L, 10L, "단종 노트북", "Samsung", "재고 없음", "900000", false));
+            return null;
+        }).when(productRepository).scanSearchDocuments(anyInt(), any(Consumer.class));
+        index = new ProductSearchIndex(productRepository, 1000, 256);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("한글 부분 일치 - 2-gram으로 단어 중간/끝 글자도 검색")
+    void search_KoreanNgram() {
+        assertThat(index.search(condition("노트북"), 10)).containsExactly(4L, 2L, 1L);
+        assertThat(index.search(condition("트북"), 10)).containsExactly(4L, 2L, 1L);
+        assertThat(index.search(condition("북"), 10)).containsExactly(4L, 2L, 1L);
+        assertThat(index.search(condition("갤럭시 노트북"), 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("접두어 검색 - 마지막 영문 단어는 접두어 일치, 한글/영문 혼합 단어 분리")
+    void search_Prefix() {
+        assertThat(index.search(condition("sams"), 10)).containsExactly(4L, 1L);
+        assertThat(index.search(condition("갤럭시s2"), 10)).containsExactly(3L);
+        assertThat(index.search(condition("samsung 업무"), 10)).containsExactly(1L);
+        assertThat(index.search(condition("애플"), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("접두어 검색 - 확장 단어가 상한을 넘으면 일부만 검색하지 않고 예외 발생")
+    void search_PrefixTooBroad() {
+        // given - 's'로 시작하는 단어: samsung, spigen, s24
+        ProductSearchIndex narrow = new ProductSearchIndex(productRepository, 1000, 2);
+        narrow.rebuild();
+
+        // when & then
+        assertThatThrownBy(() -> narrow.search(condition("s"), 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("검색어");
+        assertThat(narrow.search(condition("sa"), 10)).containsExactly(4L, 1L);
+    }
+
+    @Test
+    @DisplayName("필터 - 카테고리, 활성 여부, 가격 범위")
+    void search_Filters() {
+        assertThat(index.search(new ProductSearchCondition("노트북", 10L, true, null, null), 10))
+                .containsExactly(2L, 1L);
+        assertThat(index.search(new ProductSearchCondition("노트북", null, null,
+                new BigDecimal("1000000"), new BigDecimal("1300000")), 10))
+                .containsExactly(1L);
+        assertThat(index.search(condition("노트북"), 2)).containsExactly(4L, 2L);
+    }
+
+    @Test
+    @DisplayName("변경 반영 - 수정된 상품은 새 내용으로, 삭제된 상품은 제외")
+    void onProductChanged_Reindexes() {
+        // given
+        Product renamed = Product.create(30L, "LG 그램 태블릿", "LG", "태블릿", new BigDecimal("800000"), 5);
+        renamed.assignId(2L);
+        when(productRepository.findById(2L)).thenReturn(Optional.of(renamed));
+        when(productRepository.findById(3L)).thenReturn(Optional.empty());
+
+        // when - 트랜잭션 밖이므로 즉시 반영
+        index.onProductChanged(ProductChangedEvent.product(2L));
+        index.onProductChanged(ProductChangedEvent.product(3L));
+        index.onProductChanged(ProductChangedEvent.stock(1L));
+
+        // then
+        assertThat(index.search(condition("노트북"), 10)).containsExactly(4L, 1L);
+        assertThat(index.search(condition("태블릿"), 10)).containsExactly(2L);
+        assertThat(index.search(condition("케이스"), 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+        verify(productRepository, never()).findById(1L);
+    }
+
+    @Test
+    @DisplayName("검색어 없음 - 예외 발생")
+    void search_EmptyKeyword() {
+        assertThatThrownBy(() -> index.search(condition("  ,. "), 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("검색어");
+    }
+
+    private static ProductSearchCondition condition(String keyword) {
+        return new ProductSearchCondition(keyword, null, null, null, null);
+    }
+
+    private static ProductSearchDocument doc(Long id, Long categoryId, String name, String brand,
+                                             String description, String price, boolean active) {
+        return new ProductSearchDocument(id, categoryId, name, brand, description, new BigDecimal(price), active);
+    }
+}
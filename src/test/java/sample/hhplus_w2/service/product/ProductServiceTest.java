@@ -7,6 +7,9 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import sample.hhplus_w2.domain.product.Product;
+import sample.hhplus_w2.domain.product.ProductPage;
+import sample.hhplus_w2.domain.product.ProductSortType;
+import sample.hhplus_w2.domain.product.ProductSummary;
 import sample.hhplus_w2.repository.product.ProductRepository;
 import sample.hhplus_w2.repository.product.impl.ProductRepositoryImpl;
 
@@ -17,7 +20,7 @@ import static org.assertj.core.api.Assertions.*;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({ProductRepositoryImpl.class, ProductService.class})
+@Import({ProductRepositoryImpl.class, ProductService.class, ProductCatalogCache.class})
 class ProductServiceTest {
 
     @Autowired
@@ -191,4 +194,82 @@ class ProductServiceTest {
         Product updated = productService.getProduct(product.getId());
         assertThat(updated.getStockQty()).isEqualTo(10); // 재고 변경 없음
     }
+
+    @Test
+    @DisplayName("캐시 조회 - 재조회는 캐시 적중, 재고 차감 시 재고만 무효화")
+    void getProduct_CachedAndInvalidatedOnStockChange() {
+        // given
+        Product product = productService.createProduct(1L, "캐시 상품", "브랜드", "설명",
+                new BigDecimal("10000"), 10);
+        productService.getProduct(product.getId());
+        long productHitsBefore = productService.getCacheMetrics().get("products").hitCount();
+
+        // when
+        productService.decreaseStock(product.getId(), 3, StockDecreaseMode.ATOMIC);
+        Product found = productService.getProduct(product.getId());
+
+        // then - 상품 정보는 캐시에서, 재고는 새로 조회
+        assertThat(found.getStockQty()).isEqualTo(7);
+        assertThat(productService.getCacheMetrics().get("products").hitCount()).isEqualTo(productHitsBefore + 1);
+    }
+
+    @Test
+    @DisplayName("캐시 무효화 - 비활성화 시 활성 상품 목록에서 제외")
+    void deactivateProduct_InvalidatesList() {
+        // given
+        Product product = productService.createProduct(1L, "목록 상품", "브랜드", "설명",
+                new BigDecimal("10000"), 10);
+        assertThat(productService.getActiveProducts()).extracting(Product::getId).contains(product.getId());
+
+        // when
+        productService.deactivateProduct(product.getId());
+
+        // then
+        assertThat(productService.getActiveProducts()).extracting(Product::getId).doesNotContain(product.getId());
+        assertThat(productService.getProduct(product.getId()).getIsActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("상품 목록 페이지 - 커서로 이어서 조회 시 중복/누락 없음")
+    void getProductPage_KeysetNewest() {
+        // given
+        Long categoryId = 9001L;
+        for (int i = 1; i <= 5; i++) {
+            productService.createProduct(categoryId, "상품" + i, "브랜드", "설명",
+                    new BigDecimal("1000").multiply(BigDecimal.valueOf(i)), i % 2);
+        }
+
+        // when
+        ProductPage first = productService.getProductPage(categoryId, ProductSortType.NEWEST, null, 2, 7);
+        ProductPage second = productService.getProductPage(categoryId, ProductSortType.NEWEST, first.nextCursor(), 2, 7);
+        ProductPage last = productService.getProductPage(categoryId, ProductSortType.NEWEST, second.nextCursor(), 2, 7);
+
+        // then
+        assertThat(first.items()).extracting(ProductSummary::name).containsExactly("상품5", "상품4");
+        assertThat(second.items()).extracting(ProductSummary::name).containsExactly("상품3", "상품2");
+        assertThat(last.items()).extracting(ProductSummary::name).containsExactly("상품1");
+        assertThat(last.nextCursor()).isNull();
+        assertThat(first.items()).extracting(ProductSummary::inStock).containsExactly(true, false);
+    }
+
+    @Test
+    @DisplayName("상품 목록 페이지 - 가격순 정렬, 정렬 기준이 다른 커서는 거부")
+    void getProductPage_PriceAndCursorMismatch() {
+        // given
+        Long categoryId = 9002L;
+        productService.createProduct(categoryId, "중간", "브랜드", "설명", new BigDecimal("20000"), 1);
+        productService.createProduct(categoryId, "저가", "브랜드", "설명", new BigDecimal("10000"), 1);
+        productService.createProduct(categoryId, "고가", "브랜드", "설명", new BigDecimal("30000"), 1);
+
+        // when
+        ProductPage first = productService.getProductPage(categoryId, ProductSortType.PRICE_ASC, null, 2, 7);
+        ProductPage second = productService.getProductPage(categoryId, ProductSortType.PRICE_ASC, first.nextCursor(), 2, 7);
+
+        // then
+        assertThat(first.items()).extracting(ProductSummary::name).containsExactly("저가", "중간");
+        assertThat(second.items()).extracting(ProductSummary::name).containsExactly("고가");
+        assertThatThrownBy(() -> productService.getProductPage(categoryId, ProductSortType.NEWEST, first.nextCursor(), 2, 7))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잘못된 커서");
+    }
 }
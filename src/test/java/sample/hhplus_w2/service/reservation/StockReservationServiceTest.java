@@ -0,0 +1,98 @@
+package sample.hhplus_w2.service.reservation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+import sample.hhplus_w2.domain.order.Order;
+import sample.hhplus_w2.domain.order.OrderStatus;
+import sample.hhplus_w2.domain.reservation.StockReservation;
+import sample.hhplus_w2.domain.reservation.StockReservationStatus;
+import sample.hhplus_w2.repository.coupon.CouponUserRepository;
+import sample.hhplus_w2.repository.order.OrderHistoryRepository;
+import sample.hhplus_w2.repository.order.OrderRepository;
+import sample.hhplus_w2.repository.product.ProductRepository;
+import sample.hhplus_w2.repository.reservation.StockReservationRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 재고 예약 만료 스위퍼 테스트 (실패 재시도)
+ */
+class StockReservationServiceTest {
+
+    private static final Long ORDER_ID = 1L;
+    private static final Long PRODUCT_ID = 10L;
+
+    private StockReservationRepository reservationRepository;
+    private ProductRepository productRepository;
+    private OrderRepository orderRepository;
+    private StockReservationService service;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository = mock(StockReservationRepository.class);
+        productRepository = mock(ProductRepository.class);
+        orderRepository = mock(OrderRepository.class);
+        service = new StockReservationService(reservationRepository, productRepository, orderRepository,
+                mock(OrderHistoryRepository.class), mock(CouponUserRepository.class),
+                mock(PlatformTransactionManager.class), 10);
+
+        StockReservation reservation = StockReservation.reserve(ORDER_ID, PRODUCT_ID, 3, LocalDateTime.now().minusSeconds(1));
+        when(reservationRepository.findByStatus(StockReservationStatus.RESERVED)).thenReturn(List.of(reservation));
+        when(reservationRepository.findByOrderId(ORDER_ID)).thenReturn(List.of(reservation));
+        when(reservationRepository.updateStatusByOrderId(ORDER_ID,
+                StockReservationStatus.RESERVED, StockReservationStatus.RELEASED)).thenReturn(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    @DisplayName("만료 처리 실패 - 작업을 다시 큐에 넣어 재시도 후 재고 해제")
+    void sweep_RetriesFailedExpiry() {
+        // given - 첫 시도는 잠금 획득 실패
+        Order order = Order.create(1L, new BigDecimal("10000"), BigDecimal.ZERO, -1);
+        when(orderRepository.findByIdForUpdate(ORDER_ID))
+                .thenThrow(new CannotAcquireLockException("deadlock"))
+                .thenReturn(Optional.of(order));
+
+        // when
+        service.start();
+
+        // then
+        verify(orderRepository, timeout(2000)).save(order);
+        verify(productRepository).increaseStockBy(PRODUCT_ID, 3);
+        verify(orderRepository, times(2)).findByIdForUpdate(ORDER_ID);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.EXPIRED);
+        assertThat(service.getPendingExpiryCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 결제된 주문 - 주문 행을 먼저 잠그고 상태 확인 후 예약을 건드리지 않음")
+    void expire_PaidOrder_DoesNotRelease() {
+        // given
+        Order order = Order.create(1L, new BigDecimal("10000"), BigDecimal.ZERO, -1);
+        order.markAsPaid();
+        when(orderRepository.findByIdForUpdate(ORDER_ID)).thenReturn(Optional.of(order));
+
+        // when
+        boolean done = service.expire(ORDER_ID);
+
+        // then
+        assertThat(done).isTrue();
+        verify(reservationRepository, never()).updateStatusByOrderId(anyLong(), any(), any());
+        verify(productRepository, never()).increaseStockBy(anyLong(), anyInt());
+    }
+}
@@ -0,0 +1,111 @@
+package sample.hhplus_w2.service.stats;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sample.hhplus_w2.domain.stats.ProductSale;
+import sample.hhplus_w2.domain.stats.ProductSalesRank;
+import sample.hhplus_w2.domain.stats.ProductSalesStats;
+import sample.hhplus_w2.repository.stats.ProductSalesStatsRepository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class ProductSalesRankingTest {
+
+    private ProductSalesStatsRepository statsRepository;
+    private ProductSalesRanking ranking;
+
+    @BeforeEach
+    void setUp() {
+        statsRepository = mock(ProductSalesStatsRepository.class);
+        when(statsRepository.findByDaysRange(anyInt())).thenReturn(List.of());
+        ranking = new ProductSalesRanking(statsRepository);
+    }
+
+    @Test
+    @DisplayName("기동 시 적재 - DB 통계로 순위를 구성하고 판매 기록이 없는 상품은 제외")
+    void rebuild_LoadsFromStats() {
+        // given
+        when(statsRepository.findByDaysRange(3)).thenReturn(List.of(
+                ProductSalesStats.create(1L, "A", 5, new BigDecimal("50000"), 3),
+                ProductSalesStats.create(2L, "B", 10, new BigDecimal("10000"), 3),
+                ProductSalesStats.create(3L, "C", 0, BigDecimal.ZERO, 3)));
+
+        // when
+        ranking.rebuild();
+
+        // then
+        assertThat(ranking.page(3, SalesRankMetric.SALES_COUNT, 0, 5))
+                .extracting(ProductSalesStats::getProductId)
+                .containsExactly(2L, 1L);
+        assertThat(ranking.page(3, SalesRankMetric.SALES_AMOUNT, 0, 5))
+                .extracting(ProductSalesStats::getProductId)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("판매 반영 - 판매량 변화에 따라 순위가 갱신되고 차감으로 0이 되면 제외")
+    void addSales_UpdatesRank() {
+        // given
+        ranking.rebuild();
+        ranking.addSales(List.of(1), List.of(
+                new ProductSale(1L, "A", 3, new BigDecimal("3000")),
+                new ProductSale(2L, "B", 5, new BigDecimal("5000"))));
+
+        // when - A가 추가 판매로 역전
+        ranking.addSales(List.of(1), List.of(new ProductSale(1L, "A", 4, new BigDecimal("4000"))));
+
+        // then
+        assertThat(ranking.rankOf(1, SalesRankMetric.SALES_COUNT, 1L))
+                .get()
+                .extracting(ProductSalesRank::rank, ProductSalesRank::salesCount)
+                .containsExactly(1, 7);
+        assertThat(ranking.rankOf(1, SalesRankMetric.SALES_COUNT, 2L))
+                .get()
+                .extracting(ProductSalesRank::rank)
+                .isEqualTo(2);
+
+        // when - B 판매분 롤백
+        ranking.addSales(List.of(1), List.of(new ProductSale(2L, "B", 5, new BigDecimal("5000")).negate()));
+
+        // then
+        assertThat(ranking.rankOf(1, SalesRankMetric.SALES_COUNT, 2L)).isEmpty();
+        assertThat(ranking.page(1, SalesRankMetric.SALES_COUNT, 0, 5)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("페이지 조회 - TOP 5 이후 구간과 순위가 정렬 결과와 일치")
+    void page_MatchesSortedOrder() {
+        // given - 상품 1000개, 판매량이 서로 다름
+        ranking.rebuild();
+        List<ProductSale> sales = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            int qty = (int) ((id * 7919) % 1000) + 1;
+            sales.add(new ProductSale(id, "P" + id, qty, BigDecimal.valueOf(qty * 1000L)));
+        }
+        ranking.addSales(List.of(7), sales);
+
+        List<Long> expected = sales.stream()
+                .sorted((a, b) -> Integer.compare(b.quantity(), a.quantity()))
+                .map(ProductSale::productId)
+                .toList();
+
+        // when
+        List<ProductSalesStats> page = ranking.page(7, SalesRankMetric.SALES_COUNT, 100, 20);
+
+        // then
+        assertThat(page).extracting(ProductSalesStats::getProductId)
+                .containsExactlyElementsOf(expected.subList(100, 120));
+        assertThat(ranking.rankOf(7, SalesRankMetric.SALES_COUNT, expected.get(500)))
+                .get()
+                .extracting(ProductSalesRank::rank, ProductSalesRank::total)
+                .containsExactly(501, 1000);
+        assertThat(ranking.page(7, SalesRankMetric.SALES_COUNT, 995, 20)).hasSize(5);
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import sample.hhplus_w2.domain.cart.Cart;
@@ -15,6 +16,8 @@ import sample.hhplus_w2.repository.cart.CartItemRepository;
 import sample.hhplus_w2.repository.cart.CartRepository;
 import sample.hhplus_w2.repository.cart.impl.CartItemRepositoryImpl;
 import sample.hhplus_w2.repository.cart.impl.CartRepositoryImpl;
+import sample.hhplus_w2.repository.coupon.impl.CouponRepositoryImpl;
+import sample.hhplus_w2.repository.coupon.impl.CouponUserRepositoryImpl;
 import sample.hhplus_w2.repository.order.OrderHistoryRepository;
 import sample.hhplus_w2.repository.order.OrderItemRepository;
 import sample.hhplus_w2.repository.order.OrderRepository;
@@ -23,12 +26,16 @@ import sample.hhplus_w2.repository.order.impl.OrderItemRepositoryImpl;
 import sample.hhplus_w2.repository.order.impl.OrderRepositoryImpl;
 import sample.hhplus_w2.repository.product.ProductRepository;
 import sample.hhplus_w2.repository.product.impl.ProductRepositoryImpl;
-import sample.hhplus_w2.repository.stats.ProductSalesStatsRepository;
+import sample.hhplus_w2.repository.stats.ProductSalesDailyRepository;
+import sample.hhplus_w2.repository.stats.impl.ProductSalesDailyRepositoryImpl;
 import sample.hhplus_w2.repository.stats.impl.ProductSalesStatsRepositoryImpl;
+import sample.hhplus_w2.service.coupon.CouponPolicyCache;
 import sample.hhplus_w2.service.order.OrderService;
+import sample.hhplus_w2.service.product.ProductCatalogCache;
 import sample.hhplus_w2.service.product.ProductService;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -37,7 +44,10 @@ import static org.assertj.core.api.Assertions.*;
 @ActiveProfiles("test")
 @Import({ProductSalesStatsRepositoryImpl.class, OrderRepositoryImpl.class, OrderItemRepositoryImpl.class,
         OrderHistoryRepositoryImpl.class, CartRepositoryImpl.class, CartItemRepositoryImpl.class,
-        ProductRepositoryImpl.class, ProductStatsService.class, OrderService.class, ProductService.class})
+        ProductRepositoryImpl.class, ProductStatsService.class, OrderService.class, ProductService.class, ProductCatalogCache.class,
+        ProductSalesDailyRepositoryImpl.class, ProductSalesRollupService.class,
+        ProductSalesRanking.class, CouponRepositoryImpl.class, CouponUserRepositoryImpl.class, CouponPolicyCache.class,
+        SalesWindowCounter.class})
 class ProductStatsServiceTest {
 
     @Autowired
@@ -58,6 +68,18 @@ class ProductStatsServiceTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private ProductSalesRollupService productSalesRollupService;
+
+    @Autowired
+    private ProductSalesDailyRepository productSalesDailyRepository;
+
+    @Autowired
+    private ProductSalesRanking productSalesRanking;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     @DisplayName("인기 상품 집계 - 판매량 기준 TOP 5")
     void getTopProductsByPeriod() {
@@ -136,6 +158,70 @@ class ProductStatsServiceTest {
         assertThat(topProducts.get(0).getSalesAmount()).isEqualTo(new BigDecimal("100000"));
     }
 
+    @Test
+    @DisplayName("증분 집계 - 결제 시 당일 버킷과 모든 기간 통계에 누적")
+    void recordSale_UpdatesDailyBucketAndWindows() {
+        // given
+        Product product = productService.createProduct(1L, "증분상품", "브랜드", "설명",
+                new BigDecimal("10000"), 100);
+
+        // when
+        createAndPayOrder(1L, product.getId(), 4);
+        createAndPayOrder(2L, product.getId(), 1);
+
+        // then - 메모리 순위는 커밋 후에만 반영되므로 (테스트 트랜잭션은 커밋되지 않음) DB 기준으로 재적재해 확인
+        productSalesRanking.rebuild();
+        assertThat(productSalesDailyRepository.findByProductIdAndSalesDate(product.getId(), LocalDate.now()))
+                .get()
+                .extracting(daily -> daily.getSalesCount())
+                .isEqualTo(5);
+        for (Integer days : ProductSalesRollupService.WINDOWS) {
+            assertThat(productStatsService.getTopProductsByPeriod(days, 5))
+                    .extracting(ProductSalesStats::getSalesCount)
+                    .containsExactly(5);
+        }
+    }
+
+    @Test
+    @DisplayName("일자 전환 - 기간에서 빠져나간 일자 버킷만큼 통계에서 제외")
+    void rollover_SubtractsAgedOutBucket() {
+        // given - 오늘 3개 판매
+        Product product = productService.createProduct(1L, "전환상품", "브랜드", "설명",
+                new BigDecimal("10000"), 100);
+        createAndPayOrder(1L, product.getId(), 3);
+
+        // when - 하루 뒤: 1일 통계에서 빠짐
+        productSalesRollupService.rollover(LocalDate.now().plusDays(1));
+        entityManager.clear(); // 일자 전환은 JDBC로 반영되므로 영속성 컨텍스트를 비움
+
+        // then
+        assertThat(productStatsService.getTopProductsByPeriod(1, 5))
+                .noneMatch(stats -> stats.getSalesCount() > 0);
+        assertThat(productStatsService.getTopProductsByPeriod(3, 5))
+                .extracting(ProductSalesStats::getSalesCount)
+                .containsExactly(3);
+
+        // when - 사흘 뒤: 3일 통계에서도 빠지고, 재실행해도 결과 동일
+        productSalesRollupService.rollover(LocalDate.now().plusDays(3));
+        productSalesRollupService.rollover(LocalDate.now().plusDays(3));
+        entityManager.clear();
+
+        // then
+        assertThat(productStatsService.getTopProductsByPeriod(3, 5))
+                .noneMatch(stats -> stats.getSalesCount() > 0);
+        assertThat(productStatsService.getTopProductsByPeriod(7, 5))
+                .extracting(ProductSalesStats::getSalesCount)
+                .containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("집계 기간 검증 - 지원하지 않는 기간은 예외")
+    void getTopProductsByPeriod_UnsupportedWindow() {
+        assertThatThrownBy(() -> productStatsService.getTopProductsByPeriod(5, 5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("지원하지 않는 집계 기간");
+    }
+
     /**
      * 주문 생성 및 결제 헬퍼 메서드
      */
@@ -0,0 +1,120 @@
+package sample.hhplus_w2.service.stats;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sample.hhplus_w2.domain.stats.ProductSaleEvent;
+import sample.hhplus_w2.domain.stats.ProductWindowSales;
+import sample.hhplus_w2.repository.order.OrderItemRepository;
+import sample.hhplus_w2.repository.stats.ProductSalesDailyRepository;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SalesWindowCounterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 30);
+
+    private ProductSalesDailyRepository dailyRepository;
+    private OrderItemRepository orderItemRepository;
+    private SalesWindowCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        dailyRepository = mock(ProductSalesDailyRepository.class);
+        orderItemRepository = mock(OrderItemRepository.class);
+        counter = new SalesWindowCounter(dailyRepository, orderItemRepository, 1000);
+        counter.rebuild();
+    }
+
+    @Test
+    @DisplayName("일 단위 합산 - N일 범위 안의 버킷만 합산")
+    void sum_Days() {
+        // given
+        counter.record(1L, 5, NOW);
+        counter.record(1L, 3, NOW.minusDays(2));
+        counter.record(1L, 7, NOW.minusDays(10));
+
+        // then
+        assertThat(counter.sum(1L, SalesWindowUnit.DAYS, 1, NOW)).isEqualTo(5);
+        assertThat(counter.sum(1L, SalesWindowUnit.DAYS, 3, NOW)).isEqualTo(8);
+        assertThat(counter.sum(1L, SalesWindowUnit.DAYS, 11, NOW)).isEqualTo(15);
+        assertThat(counter.sum(1L, SalesWindowUnit.HOURS, 1, NOW)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("링 버퍼 순환 - 90일이 지난 버킷은 재사용되어 합산에서 제외")
+    void ring_WrapsAround() {
+        // given
+        counter.record(1L, 4, NOW.minusDays(95));
+        counter.record(1L, 6, NOW.minusDays(5));
+
+        // when - 90일 이상 지난 뒤 같은 슬롯에 기록
+        counter.record(1L, 2, NOW);
+
+        // then
+        assertThat(counter.sum(1L, SalesWindowUnit.DAYS, 90, NOW)).isEqualTo(8);
+        assertThat(counter.sum(1L, SalesWindowUnit.DAYS, 90, NOW.plusDays(86))).isEqualTo(2);
+        assertThat(counter.sum(1L, SalesWindowUnit.DAYS, 90, NOW.plusDays(100))).isZero();
+    }
+
+    @Test
+    @DisplayName("상위 상품 - 판매량 내림차순, 0 이하는 제외")
+    void top_OrdersBySales() {
+        // given
+        counter.record(1L, 10, NOW.minusHours(30));
+        counter.record(2L, 4, NOW.minusHours(1));
+        counter.record(3L, 6, NOW);
+        counter.record(4L, 3, NOW);
+        counter.record(4L, -3, NOW); // 롤백
+
+        // then
+        assertThat(counter.top(SalesWindowUnit.HOURS, 24, 5, NOW))
+                .extracting(ProductWindowSales::productId)
+                .containsExactly(3L, 2L);
+        assertThat(counter.top(SalesWindowUnit.DAYS, 2, 2, NOW))
+                .extracting(ProductWindowSales::productId, ProductWindowSales::salesCount)
+                .containsExactly(tuple(1L, 10L), tuple(3L, 6L));
+    }
+
+    @Test
+    @DisplayName("재적재 - 일 버킷과 최근 결제 내역을 커서로 한 행씩 받아 채움")
+    @SuppressWarnings("unchecked")
+    void rebuild_StreamsRows() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        doAnswer(invocation -> {
+            Consumer<ProductSaleEvent> consumer = invocation.getArgument(2);
+            consumer.accept(new ProductSaleEvent(1L, 7, now.toLocalDate().minusDays(2).atStartOfDay()));
+            consumer.accept(new ProductSaleEvent(1L, 5, now.toLocalDate().atStartOfDay()));
+            return null;
+        }).when(dailyRepository).scanSince(any(), eq(1000), any(Consumer.class));
+        doAnswer(invocation -> {
+            Consumer<ProductSaleEvent> consumer = invocation.getArgument(2);
+            consumer.accept(new ProductSaleEvent(1L, 2, now));
+            consumer.accept(new ProductSaleEvent(2L, 3, now.minusHours(5)));
+            return null;
+        }).when(orderItemRepository).scanPaidSaleEventsSince(any(), eq(1000), any(Consumer.class));
+
+        // when
+        counter.rebuild();
+
+        // then
+        assertThat(counter.sum(1L, SalesWindowUnit.DAYS, 3, now)).isEqualTo(12);
+        assertThat(counter.sum(1L, SalesWindowUnit.HOURS, 1, now)).isEqualTo(2);
+        assertThat(counter.sum(2L, SalesWindowUnit.HOURS, 6, now)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("기간 검증 - 1~90 범위를 벗어나면 예외")
+    void validateWindow() {
+        assertThatThrownBy(() -> counter.top(SalesWindowUnit.DAYS, 91, 5, NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> counter.sum(1L, SalesWindowUnit.HOURS, 0, NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,84 @@
+package sample.hhplus_w2.service.wallet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import sample.hhplus_w2.domain.wallet.Wallet;
+import sample.hhplus_w2.domain.wallet.WalletTransaction;
+import sample.hhplus_w2.domain.wallet.WalletTransactionType;
+import sample.hhplus_w2.repository.wallet.impl.WalletRepositoryImpl;
+import sample.hhplus_w2.repository.wallet.impl.WalletTransactionRepositoryImpl;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest(properties = "app.wallet.enabled=true")
+@ActiveProfiles("test")
+@Import({WalletRepositoryImpl.class, WalletTransactionRepositoryImpl.class, WalletService.class})
+class WalletServiceTest {
+
+    @Autowired
+    private WalletService walletService;
+
+    @Test
+    @DisplayName("포인트 충전 - 지갑이 없으면 생성 후 충전")
+    void charge_CreatesWallet() {
+        // when
+        walletService.charge(1L, new BigDecimal("10000"));
+        Wallet wallet = walletService.charge(1L, new BigDecimal("5000"));
+
+        // then
+        assertThat(wallet.getBalance()).isEqualByComparingTo("15000");
+    }
+
+    @Test
+    @DisplayName("포인트 충전 - 0 이하 금액은 실패")
+    void charge_InvalidAmount() {
+        assertThatThrownBy(() -> walletService.charge(1L, BigDecimal.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("잔액 차감 - 거래 내역에 차감 후 잔액 기록")
+    void debit_RecordsTransaction() {
+        // given
+        walletService.charge(2L, new BigDecimal("10000"));
+
+        // when
+        walletService.debit(2L, new BigDecimal("3000"), 100L);
+
+        // then
+        assertThat(walletService.getWallet(2L).getBalance()).isEqualByComparingTo("7000");
+        List<WalletTransaction> transactions = walletService.getTransactions(2L, 10);
+        assertThat(transactions).hasSize(2);
+        assertThat(transactions.get(0).getType()).isEqualTo(WalletTransactionType.PAYMENT);
+        assertThat(transactions.get(0).getAmount()).isEqualByComparingTo("-3000");
+        assertThat(transactions.get(0).getBalanceAfter()).isEqualByComparingTo("7000");
+        assertThat(transactions.get(0).getOrderId()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("잔액 차감 - 잔액 부족 시 실패하고 잔액 유지")
+    void debit_InsufficientBalance() {
+        // given
+        walletService.charge(3L, new BigDecimal("1000"));
+
+        // when & then
+        assertThatThrownBy(() -> walletService.debit(3L, new BigDecimal("1001"), 100L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("잔액이 부족합니다");
+        assertThat(walletService.getWallet(3L).getBalance()).isEqualByComparingTo("1000");
+    }
+
+    @Test
+    @DisplayName("잔액 차감 - 지갑이 없으면 실패")
+    void debit_NoWallet() {
+        assertThatThrownBy(() -> walletService.debit(4L, new BigDecimal("1000"), 100L))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}